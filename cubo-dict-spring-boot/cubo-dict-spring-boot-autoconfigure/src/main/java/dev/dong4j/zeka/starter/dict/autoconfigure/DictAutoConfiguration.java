@@ -1,25 +1,44 @@
 package dev.dong4j.zeka.starter.dict.autoconfigure;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Paths;
 
 import dev.dong4j.zeka.kernel.autoconfigure.ZekaProperties;
 import dev.dong4j.zeka.kernel.common.start.ZekaAutoConfiguration;
+import dev.dong4j.zeka.starter.dict.bind.DictionaryDataBind;
+import dev.dong4j.zeka.starter.dict.bus.DictionaryInvalidationBus;
+import dev.dong4j.zeka.starter.dict.bus.DictionaryInvalidationTransport;
+import dev.dong4j.zeka.starter.dict.bus.InMemoryInvalidationTransport;
+import dev.dong4j.zeka.starter.dict.bus.MulticastInvalidationTransport;
 import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCacheFileStore;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCacheLoader;
 import dev.dong4j.zeka.starter.dict.cache.DictionaryCachePreloader;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryRefreshCoordinator;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryVersions;
+import dev.dong4j.zeka.starter.dict.cache.impl.CaffeineDictionaryCache;
 import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
 import dev.dong4j.zeka.starter.dict.cache.impl.NoOpDictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupRecorder;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryBusTransportType;
 import dev.dong4j.zeka.starter.dict.event.DictionaryEventListener;
 import dev.dong4j.zeka.starter.dict.service.DictionaryService;
 import dev.dong4j.zeka.starter.dict.service.impl.DictionaryServiceImpl;
+import dev.dong4j.zeka.starter.mybatis.dict.IDataBind;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 字典自动配置类
  * <p> 该类用于自动配置字典相关的服务和缓存组件. 根据配置文件中的属性值, 决定是否启用字典服务及其缓存类型, 并在启动时进行相应的初始化和预加载操作.
+ * 在 MyBatis 自动配置之前生效, 开启 zeka-stack.dict.data-bind.enabled 时字典翻译 ({@link DictionaryDataBind}) 替代 MyBatis 默认的空实现.
  *
  * @author dong4j
  * @version 1.0.0
@@ -28,7 +47,7 @@ import lombok.extern.slf4j.Slf4j;
  * @since 2.0.0
  */
 @Slf4j
-@AutoConfiguration
+@AutoConfiguration(beforeName = "dev.dong4j.zeka.starter.mybatis.autoconfigure.MybatisAutoConfiguration")
 @ConditionalOnProperty(
     prefix = DictProperties.PREFIX,
     name = ZekaProperties.ENABLED,
@@ -49,20 +68,110 @@ public class DictAutoConfiguration implements ZekaAutoConfiguration {
     /**
      * 创建字典服务 Bean
      * <p> 当容器中未存在 DictionaryService 类型的 Bean 时, 创建并返回一个 DictionaryServiceImpl 实例.
-     * 该服务使用配置中的缓存刷新延迟时间进行初始化.
+     * 该服务使用配置中的缓存刷新延迟时间进行初始化, 存在字典缓存加载器时开启加载缓存模式.
      *
-     * @param properties 配置属性对象, 用于获取缓存刷新延迟时间
+     * @param properties                 配置属性对象, 用于获取缓存刷新延迟时间
+     * @param cacheLoaderProvider        字典缓存加载器, 未开启加载缓存模式时不存在
+     * @param refreshCoordinatorProvider 字典缓存刷新协调器
+     * @param versionsProvider           字典版本号
+     * @param lookupRecorderProvider     字典访问追踪记录器, 未开启访问追踪时不存在
      * @return 字典服务接口的实现实例
      */
     @Bean
     @ConditionalOnMissingBean
-    public DictionaryService dictionaryService(DictProperties properties) {
-        return new DictionaryServiceImpl(properties.getCacheRefreshDelay());
+    public DictionaryService dictionaryService(DictProperties properties,
+                                               ObjectProvider<DictionaryCacheLoader> cacheLoaderProvider,
+                                               ObjectProvider<DictionaryRefreshCoordinator> refreshCoordinatorProvider,
+                                               ObjectProvider<DictionaryVersions> versionsProvider,
+                                               ObjectProvider<DictionaryLookupRecorder> lookupRecorderProvider) {
+        return new DictionaryServiceImpl(properties.getCacheRefreshDelay(),
+                                         cacheLoaderProvider,
+                                         refreshCoordinatorProvider,
+                                         versionsProvider,
+                                         lookupRecorderProvider);
+    }
+
+    /**
+     * 创建基于字典服务的批量字典翻译
+     * <p> 当配置项 zeka-stack.dict.data-bind.enabled 为 true 且容器中未存在 IDataBind 类型的 Bean 时创建, 默认不创建.
+     * MyBatis 查询结果中指定了 FieldBind#type 的字段按结果集批量翻译为字典值名称, 未指定的字段按 FieldBind#express 逐行翻译,
+     * Servlet 应用中同一请求内的查询共用翻译结果.
+     *
+     * @param dictionaryService 字典服务
+     * @param properties        字典配置属性, 根据是否开启缓存选择逐个查找缓存或按类型批量查询
+     * @return 批量字典翻译
+     */
+    @Bean
+    @ConditionalOnMissingBean(IDataBind.class)
+    @ConditionalOnProperty(prefix = "zeka-stack.dict.data-bind", name = "enabled", havingValue = "true")
+    public DictionaryDataBind dictionaryDataBind(DictionaryService dictionaryService, DictProperties properties) {
+        return new DictionaryDataBind(dictionaryService, properties.isEnableCache());
+    }
+
+    /**
+     * 创建字典访问追踪记录器
+     * <p> 当配置项 zeka-stack.dict.trace.enabled 为 true 时创建, 记录访问频率, 加载耗时, 慢加载与写入窗口.
+     *
+     * @param properties 字典配置属性
+     * @return 字典访问追踪记录器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "zeka-stack.dict.trace", name = "enabled", havingValue = "true")
+    public DictionaryLookupRecorder dictionaryLookupRecorder(DictProperties properties) {
+        DictProperties.Trace trace = properties.getTrace();
+        return new DictionaryLookupRecorder(trace.getSlowLoadThreshold(),
+                                            trace.getSlowLookupThreshold(),
+                                            trace.getRecentSlowLoads());
+    }
+
+    /**
+     * 创建字典版本号
+     * <p> 字典服务在缓存删除或重新加载时递增版本号, 预热与对账据此跳过查询期间被写操作更新的类型.
+     *
+     * @return 字典版本号
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DictionaryVersions dictionaryVersions() {
+        return new DictionaryVersions();
+    }
+
+    /**
+     * 创建字典缓存刷新协调器
+     * <p> 合并 zeka-stack.dict.refresh-coalesce-window 毫秒内对同一字典类型的刷新请求, 同一类型同一时刻最多只有一个刷新任务,
+     * 刷新全部缓存时使用 zeka-stack.dict.refresh-parallelism 个线程并行加载.
+     *
+     * @param properties 字典配置属性
+     * @return 字典缓存刷新协调器
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public DictionaryRefreshCoordinator dictionaryRefreshCoordinator(DictProperties properties) {
+        return new DictionaryRefreshCoordinator(properties.getRefreshCoalesceWindow(), properties.getRefreshParallelism());
+    }
+
+    /**
+     * 创建字典缓存加载器
+     * <p> 当配置项 zeka-stack.dict.loading-cache 为 true 时创建, 合并同一字典类型的并发缓存未命中, 并按需开启提前刷新.
+     *
+     * @param dictionaryCache 字典缓存
+     * @param properties      字典配置属性
+     * @return 字典缓存加载器
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "zeka-stack.dict", name = "loading-cache", havingValue = "true")
+    public DictionaryCacheLoader dictionaryCacheLoader(DictionaryCache dictionaryCache, DictProperties properties) {
+        return new DictionaryCacheLoader(dictionaryCache,
+                                         properties.getCacheExpireTime(),
+                                         properties.getCacheRefreshAheadTime(),
+                                         properties.getCacheRefreshDelay());
     }
 
     /**
      * 创建内存缓存实现
-     * <p> 当配置项 zeka-stack.dict.cache-type 的值为 "memory" 时, 创建并返回一个内存缓存实例.
+     * <p> 当配置项 zeka-stack.dict.cache-type 的值为 "memory" 时, 创建并返回一个内存缓存实例, 按 zeka-stack.dict.cache-snapshot 开启快照模式.
      *
      * @param properties 字典配置属性
      * @return 内存缓存接口实现
@@ -71,7 +180,24 @@ public class DictAutoConfiguration implements ZekaAutoConfiguration {
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "zeka-stack.dict", name = "cache-type", havingValue = "memory")
     public DictionaryCache memoryDictionaryCache(DictProperties properties) {
-        return new MemoryDictionaryCache(properties.getCacheExpireTime());
+        return new MemoryDictionaryCache(properties.getCacheExpireTime(), properties.isCacheSnapshot());
+    }
+
+    /**
+     * 创建有界内存缓存实现
+     * <p> 当配置项 zeka-stack.dict.cache-type 的值为 "caffeine" 且 classpath 中存在 Caffeine 时, 创建基于 W-TinyLFU 策略的有界缓存实例.
+     *
+     * @param properties 字典配置属性
+     * @return 有界缓存接口实现
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnClass(name = "com.github.benmanes.caffeine.cache.Caffeine")
+    @ConditionalOnProperty(prefix = "zeka-stack.dict", name = "cache-type", havingValue = "caffeine")
+    public DictionaryCache caffeineDictionaryCache(DictProperties properties) {
+        return new CaffeineDictionaryCache(properties.getCacheExpireTime(),
+                                           properties.getCacheMaximumSize(),
+                                           properties.getCacheMaximumWeight());
     }
 
     /**
@@ -91,33 +217,69 @@ public class DictAutoConfiguration implements ZekaAutoConfiguration {
      * 字典事件监听器
      * <p> 用于监听字典相关的事件, 如字典数据变更等, 可进行相应的处理逻辑.
      *
-     * @param dictionaryService 字典服务, 用于获取或操作字典数据
-     * @param dictionaryCache   字典缓存, 用于缓存字典数据以提高访问效率
+     * @param dictionaryService 字典服务, 缓存失效通过字典服务执行
      * @return 字典事件监听器实例
      */
     @Bean
     @ConditionalOnMissingBean
-    public DictionaryEventListener dictionaryEventListener(DictionaryService dictionaryService,
-                                                           DictionaryCache dictionaryCache) {
-        return new DictionaryEventListener(dictionaryService, dictionaryCache);
+    public DictionaryEventListener dictionaryEventListener(DictionaryService dictionaryService) {
+        return new DictionaryEventListener(dictionaryService);
     }
 
 
     /**
      * 创建字典缓存预热器 Bean
      * <p> 仅当配置项 zeka-stack.dict.preload-cache 设置为 true 时创建该 Bean,
-     * 用于在应用启动时预加载字典缓存数据.
+     * 用于在应用启动时预加载字典缓存数据. 配置了 zeka-stack.dict.warm-start-file 时先从本地快照恢复缓存.
      *
      * @param dictionaryService 字典服务, 用于获取字典数据
      * @param dictionaryCache   字典缓存, 用于存储预加载的字典数据
+     * @param versions          字典版本号, 预热与对账据此跳过查询期间被写操作更新的类型, 并递增发生变化的类型的版本号
+     * @param properties        字典配置属性, 用于获取预热分块大小, 并行度与热启动快照配置
      * @return 字典缓存预热器实例
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     @ConditionalOnProperty(prefix = "zeka-stack.dict", name = "preload-cache", havingValue = "true")
     public DictionaryCachePreloader dictionaryCachePreloader(DictionaryService dictionaryService,
-                                                             DictionaryCache dictionaryCache) {
-        return new DictionaryCachePreloader(dictionaryService, dictionaryCache);
+                                                             DictionaryCache dictionaryCache,
+                                                             DictionaryVersions versions,
+                                                             DictProperties properties) {
+        DictionaryCacheFileStore fileStore = StringUtils.hasText(properties.getWarmStartFile())
+                                             ? new DictionaryCacheFileStore(Paths.get(properties.getWarmStartFile()),
+                                                                            properties.getWarmStartMaxAge())
+                                             : null;
+        return new DictionaryCachePreloader(dictionaryService,
+                                            dictionaryCache,
+                                            properties.getPreloadChunkSize(),
+                                            properties.getPreloadParallelism(),
+                                            versions,
+                                            fileStore,
+                                            properties.getWarmStartInterval());
+    }
+
+    /**
+     * 创建字典缓存跨节点失效总线
+     * <p> 当配置项 zeka-stack.dict.bus.enabled 为 true 时创建, 优先使用容器中自定义的 {@link DictionaryInvalidationTransport},
+     * 否则按 zeka-stack.dict.bus.transport 创建内置传输.
+     *
+     * @param dictionaryService 字典服务, 用于清除本地缓存
+     * @param properties        字典配置属性
+     * @param transportProvider 自定义消息传输
+     * @return 字典缓存失效总线
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "zeka-stack.dict.bus", name = "enabled", havingValue = "true")
+    public DictionaryInvalidationBus dictionaryInvalidationBus(DictionaryService dictionaryService,
+                                                               DictProperties properties,
+                                                               ObjectProvider<DictionaryInvalidationTransport> transportProvider) {
+        DictProperties.Bus bus = properties.getBus();
+        DictionaryInvalidationTransport transport = transportProvider.getIfAvailable(
+            () -> bus.getTransport() == DictionaryBusTransportType.MEMORY
+                  ? new InMemoryInvalidationTransport()
+                  : new MulticastInvalidationTransport(bus.getMulticastGroup(), bus.getMulticastPort(), bus.getMulticastTtl()));
+        return new DictionaryInvalidationBus(dictionaryService, transport, bus.getCoalesceWindow());
     }
 
 }
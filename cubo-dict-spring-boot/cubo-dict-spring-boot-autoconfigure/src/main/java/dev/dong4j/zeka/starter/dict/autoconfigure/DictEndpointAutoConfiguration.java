@@ -0,0 +1,63 @@
+package dev.dong4j.zeka.starter.dict.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import dev.dong4j.zeka.kernel.common.start.ZekaAutoConfiguration;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupRecorder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典端点自动配置类
+ * <p> 当 classpath 中存在 spring-boot-actuator 且容器中存在字典缓存时, 注册字典 Actuator 端点; 开启字典访问追踪时同时注册追踪端点
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+@AutoConfiguration(after = DictAutoConfiguration.class)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+@ConditionalOnBean(DictionaryCache.class)
+public class DictEndpointAutoConfiguration implements ZekaAutoConfiguration {
+
+    /**
+     * 构造函数, 记录自动配置启动日志
+     */
+    public DictEndpointAutoConfiguration() {
+        log.info("启动自动配置: [{}]", this.getClass());
+    }
+
+    /**
+     * 创建字典 Actuator 端点
+     *
+     * @param dictionaryCache 字典缓存
+     * @return 字典端点实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DictionaryEndpoint dictionaryEndpoint(DictionaryCache dictionaryCache) {
+        return new DictionaryEndpoint(dictionaryCache);
+    }
+
+    /**
+     * 创建字典访问追踪 Actuator 端点
+     * <p> 仅在开启字典访问追踪 (zeka-stack.dict.trace.enabled=true) 时注册
+     *
+     * @param lookupRecorder 字典访问追踪记录器
+     * @param properties     字典配置属性
+     * @return 字典访问追踪端点实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(DictionaryLookupRecorder.class)
+    public DictionaryTraceEndpoint dictionaryTraceEndpoint(DictionaryLookupRecorder lookupRecorder, DictProperties properties) {
+        return new DictionaryTraceEndpoint(lookupRecorder, properties.getTrace().getTopTypes());
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import dev.dong4j.zeka.kernel.autoconfigure.ZekaProperties;
 import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryBusTransportType;
 import dev.dong4j.zeka.starter.dict.enums.DictionaryCacheType;
 import lombok.Getter;
 import lombok.Setter;
@@ -31,6 +32,24 @@ public class DictProperties extends ZekaProperties {
     /** 是否在启动时预热缓存 */
     private boolean preloadCache = true;
 
+    /** 预热时每次批量查询的字典类型数量 */
+    private int preloadChunkSize = 500;
+
+    /** 预热时并行查询的最大分块数, 小于等于 1 时串行查询 */
+    private int preloadParallelism = 1;
+
+    /**
+     * 热启动快照文件路径, 为空时不开启热启动, 仅在 preloadCache 为 true 时生效
+     * <p> 开启后启动时先从该文件恢复缓存, 再在后台与数据库对账; 运行期间定期保存快照, 关闭时再保存一次
+     */
+    private String warmStartFile;
+
+    /** 定期保存热启动快照的间隔 (秒), 小于等于 0 时只在关闭时保存 */
+    private long warmStartInterval = 300;
+
+    /** 热启动快照的最大有效期 (秒), 超过后视为过期丢弃, 小于等于 0 表示不限制 */
+    private long warmStartMaxAge = 86400;
+
     /** 缓存类型, 默认为内存缓存 */
     private DictionaryCacheType cacheType = DictionaryCacheType.MEMORY;
 
@@ -39,4 +58,129 @@ public class DictProperties extends ZekaProperties {
 
     /** 缓存刷新延迟时间 (毫秒) */
     private long cacheRefreshDelay = 100;
+
+    /**
+     * 是否开启加载缓存模式
+     * <p> 开启后同一字典类型的并发缓存未命中只会回源加载一次, 其余请求等待并共享加载结果
+     */
+    private boolean loadingCache = false;
+
+    /**
+     * 提前刷新时间 (秒), 仅在开启加载缓存模式时生效
+     * <p> 条目写入时间超过 (cacheExpireTime - cacheRefreshAheadTime) 后, 命中请求会在 cacheRefreshDelay 毫秒后触发异步重新加载,
+     * 刷新完成前继续返回旧值; 小于等于 0 表示不提前刷新
+     */
+    private long cacheRefreshAheadTime = 0;
+
+    /** 刷新合并窗口 (毫秒), 窗口内对同一字典类型的多次刷新请求只执行一次 */
+    private long refreshCoalesceWindow = 50;
+
+    /** 并行刷新的线程数, 用于刷新全部缓存时并行加载各字典类型 */
+    private int refreshParallelism = 4;
+
+    /**
+     * 是否开启快照模式, 仅在 cacheType 为 MEMORY 时生效
+     * <p> 开启后每个字典类型在写入缓存时构建为不可变快照 (排序后的不可修改列表, 编码到名称的映射, 选项列表),
+     * 读取返回的列表不可修改, 单值查询, 标签翻译与选项查询直接读取快照
+     */
+    private boolean cacheSnapshot = false;
+
+    /** 最大缓存的字典类型数量, 仅在 cacheType 为 CAFFEINE 时生效 */
+    private long cacheMaximumSize = 10000;
+
+    /**
+     * 最大缓存权重
+     * <p> 每个字典类型的权重为其字典值数量 + 1, 大于 0 时按权重限制容量并忽略 cacheMaximumSize, 仅在 cacheType 为 CAFFEINE 时生效
+     */
+    private long cacheMaximumWeight = 0;
+
+    /** 跨节点缓存失效总线配置 */
+    private Bus bus = new Bus();
+
+    /** 字典访问追踪配置 */
+    private Trace trace = new Trace();
+
+    /** 查询结果字典翻译配置 */
+    private DataBind dataBind = new DataBind();
+
+    /**
+     * 跨节点缓存失效总线配置
+     * <p> 开启后本节点的字典变更会广播给其他节点, 其他节点收到后删除本地缓存
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class Bus {
+
+        /** 是否启用跨节点缓存失效总线 */
+        private boolean enabled = false;
+
+        /** 传输类型, 容器中存在自定义 DictionaryInvalidationTransport 时忽略 */
+        private DictionaryBusTransportType transport = DictionaryBusTransportType.MULTICAST;
+
+        /** 发送合并窗口 (毫秒), 窗口内同一字典类型的多次变更只广播一次 */
+        private long coalesceWindow = 50;
+
+        /** 组播地址 */
+        private String multicastGroup = "239.255.27.1";
+
+        /** 组播端口 */
+        private int multicastPort = 45700;
+
+        /** 组播 TTL, 1 表示只在本网段内传播 */
+        private int multicastTtl = 1;
+    }
+
+    /**
+     * 字典访问追踪配置
+     * <p> 开启后记录每个字典类型的访问频率与耗时, 数据库加载耗时以及写入窗口内的加载, 通过 /actuator/dicttrace 查看
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class Trace {
+
+        /** 是否启用字典访问追踪, 关闭时字典服务不做任何记录 */
+        private boolean enabled = false;
+
+        /** 慢加载阈值 (毫秒), 单次数据库加载超过该值时输出 WARN 日志, 小于等于 0 时不记录 */
+        private long slowLoadThreshold = 200;
+
+        /** 慢访问阈值 (毫秒), 单次字典查询 (含未命中后的加载) 超过该值时输出 WARN 日志, 小于等于 0 时不记录 */
+        private long slowLookupThreshold = 500;
+
+        /** 保留的最近慢加载记录数量 */
+        private int recentSlowLoads = 100;
+
+        /** 端点默认返回的热点字典类型数量 */
+        private int topTypes = 10;
+    }
+
+    /**
+     * 查询结果字典翻译配置
+     * <p> 开启后注册基于字典服务的 MyBatis 字典翻译, 替代默认的空实现, 容器中已存在自定义 IDataBind 时不生效
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class DataBind {
+
+        /** 是否启用查询结果字典翻译 */
+        private boolean enabled = false;
+    }
 }
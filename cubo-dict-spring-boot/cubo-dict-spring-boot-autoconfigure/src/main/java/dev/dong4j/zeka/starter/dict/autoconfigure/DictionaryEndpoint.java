@@ -0,0 +1,60 @@
+package dev.dong4j.zeka.starter.dict.autoconfigure;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStats;
+import lombok.AllArgsConstructor;
+
+/**
+ * 字典 Actuator 端点
+ * <p> 通过 /actuator/dict 暴露字典缓存的统计数据, 包括整体命中率, 加载耗时分位值以及按字典类型统计的明细
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@AllArgsConstructor
+@Endpoint(id = "dict")
+public class DictionaryEndpoint {
+
+    /** 字典缓存, 用于读取统计数据 */
+    private final DictionaryCache dictionaryCache;
+
+    /**
+     * 获取字典缓存统计快照
+     *
+     * @return 字典缓存统计快照
+     */
+    @ReadOperation
+    public DictionaryCacheStats stats() {
+        return dictionaryCache.stats();
+    }
+
+    /**
+     * 获取指定字典类型的统计明细
+     *
+     * @param typeCode 字典类型编码
+     * @return 类型统计明细, 未被跟踪时返回 null (响应 404)
+     */
+    @ReadOperation
+    public DictionaryCacheStats.TypeStats typeStats(@Selector String typeCode) {
+        return dictionaryCache.stats().types().stream()
+            .filter(stats -> stats.typeCode().equals(typeCode))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * 重置字典缓存统计数据
+     */
+    @DeleteOperation
+    public void resetStats() {
+        dictionaryCache.resetStats();
+    }
+}
@@ -0,0 +1,49 @@
+package dev.dong4j.zeka.starter.dict.autoconfigure;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupRecorder;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupReport;
+import lombok.AllArgsConstructor;
+
+/**
+ * 字典访问追踪 Actuator 端点
+ * <p> 通过 /actuator/dicttrace 暴露字典访问追踪报告, 包括热点字典类型, 访问与加载耗时, 写入窗口内的加载次数以及最近的慢加载记录
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@AllArgsConstructor
+@Endpoint(id = "dicttrace")
+public class DictionaryTraceEndpoint {
+
+    /** 字典访问追踪记录器 */
+    private final DictionaryLookupRecorder lookupRecorder;
+    /** 默认返回的热点字典类型数量 */
+    private final int defaultTop;
+
+    /**
+     * 获取字典访问追踪报告
+     *
+     * @param top 返回的热点字典类型数量, 为空时使用 zeka-stack.dict.trace.top-types
+     * @return 字典访问追踪报告
+     */
+    @ReadOperation
+    public DictionaryLookupReport report(@Nullable Integer top) {
+        return lookupRecorder.report(top != null ? top : defaultTop);
+    }
+
+    /**
+     * 重置字典访问追踪数据
+     */
+    @DeleteOperation
+    public void reset() {
+        lookupRecorder.reset();
+    }
+}
@@ -0,0 +1,35 @@
+package dev.dong4j.zeka.starter.dict.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 在 IDE 中运行基准测试的入口
+ * <p> 命令行运行请使用打包后的 benchmarks.jar, 参数与 JMH 一致, 例如 {@code java -jar target/benchmarks.jar DictionaryCacheBenchmark -p cacheType=memory}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * 私有构造函数
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * 运行基准测试
+     *
+     * @param args 第一个参数为要运行的基准测试类名正则, 缺省时运行全部
+     * @throws RunnerException 运行失败
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        new Runner(new OptionsBuilder().include(include).build()).run();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.dong4j.zeka.starter.dict.benchmark;
+
+import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import dev.dong4j.zeka.starter.dict.event.DictionaryEventPublisher;
+
+/**
+ * 基准测试应用
+ * <p> 基于内嵌 H2 数据库 (MySQL 兼容模式) 启动非 Web 的 Spring 上下文, 字典服务与缓存由自动配置创建, 与业务应用的装配方式一致
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@SpringBootApplication
+@MapperScan("dev.dong4j.zeka.starter.dict.dao")
+@Import(DictionaryEventPublisher.class)
+public class DictBenchmarkApplication {
+
+    /**
+     * 启动基准测试上下文
+     *
+     * @param properties 额外的配置属性, 如 zeka-stack.dict.cache-type
+     * @return 应用上下文
+     */
+    public static ConfigurableApplicationContext start(Map<String, Object> properties) {
+        return new SpringApplicationBuilder(DictBenchmarkApplication.class)
+            .profiles("benchmark")
+            .properties(properties)
+            .run();
+    }
+
+    /**
+     * 写入测试数据
+     * <p> 字典类型编码为 type-0 ~ type-(typeCount-1), 每个类型的字典值编码为 0 ~ (valuesPerType-1)
+     *
+     * @param context       应用上下文
+     * @param typeCount     字典类型数量
+     * @param valuesPerType 每个类型的字典值数量
+     */
+    public static void seed(ConfigurableApplicationContext context, int typeCount, int valuesPerType) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from `sys_dict_value`");
+        jdbcTemplate.update("delete from `sys_dict_type`");
+
+        List<Object[]> types = new ArrayList<>(typeCount);
+        List<Object[]> values = new ArrayList<>(typeCount * valuesPerType);
+        for (int i = 0; i < typeCount; i++) {
+            String typeCode = typeCode(i);
+            types.add(new Object[] {typeCode, "类型 " + i, i});
+            for (int j = 0; j < valuesPerType; j++) {
+                values.add(new Object[] {typeCode, String.valueOf(j), typeCode + " 值 " + j, "描述 " + j, j});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into `sys_dict_type` (`code`, `name`, `state`, `order`) values (?, ?, 1, ?)", types);
+        jdbcTemplate.batchUpdate("insert into `sys_dict_value` (`type_code`, `code`, `name`, `description`, `state`, `order`) "
+                                 + "values (?, ?, ?, ?, 1, ?)", values);
+    }
+
+    /**
+     * 获取测试数据中的字典类型编码
+     *
+     * @param index 字典类型序号
+     * @return 字典类型编码
+     */
+    public static String typeCode(int index) {
+        return "type-" + index;
+    }
+}
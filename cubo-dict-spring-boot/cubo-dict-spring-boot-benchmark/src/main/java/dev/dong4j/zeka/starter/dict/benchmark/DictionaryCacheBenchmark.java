@@ -0,0 +1,180 @@
+package dev.dong4j.zeka.starter.dict.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.impl.CaffeineDictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryValueState;
+
+/**
+ * 字典缓存实现基准测试
+ * <p> 不访问数据库, 只衡量缓存本身的读写吞吐与并发争用:
+ * <ul>
+ *     <li>get / put: 单线程基线</li>
+ *     <li>readHeavy: 7 个读线程 + 1 个写线程</li>
+ *     <li>writeHeavy: 2 个读线程 + 6 个写线程</li>
+ *     <li>expireSeconds=0 时条目写入后立即过期, 读取几乎全部未命中并触发过期删除, 对应过期密集场景</li>
+ * </ul>
+ * cacheType 取值: memory (内存缓存), snapshot (开启快照模式的内存缓存), caffeine (有界缓存)
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryCacheBenchmark {
+
+    /** 缓存类型 */
+    @Param({"memory", "snapshot", "caffeine"})
+    private String cacheType;
+
+    /** 字典类型数量 */
+    @Param({"1000"})
+    private int typeCount;
+
+    /** 每个类型的字典值数量 */
+    @Param({"20"})
+    private int valuesPerType;
+
+    /** 缓存过期时间 (秒), 0 表示过期密集场景 */
+    @Param({"3600", "0"})
+    private long expireSeconds;
+
+    /** 被测缓存 */
+    private DictionaryCache cache;
+    /** 预先生成的字典类型编码 */
+    private String[] typeCodes;
+    /** 预先生成的字典值列表, 与 typeCodes 一一对应 */
+    private List<List<DictionaryValue>> data;
+
+    /**
+     * 创建缓存并写入全部数据
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = switch (cacheType) {
+            case "memory" -> new MemoryDictionaryCache(expireSeconds);
+            case "snapshot" -> new MemoryDictionaryCache(expireSeconds, true);
+            case "caffeine" -> new CaffeineDictionaryCache(expireSeconds, typeCount * 2L, 0);
+            default -> throw new IllegalArgumentException("未知的缓存类型: " + cacheType);
+        };
+        typeCodes = new String[typeCount];
+        data = new ArrayList<>(typeCount);
+        for (int i = 0; i < typeCount; i++) {
+            typeCodes[i] = DictBenchmarkApplication.typeCode(i);
+            List<DictionaryValue> values = new ArrayList<>(valuesPerType);
+            for (int j = 0; j < valuesPerType; j++) {
+                values.add(new DictionaryValue().setTypeCode(typeCodes[i]).setCode(String.valueOf(j)).setName("值 " + j)
+                               .setOrder(j).setState(DictionaryValueState.ENABLED));
+            }
+            data.add(values);
+            cache.put(typeCodes[i], values);
+        }
+    }
+
+    /**
+     * 单线程读取
+     *
+     * @return 读取结果
+     */
+    @Benchmark
+    public List<DictionaryValue> get() {
+        return read();
+    }
+
+    /**
+     * 单线程写入
+     */
+    @Benchmark
+    public void put() {
+        write();
+    }
+
+    /**
+     * 读多写少场景的读线程
+     *
+     * @return 读取结果
+     */
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public List<DictionaryValue> readHeavyGet() {
+        return read();
+    }
+
+    /**
+     * 读多写少场景的写线程
+     */
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyPut() {
+        write();
+    }
+
+    /**
+     * 写多读少场景的读线程
+     *
+     * @return 读取结果
+     */
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(2)
+    public List<DictionaryValue> writeHeavyGet() {
+        return read();
+    }
+
+    /**
+     * 写多读少场景的写线程
+     */
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(6)
+    public void writeHeavyPut() {
+        write();
+    }
+
+    /**
+     * 随机读取一个字典类型
+     *
+     * @return 读取结果
+     */
+    private List<DictionaryValue> read() {
+        return cache.get(typeCodes[ThreadLocalRandom.current().nextInt(typeCount)]);
+    }
+
+    /**
+     * 随机写入一个字典类型
+     */
+    private void write() {
+        int index = ThreadLocalRandom.current().nextInt(typeCount);
+        cache.put(typeCodes[index], data.get(index));
+    }
+}
@@ -0,0 +1,190 @@
+package dev.dong4j.zeka.starter.dict.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.service.DictionaryService;
+
+/**
+ * 字典服务基准测试
+ * <p> 通过自动配置创建的 {@link DictionaryService} 访问 H2 数据库中的字典数据, 衡量各缓存模式下的端到端开销.
+ * mode 取值:
+ * <ul>
+ *     <li>memory: 内存缓存</li>
+ *     <li>memory-snapshot: 开启快照模式的内存缓存</li>
+ *     <li>caffeine: 有界缓存</li>
+ *     <li>loading: 有界缓存 + 单飞加载</li>
+ *     <li>none: 不使用缓存, 每次访问数据库, 作为对照基线</li>
+ * </ul>
+ * 带 Contended 后缀的方法使用 8 个线程并发访问, 用于观察缓存在争用下的表现
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryServiceBenchmark {
+
+    /** 缓存模式 */
+    @Param({"memory", "memory-snapshot", "caffeine", "loading", "none"})
+    private String mode;
+
+    /** 字典类型数量 */
+    @Param({"200"})
+    private int typeCount;
+
+    /** 每个类型的字典值数量 */
+    @Param({"20"})
+    private int valuesPerType;
+
+    /** 应用上下文 */
+    private ConfigurableApplicationContext context;
+    /** 被测字典服务 */
+    private DictionaryService dictionaryService;
+
+    /**
+     * 启动应用上下文, 写入测试数据并预热缓存
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>(8);
+        switch (mode) {
+            case "memory" -> properties.put("zeka-stack.dict.cache-type", "memory");
+            case "memory-snapshot" -> {
+                properties.put("zeka-stack.dict.cache-type", "memory");
+                properties.put("zeka-stack.dict.cache-snapshot", true);
+            }
+            case "caffeine" -> properties.put("zeka-stack.dict.cache-type", "caffeine");
+            case "loading" -> {
+                properties.put("zeka-stack.dict.cache-type", "caffeine");
+                properties.put("zeka-stack.dict.loading-cache", true);
+            }
+            case "none" -> properties.put("zeka-stack.dict.cache-type", "none");
+            default -> throw new IllegalArgumentException("未知的缓存模式: " + mode);
+        }
+        context = DictBenchmarkApplication.start(properties);
+        DictBenchmarkApplication.seed(context, typeCount, valuesPerType);
+        dictionaryService = context.getBean(DictionaryService.class);
+        for (int i = 0; i < typeCount; i++) {
+            dictionaryService.getDictionaryValues(DictBenchmarkApplication.typeCode(i));
+        }
+    }
+
+    /**
+     * 关闭应用上下文
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * 读取字典类型下的全部字典值
+     *
+     * @return 字典值列表
+     */
+    @Benchmark
+    public List<DictionaryValue> getDictionaryValues() {
+        return dictionaryService.getDictionaryValues(randomType());
+    }
+
+    /**
+     * 翻译单个字典值
+     *
+     * @return 字典标签
+     */
+    @Benchmark
+    public String getDictionaryLabel() {
+        return dictionaryService.getDictionaryLabel(randomType(), randomValue());
+    }
+
+    /**
+     * 读取字典类型的选项列表
+     *
+     * @return 选项列表
+     */
+    @Benchmark
+    public List<DictionaryOption> getDictionaryOptions() {
+        return dictionaryService.getDictionaryOptions(randomType());
+    }
+
+    /**
+     * 读取全部字典类型的选项列表
+     *
+     * @return 全部选项
+     */
+    @Benchmark
+    public Map<String, List<DictionaryOption>> getAllDictionaryOptions() {
+        return dictionaryService.getAllDictionaryOptions();
+    }
+
+    /**
+     * 并发读取字典类型下的全部字典值
+     *
+     * @return 字典值列表
+     */
+    @Benchmark
+    @Threads(8)
+    public List<DictionaryValue> getDictionaryValuesContended() {
+        return dictionaryService.getDictionaryValues(randomType());
+    }
+
+    /**
+     * 并发翻译单个字典值
+     *
+     * @return 字典标签
+     */
+    @Benchmark
+    @Threads(8)
+    public String getDictionaryLabelContended() {
+        return dictionaryService.getDictionaryLabel(randomType(), randomValue());
+    }
+
+    /**
+     * 随机选择一个字典类型编码
+     *
+     * @return 字典类型编码
+     */
+    private String randomType() {
+        return DictBenchmarkApplication.typeCode(ThreadLocalRandom.current().nextInt(typeCount));
+    }
+
+    /**
+     * 随机选择一个字典值编码
+     *
+     * @return 字典值编码
+     */
+    private String randomValue() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(valuesPerType));
+    }
+}
@@ -0,0 +1,34 @@
+-- 基准测试使用的 H2 表结构 (MySQL 兼容模式), 字段与 cubo-dict-spring-boot-core/db/init.sql 保持一致
+drop table if exists `sys_dict_type`;
+drop table if exists `sys_dict_value`;
+
+create table `sys_dict_type` (
+    `id`          bigint       not null auto_increment primary key,
+    `code`        varchar(50)  not null,
+    `name`        varchar(100) not null,
+    `description` varchar(500) null,
+    `state`       tinyint      not null default 1,
+    `order`       int          not null default 0,
+    `deleted`     bigint       not null default 0,
+    `create_time` timestamp    not null default current_timestamp,
+    `update_time` timestamp    not null default current_timestamp,
+    `tenant_id`   varchar(50)  null,
+    `client_id`   varchar(50)  null
+);
+
+create table `sys_dict_value` (
+    `id`          bigint       not null auto_increment primary key,
+    `type_code`   varchar(50)  not null,
+    `code`        varchar(50)  not null,
+    `name`        varchar(100) not null,
+    `description` varchar(500) null,
+    `order`       int          not null default 0,
+    `state`       tinyint      not null default 1,
+    `deleted`     bigint       not null default 0,
+    `create_time` timestamp    not null default current_timestamp,
+    `update_time` timestamp    not null default current_timestamp,
+    `tenant_id`   varchar(50)  null,
+    `client_id`   varchar(50)  null
+);
+
+create index `idx_type_code` on `sys_dict_value` (`type_code`);
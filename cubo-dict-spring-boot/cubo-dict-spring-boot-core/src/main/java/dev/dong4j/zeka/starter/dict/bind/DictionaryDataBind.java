@@ -0,0 +1,124 @@
+package dev.dong4j.zeka.starter.dict.bind;
+
+import org.apache.ibatis.reflection.MetaObject;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.service.DictionaryService;
+import dev.dong4j.zeka.starter.mybatis.dict.DictKey;
+import dev.dong4j.zeka.starter.mybatis.dict.FieldBind;
+import dev.dong4j.zeka.starter.mybatis.dict.IBatchDataBind;
+import dev.dong4j.zeka.starter.mybatis.dict.IDataBind;
+import dev.dong4j.zeka.starter.mybatis.dict.SpelDataBind;
+
+/**
+ * 基于字典服务的批量字典翻译
+ * <p> 将 {@link FieldBind} 标注的字段值翻译为字典值名称, {@link DictKey#type()} 为字典类型编码, {@link DictKey#code()} 为字典值编码.
+ * 结果集中的字典键由 MyBatis 的字典翻译拦截器去重后一次性传入:
+ * <ul>
+ *     <li>开启字典缓存时每个字典类型从缓存读取一次字典值列表, 再解析该类型下的所有编码, 不再逐个字典键查找</li>
+ *     <li>未开启字典缓存时按字典类型一次查询所有涉及类型的字典值, 不再逐个字典键访问数据库</li>
+ * </ul>
+ * 只翻译启用状态的字典值, 不存在的字典值没有翻译结果, 不设置目标属性.
+ * 未指定 {@link FieldBind#type()} 的字段不按字段名推断字典类型, 逐行交给表达式翻译 (默认 {@link SpelDataBind}) 处理 {@link FieldBind#express()},
+ * 两者都未指定时不翻译
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class DictionaryDataBind implements IBatchDataBind {
+
+    /** 字典服务 */
+    private final DictionaryService dictionaryService;
+    /** 字典服务是否开启缓存 */
+    private final boolean cacheEnabled;
+    /** 未指定字典类型的字段使用的表达式翻译 */
+    private final IDataBind expressBind;
+
+    /**
+     * 构造函数, 未指定字典类型的字段使用 {@link SpelDataBind} 处理表达式
+     *
+     * @param dictionaryService 字典服务
+     * @param cacheEnabled      字典服务是否开启缓存, 开启时每个字典类型读取一次缓存, 否则一次查询所有字典类型
+     */
+    public DictionaryDataBind(DictionaryService dictionaryService, boolean cacheEnabled) {
+        this(dictionaryService, cacheEnabled, new SpelDataBind());
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param dictionaryService 字典服务
+     * @param cacheEnabled      字典服务是否开启缓存, 开启时每个字典类型读取一次缓存, 否则一次查询所有字典类型
+     * @param expressBind       未指定字典类型的字段使用的表达式翻译
+     */
+    public DictionaryDataBind(DictionaryService dictionaryService, boolean cacheEnabled, IDataBind expressBind) {
+        this.dictionaryService = dictionaryService;
+        this.cacheEnabled = cacheEnabled;
+        this.expressBind = expressBind;
+    }
+
+    /**
+     * 翻译未指定字典类型的字段, 交给表达式翻译处理 {@link FieldBind#express()}
+     *
+     * @param field      field
+     * @param fieldValue field value
+     * @param metaObject meta object
+     */
+    @Override
+    public void setMetaObject(FieldBind field, Object fieldValue, MetaObject metaObject) {
+        this.expressBind.setMetaObject(field, fieldValue, metaObject);
+    }
+
+    /**
+     * 批量翻译
+     * <p> 先按字典类型分组, 每个字典类型只读取一次字典值列表 (包括不存在或没有字典值的类型), 再从该列表构建的编码索引中解析该类型下的所有编码.
+     * 没有翻译结果的字典键不包含在结果中, 由字典翻译拦截器的备忘记录为未命中, 备忘打开期间不会再次翻译
+     *
+     * @param keys 去重后的字典键
+     * @return 字典键与字典值名称, 不存在的字典值不包含在结果中
+     */
+    @Override
+    public Map<DictKey, ?> translate(Set<DictKey> keys) {
+        Map<String, Set<String>> codesByType = new LinkedHashMap<>();
+        for (DictKey key : keys) {
+            codesByType.computeIfAbsent(key.type(), type -> new HashSet<>()).add(key.code());
+        }
+
+        Map<String, List<DictionaryValue>> values;
+        if (this.cacheEnabled) {
+            // 从缓存读取, 每个字典类型只读取一次, 未命中时由字典服务加载并写入缓存
+            values = new HashMap<>(codesByType.size() * 2);
+            for (String type : codesByType.keySet()) {
+                values.put(type, this.dictionaryService.getDictionaryValues(type));
+            }
+        } else {
+            values = this.dictionaryService.listDictionaryValues(codesByType.keySet());
+        }
+
+        Map<DictKey, String> labels = new HashMap<>(keys.size() * 2);
+        for (Map.Entry<String, Set<String>> entry : codesByType.entrySet()) {
+            String type = entry.getKey();
+            Set<String> codes = entry.getValue();
+            List<DictionaryValue> typeValues = values.get(type);
+            if (typeValues == null || typeValues.isEmpty()) {
+                continue;
+            }
+            for (DictionaryValue value : typeValues) {
+                if (value.getName() != null && codes.contains(value.getCode())) {
+                    labels.putIfAbsent(new DictKey(type, value.getCode()), value.getName());
+                }
+            }
+        }
+        return labels;
+    }
+}
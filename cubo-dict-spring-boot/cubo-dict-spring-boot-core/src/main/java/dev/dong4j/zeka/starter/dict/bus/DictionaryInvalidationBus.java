@@ -0,0 +1,301 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import dev.dong4j.zeka.starter.dict.event.DictionaryUpdateEvent;
+import dev.dong4j.zeka.starter.dict.service.DictionaryService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典缓存跨节点失效总线
+ * <p> 监听本节点的 {@link DictionaryUpdateEvent}, 将变更的字典类型编码通过 {@link DictionaryInvalidationTransport} 广播给其他节点,
+ * 其他节点收到后只删除本地缓存, 不再发布事件, 因此不会产生广播回环
+ * <p> 发送端在 coalesceWindow 毫秒内对同一字典类型的多次变更只发送一条消息, 出现全部失效时只发送一条全部失效消息;
+ * 接收端按 (节点 ID, 序号) 去重, 并忽略本节点发出的消息
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class DictionaryInvalidationBus {
+
+    /** 本节点 ID, 每次启动随机生成, 节点重启后旧的去重窗口自然失效 */
+    private final String nodeId = UUID.randomUUID().toString();
+    /** 本节点消息序号 */
+    private final AtomicLong sequence = new AtomicLong();
+    /** 消息传输 */
+    private final DictionaryInvalidationTransport transport;
+    /** 本地失效动作, 参数为字典类型编码或 {@link DictionaryInvalidationMessage#ALL} */
+    private final Consumer<String> invalidator;
+    /** 发送合并窗口 (毫秒) */
+    private final long coalesceWindow;
+    /** 等待发送的字典类型编码 */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    /** 是否已安排发送 */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    /** 各来源节点的去重窗口 */
+    private final Map<String, ReplayWindow> windows = new ConcurrentHashMap<>();
+    /** 发送调度器 */
+    private final ScheduledExecutorService scheduler;
+
+    /** 已发送消息数 */
+    private final LongAdder sentCount = new LongAdder();
+    /** 已应用的远程失效数 */
+    private final LongAdder appliedCount = new LongAdder();
+    /** 丢弃的重复消息数 */
+    private final LongAdder duplicateCount = new LongAdder();
+    /** 最近一次远程失效的收敛延迟 (毫秒) */
+    private volatile long lastConvergenceMillis;
+
+    /**
+     * 构造函数, 收到远程失效时清除本地字典缓存
+     *
+     * @param dictionaryService 字典服务
+     * @param transport         消息传输
+     * @param coalesceWindow    发送合并窗口 (毫秒)
+     */
+    public DictionaryInvalidationBus(DictionaryService dictionaryService,
+                                     DictionaryInvalidationTransport transport,
+                                     long coalesceWindow) {
+        this(transport, coalesceWindow, typeCode -> {
+            if (DictionaryInvalidationMessage.ALL.equals(typeCode)) {
+                dictionaryService.clearAllCache();
+            } else {
+                dictionaryService.clearCache(typeCode);
+            }
+        });
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param transport      消息传输
+     * @param coalesceWindow 发送合并窗口 (毫秒)
+     * @param invalidator    本地失效动作, 参数为字典类型编码或 {@link DictionaryInvalidationMessage#ALL}
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    public DictionaryInvalidationBus(DictionaryInvalidationTransport transport,
+                                     long coalesceWindow,
+                                     Consumer<String> invalidator) {
+        this.transport = transport;
+        this.coalesceWindow = Math.max(0, coalesceWindow);
+        this.invalidator = invalidator;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dict-bus-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 启动总线, 开始接收其他节点的失效消息
+     */
+    public void start() {
+        transport.start(this::receive);
+        log.info("字典缓存失效总线已启动: nodeId={}", nodeId);
+    }
+
+    /**
+     * 监听本节点的字典变更事件并广播失效
+     * <p> 在发布方事务提交后广播 (没有事务时立即广播), 避免其他节点在提交前失效并重新加载到旧数据, 回滚的变更也不会广播
+     *
+     * @param event 字典更新事件, 类型编码为 null 时广播全部失效
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDictionaryUpdate(DictionaryUpdateEvent event) {
+        publish(event.getTypeCode());
+    }
+
+    /**
+     * 广播指定字典类型的失效
+     * <p> 消息在合并窗口结束后批量发送
+     *
+     * @param typeCode 字典类型编码, 为 null 时表示全部失效
+     */
+    public void publish(String typeCode) {
+        pending.add(typeCode == null ? DictionaryInvalidationMessage.ALL : typeCode);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, coalesceWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 广播全部字典类型的失效
+     */
+    public void publishAll() {
+        publish(null);
+    }
+
+    /**
+     * 发送合并窗口内积累的失效消息
+     */
+    void flush() {
+        // 先清除标记再取出待发送项, 之后新加入的项会安排下一次发送
+        flushScheduled.set(false);
+        Set<String> typeCodes = new LinkedHashSet<>();
+        for (String typeCode : pending) {
+            if (pending.remove(typeCode)) {
+                typeCodes.add(typeCode);
+            }
+        }
+        if (typeCodes.isEmpty()) {
+            return;
+        }
+        if (typeCodes.contains(DictionaryInvalidationMessage.ALL)) {
+            typeCodes = Set.of(DictionaryInvalidationMessage.ALL);
+        }
+        long now = System.currentTimeMillis();
+        List<DictionaryInvalidationMessage> batch = new ArrayList<>(typeCodes.size());
+        for (String typeCode : typeCodes) {
+            batch.add(new DictionaryInvalidationMessage(nodeId, sequence.incrementAndGet(), now, typeCode));
+        }
+        try {
+            transport.send(batch);
+            sentCount.add(batch.size());
+        } catch (Exception e) {
+            log.warn("字典失效消息发送失败: size={}", batch.size(), e);
+        }
+    }
+
+    /**
+     * 处理收到的失效消息
+     *
+     * @param message 失效消息
+     */
+    void receive(DictionaryInvalidationMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        if (!windows.computeIfAbsent(message.nodeId(), key -> new ReplayWindow()).accept(message.version())) {
+            duplicateCount.increment();
+            return;
+        }
+        try {
+            invalidator.accept(message.typeCode());
+            appliedCount.increment();
+            lastConvergenceMillis = Math.max(0, System.currentTimeMillis() - message.timestamp());
+        } catch (Exception e) {
+            log.warn("应用字典失效消息失败: typeCode={}", message.typeCode(), e);
+        }
+    }
+
+    /**
+     * 关闭总线, 发送剩余消息并关闭传输
+     */
+    public void close() {
+        scheduler.shutdownNow();
+        flush();
+        transport.close();
+    }
+
+    /**
+     * 获取本节点 ID
+     *
+     * @return 节点 ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 获取已发送的消息数
+     *
+     * @return 已发送的消息数
+     */
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    /**
+     * 获取已应用的远程失效数
+     *
+     * @return 已应用的远程失效数
+     */
+    public long getAppliedCount() {
+        return appliedCount.sum();
+    }
+
+    /**
+     * 获取丢弃的重复消息数
+     *
+     * @return 丢弃的重复消息数
+     */
+    public long getDuplicateCount() {
+        return duplicateCount.sum();
+    }
+
+    /**
+     * 获取最近一次远程失效的收敛延迟, 即发送时间到本节点应用完成的时间差, 受节点间时钟偏差影响
+     *
+     * @return 收敛延迟 (毫秒)
+     */
+    public long getLastConvergenceMillis() {
+        return lastConvergenceMillis;
+    }
+
+    /**
+     * 来源节点的去重窗口
+     * <p> 记录已收到的最大序号以及其前 64 个序号的接收位图, 允许传输层乱序到达;
+     * 早于窗口的消息视为重复丢弃, 由缓存过期时间兜底
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static final class ReplayWindow {
+
+        /** 窗口大小 */
+        private static final int SIZE = Long.SIZE;
+
+        /** 已收到的最大序号 */
+        private long highest;
+        /** 接收位图, 第 i 位表示序号 highest - i 已收到 */
+        private long bitmap;
+
+        /**
+         * 记录序号并判断是否首次收到
+         *
+         * @param version 消息序号
+         * @return 首次收到时返回 true
+         */
+        synchronized boolean accept(long version) {
+            if (version > highest) {
+                long shift = version - highest;
+                bitmap = shift >= SIZE ? 1L : (bitmap << shift) | 1L;
+                highest = version;
+                return true;
+            }
+            long offset = highest - version;
+            if (offset >= SIZE) {
+                return false;
+            }
+            long mask = 1L << offset;
+            if ((bitmap & mask) != 0) {
+                return false;
+            }
+            bitmap |= mask;
+            return true;
+        }
+    }
+}
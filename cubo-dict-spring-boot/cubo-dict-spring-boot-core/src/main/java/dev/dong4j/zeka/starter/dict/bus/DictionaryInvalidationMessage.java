@@ -0,0 +1,63 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+/**
+ * 字典缓存失效消息
+ * <p> 由发起节点生成, 通过 {@link DictionaryInvalidationTransport} 广播给其他节点. version 为发起节点内单调递增的序号,
+ * 接收方据此去重; timestamp 为发送时间, 用于统计收敛延迟
+ * <p> 线上编码为单行文本: {@code 1|nodeId|version|timestamp|typeCode}, 首字段为协议版本
+ *
+ * @param nodeId    发起节点 ID
+ * @param version   发起节点内的消息序号
+ * @param timestamp 发送时间 (毫秒)
+ * @param typeCode  失效的字典类型编码, {@link #ALL} 表示全部
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record DictionaryInvalidationMessage(String nodeId, long version, long timestamp, String typeCode) {
+
+    /** 表示失效全部字典类型 */
+    public static final String ALL = "*";
+    /** 协议版本 */
+    private static final String PROTOCOL = "1";
+    /** 字段分隔符 */
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 是否失效全部字典类型
+     *
+     * @return typeCode 为 {@link #ALL} 时返回 true
+     */
+    public boolean isAll() {
+        return ALL.equals(typeCode);
+    }
+
+    /**
+     * 编码为单行文本
+     *
+     * @return 编码后的文本
+     */
+    public String encode() {
+        return PROTOCOL + SEPARATOR + nodeId + SEPARATOR + version + SEPARATOR + timestamp + SEPARATOR + typeCode;
+    }
+
+    /**
+     * 从单行文本解码
+     *
+     * @param line 编码后的文本
+     * @return 失效消息, 协议版本不匹配或格式错误时返回 null
+     */
+    public static DictionaryInvalidationMessage decode(String line) {
+        String[] parts = line.split("\\|", 5);
+        if (parts.length != 5 || !PROTOCOL.equals(parts[0])) {
+            return null;
+        }
+        try {
+            return new DictionaryInvalidationMessage(parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]), parts[4]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 字典缓存失效消息传输接口
+ * <p> 负责在节点之间广播 {@link DictionaryInvalidationMessage}, 可按部署环境替换为消息队列, Redis 发布订阅等实现.
+ * 传输层不需要保证顺序与不重复, 去重由 {@link DictionaryInvalidationBus} 负责; 发送方自身也可能收到自己发出的消息
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public interface DictionaryInvalidationTransport extends AutoCloseable {
+
+    /**
+     * 启动传输并开始接收消息
+     *
+     * @param receiver 消息接收回调, 可能在传输层的线程上调用
+     */
+    void start(Consumer<DictionaryInvalidationMessage> receiver);
+
+    /**
+     * 批量发送消息
+     *
+     * @param messages 要发送的消息
+     */
+    void send(List<DictionaryInvalidationMessage> messages);
+
+    /**
+     * 关闭传输, 释放资源
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,81 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+/**
+ * 进程内字典缓存失效消息传输
+ * <p> 同一 {@link Channel} 上的所有传输实例互相可见, 发送时在发送线程上同步投递给所有成员 (包括发送方自身).
+ * 适用于同一 JVM 中运行多个应用上下文的场景以及多节点收敛测试
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class InMemoryInvalidationTransport implements DictionaryInvalidationTransport {
+
+    /** 默认共享通道 */
+    public static final Channel SHARED_CHANNEL = new Channel();
+
+    /** 所属通道 */
+    private final Channel channel;
+    /** 消息接收回调 */
+    private volatile Consumer<DictionaryInvalidationMessage> receiver;
+
+    /**
+     * 使用默认共享通道构造传输实例
+     */
+    public InMemoryInvalidationTransport() {
+        this(SHARED_CHANNEL);
+    }
+
+    /**
+     * 使用指定通道构造传输实例
+     *
+     * @param channel 通道
+     */
+    public InMemoryInvalidationTransport(Channel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void start(Consumer<DictionaryInvalidationMessage> receiver) {
+        this.receiver = receiver;
+        channel.members.add(this);
+    }
+
+    @Override
+    public void send(List<DictionaryInvalidationMessage> messages) {
+        for (InMemoryInvalidationTransport member : channel.members) {
+            Consumer<DictionaryInvalidationMessage> target = member.receiver;
+            if (target != null) {
+                messages.forEach(target);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        channel.members.remove(this);
+        receiver = null;
+    }
+
+    /**
+     * 进程内广播通道
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static final class Channel {
+
+        /** 通道成员 */
+        private final Set<InMemoryInvalidationTransport> members = new CopyOnWriteArraySet<>();
+    }
+}
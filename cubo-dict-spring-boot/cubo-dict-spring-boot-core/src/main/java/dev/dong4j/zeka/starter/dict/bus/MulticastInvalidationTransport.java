@@ -0,0 +1,170 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.net.SocketException;
+import java.net.StandardSocketOptions;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 基于 UDP 组播的字典缓存失效消息传输
+ * <p> 一批消息按行编码后合并为尽量少的数据报发送, 单个数据报不超过 {@link #MAX_DATAGRAM_SIZE} 字节以避免 IP 分片.
+ * 组播不保证送达, 丢失的失效消息由缓存过期时间兜底; 无需额外中间件, 适用于同一网段内的集群
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class MulticastInvalidationTransport implements DictionaryInvalidationTransport {
+
+    /** 单个数据报的最大字节数 */
+    static final int MAX_DATAGRAM_SIZE = 1400;
+
+    /** 组播地址 */
+    private final InetAddress group;
+    /** 组播端口 */
+    private final int port;
+    /** 组播 TTL */
+    private final int timeToLive;
+    /** 组播套接字 */
+    private volatile MulticastSocket socket;
+    /** 接收线程 */
+    private Thread receiverThread;
+    /** 是否运行中 */
+    private volatile boolean running;
+
+    /**
+     * 构造函数
+     *
+     * @param group      组播地址, 如 239.255.27.1
+     * @param port       组播端口
+     * @param timeToLive 组播 TTL, 1 表示只在本网段内传播
+     */
+    public MulticastInvalidationTransport(String group, int port, int timeToLive) {
+        try {
+            this.group = InetAddress.getByName(group);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("无效的组播地址: " + group, e);
+        }
+        if (!this.group.isMulticastAddress()) {
+            throw new IllegalArgumentException("不是组播地址: " + group);
+        }
+        this.port = port;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public synchronized void start(Consumer<DictionaryInvalidationMessage> receiver) {
+        try {
+            socket = new MulticastSocket(port);
+            socket.setTimeToLive(timeToLive);
+            socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+            socket.joinGroup(group);
+        } catch (IOException e) {
+            throw new UncheckedIOException("字典失效组播加入失败: " + group.getHostAddress() + ":" + port, e);
+        }
+        running = true;
+        MulticastSocket opened = socket;
+        receiverThread = new Thread(() -> receive(opened, receiver), "dict-bus-multicast");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+        log.info("字典失效组播已启动: {}:{}", group.getHostAddress(), port);
+    }
+
+    @Override
+    public void send(List<DictionaryInvalidationMessage> messages) {
+        MulticastSocket current = socket;
+        if (current == null || messages.isEmpty()) {
+            return;
+        }
+        StringBuilder datagram = new StringBuilder(MAX_DATAGRAM_SIZE);
+        for (DictionaryInvalidationMessage message : messages) {
+            String line = message.encode();
+            if (datagram.length() > 0 && datagram.length() + line.length() + 1 > MAX_DATAGRAM_SIZE) {
+                sendDatagram(current, datagram);
+                datagram.setLength(0);
+            }
+            if (datagram.length() > 0) {
+                datagram.append('\n');
+            }
+            datagram.append(line);
+        }
+        sendDatagram(current, datagram);
+    }
+
+    /**
+     * 发送一个数据报
+     *
+     * @param current 组播套接字
+     * @param content 数据报内容
+     */
+    private void sendDatagram(MulticastSocket current, CharSequence content) {
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            current.send(new DatagramPacket(bytes, bytes.length, group, port));
+        } catch (IOException e) {
+            log.warn("字典失效消息发送失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 接收循环, 直到传输关闭
+     *
+     * @param opened   组播套接字
+     * @param receiver 消息接收回调
+     */
+    private void receive(MulticastSocket opened, Consumer<DictionaryInvalidationMessage> receiver) {
+        byte[] buffer = new byte[65507];
+        DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+        while (running) {
+            try {
+                packet.setLength(buffer.length);
+                opened.receive(packet);
+                String content = new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8);
+                for (String line : content.split("\n")) {
+                    DictionaryInvalidationMessage message = DictionaryInvalidationMessage.decode(line);
+                    if (message != null) {
+                        receiver.accept(message);
+                    }
+                }
+            } catch (SocketException e) {
+                if (opened.isClosed()) {
+                    return;
+                }
+                log.warn("字典失效组播接收异常: {}", e.getMessage());
+            } catch (Exception e) {
+                log.warn("字典失效消息处理失败", e);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public synchronized void close() {
+        running = false;
+        if (socket != null) {
+            try {
+                socket.leaveGroup(group);
+            } catch (IOException ignored) {
+                // 关闭时忽略
+            }
+            socket.close();
+            socket = null;
+        }
+        if (receiverThread != null) {
+            receiverThread.interrupt();
+            receiverThread = null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStats;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStatsCounter;
+
+/**
+ * 字典缓存抽象基类
+ * <p> 为字典缓存实现提供统一的统计能力, 子类在读取时通过 {@link #recordGet(String, Object)} 记录命中与未命中,
+ * 在条目被过期清理或容量淘汰时调用 {@link #recordEviction(int)}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public abstract class AbstractDictionaryCache implements DictionaryCache {
+
+    /** 缓存统计计数器 */
+    private final DictionaryCacheStatsCounter statsCounter = new DictionaryCacheStatsCounter();
+    /** 字典值二级索引, 由子类在条目删除, 过期或淘汰时同步清理 */
+    private final DictionaryValueIndex valueIndex = new DictionaryValueIndex();
+
+    /**
+     * 记录一次数据加载
+     *
+     * @param typeCode      字典类型编码
+     * @param loadTimeNanos 加载耗时 (纳秒)
+     * @param success       是否加载成功
+     */
+    @Override
+    public void recordLoad(String typeCode, long loadTimeNanos, boolean success) {
+        statsCounter.recordLoad(typeCode, loadTimeNanos, success);
+    }
+
+    /**
+     * 获取缓存统计快照
+     *
+     * @return 缓存统计快照
+     */
+    @Override
+    public DictionaryCacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * 重置缓存统计数据
+     */
+    @Override
+    public void resetStats() {
+        statsCounter.reset();
+    }
+
+    /**
+     * 获取字典值二级索引
+     *
+     * @return 字典值二级索引
+     */
+    @Override
+    public DictionaryValueIndex getValueIndex() {
+        return valueIndex;
+    }
+
+    /**
+     * 根据读取结果记录命中或未命中
+     *
+     * @param typeCode 字典类型编码
+     * @param value    读取到的缓存值, 为 null 表示未命中
+     * @param <T>      缓存值类型
+     * @return 原样返回读取到的缓存值
+     */
+    protected <T> T recordGet(String typeCode, T value) {
+        if (value == null) {
+            statsCounter.recordMiss(typeCode);
+        } else {
+            statsCounter.recordHit(typeCode);
+        }
+        return value;
+    }
+
+    /**
+     * 记录淘汰
+     *
+     * @param count 淘汰的条目数量
+     */
+    protected void recordEviction(int count) {
+        statsCounter.recordEviction(count);
+    }
+}
@@ -3,6 +3,7 @@ package dev.dong4j.zeka.starter.dict.cache;
 import java.util.List;
 import java.util.Map;
 
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStats;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
 
 /**
@@ -77,4 +78,61 @@ public interface DictionaryCache {
      * @since 1.0.0
      */
     Map<String, List<DictionaryValue>> getAll();
+
+    /**
+     * 获取字典类型的不可变快照
+     * <p> 支持快照模式的缓存在写入时构建快照, 命中时直接返回, 不产生额外分配. 该方法只是读取已有条目, 不记录命中统计,
+     * 调用方通常先通过 {@link #get(String)} 读取 (并记录统计), 再获取与其列表实例一致的快照
+     *
+     * @param typeCode 字典类型编码
+     * @return 字典类型快照, 未命中或不支持快照时返回 null
+     * @since 2.0.0
+     */
+    default DictionarySnapshot getSnapshot(String typeCode) {
+        return null;
+    }
+
+    /**
+     * 获取与缓存条目同生命周期的字典值二级索引
+     * <p> 缓存条目被删除, 过期或淘汰时同步删除对应的索引条目, 避免索引持有已不在缓存中的列表
+     *
+     * @return 字典值二级索引, 不支持时返回 null
+     * @since 2.0.0
+     */
+    default DictionaryValueIndex getValueIndex() {
+        return null;
+    }
+
+    /**
+     * 记录一次数据加载
+     * <p> 由字典服务在缓存未命中并回源数据库后调用, 用于统计加载次数与加载耗时
+     *
+     * @param typeCode      字典类型编码
+     * @param loadTimeNanos 加载耗时 (纳秒)
+     * @param success       是否加载成功
+     * @since 2.0.0
+     */
+    default void recordLoad(String typeCode, long loadTimeNanos, boolean success) {
+        // 默认不统计
+    }
+
+    /**
+     * 获取缓存统计快照
+     * <p> 包含命中, 未命中, 加载, 淘汰次数, 加载耗时分位值以及按字典类型统计的明细
+     *
+     * @return 缓存统计快照, 未实现统计的缓存返回空快照
+     * @since 2.0.0
+     */
+    default DictionaryCacheStats stats() {
+        return DictionaryCacheStats.empty();
+    }
+
+    /**
+     * 重置缓存统计数据
+     *
+     * @since 2.0.0
+     */
+    default void resetStats() {
+        // 默认不统计
+    }
 }
@@ -0,0 +1,271 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryValueState;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典缓存本地快照文件
+ * <p> 将缓存中的字典数据以紧凑的二进制格式保存到本地文件, 应用重启时先从文件恢复缓存, 再异步与数据库对账
+ * <p> 文件格式: 魔数 (4 字节) | 格式版本 (4 字节) | 写入时间 (8 字节) | 字典类型数量 (4 字节) | 数据 | CRC32 (8 字节).
+ * 魔数, 格式版本或校验和不匹配, 以及写入时间超过 maxAge 的文件视为损坏或过期, 读取时删除并返回空数据
+ * <p> 只保存字典翻译所需的字段: id, 类型编码, 编码, 名称, 描述, 排序, 状态, 租户 ID, 客户端 ID.
+ * 写入先落到临时文件再原子替换, 进程在写入中途退出不会破坏已有快照
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class DictionaryCacheFileStore {
+
+    /** 文件魔数, "ZDCS" */
+    static final int MAGIC = 0x5A444353;
+    /** 文件格式版本, 调整数据布局时递增 */
+    static final int FORMAT_VERSION = 1;
+    /** 头部长度: 魔数 + 格式版本 + 写入时间 + 字典类型数量 */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    /** 校验和长度 */
+    private static final int CHECKSUM_SIZE = 8;
+
+    /** 快照文件路径 */
+    private final Path file;
+    /** 快照最大有效期 (毫秒), 小于等于 0 表示不限制 */
+    private final long maxAgeMillis;
+
+    /**
+     * 构造函数
+     *
+     * @param file   快照文件路径
+     * @param maxAge 快照最大有效期 (秒), 小于等于 0 表示不限制
+     */
+    public DictionaryCacheFileStore(Path file, long maxAge) {
+        this.file = file;
+        this.maxAgeMillis = maxAge > 0 ? TimeUnit.SECONDS.toMillis(maxAge) : 0;
+    }
+
+    /**
+     * 获取快照文件路径
+     *
+     * @return 快照文件路径
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * 保存字典数据到快照文件
+     *
+     * @param allData 字典数据, 键为字典类型编码, 值为字典值列表
+     * @throws IOException 写入失败
+     */
+    public void save(Map<String, List<DictionaryValue>> allData) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(allData.size());
+        for (Map.Entry<String, List<DictionaryValue>> entry : allData.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (DictionaryValue value : entry.getValue()) {
+                writeValue(out, value);
+            }
+        }
+        out.flush();
+        CRC32 crc = new CRC32();
+        crc.update(buffer.toByteArray(), 0, buffer.size());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, buffer.toByteArray());
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("保存字典缓存快照: file={}, types={}, bytes={}", file, allData.size(), buffer.size());
+    }
+
+    /**
+     * 从快照文件读取字典数据
+     * <p> 文件不存在时返回空数据; 文件损坏, 版本不兼容或已过期时删除文件并返回空数据
+     *
+     * @return 字典数据, 键为字典类型编码, 值为字典值列表
+     */
+    public Map<String, List<DictionaryValue>> load() {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        try {
+            return read(Files.readAllBytes(file));
+        } catch (IOException | RuntimeException e) {
+            log.warn("字典缓存快照不可用, 已丢弃: file={}, reason={}", file, e.getMessage());
+            discard();
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 删除快照文件
+     */
+    public void discard() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("删除字典缓存快照失败: file={}", file, e);
+        }
+    }
+
+    /**
+     * 校验并解析快照内容
+     *
+     * @param bytes 文件内容
+     * @return 字典数据
+     * @throws IOException 校验失败或内容格式错误
+     */
+    Map<String, List<DictionaryValue>> read(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("文件长度不足");
+        }
+        int length = bytes.length - CHECKSUM_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.skipBytes(length);
+        if (in.readLong() != crc.getValue()) {
+            throw new IOException("校验和不匹配");
+        }
+
+        in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("不是字典缓存快照文件");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("不支持的快照格式版本: " + version);
+        }
+        long createdAt = in.readLong();
+        if (maxAgeMillis > 0 && System.currentTimeMillis() - createdAt > maxAgeMillis) {
+            throw new IOException("快照已过期");
+        }
+        int typeCount = in.readInt();
+        Map<String, List<DictionaryValue>> allData = new LinkedHashMap<>(Math.max(16, typeCount * 4 / 3 + 1));
+        for (int i = 0; i < typeCount; i++) {
+            String typeCode = in.readUTF();
+            int size = in.readInt();
+            List<DictionaryValue> values = new ArrayList<>(size);
+            for (int j = 0; j < size; j++) {
+                values.add(readValue(in));
+            }
+            allData.put(typeCode, values);
+        }
+        if (in.available() != 0) {
+            throw new IOException("文件包含多余数据");
+        }
+        return allData;
+    }
+
+    /**
+     * 写入单个字典值
+     *
+     * @param out   输出流
+     * @param value 字典值
+     * @throws IOException 写入失败
+     */
+    private static void writeValue(DataOutputStream out, DictionaryValue value) throws IOException {
+        out.writeBoolean(value.getId() != null);
+        if (value.getId() != null) {
+            out.writeLong(value.getId());
+        }
+        writeString(out, value.getTypeCode());
+        writeString(out, value.getCode());
+        writeString(out, value.getName());
+        writeString(out, value.getDescription());
+        out.writeBoolean(value.getOrder() != null);
+        if (value.getOrder() != null) {
+            out.writeInt(value.getOrder());
+        }
+        writeString(out, value.getState() == null ? null : value.getState().name());
+        writeString(out, value.getTenantId());
+        writeString(out, value.getClientId());
+    }
+
+    /**
+     * 读取单个字典值
+     *
+     * @param in 输入流
+     * @return 字典值
+     * @throws IOException 读取失败
+     */
+    private static DictionaryValue readValue(DataInputStream in) throws IOException {
+        DictionaryValue value = new DictionaryValue();
+        if (in.readBoolean()) {
+            value.setId(in.readLong());
+        }
+        value.setTypeCode(readString(in))
+            .setCode(readString(in))
+            .setName(readString(in))
+            .setDescription(readString(in))
+            .setOrder(in.readBoolean() ? in.readInt() : null);
+        String state = readString(in);
+        value.setState(state == null ? null : DictionaryValueState.valueOf(state))
+            .setTenantId(readString(in))
+            .setClientId(readString(in));
+        return value;
+    }
+
+    /**
+     * 写入可为 null 的字符串
+     *
+     * @param out   输出流
+     * @param value 字符串
+     * @throws IOException 写入失败
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * 读取可为 null 的字符串
+     *
+     * @param in 输入流
+     * @return 字符串
+     * @throws IOException 读取失败
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
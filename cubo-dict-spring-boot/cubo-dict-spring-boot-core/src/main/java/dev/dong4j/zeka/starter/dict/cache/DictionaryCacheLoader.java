@@ -0,0 +1,204 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典缓存加载器
+ * <p> 在 {@link DictionaryCache} 之上提供加载缓存语义: 同一字典类型的并发未命中只会触发一次回源加载, 其余调用方等待并共享该次加载结果, 避免缓存击穿
+ * <p> 开启提前刷新后, 条目写入时间超过 (过期时间 - 提前刷新时间) 时, 命中请求会在延迟 refreshDelay 毫秒后触发一次异步重新加载,
+ * 刷新完成前继续返回旧值; 同一类型同一时刻最多只有一个加载任务. 触发刷新时即推迟下一次刷新的时间点,
+ * 刷新失败或加载结果为空时不会在之后的每次命中上重复触发, 条目按原过期时间淘汰后由未命中加载兜底
+ * <p> 加载期间若该类型被 {@link #invalidate(String)}, 加载结果仍返回给等待的调用方, 但不会写入缓存, 避免旧数据覆盖失效操作.
+ * 写入缓存与失效都在 {@code inFlight} 对应键的 compute 中执行, 二者按键串行, 不存在判断后被失效再写入的窗口
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class DictionaryCacheLoader {
+
+    /** 底层字典缓存 */
+    private final DictionaryCache dictionaryCache;
+    /** 条目写入后多久触发提前刷新 (毫秒), 小于等于 0 表示不提前刷新 */
+    private final long refreshAfterMillis;
+    /** 提前刷新任务的执行延迟 (毫秒) */
+    private final long refreshDelay;
+    /** 正在进行的加载任务, 键为字典类型编码 */
+    private final Map<String, CompletableFuture<List<DictionaryValue>>> inFlight = new ConcurrentHashMap<>();
+    /** 各字典类型最近一次写入缓存的时间 (毫秒) */
+    private final Map<String, Long> loadTimes = new ConcurrentHashMap<>();
+    /** 提前刷新调度器, 未开启提前刷新时为 null */
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * 构造函数, 初始化字典缓存加载器
+     *
+     * @param dictionaryCache  底层字典缓存
+     * @param cacheExpireTime  缓存过期时间 (秒)
+     * @param refreshAheadTime 提前刷新时间 (秒), 小于等于 0 或不小于过期时间时不开启提前刷新
+     * @param refreshDelay     提前刷新任务的执行延迟 (毫秒)
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    public DictionaryCacheLoader(DictionaryCache dictionaryCache, long cacheExpireTime, long refreshAheadTime, long refreshDelay) {
+        this.dictionaryCache = dictionaryCache;
+        this.refreshDelay = Math.max(0, refreshDelay);
+        boolean refreshAhead = refreshAheadTime > 0 && refreshAheadTime < cacheExpireTime;
+        this.refreshAfterMillis = refreshAhead ? TimeUnit.SECONDS.toMillis(cacheExpireTime - refreshAheadTime) : 0;
+        this.refresher = refreshAhead ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dict-refresh-ahead");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 获取字典值列表
+     * <p> 命中时直接返回缓存值, 必要时触发异步提前刷新; 未命中时合并并发请求, 只调用一次 loader 回源加载
+     *
+     * @param typeCode 字典类型编码
+     * @param loader   回源加载函数, 返回值不能为 null
+     * @return 字典值列表
+     */
+    public List<DictionaryValue> get(String typeCode, Function<String, List<DictionaryValue>> loader) {
+        List<DictionaryValue> cached = dictionaryCache.get(typeCode);
+        if (cached != null) {
+            refreshIfStale(typeCode, loader);
+            return cached;
+        }
+
+        CompletableFuture<List<DictionaryValue>> future = new CompletableFuture<>();
+        CompletableFuture<List<DictionaryValue>> existing = inFlight.putIfAbsent(typeCode, future);
+        if (existing != null) {
+            return await(existing);
+        }
+        load(typeCode, future, loader);
+        return await(future);
+    }
+
+    /**
+     * 使指定字典类型失效
+     * <p> 删除缓存条目, 并使正在进行的加载结果不再写入缓存
+     *
+     * @param typeCode 字典类型编码
+     */
+    public void invalidate(String typeCode) {
+        inFlight.compute(typeCode, (key, current) -> {
+            loadTimes.remove(key);
+            dictionaryCache.remove(key);
+            return null;
+        });
+    }
+
+    /**
+     * 使所有字典类型失效
+     */
+    public void invalidateAll() {
+        inFlight.clear();
+        loadTimes.clear();
+        dictionaryCache.clear();
+    }
+
+    /**
+     * 关闭提前刷新调度器
+     */
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 判断是否需要提前刷新, 需要时调度一次异步加载
+     * <p> 未记录写入时间的条目 (例如通过预热直接写入缓存的条目) 以首次命中时间作为写入时间
+     *
+     * @param typeCode 字典类型编码
+     * @param loader   回源加载函数
+     */
+    private void refreshIfStale(String typeCode, Function<String, List<DictionaryValue>> loader) {
+        if (refresher == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long loadTime = loadTimes.putIfAbsent(typeCode, now);
+        if (loadTime == null || now - loadTime < refreshAfterMillis) {
+            return;
+        }
+        // 抢占本轮刷新并推迟下一次刷新的时间点, 刷新失败或结果为空时在下一个刷新周期之前不再触发
+        if (!loadTimes.replace(typeCode, loadTime, now)) {
+            return;
+        }
+
+        CompletableFuture<List<DictionaryValue>> future = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(typeCode, future) != null) {
+            return;
+        }
+        future.whenComplete((values, e) -> {
+            if (e != null) {
+                log.warn("提前刷新字典缓存失败, 继续使用旧值: typeCode={}", typeCode, e);
+            }
+        });
+        refresher.schedule(() -> load(typeCode, future, loader), refreshDelay, TimeUnit.MILLISECONDS);
+        log.debug("调度提前刷新字典缓存: typeCode={}", typeCode);
+    }
+
+    /**
+     * 执行一次加载并完成 future
+     * <p> 仅当该 future 仍是当前类型的加载任务 (未被失效) 且结果非空时写入缓存, 判断与写入在同一次 compute 中完成
+     *
+     * @param typeCode 字典类型编码
+     * @param future   加载任务
+     * @param loader   回源加载函数
+     */
+    private void load(String typeCode, CompletableFuture<List<DictionaryValue>> future, Function<String, List<DictionaryValue>> loader) {
+        try {
+            List<DictionaryValue> values = loader.apply(typeCode);
+            inFlight.compute(typeCode, (key, current) -> {
+                if (current != future) {
+                    return current;
+                }
+                if (!values.isEmpty()) {
+                    dictionaryCache.put(key, values);
+                    loadTimes.put(key, System.currentTimeMillis());
+                }
+                return null;
+            });
+            future.complete(values);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(typeCode, future);
+        }
+    }
+
+    /**
+     * 等待加载结果
+     * <p> 加载失败时抛出原始的运行时异常
+     *
+     * @param future 加载任务
+     * @return 字典值列表
+     */
+    private static List<DictionaryValue> await(CompletableFuture<List<DictionaryValue>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
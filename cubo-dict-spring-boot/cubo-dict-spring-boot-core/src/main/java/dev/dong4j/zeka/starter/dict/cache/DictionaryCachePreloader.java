@@ -2,19 +2,35 @@ package dev.dong4j.zeka.starter.dict.cache;
 
 import org.springframework.boot.ApplicationRunner;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryType;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
 import dev.dong4j.zeka.starter.dict.service.DictionaryService;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 字典缓存预热器
  * <p> 在应用启动时预热字典缓存, 提高后续字典数据访问的效率. 如果字典缓存未启用, 则跳过预热过程.
+ * <p> 预热时先查询所有启用的字典类型, 再按 chunkSize 将类型编码分块, 每块通过一次 IN 查询批量获取字典值并在内存中分组,
+ * 避免逐个类型查询的 N+1 问题; parallelism 大于 1 时各块并行查询.
+ * 单块查询失败只记录日志并跳过该块, 其余块照常写入缓存, 失败块中的类型在首次访问时按未命中加载
+ * <p> 查询结果逐个类型写入缓存: 查询开始后版本号已递增 (被写操作删除或重新加载) 的类型不覆盖, 避免较早的查询结果覆盖较新的数据;
+ * 写入后内容发生变化的类型递增版本号
+ * <p> 配置了 {@link DictionaryCacheFileStore} 时开启热启动: 启动时先从本地快照文件恢复缓存, 再在后台线程与数据库对账
+ * (重新加载全部类型并删除数据库中已不存在的类型); 运行期间按 snapshotInterval 定期保存快照, 关闭时再保存一次.
+ * 快照文件不存在, 损坏或过期时退化为同步从数据库预热
  *
  * @author dong4j
  * @version 1.0.0
@@ -23,17 +39,83 @@ import lombok.extern.slf4j.Slf4j;
  * @since 2.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public class DictionaryCachePreloader implements ApplicationRunner {
 
+    /** 默认每块查询的字典类型数量 */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
     /** 字典服务, 用于获取字典类型和字典值数据 */
     private final DictionaryService dictionaryService;
     /** 字典缓存实例, 用于预热字典数据到缓存中 */
     private final DictionaryCache dictionaryCache;
+    /** 每块查询的字典类型数量 */
+    private final int chunkSize;
+    /** 并行查询的最大块数 */
+    private final int parallelism;
+    /** 字典版本号 */
+    private final DictionaryVersions versions;
+    /** 本地快照文件, 为 null 时不开启热启动 */
+    private final DictionaryCacheFileStore fileStore;
+    /** 定期保存快照的间隔 (秒), 小于等于 0 时只在关闭时保存 */
+    private final long snapshotInterval;
+    /** 定期保存快照与后台对账的调度器 */
+    private ScheduledExecutorService snapshotScheduler;
+
+    /**
+     * 构造函数, 使用默认分块大小串行预热
+     *
+     * @param dictionaryService 字典服务
+     * @param dictionaryCache   字典缓存
+     */
+    public DictionaryCachePreloader(DictionaryService dictionaryService, DictionaryCache dictionaryCache) {
+        this(dictionaryService, dictionaryCache, DEFAULT_CHUNK_SIZE, 1);
+    }
+
+    /**
+     * 构造函数, 初始化字典缓存预热器
+     *
+     * @param dictionaryService 字典服务
+     * @param dictionaryCache   字典缓存
+     * @param chunkSize         每块查询的字典类型数量, 小于等于 0 时使用默认值
+     * @param parallelism       并行查询的最大块数, 小于等于 1 时串行查询
+     */
+    public DictionaryCachePreloader(DictionaryService dictionaryService,
+                                    DictionaryCache dictionaryCache,
+                                    int chunkSize,
+                                    int parallelism) {
+        this(dictionaryService, dictionaryCache, chunkSize, parallelism, null, null, 0);
+    }
+
+    /**
+     * 构造函数, 初始化开启热启动的字典缓存预热器
+     *
+     * @param dictionaryService 字典服务
+     * @param dictionaryCache   字典缓存
+     * @param chunkSize         每块查询的字典类型数量, 小于等于 0 时使用默认值
+     * @param parallelism       并行查询的最大块数, 小于等于 1 时串行查询
+     * @param versions          字典版本号, 应与字典服务使用同一实例; 为 null 时无法感知查询期间的并发写入
+     * @param fileStore         本地快照文件, 为 null 时不开启热启动
+     * @param snapshotInterval  定期保存快照的间隔 (秒), 小于等于 0 时只在关闭时保存
+     */
+    public DictionaryCachePreloader(DictionaryService dictionaryService,
+                                    DictionaryCache dictionaryCache,
+                                    int chunkSize,
+                                    int parallelism,
+                                    DictionaryVersions versions,
+                                    DictionaryCacheFileStore fileStore,
+                                    long snapshotInterval) {
+        this.dictionaryService = dictionaryService;
+        this.dictionaryCache = dictionaryCache;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+        this.parallelism = Math.max(1, parallelism);
+        this.versions = versions != null ? versions : new DictionaryVersions();
+        this.fileStore = fileStore;
+        this.snapshotInterval = snapshotInterval;
+    }
 
     /**
      * 执行字典缓存预热操作
-     * <p> 在应用启动时加载所有字典类型及其对应的字典值, 并存入缓存中. 如果字典缓存未启用, 则跳过预热.</p>
+     * <p> 在应用启动时批量加载所有字典类型及其对应的字典值, 并存入缓存中. 如果字典缓存未启用, 则跳过预热.</p>
      *
      * @param args 应用启动参数
      */
@@ -44,20 +126,272 @@ public class DictionaryCachePreloader implements ApplicationRunner {
             return;
         }
 
+        if (fileStore == null) {
+            preload();
+            return;
+        }
+
+        Map<String, List<DictionaryValue>> snapshot = fileStore.load();
+        startSnapshotScheduler();
+        if (snapshot.isEmpty()) {
+            if (preload() != null) {
+                snapshotScheduler.execute(this::saveSnapshot);
+            }
+            return;
+        }
+        dictionaryCache.putAll(snapshot);
+        versions.advanceAll();
+        log.info("从本地快照恢复字典缓存: file={}, types={}, 开始后台对账", fileStore.getFile(), snapshot.size());
+        snapshotScheduler.execute(() -> reconcile(snapshot));
+    }
+
+    /**
+     * 关闭预热器
+     * <p> 停止定期保存任务, 并保存一次当前缓存的快照
+     */
+    public void shutdown() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * 从数据库预热全部字典缓存
+     *
+     * @return 从数据库加载的全部字典数据; 预热失败或有分块失败时返回 null, 此时已加载的分块仍会写入缓存
+     */
+    private Map<String, List<DictionaryValue>> preload() {
         log.info("开始预热字典缓存...");
+        long start = System.nanoTime();
+        long readVersion = versions.version();
         try {
-            // 预热所有字典数据
             List<DictionaryType> types = dictionaryService.listDictionaryTypes();
-            Map<String, List<DictionaryValue>> allData = types.stream()
-                .collect(Collectors.toMap(
-                    DictionaryType::getCode,
-                    type -> dictionaryService.getDictionaryValues(type.getCode())
-                                         ));
-
-            dictionaryCache.putAll(allData);
-            log.info("字典缓存预热完成，共加载 {} 个字典类型", allData.size());
+            List<List<String>> chunks = chunk(types);
+            Map<String, List<DictionaryValue>> allData = new HashMap<>();
+            int failedChunks = parallelism > 1 && chunks.size() > 1
+                               ? loadParallel(chunks, allData)
+                               : loadSerial(chunks, allData);
+            if (failedChunks > 0 && failedChunks == chunks.size()) {
+                log.error("字典缓存预热失败, 全部 {} 块查询失败", failedChunks);
+                return null;
+            }
+
+            int changed = apply(allData, readVersion);
+            log.info("字典缓存预热完成，共 {} 个字典类型, 加载 {} 个有值类型 (变化 {} 个), 分 {} 块 (失败 {} 块), 耗时 {} ms",
+                     types.size(), allData.size(), changed, chunks.size(), failedChunks,
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return failedChunks == 0 ? allData : null;
         } catch (Exception e) {
             log.error("字典缓存预热失败", e);
+            return null;
+        }
+    }
+
+    /**
+     * 将从快照恢复的缓存与数据库对账
+     * <p> 重新从数据库加载全部类型写入缓存, 并删除快照中有而数据库中已不存在 (或已无启用值) 的类型; 对账成功后立即保存新快照
+     *
+     * @param snapshot 从快照恢复的字典数据
+     */
+    private void reconcile(Map<String, List<DictionaryValue>> snapshot) {
+        long readVersion = versions.version();
+        Map<String, List<DictionaryValue>> allData = preload();
+        if (allData == null) {
+            return;
+        }
+        int removed = 0;
+        for (String typeCode : snapshot.keySet()) {
+            // 查询开始后版本号已递增的类型已被写操作处理, 不再删除
+            if (!allData.containsKey(typeCode) && versions.version(typeCode) <= readVersion) {
+                dictionaryCache.remove(typeCode);
+                versions.advance(typeCode);
+                removed++;
+            }
+        }
+        log.info("字典缓存快照对账完成: 删除 {} 个已不存在的类型", removed);
+        saveSnapshot();
+    }
+
+    /**
+     * 逐个类型将查询结果写入缓存
+     * <p> 查询开始后版本号已递增的类型说明已被写操作删除或重新加载, 不再写入; 写入后版本号发生变化时删除刚写入的条目,
+     * 下次访问按未命中重新加载. 内容与缓存中不同的类型递增版本号
+     *
+     * @param allData     查询结果
+     * @param readVersion 查询开始前的全局版本号
+     * @return 内容发生变化的类型数量
+     */
+    private int apply(Map<String, List<DictionaryValue>> allData, long readVersion) {
+        Map<String, List<DictionaryValue>> current = dictionaryCache.getAll();
+        int changed = 0;
+        for (Map.Entry<String, List<DictionaryValue>> entry : allData.entrySet()) {
+            String typeCode = entry.getKey();
+            if (versions.version(typeCode) > readVersion) {
+                continue;
+            }
+            List<DictionaryValue> values = entry.getValue();
+            if (sameValues(current.get(typeCode), values)) {
+                continue;
+            }
+            dictionaryCache.put(typeCode, values);
+            if (versions.version(typeCode) > readVersion) {
+                dictionaryCache.remove(typeCode);
+                continue;
+            }
+            versions.advance(typeCode);
+            changed++;
+        }
+        return changed;
+    }
+
+    /**
+     * 比较两组字典值的内容是否相同
+     *
+     * @param cached 缓存中的字典值, 可能为 null
+     * @param loaded 查询得到的字典值
+     * @return 数量与每个字典值的字段都相同时返回 true
+     */
+    private static boolean sameValues(List<DictionaryValue> cached, List<DictionaryValue> loaded) {
+        if (cached == null || cached.size() != loaded.size()) {
+            return false;
+        }
+        for (int i = 0; i < loaded.size(); i++) {
+            DictionaryValue a = cached.get(i);
+            DictionaryValue b = loaded.get(i);
+            if (!Objects.equals(a.getId(), b.getId())
+                || !Objects.equals(a.getCode(), b.getCode())
+                || !Objects.equals(a.getName(), b.getName())
+                || !Objects.equals(a.getDescription(), b.getDescription())
+                || !Objects.equals(a.getOrder(), b.getOrder())
+                || a.getState() != b.getState()
+                || !Objects.equals(a.getUpdateTime(), b.getUpdateTime())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 启动快照调度器, 按 snapshotInterval 定期保存快照
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private void startSnapshotScheduler() {
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dict-cache-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (snapshotInterval > 0) {
+            snapshotScheduler.scheduleWithFixedDelay(this::saveSnapshot, snapshotInterval, snapshotInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 保存当前缓存的快照, 缓存为空时不覆盖已有快照
+     */
+    private void saveSnapshot() {
+        try {
+            Map<String, List<DictionaryValue>> allData = dictionaryCache.getAll();
+            if (!allData.isEmpty()) {
+                fileStore.save(allData);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("保存字典缓存快照失败: file={}", fileStore.getFile(), e);
+        }
+    }
+
+    /**
+     * 将字典类型编码按 chunkSize 分块
+     *
+     * @param types 字典类型列表
+     * @return 分块后的字典类型编码
+     */
+    private List<List<String>> chunk(List<DictionaryType> types) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>(Math.min(chunkSize, types.size()));
+        for (DictionaryType type : types) {
+            current.add(type.getCode());
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 串行加载所有分块
+     *
+     * @param chunks  分块后的字典类型编码
+     * @param allData 加载成功的字典数据
+     * @return 失败的块数
+     */
+    private int loadSerial(List<List<String>> chunks, Map<String, List<DictionaryValue>> allData) {
+        int failed = 0;
+        for (List<String> chunk : chunks) {
+            Map<String, List<DictionaryValue>> data = loadChunk(chunk);
+            if (data == null) {
+                failed++;
+            } else {
+                allData.putAll(data);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 并行加载所有分块
+     * <p> 使用最多 parallelism 个专用线程执行分块查询, 单块失败不影响其余块
+     *
+     * @param chunks  分块后的字典类型编码
+     * @param allData 加载成功的字典数据
+     * @return 失败的块数
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private int loadParallel(List<List<String>> chunks, Map<String, List<DictionaryValue>> allData) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()), runnable -> {
+            Thread thread = new Thread(runnable, "dict-preload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<Map<String, List<DictionaryValue>>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> loadChunk(chunk), executor))
+                .toList();
+
+            int failed = 0;
+            for (CompletableFuture<Map<String, List<DictionaryValue>>> future : futures) {
+                Map<String, List<DictionaryValue>> data = future.join();
+                if (data == null) {
+                    failed++;
+                } else {
+                    allData.putAll(data);
+                }
+            }
+            return failed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 加载一个分块
+     *
+     * @param chunk 字典类型编码
+     * @return 该块的字典数据, 查询失败时返回 null
+     */
+    private Map<String, List<DictionaryValue>> loadChunk(List<String> chunk) {
+        try {
+            return dictionaryService.listDictionaryValues(chunk);
+        } catch (RuntimeException e) {
+            log.warn("字典缓存预热分块查询失败, 跳过该块: types={}, first={}, last={}",
+                     chunk.size(), chunk.get(0), chunk.get(chunk.size() - 1), e);
+            return null;
         }
     }
 }
@@ -0,0 +1,141 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
+
+/**
+ * 字典 ETag
+ * <p> 由本次返回的字典内容计算 SHA-256 摘要生成强 ETag, 内容相同时 ETag 相同, 与数据由哪个节点, 何时, 以何种方式
+ * (写操作, 其他节点, 直接修改数据库后缓存过期) 加载无关, 因此不会在数据已变化时继续返回 304.
+ * 应用重启或多节点部署时, 内容相同的响应也得到相同的 ETag
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class DictionaryETag {
+
+    /** 字段分隔符, 不会出现在字典编码与名称中 */
+    private static final byte SEPARATOR = 0;
+    /** 记录分隔符 */
+    private static final byte RECORD_SEPARATOR = 1;
+    /** ETag 使用的摘要字节数 */
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * 私有构造函数
+     */
+    private DictionaryETag() {
+    }
+
+    /**
+     * 生成单个字典类型选项列表的 ETag
+     *
+     * @param options 字典选项, 按返回顺序
+     * @return 带双引号的强 ETag
+     */
+    public static String of(List<DictionaryOption> options) {
+        MessageDigest digest = digest();
+        update(digest, options);
+        return format(digest);
+    }
+
+    /**
+     * 生成多个字典类型选项的 ETag
+     * <p> 按字典类型编码排序后计算, 与映射的遍历顺序无关
+     *
+     * @param options 字典选项, 键为字典类型编码
+     * @return 带双引号的强 ETag
+     */
+    public static String of(Map<String, List<DictionaryOption>> options) {
+        MessageDigest digest = digest();
+        for (Map.Entry<String, List<DictionaryOption>> entry : new TreeMap<>(options).entrySet()) {
+            update(digest, entry.getKey(), null, entry.getValue());
+        }
+        return format(digest);
+    }
+
+    /**
+     * 开始计算 ETag, 调用方按顺序写入内容后调用 {@link #format(MessageDigest)}
+     *
+     * @return 摘要
+     */
+    public static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("当前 JDK 不支持 SHA-256", e);
+        }
+    }
+
+    /**
+     * 写入一个字段
+     *
+     * @param digest 摘要
+     * @param value  字段值, null 与空字符串区分
+     */
+    public static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        } else {
+            digest.update(RECORD_SEPARATOR);
+        }
+        digest.update(SEPARATOR);
+    }
+
+    /**
+     * 写入一个字典类型及其选项
+     *
+     * @param digest  摘要
+     * @param code    字典类型编码
+     * @param name    字典类型名称, 可以为 null
+     * @param options 字典选项, 可以为 null
+     */
+    public static void update(MessageDigest digest, String code, String name, List<DictionaryOption> options) {
+        update(digest, code);
+        update(digest, name);
+        update(digest, options);
+        digest.update(RECORD_SEPARATOR);
+    }
+
+    /**
+     * 写入一组字典选项
+     * <p> 写入响应中的所有字段, 任一字段变化都会得到不同的 ETag
+     *
+     * @param digest  摘要
+     * @param options 字典选项, 可以为 null
+     */
+    public static void update(MessageDigest digest, List<DictionaryOption> options) {
+        if (options == null) {
+            return;
+        }
+        for (DictionaryOption option : options) {
+            update(digest, option.getValue());
+            update(digest, option.getLabel());
+            update(digest, option.getDescription());
+            update(digest, Boolean.toString(option.isDisabled()));
+            update(digest, option.getSortOrder() == null ? null : option.getSortOrder().toString());
+            digest.update(RECORD_SEPARATOR);
+        }
+    }
+
+    /**
+     * 生成 ETag
+     *
+     * @param digest 摘要
+     * @return 带双引号的强 ETag
+     */
+    public static String format(MessageDigest digest) {
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+    }
+}
@@ -0,0 +1,342 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典缓存刷新协调器
+ * <p> 合并同一字典类型在 coalesceWindow 毫秒内的多次刷新请求, 并保证同一类型同一时刻最多只有一个刷新任务在执行:
+ * <ul>
+ *     <li>窗口内的重复请求共享同一次刷新, 返回同一个 future</li>
+ *     <li>刷新执行期间到达的请求合并为一次后续刷新, 在当前刷新完成后执行, 保证能读到执行期间提交的数据</li>
+ *     <li>不同类型的刷新在 parallelism 个专用线程上并行执行</li>
+ * </ul>
+ * <p> 线程在第一次刷新时才创建, 从不刷新的应用不占用线程; 每个类型的刷新状态在刷新完成且没有后续请求时删除.
+ * 关闭后新的刷新请求在调用线程上同步执行, 关闭时尚未执行的刷新以异常完成, 等待方不会永久阻塞
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class DictionaryRefreshCoordinator {
+
+    /** 合并窗口 (毫秒) */
+    private final long coalesceWindow;
+    /** 并行刷新的线程数 */
+    private final int parallelism;
+    /** 窗口调度器, 第一次刷新时创建 */
+    private ScheduledExecutorService scheduler;
+    /** 刷新执行线程池, 第一次刷新时创建 */
+    private ExecutorService executor;
+    /** 是否已关闭 */
+    private volatile boolean closed;
+    /** 各字典类型的刷新状态 */
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    /** 实际执行的刷新次数 */
+    private final LongAdder executedCount = new LongAdder();
+    /** 被合并的刷新请求数 */
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * 构造函数, 初始化字典缓存刷新协调器
+     *
+     * @param coalesceWindow 合并窗口 (毫秒), 小于等于 0 时不等待, 只合并执行期间到达的请求
+     * @param parallelism    并行刷新的线程数
+     */
+    public DictionaryRefreshCoordinator(long coalesceWindow, int parallelism) {
+        this.coalesceWindow = Math.max(0, coalesceWindow);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 请求刷新指定字典类型
+     * <p> 已有等待中的刷新时直接返回该刷新的 future, 不替换其刷新动作; 协调器关闭后在调用线程上同步执行
+     *
+     * @param typeCode 字典类型编码
+     * @param action   刷新动作
+     * @return 刷新完成时完成的 future, 刷新失败时异常完成
+     */
+    public CompletableFuture<Void> refresh(String typeCode, Runnable action) {
+        while (!closed) {
+            Slot slot = slots.computeIfAbsent(typeCode, key -> new Slot());
+            synchronized (slot) {
+                if (slot.removed) {
+                    // 该状态刚被刷新线程删除, 重新获取
+                    continue;
+                }
+                if (slot.pending != null) {
+                    coalescedCount.increment();
+                    return slot.pending;
+                }
+                slot.pending = new CompletableFuture<>();
+                slot.action = action;
+                if (!slot.running) {
+                    schedule(typeCode, slot);
+                }
+                return slot.pending;
+            }
+        }
+        return runNow(action);
+    }
+
+    /**
+     * 并行刷新多个字典类型并等待全部完成
+     *
+     * @param typeCodes 字典类型编码
+     * @param action    按字典类型编码创建刷新动作
+     */
+    public void refreshAll(Collection<String> typeCodes, Function<String, Runnable> action) {
+        List<CompletableFuture<Void>> futures = typeCodes.stream()
+            .map(typeCode -> refresh(typeCode, action.apply(typeCode)))
+            .toList();
+        await(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
+    }
+
+    /**
+     * 等待刷新完成
+     * <p> 刷新失败时抛出原始的运行时异常
+     *
+     * @param future 刷新任务
+     */
+    public static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 获取实际执行的刷新次数
+     *
+     * @return 刷新次数
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * 获取被合并的刷新请求数
+     *
+     * @return 被合并的请求数
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * 获取当前保留的字典类型刷新状态数量
+     *
+     * @return 刷新状态数量
+     */
+    int getSlotCount() {
+        return slots.size();
+    }
+
+    /**
+     * 关闭协调器
+     * <p> 未执行的刷新不再执行, 其 future 以异常完成; 之后的刷新请求在调用线程上同步执行
+     */
+    public void shutdown() {
+        synchronized (this) {
+            closed = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                executor.shutdownNow();
+            }
+        }
+        slots.forEach((typeCode, slot) -> {
+            synchronized (slot) {
+                fail(slot);
+            }
+        });
+    }
+
+    /**
+     * 在调用线程上同步执行刷新
+     *
+     * @param action 刷新动作
+     * @return 已完成的 future
+     */
+    private static CompletableFuture<Void> runNow(Runnable action) {
+        try {
+            action.run();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 在合并窗口结束后提交刷新任务, 调用方需持有 slot 锁
+     *
+     * @param typeCode 字典类型编码
+     * @param slot     刷新状态
+     */
+    private void schedule(String typeCode, Slot slot) {
+        slot.running = true;
+        try {
+            if (coalesceWindow > 0) {
+                scheduler().schedule(() -> execute(typeCode, slot), coalesceWindow, TimeUnit.MILLISECONDS);
+            } else {
+                execute(typeCode, slot);
+            }
+        } catch (RejectedExecutionException e) {
+            fail(slot);
+        }
+    }
+
+    /**
+     * 提交刷新任务, 协调器已关闭时以异常完成等待中的刷新
+     *
+     * @param typeCode 字典类型编码
+     * @param slot     刷新状态
+     */
+    private void execute(String typeCode, Slot slot) {
+        try {
+            executor().execute(() -> run(typeCode, slot));
+        } catch (RejectedExecutionException e) {
+            synchronized (slot) {
+                fail(slot);
+            }
+        }
+    }
+
+    /**
+     * 以异常完成尚未执行的刷新, 调用方需持有 slot 锁
+     *
+     * @param slot 刷新状态
+     */
+    private static void fail(Slot slot) {
+        if (slot.pending != null) {
+            slot.pending.completeExceptionally(new RejectedExecutionException("字典缓存刷新协调器已关闭"));
+            slot.pending = null;
+            slot.action = null;
+        }
+        slot.running = false;
+    }
+
+    /**
+     * 获取窗口调度器, 第一次调用时创建
+     *
+     * @return 窗口调度器
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private synchronized ScheduledExecutorService scheduler() {
+        if (closed) {
+            throw new RejectedExecutionException("字典缓存刷新协调器已关闭");
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dict-refresh-window");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        executor();
+        return scheduler;
+    }
+
+    /**
+     * 获取刷新执行线程池, 第一次调用时创建
+     *
+     * @return 刷新执行线程池
+     */
+    @SuppressWarnings("PMD.ThreadPoolCreationRule")
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            throw new RejectedExecutionException("字典缓存刷新协调器已关闭");
+        }
+        if (executor == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "dict-refresh-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * 执行一次刷新, 完成后如有新的请求则调度后续刷新
+     *
+     * @param typeCode 字典类型编码
+     * @param slot     刷新状态
+     */
+    private void run(String typeCode, Slot slot) {
+        CompletableFuture<Void> future;
+        Runnable action;
+        synchronized (slot) {
+            future = slot.pending;
+            action = slot.action;
+            slot.pending = null;
+            slot.action = null;
+            if (future == null) {
+                // 关闭时等待中的刷新已以异常完成
+                return;
+            }
+        }
+        try {
+            action.run();
+            executedCount.increment();
+            future.complete(null);
+        } catch (Throwable e) {
+            log.warn("刷新字典缓存失败: typeCode={}", typeCode, e);
+            future.completeExceptionally(e);
+        } finally {
+            synchronized (slot) {
+                slot.running = false;
+                if (slot.pending != null) {
+                    schedule(typeCode, slot);
+                } else {
+                    // 没有后续请求, 删除该类型的刷新状态, 已持有该状态的请求会看到 removed 后重新获取
+                    slot.removed = true;
+                    slots.remove(typeCode, slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * 单个字典类型的刷新状态
+     * <p> running 表示已调度或正在执行的刷新, pending 表示尚未开始执行的刷新请求
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class Slot {
+
+        /** 是否有已调度或正在执行的刷新 */
+        private boolean running;
+        /** 尚未开始执行的刷新请求 */
+        private CompletableFuture<Void> pending;
+        /** 尚未开始执行的刷新动作 */
+        private Runnable action;
+        /** 是否已从状态表中删除 */
+        private boolean removed;
+    }
+}
@@ -0,0 +1,334 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.dong4j.zeka.kernel.common.enums.DeletedEnum;
+import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryValueState;
+
+/**
+ * 字典类型的不可变快照
+ * <p> 在写入缓存时一次性构建: 字典值按排序升序排列, 同时预先构建字典值编码到字典值, 字典值编码到名称的映射以及前端选项列表.
+ * 快照构建后不再修改, 重新加载时整体替换, 读取方无需加锁也无需复制
+ * <p> 快照中的列表与映射均不可修改; 其中的 {@link DictionaryValue} 与 {@link DictionaryOption} 是构建时复制的只读副本,
+ * 为多个读取方共享, 调用任何 setter 都会抛出 {@link UnsupportedOperationException}, 修改传入的原始字典值也不会影响快照
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class DictionarySnapshot {
+
+    /** 排序规则, 按排序值升序, 未设置排序值的排在最后 */
+    private static final Comparator<DictionaryValue> ORDER =
+        Comparator.comparing(DictionaryValue::getOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /** 按排序升序排列的字典值 */
+    private final List<DictionaryValue> values;
+    /** 字典值编码到字典值的映射 */
+    private final Map<String, DictionaryValue> byCode;
+    /** 字典值编码到字典值名称的映射 */
+    private final Map<String, String> labels;
+    /** 前端选项列表 */
+    private final List<DictionaryOption> options;
+
+    /**
+     * 构造函数
+     *
+     * @param values  按排序升序排列的字典值
+     * @param byCode  字典值编码到字典值的映射
+     * @param labels  字典值编码到字典值名称的映射
+     * @param options 前端选项列表
+     */
+    private DictionarySnapshot(List<DictionaryValue> values,
+                               Map<String, DictionaryValue> byCode,
+                               Map<String, String> labels,
+                               List<DictionaryOption> options) {
+        this.values = values;
+        this.byCode = byCode;
+        this.labels = labels;
+        this.options = options;
+    }
+
+    /**
+     * 基于字典值列表构建快照
+     * <p> 排序是稳定的, 排序值相同的字典值保持原有顺序; 编码重复时保留排序靠前的字典值.
+     * 每个字典值复制为只读副本, 快照不持有传入的字典值实例
+     *
+     * @param values 字典值列表
+     * @return 字典类型快照
+     */
+    public static DictionarySnapshot of(List<DictionaryValue> values) {
+        List<DictionaryValue> sorted = new ArrayList<>(values.size());
+        for (DictionaryValue value : values) {
+            sorted.add(new ReadOnlyValue(value));
+        }
+        sorted.sort(ORDER);
+
+        Map<String, DictionaryValue> byCode = new HashMap<>(sorted.size() * 4 / 3 + 1);
+        Map<String, String> labels = new HashMap<>(sorted.size() * 4 / 3 + 1);
+        List<DictionaryOption> options = new ArrayList<>(sorted.size());
+        for (DictionaryValue value : sorted) {
+            if (value.getCode() != null && byCode.putIfAbsent(value.getCode(), value) == null && value.getName() != null) {
+                labels.put(value.getCode(), value.getName());
+            }
+            options.add(new ReadOnlyOption(toOption(value)));
+        }
+        return new DictionarySnapshot(Collections.unmodifiableList(sorted),
+                                      Collections.unmodifiableMap(byCode),
+                                      Collections.unmodifiableMap(labels),
+                                      Collections.unmodifiableList(options));
+    }
+
+    /**
+     * 将字典值对象转换为字典选项对象
+     *
+     * @param value 字典值对象
+     * @return 字典选项对象
+     */
+    public static DictionaryOption toOption(DictionaryValue value) {
+        return new DictionaryOption()
+            .setValue(value.getCode())
+            .setLabel(value.getName())
+            .setDescription(value.getDescription())
+            .setDisabled(value.getState() != DictionaryValueState.ENABLED)
+            .setSortOrder(value.getOrder());
+    }
+
+    /**
+     * 获取按排序升序排列的字典值
+     *
+     * @return 不可修改的字典值列表
+     */
+    public List<DictionaryValue> values() {
+        return values;
+    }
+
+    /**
+     * 根据字典值编码获取字典值
+     *
+     * @param valueCode 字典值编码
+     * @return 字典值, 不存在时返回 null
+     */
+    public DictionaryValue get(String valueCode) {
+        return valueCode == null ? null : byCode.get(valueCode);
+    }
+
+    /**
+     * 根据字典值编码获取字典值名称
+     *
+     * @param valueCode 字典值编码
+     * @return 字典值名称, 不存在时返回 null
+     */
+    public String label(String valueCode) {
+        return valueCode == null ? null : labels.get(valueCode);
+    }
+
+    /**
+     * 获取字典值编码到字典值名称的映射
+     *
+     * @return 不可修改的映射
+     */
+    public Map<String, String> labels() {
+        return labels;
+    }
+
+    /**
+     * 获取前端选项列表
+     *
+     * @return 不可修改的选项列表
+     */
+    public List<DictionaryOption> options() {
+        return options;
+    }
+
+    /**
+     * 只读的字典值副本
+     * <p> 构建时复制所有字段, 之后调用任何 setter 都抛出 {@link UnsupportedOperationException};
+     * 时间字段的 getter 返回副本, 避免通过 {@link Date#setTime(long)} 修改快照
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class ReadOnlyValue extends DictionaryValue {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 复制字典值
+         *
+         * @param source 原始字典值
+         */
+        private ReadOnlyValue(DictionaryValue source) {
+            super.setId(source.getId());
+            super.setTypeCode(source.getTypeCode());
+            super.setCode(source.getCode());
+            super.setName(source.getName());
+            super.setDescription(source.getDescription());
+            super.setOrder(source.getOrder());
+            super.setState(source.getState());
+            super.setTenantId(source.getTenantId());
+            super.setClientId(source.getClientId());
+            super.setDeleted(source.getDeleted());
+            super.setCreateTime(copy(source.getCreateTime()));
+            super.setUpdateTime(copy(source.getUpdateTime()));
+        }
+
+        @Override
+        public Date getCreateTime() {
+            return copy(super.getCreateTime());
+        }
+
+        @Override
+        public Date getUpdateTime() {
+            return copy(super.getUpdateTime());
+        }
+
+        @Override
+        public DictionaryValue setId(Long id) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setTypeCode(String typeCode) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setCode(String code) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setName(String name) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setDescription(String description) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setOrder(Integer order) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setState(DictionaryValueState state) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setTenantId(String tenantId) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setClientId(String clientId) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setDeleted(DeletedEnum deleted) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setCreateTime(Date createTime) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryValue setUpdateTime(Date updateTime) {
+            throw readOnly();
+        }
+
+        /**
+         * 复制时间
+         *
+         * @param date 时间
+         * @return 时间副本, 参数为 null 时返回 null
+         */
+        private static Date copy(Date date) {
+            return date == null ? null : new Date(date.getTime());
+        }
+    }
+
+    /**
+     * 只读的字典选项副本
+     * <p> 构建时复制所有字段, 之后调用任何 setter 都抛出 {@link UnsupportedOperationException}
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class ReadOnlyOption extends DictionaryOption {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 复制字典选项
+         *
+         * @param source 原始字典选项
+         */
+        private ReadOnlyOption(DictionaryOption source) {
+            super.setValue(source.getValue());
+            super.setLabel(source.getLabel());
+            super.setDescription(source.getDescription());
+            super.setDisabled(source.isDisabled());
+            super.setSortOrder(source.getSortOrder());
+        }
+
+        @Override
+        public DictionaryOption setValue(String value) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryOption setLabel(String label) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryOption setDescription(String description) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryOption setDisabled(boolean disabled) {
+            throw readOnly();
+        }
+
+        @Override
+        public DictionaryOption setSortOrder(Integer sortOrder) {
+            throw readOnly();
+        }
+    }
+
+    /**
+     * 创建修改只读副本时抛出的异常
+     *
+     * @return 不支持的操作异常
+     */
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("字典快照中的对象不可修改");
+    }
+}
@@ -0,0 +1,103 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+
+/**
+ * 字典值二级索引
+ * <p> 基于缓存中的字典值列表构建 (字典类型编码, 字典值编码) 到字典值的哈希索引, 使单值查询与标签翻译为 O(1) 的内存查找
+ * <p> 每个索引条目记录构建时使用的列表实例, 缓存中的列表被替换 (重新加载) 后下一次查询会自动重建索引;
+ * 索引由 {@link AbstractDictionaryCache} 持有, 缓存条目被删除, 过期或淘汰时由缓存实现同步调用 {@link #remove(String)} 或 {@link #clear()}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class DictionaryValueIndex {
+
+    /** 索引条目, 键为字典类型编码 */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 根据字典值编码查找字典值
+     * <p> 当索引不存在或与传入的列表实例不一致时, 基于传入的列表重建该类型的索引
+     *
+     * @param typeCode  字典类型编码
+     * @param values    该类型当前的字典值列表 (通常来自缓存)
+     * @param valueCode 字典值编码
+     * @return 对应的字典值, 不存在时返回 null
+     */
+    public DictionaryValue get(String typeCode, List<DictionaryValue> values, String valueCode) {
+        if (values == null || values.isEmpty() || valueCode == null) {
+            return null;
+        }
+        Entry entry = entries.get(typeCode);
+        if (entry == null || entry.source() != values) {
+            entry = new Entry(values, index(values));
+            entries.put(typeCode, entry);
+        }
+        return entry.byCode().get(valueCode);
+    }
+
+    /**
+     * 删除指定字典类型的索引
+     *
+     * @param typeCode 字典类型编码
+     */
+    public void remove(String typeCode) {
+        entries.remove(typeCode);
+    }
+
+    /**
+     * 清空所有索引
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 获取已建立索引的字典类型数量
+     *
+     * @return 索引条目数量
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 构建字典值编码到字典值的映射
+     * <p> 编码重复时保留排序靠前的字典值, 与按列表顺序查找的结果一致
+     *
+     * @param values 字典值列表
+     * @return 字典值编码到字典值的映射
+     */
+    private static Map<String, DictionaryValue> index(List<DictionaryValue> values) {
+        Map<String, DictionaryValue> byCode = new HashMap<>(values.size() * 4 / 3 + 1);
+        for (DictionaryValue value : values) {
+            if (value.getCode() != null) {
+                byCode.putIfAbsent(value.getCode(), value);
+            }
+        }
+        return byCode;
+    }
+
+    /**
+     * 索引条目
+     *
+     * @param source 构建索引时使用的列表实例
+     * @param byCode 字典值编码到字典值的映射
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record Entry(List<DictionaryValue> source, Map<String, DictionaryValue> byCode) {
+    }
+}
@@ -0,0 +1,65 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 字典版本号
+ * <p> 为每个字典类型维护本进程内单调递增的版本号, 预热与对账据此判断查询期间该类型是否已被写操作删除或重新加载,
+ * 避免较早的查询结果覆盖较新的缓存. 版本号在本节点的写操作事务提交后, 收到字典更新事件或跨节点失效消息时,
+ * 手动清除或刷新缓存时, 以及预热对账发现内容变化时递增; 直接修改数据库或缓存过期后的重新加载不会递增,
+ * 因此版本号不能代表数据内容, HTTP ETag 由响应内容计算 (见 {@link DictionaryETag})
+ * <p> 所有版本号取自同一个全局序列, 因此全局版本号 (任一字典类型变化都会递增) 可作为查询开始时的读取版本
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class DictionaryVersions {
+
+    /** 全局版本序列 */
+    private final AtomicLong sequence = new AtomicLong();
+    /** 全量失效时的版本号, 未单独递增过的字典类型使用该版本号 */
+    private volatile long baseline;
+    /** 各字典类型的版本号 */
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 递增指定字典类型的版本号
+     *
+     * @param typeCode 字典类型编码
+     */
+    public void advance(String typeCode) {
+        versions.put(typeCode, sequence.incrementAndGet());
+    }
+
+    /**
+     * 递增所有字典类型的版本号
+     */
+    public void advanceAll() {
+        baseline = sequence.incrementAndGet();
+        versions.clear();
+    }
+
+    /**
+     * 获取指定字典类型的版本号
+     *
+     * @param typeCode 字典类型编码
+     * @return 版本号
+     */
+    public long version(String typeCode) {
+        Long version = versions.get(typeCode);
+        return version != null ? version : baseline;
+    }
+
+    /**
+     * 获取全局版本号, 任一字典类型的版本号变化时递增
+     *
+     * @return 全局版本号
+     */
+    public long version() {
+        return sequence.get();
+    }
+}
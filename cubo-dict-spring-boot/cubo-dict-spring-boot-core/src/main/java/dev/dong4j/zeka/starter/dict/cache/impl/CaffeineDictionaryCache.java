@@ -0,0 +1,146 @@
+package dev.dong4j.zeka.starter.dict.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.collect.Maps;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import dev.dong4j.zeka.starter.dict.cache.AbstractDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 有界字典缓存实现类
+ * <p> 基于 Caffeine 实现, 使用 W-TinyLFU 策略进行基于访问频率的准入与淘汰, 可按条目数量或按权重 (字典值数量) 限制缓存容量
+ * <p> 过期条目由 Caffeine 的时间轮在读写时顺带清理, 不需要额外的后台定时扫描线程; 维护任务在调用线程上执行, 不占用公共线程池
+ * <p> 条目被删除, 过期或淘汰时通过 removalListener 同步删除字典值二级索引中对应的条目; 被替换时索引会在下一次查询时按新列表重建
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class CaffeineDictionaryCache extends AbstractDictionaryCache {
+
+    /** 字典缓存的存储结构, 键为字典类型编码, 值为字典值列表 */
+    private final Cache<String, List<DictionaryValue>> cache;
+
+    /**
+     * 构造函数, 初始化有界字典缓存
+     * <p> 当 maximumWeight 大于 0 时按权重限制容量 (每个类型的权重为其字典值数量 + 1), 否则按条目数量 maximumSize 限制容量
+     *
+     * @param cacheExpireTime 缓存条目的过期时间 (单位: 秒)
+     * @param maximumSize     最大缓存的字典类型数量
+     * @param maximumWeight   最大缓存权重, 小于等于 0 表示不按权重限制
+     */
+    public CaffeineDictionaryCache(long cacheExpireTime, long maximumSize, long maximumWeight) {
+        Caffeine<String, List<DictionaryValue>> builder = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(cacheExpireTime))
+            .executor(Runnable::run)
+            .<String, List<DictionaryValue>>removalListener((typeCode, values, cause) -> {
+                if (cause == RemovalCause.REPLACED) {
+                    return;
+                }
+                getValueIndex().remove(typeCode);
+                if (cause.wasEvicted()) {
+                    recordEviction(1);
+                }
+            });
+
+        if (maximumWeight > 0) {
+            builder.maximumWeight(maximumWeight).<String, List<DictionaryValue>>weigher((typeCode, values) -> values.size() + 1);
+        } else {
+            builder.maximumSize(maximumSize);
+        }
+        this.cache = builder.build();
+        log.info("初始化有界字典缓存: expireTime={}s, maximumSize={}, maximumWeight={}", cacheExpireTime, maximumSize, maximumWeight);
+    }
+
+    /**
+     * 将指定类型的字典数据存入缓存
+     * <p> 写入后由 W-TinyLFU 策略决定是否保留, 超出容量时淘汰访问频率较低的条目
+     *
+     * @param typeCode 字典类型编码
+     * @param values   要缓存的字典数据列表
+     */
+    @Override
+    public void put(String typeCode, List<DictionaryValue> values) {
+        cache.put(typeCode, values);
+        log.debug("缓存字典数据: typeCode={}, size={}", typeCode, values.size());
+    }
+
+    /**
+     * 根据类型代码从缓存中获取字典值列表
+     * <p> 已过期或已被淘汰的条目返回 null
+     *
+     * @param typeCode 类型代码, 用于标识字典数据的类型
+     * @return 对应类型的字典值列表, 如果不存在或已过期则返回 null
+     */
+    @Override
+    public List<DictionaryValue> get(String typeCode) {
+        return recordGet(typeCode, cache.getIfPresent(typeCode));
+    }
+
+    /**
+     * 从缓存中移除指定类型的字典数据
+     *
+     * @param typeCode 要移除的字典类型编码
+     */
+    @Override
+    public void remove(String typeCode) {
+        cache.invalidate(typeCode);
+        log.debug("移除缓存字典数据: typeCode={}", typeCode);
+    }
+
+    /**
+     * 清空所有字典缓存
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void clear() {
+        cache.invalidateAll();
+        getValueIndex().clear();
+        log.info("清空所有字典缓存");
+    }
+
+    /**
+     * 检查缓存是否启用
+     *
+     * @return 始终返回 true
+     */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * 批量缓存字典数据
+     *
+     * @param allData 要缓存的字典数据, 键为类型编码, 值为对应的字典值列表
+     */
+    @Override
+    public void putAll(Map<String, List<DictionaryValue>> allData) {
+        cache.putAll(allData);
+        log.info("批量缓存字典数据: size={}", allData.size());
+    }
+
+    /**
+     * 获取所有未过期的字典缓存数据
+     * <p> 返回当前缓存内容的副本, 修改返回结果不会影响缓存
+     *
+     * @return 包含所有未过期字典数据的映射表, 键为字典类型代码, 值为对应的字典值列表
+     */
+    @Override
+    public Map<String, List<DictionaryValue>> getAll() {
+        Map<String, List<DictionaryValue>> result = Maps.newConcurrentMap();
+        result.putAll(cache.asMap());
+        return result;
+    }
+}
@@ -9,14 +9,18 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.AbstractDictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.DictionarySnapshot;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 内存字典缓存实现类
  * <p> 提供基于内存的字典数据缓存功能, 支持数据的存储, 获取, 删除, 清空以及自动过期清理
- * <p> 该类使用 ConcurrentHashMap 实现线程安全的缓存存储, 并通过定时任务定期清理过期缓存数据
+ * <p> 该类使用 ConcurrentHashMap 实现线程安全的缓存存储, 并通过定时任务定期清理过期缓存数据;
+ * 条目被删除或过期清理时同步删除字典值二级索引中对应的条目
+ * <p> 开启快照模式后, 每个字典类型在写入时构建为 {@link DictionarySnapshot}, 读取返回快照中不可修改的列表,
+ * 重新加载时整体替换缓存条目, 读取方无锁且无需复制
  *
  * @author dong4j
  * @version 1.0.0
@@ -25,7 +29,7 @@ import lombok.extern.slf4j.Slf4j;
  * @since 2.0.0
  */
 @Slf4j
-public class MemoryDictionaryCache implements DictionaryCache {
+public class MemoryDictionaryCache extends AbstractDictionaryCache {
 
     /**
      * 内存字典缓存的存储结构
@@ -35,11 +39,17 @@ public class MemoryDictionaryCache implements DictionaryCache {
      * @see CacheEntry
      */
     private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
-    /** 定时任务调度器, 用于执行缓存过期清理任务 */
+    /** 定时任务调度器, 用于执行缓存过期清理任务; 使用守护线程, 不阻止 JVM 退出 */
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dict-cache-expire");
+        thread.setDaemon(true);
+        return thread;
+    });
     /** 缓存过期时间, 单位为秒 */
     private final long cacheExpireTime;
+    /** 是否开启快照模式 */
+    private final boolean snapshot;
 
     /**
      * 构造函数, 初始化内存字典缓存
@@ -48,7 +58,18 @@ public class MemoryDictionaryCache implements DictionaryCache {
      * @param cacheExpireTime 缓存条目的过期时间 (单位: 秒)
      */
     public MemoryDictionaryCache(long cacheExpireTime) {
+        this(cacheExpireTime, false);
+    }
+
+    /**
+     * 构造函数, 初始化内存字典缓存
+     *
+     * @param cacheExpireTime 缓存条目的过期时间 (单位: 秒)
+     * @param snapshot        是否开启快照模式
+     */
+    public MemoryDictionaryCache(long cacheExpireTime, boolean snapshot) {
         this.cacheExpireTime = cacheExpireTime;
+        this.snapshot = snapshot;
         startExpirationCleanup();
     }
 
@@ -61,7 +82,10 @@ public class MemoryDictionaryCache implements DictionaryCache {
      */
     @Override
     public void put(String typeCode, List<DictionaryValue> values) {
-        CacheEntry entry = new CacheEntry(values, System.currentTimeMillis() + cacheExpireTime * 1000);
+        long expireTime = System.currentTimeMillis() + cacheExpireTime * 1000;
+        CacheEntry entry = snapshot
+                           ? new CacheEntry(DictionarySnapshot.of(values), expireTime)
+                           : new CacheEntry(values, null, expireTime);
         cache.put(typeCode, entry);
         log.debug("缓存字典数据: typeCode={}, size={}", typeCode, values.size());
     }
@@ -78,14 +102,31 @@ public class MemoryDictionaryCache implements DictionaryCache {
 
         CacheEntry entry = cache.get(typeCode);
         if (entry == null || entry.isExpired()) {
-            if (entry != null) {
-                cache.remove(typeCode);
+            if (entry != null && cache.remove(typeCode, entry)) {
+                getValueIndex().remove(typeCode);
+                recordEviction(1);
             }
-            return null;
+            return recordGet(typeCode, null);
         }
 
         log.debug("从缓存获取字典数据: typeCode={}, size={}", typeCode, entry.values().size());
-        return entry.values();
+        return recordGet(typeCode, entry.values());
+    }
+
+    /**
+     * 根据类型代码从缓存中获取字典类型快照
+     * <p> 仅在快照模式下返回快照, 不记录命中统计
+     *
+     * @param typeCode 类型代码
+     * @return 字典类型快照, 未开启快照模式, 不存在或已过期时返回 null
+     */
+    @Override
+    public DictionarySnapshot getSnapshot(String typeCode) {
+        CacheEntry entry = cache.get(typeCode);
+        if (entry == null || entry.snapshot() == null || entry.isExpired()) {
+            return null;
+        }
+        return entry.snapshot();
     }
 
     /**
@@ -97,6 +138,7 @@ public class MemoryDictionaryCache implements DictionaryCache {
     @Override
     public void remove(String typeCode) {
         cache.remove(typeCode);
+        getValueIndex().remove(typeCode);
         log.debug("移除缓存字典数据: typeCode={}", typeCode);
     }
 
@@ -109,6 +151,7 @@ public class MemoryDictionaryCache implements DictionaryCache {
     @Override
     public void clear() {
         cache.clear();
+        getValueIndex().clear();
         log.info("清空所有字典缓存");
     }
 
@@ -170,11 +213,13 @@ public class MemoryDictionaryCache implements DictionaryCache {
                 var entry = iterator.next();
                 if (entry.getValue().isExpired(now)) {
                     iterator.remove();
+                    getValueIndex().remove(entry.getKey());
                     removedCount++;
                 }
             }
 
             if (removedCount > 0) {
+                recordEviction(removedCount);
                 log.debug("清理过期缓存: count={}", removedCount);
             }
         }, 60, 60, TimeUnit.SECONDS);
@@ -183,14 +228,28 @@ public class MemoryDictionaryCache implements DictionaryCache {
     /**
      * 缓存条目记录类
      * <p> 用于存储缓存项及其过期时间. 包含缓存值列表和过期时间, 并提供了判断缓存是否过期的方法.
+     * 快照模式下 values 为快照中不可修改的列表.
      *
+     * @param values     缓存值列表
+     * @param snapshot   字典类型快照, 未开启快照模式时为 null
+     * @param expireTime 过期时间 (毫秒)
      * @author dong4j
      * @version 1.0.0
      * @email "mailto:dong4j@gmail.com"
      * @date 2025.12.22
      * @since 2.0.0
      */
-    private record CacheEntry(List<DictionaryValue> values, long expireTime) {
+    private record CacheEntry(List<DictionaryValue> values, DictionarySnapshot snapshot, long expireTime) {
+
+        /**
+         * 基于快照构建缓存条目
+         *
+         * @param snapshot   字典类型快照
+         * @param expireTime 过期时间 (毫秒)
+         */
+        CacheEntry(DictionarySnapshot snapshot, long expireTime) {
+            this(snapshot.values(), snapshot, expireTime);
+        }
 
         /**
          * 检查当前缓存条目是否过期
@@ -4,12 +4,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.AbstractDictionaryCache;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
 
 /**
  * 空操作字典缓存实现类
  * <p> 提供一个不执行任何实际缓存操作的字典缓存实现, 适用于测试或禁用缓存功能的场景
+ * <p> 仍然记录未命中与加载统计, 可作为评估其他缓存实现收益的基线
  *
  * @author dong4j
  * @version 1.0.0
@@ -17,7 +18,7 @@ import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
  * @date 2025.12.22
  * @since 1.0.0
  */
-public class NoOpDictionaryCache implements DictionaryCache {
+public class NoOpDictionaryCache extends AbstractDictionaryCache {
 
     /**
      * 将指定类型的字典值列表放入缓存中
@@ -41,7 +42,7 @@ public class NoOpDictionaryCache implements DictionaryCache {
      */
     @Override
     public List<DictionaryValue> get(String typeCode) {
-        return null;
+        return recordGet(typeCode, null);
     }
 
     /**
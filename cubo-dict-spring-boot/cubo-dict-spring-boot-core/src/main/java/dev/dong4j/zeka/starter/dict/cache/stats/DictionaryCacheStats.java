@@ -0,0 +1,124 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 字典缓存统计快照
+ * <p> 某一时刻字典缓存的命中, 未命中, 加载, 淘汰次数以及加载耗时分布, 由 {@link DictionaryCacheStatsCounter#snapshot()} 生成, 不可变
+ *
+ * @param hitCount           命中次数
+ * @param missCount          未命中次数
+ * @param loadSuccessCount   加载成功次数
+ * @param loadFailureCount   加载失败次数
+ * @param evictionCount      淘汰次数 (包含过期与容量淘汰)
+ * @param totalLoadTimeNanos 加载总耗时 (纳秒)
+ * @param loadTimeP50Millis  加载耗时 P50 (毫秒)
+ * @param loadTimeP90Millis  加载耗时 P90 (毫秒)
+ * @param loadTimeP99Millis  加载耗时 P99 (毫秒)
+ * @param loadTimeMaxMillis  加载耗时最大值 (毫秒)
+ * @param types              按字典类型统计的明细
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record DictionaryCacheStats(long hitCount,
+                                   long missCount,
+                                   long loadSuccessCount,
+                                   long loadFailureCount,
+                                   long evictionCount,
+                                   long totalLoadTimeNanos,
+                                   double loadTimeP50Millis,
+                                   double loadTimeP90Millis,
+                                   double loadTimeP99Millis,
+                                   double loadTimeMaxMillis,
+                                   List<TypeStats> types) {
+
+    /** 空统计快照, 用于未实现统计的缓存 */
+    private static final DictionaryCacheStats EMPTY = new DictionaryCacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, Collections.emptyList());
+
+    /**
+     * 获取空统计快照
+     *
+     * @return 所有计数均为 0 的统计快照
+     */
+    public static DictionaryCacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 请求总次数
+     *
+     * @return 命中次数与未命中次数之和
+     */
+    @JsonProperty
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 命中率
+     *
+     * @return 命中次数占请求总次数的比例, 无请求时返回 1.0
+     */
+    @JsonProperty
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * 平均加载耗时
+     *
+     * @return 平均每次加载的耗时 (毫秒), 无加载时返回 0
+     */
+    @JsonProperty
+    public double averageLoadPenaltyMillis() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : totalLoadTimeNanos / 1_000_000.0 / loadCount;
+    }
+
+    /**
+     * 单个字典类型的统计明细
+     *
+     * @param typeCode           字典类型编码
+     * @param hitCount           命中次数
+     * @param missCount          未命中次数
+     * @param loadCount          加载次数
+     * @param averageLoadMillis  平均加载耗时 (毫秒)
+     * @param loadTimeP50Millis  加载耗时 P50 (毫秒)
+     * @param loadTimeP90Millis  加载耗时 P90 (毫秒)
+     * @param loadTimeP99Millis  加载耗时 P99 (毫秒)
+     * @param maxLoadMillis      最大加载耗时 (毫秒)
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record TypeStats(String typeCode,
+                            long hitCount,
+                            long missCount,
+                            long loadCount,
+                            double averageLoadMillis,
+                            double loadTimeP50Millis,
+                            double loadTimeP90Millis,
+                            double loadTimeP99Millis,
+                            double maxLoadMillis) {
+
+        /**
+         * 命中率
+         *
+         * @return 该类型的命中率, 无请求时返回 1.0
+         */
+        @JsonProperty
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+    }
+}
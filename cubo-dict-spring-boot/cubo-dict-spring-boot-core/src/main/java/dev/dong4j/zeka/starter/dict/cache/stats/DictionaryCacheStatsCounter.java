@@ -0,0 +1,194 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 字典缓存统计计数器
+ * <p> 基于 {@link LongAdder} 的分段计数, 高并发下记录开销接近一次无竞争的 CAS, 适合在每次缓存访问时调用
+ * <p> 加载耗时使用 {@link LoadTimeHistogram} 记录, 整体与每个字典类型各一个, 用于估算 P50/P90/P99, 相对误差不超过 1/4
+ * <p> 按字典类型统计的明细由 {@link TypeRegistry} 维护, 与 {@link DictionaryLookupRecorder} 使用同一上限 {@link #MAX_TRACKED_TYPES}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class DictionaryCacheStatsCounter {
+
+    /** 最多跟踪的字典类型数量 */
+    public static final int MAX_TRACKED_TYPES = TypeRegistry.MAX_TRACKED_TYPES;
+    /** 输出的加载耗时分位 */
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.99};
+
+    /** 命中次数 */
+    private final LongAdder hitCount = new LongAdder();
+    /** 未命中次数 */
+    private final LongAdder missCount = new LongAdder();
+    /** 加载成功次数 */
+    private final LongAdder loadSuccessCount = new LongAdder();
+    /** 加载失败次数 */
+    private final LongAdder loadFailureCount = new LongAdder();
+    /** 淘汰次数 */
+    private final LongAdder evictionCount = new LongAdder();
+    /** 加载总耗时 (纳秒) */
+    private final LongAdder totalLoadTime = new LongAdder();
+    /** 最大加载耗时 (纳秒) */
+    private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+    /** 加载耗时直方图 */
+    private final LoadTimeHistogram loadTimeHistogram = new LoadTimeHistogram();
+    /** 按字典类型统计的明细 */
+    private final TypeRegistry<TypeCounter> typeCounters = new TypeRegistry<>(TypeCounter::new);
+
+    /**
+     * 记录一次缓存命中
+     *
+     * @param typeCode 字典类型编码
+     */
+    public void recordHit(String typeCode) {
+        hitCount.increment();
+        TypeCounter counter = typeCounters.get(typeCode);
+        if (counter != null) {
+            counter.hitCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次缓存未命中
+     *
+     * @param typeCode 字典类型编码
+     */
+    public void recordMiss(String typeCode) {
+        missCount.increment();
+        TypeCounter counter = typeCounters.get(typeCode);
+        if (counter != null) {
+            counter.missCount.increment();
+        }
+    }
+
+    /**
+     * 记录一次数据加载
+     *
+     * @param typeCode      字典类型编码
+     * @param loadTimeNanos 加载耗时 (纳秒)
+     * @param success       是否加载成功
+     */
+    public void recordLoad(String typeCode, long loadTimeNanos, boolean success) {
+        if (success) {
+            loadSuccessCount.increment();
+        } else {
+            loadFailureCount.increment();
+        }
+        totalLoadTime.add(loadTimeNanos);
+        maxLoadTime.accumulate(loadTimeNanos);
+        loadTimeHistogram.record(loadTimeNanos);
+
+        TypeCounter counter = typeCounters.get(typeCode);
+        if (counter != null) {
+            counter.loadCount.increment();
+            counter.totalLoadTime.add(loadTimeNanos);
+            counter.maxLoadTime.accumulate(loadTimeNanos);
+            counter.loadTimeHistogram.record(loadTimeNanos);
+        }
+    }
+
+    /**
+     * 记录淘汰
+     *
+     * @param count 淘汰的条目数量
+     */
+    public void recordEviction(int count) {
+        evictionCount.add(count);
+    }
+
+    /**
+     * 重置所有统计数据
+     */
+    public void reset() {
+        hitCount.reset();
+        missCount.reset();
+        loadSuccessCount.reset();
+        loadFailureCount.reset();
+        evictionCount.reset();
+        totalLoadTime.reset();
+        maxLoadTime.reset();
+        loadTimeHistogram.reset();
+        typeCounters.clear();
+    }
+
+    /**
+     * 生成当前统计快照
+     * <p> 各计数器分别读取, 并发写入期间快照内的数值之间可能存在轻微不一致
+     *
+     * @return 统计快照, 类型明细按请求次数降序排列
+     */
+    public DictionaryCacheStats snapshot() {
+        long maxLoadNanos = maxLoadTime.get();
+        double[] percentiles = loadTimeHistogram.percentiles(maxLoadNanos, PERCENTILES);
+
+        List<DictionaryCacheStats.TypeStats> types = new ArrayList<>(typeCounters.size());
+        typeCounters.forEach((typeCode, counter) -> types.add(counter.snapshot(typeCode)));
+        types.sort(Comparator.comparingLong((DictionaryCacheStats.TypeStats t) -> t.hitCount() + t.missCount()).reversed());
+
+        return new DictionaryCacheStats(hitCount.sum(),
+                                        missCount.sum(),
+                                        loadSuccessCount.sum(),
+                                        loadFailureCount.sum(),
+                                        evictionCount.sum(),
+                                        totalLoadTime.sum(),
+                                        percentiles[0],
+                                        percentiles[1],
+                                        percentiles[2],
+                                        maxLoadNanos / 1_000_000.0,
+                                        types);
+    }
+
+    /**
+     * 单个字典类型的计数器
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class TypeCounter {
+        /** 命中次数 */
+        private final LongAdder hitCount = new LongAdder();
+        /** 未命中次数 */
+        private final LongAdder missCount = new LongAdder();
+        /** 加载次数 */
+        private final LongAdder loadCount = new LongAdder();
+        /** 加载总耗时 (纳秒) */
+        private final LongAdder totalLoadTime = new LongAdder();
+        /** 最大加载耗时 (纳秒) */
+        private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+        /** 加载耗时直方图 */
+        private final LoadTimeHistogram loadTimeHistogram = new LoadTimeHistogram();
+
+        /**
+         * 生成类型统计快照
+         *
+         * @param typeCode 字典类型编码
+         * @return 类型统计快照
+         */
+        private DictionaryCacheStats.TypeStats snapshot(String typeCode) {
+            long loads = loadCount.sum();
+            long maxLoadNanos = maxLoadTime.get();
+            double[] percentiles = loadTimeHistogram.percentiles(maxLoadNanos, PERCENTILES);
+            return new DictionaryCacheStats.TypeStats(typeCode,
+                                                      hitCount.sum(),
+                                                      missCount.sum(),
+                                                      loads,
+                                                      loads == 0 ? 0.0 : totalLoadTime.sum() / 1_000_000.0 / loads,
+                                                      percentiles[0],
+                                                      percentiles[1],
+                                                      percentiles[2],
+                                                      maxLoadNanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 字典访问追踪记录器
+ * <p> 在字典服务层记录每个字典类型的访问频率与耗时, 数据库加载耗时, 以及写入流程 (删除缓存 → 写数据库 → 发布事件) 的窗口:
+ * <ul>
+ *     <li>访问: 每次通过字典服务读取某个类型的字典值, 包含缓存命中与未命中后的加载</li>
+ *     <li>慢加载 / 慢访问: 耗时超过阈值时输出 WARN 日志, 慢加载同时保留在最近记录中</li>
+ *     <li>写入窗口: 从删除缓存开始, 到事务结束为止. 窗口内完成或开始的加载可能读到写入前的数据并写回缓存,
+ *     记为 staleWindowLoad, 用于衡量 "先删缓存再写库" 留下的脏读窗口出现的频率</li>
+ * </ul>
+ * 未开启追踪时字典服务不持有记录器, 只多一次 null 判断
+ * <p> 按字典类型统计的明细与 {@link DictionaryCacheStatsCounter} 共用 {@link TypeRegistry}, 最多跟踪 {@link #MAX_TRACKED_TYPES} 个类型
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class DictionaryLookupRecorder {
+
+    /** 最多跟踪的字典类型数量 */
+    public static final int MAX_TRACKED_TYPES = TypeRegistry.MAX_TRACKED_TYPES;
+    /** 加载开始时已有写入进行中的标记 */
+    private static final long WRITE_IN_PROGRESS = -1L;
+
+    /** 慢加载阈值 (纳秒) */
+    private final long slowLoadThresholdNanos;
+    /** 慢访问阈值 (纳秒) */
+    private final long slowLookupThresholdNanos;
+    /** 访问次数 */
+    private final LongAdder lookupCount = new LongAdder();
+    /** 慢访问次数 */
+    private final LongAdder slowLookupCount = new LongAdder();
+    /** 加载次数 */
+    private final LongAdder loadCount = new LongAdder();
+    /** 慢加载次数 */
+    private final LongAdder slowLoadCount = new LongAdder();
+    /** 写入次数 */
+    private final LongAdder writeCount = new LongAdder();
+    /** 与写入窗口重叠的加载次数 */
+    private final LongAdder staleWindowLoadCount = new LongAdder();
+    /** 最长写入窗口 (纳秒) */
+    private final LongAccumulator maxWriteWindow = new LongAccumulator(Math::max, 0);
+    /** 最近的慢加载记录, 环形缓冲区 */
+    private final AtomicReferenceArray<DictionaryLookupReport.SlowLoad> recentSlowLoads;
+    /** 慢加载记录的写入序号 */
+    private final AtomicLong slowLoadSequence = new AtomicLong();
+    /** 按字典类型统计的明细 */
+    private final TypeRegistry<TypeRecorder> typeRecorders = new TypeRegistry<>(TypeRecorder::new);
+
+    /**
+     * 构造函数
+     *
+     * @param slowLoadThreshold   慢加载阈值 (毫秒), 小于等于 0 时不记录慢加载
+     * @param slowLookupThreshold 慢访问阈值 (毫秒), 小于等于 0 时不记录慢访问
+     * @param recentSlowLoadLimit 保留的最近慢加载记录数量
+     */
+    public DictionaryLookupRecorder(long slowLoadThreshold, long slowLookupThreshold, int recentSlowLoadLimit) {
+        this.slowLoadThresholdNanos = slowLoadThreshold > 0 ? TimeUnit.MILLISECONDS.toNanos(slowLoadThreshold) : Long.MAX_VALUE;
+        this.slowLookupThresholdNanos = slowLookupThreshold > 0 ? TimeUnit.MILLISECONDS.toNanos(slowLookupThreshold) : Long.MAX_VALUE;
+        this.recentSlowLoads = new AtomicReferenceArray<>(Math.max(1, recentSlowLoadLimit));
+    }
+
+    /**
+     * 记录一次访问
+     *
+     * @param typeCode 字典类型编码
+     * @param nanos    访问耗时 (纳秒)
+     */
+    public void recordLookup(String typeCode, long nanos) {
+        lookupCount.increment();
+        TypeRecorder recorder = typeRecorders.get(typeCode);
+        if (recorder != null) {
+            recorder.lookupCount.increment();
+            recorder.totalLookupTime.add(nanos);
+            recorder.maxLookupTime.accumulate(nanos);
+        }
+        if (nanos >= slowLookupThresholdNanos) {
+            slowLookupCount.increment();
+            log.warn("字典访问缓慢: typeCode={}, cost={}ms, threshold={}ms",
+                     typeCode, millis(nanos), millis(slowLookupThresholdNanos));
+        }
+    }
+
+    /**
+     * 标记一次加载开始
+     *
+     * @param typeCode 字典类型编码
+     * @return 加载令牌, 加载结束时传给 {@link #endLoad}
+     */
+    public long beginLoad(String typeCode) {
+        TypeRecorder recorder = typeRecorders.get(typeCode);
+        if (recorder == null) {
+            return 0L;
+        }
+        return recorder.writesInProgress.get() > 0 ? WRITE_IN_PROGRESS : recorder.writeGeneration.get();
+    }
+
+    /**
+     * 记录一次加载结束
+     * <p> 加载开始时或结束时有写入进行中, 或加载期间开始过写入, 都记为与写入窗口重叠
+     *
+     * @param typeCode 字典类型编码
+     * @param token    {@link #beginLoad} 返回的加载令牌
+     * @param nanos    加载耗时 (纳秒)
+     * @param rows     加载的字典值数量
+     * @param success  是否加载成功
+     */
+    public void endLoad(String typeCode, long token, long nanos, int rows, boolean success) {
+        loadCount.increment();
+        TypeRecorder recorder = typeRecorders.get(typeCode);
+        if (recorder != null) {
+            recorder.loadCount.increment();
+            recorder.totalLoadTime.add(nanos);
+            recorder.maxLoadTime.accumulate(nanos);
+            if (success && (token == WRITE_IN_PROGRESS
+                            || recorder.writesInProgress.get() > 0
+                            || recorder.writeGeneration.get() != token)) {
+                staleWindowLoadCount.increment();
+                recorder.staleWindowLoadCount.increment();
+                log.debug("字典加载与写入窗口重叠, 缓存可能写回旧数据: typeCode={}", typeCode);
+            }
+        }
+        if (nanos >= slowLoadThresholdNanos) {
+            slowLoadCount.increment();
+            if (recorder != null) {
+                recorder.slowLoadCount.increment();
+            }
+            DictionaryLookupReport.SlowLoad slowLoad = new DictionaryLookupReport.SlowLoad(typeCode,
+                                                                                           System.currentTimeMillis(),
+                                                                                           millis(nanos),
+                                                                                           rows,
+                                                                                           success,
+                                                                                           Thread.currentThread().getName());
+            recentSlowLoads.set((int) (slowLoadSequence.getAndIncrement() % recentSlowLoads.length()), slowLoad);
+            log.warn("字典加载缓慢: typeCode={}, rows={}, success={}, cost={}ms, threshold={}ms",
+                     typeCode, rows, success, slowLoad.costMillis(), millis(slowLoadThresholdNanos));
+        }
+    }
+
+    /**
+     * 标记一次写入开始 (删除缓存之前调用)
+     *
+     * @param typeCode 字典类型编码
+     * @return 写入窗口, 写入结束时传给 {@link #endWrite}
+     */
+    public WriteWindow beginWrite(String typeCode) {
+        writeCount.increment();
+        TypeRecorder recorder = typeRecorders.get(typeCode);
+        if (recorder != null) {
+            recorder.writeCount.increment();
+            // 先递增代数再标记进行中, 保证读到旧代数的加载在结束时能发现写入
+            recorder.writeGeneration.incrementAndGet();
+            recorder.writesInProgress.incrementAndGet();
+        }
+        return new WriteWindow(recorder, System.nanoTime());
+    }
+
+    /**
+     * 标记一次写入结束 (事务结束后调用)
+     * <p> 只结束 {@link #beginWrite} 标记的类型记录器, 开始时未跟踪的类型在结束时即使已被跟踪也不会减少进行中的写入数量
+     *
+     * @param window {@link #beginWrite} 返回的写入窗口
+     */
+    public void endWrite(WriteWindow window) {
+        long nanos = System.nanoTime() - window.startTime;
+        maxWriteWindow.accumulate(nanos);
+        if (window.recorder != null) {
+            window.recorder.writesInProgress.decrementAndGet();
+            window.recorder.maxWriteWindow.accumulate(nanos);
+        }
+    }
+
+    /**
+     * 生成追踪报告
+     *
+     * @param top 返回的热点字典类型数量
+     * @return 追踪报告
+     */
+    public DictionaryLookupReport report(int top) {
+        List<DictionaryLookupReport.TypeLookupStats> types = new ArrayList<>(typeRecorders.size());
+        typeRecorders.forEach((typeCode, recorder) -> types.add(recorder.snapshot(typeCode)));
+        types.sort(Comparator.comparingLong(DictionaryLookupReport.TypeLookupStats::lookupCount).reversed());
+
+        long sequence = slowLoadSequence.get();
+        int size = (int) Math.min(sequence, recentSlowLoads.length());
+        List<DictionaryLookupReport.SlowLoad> slowLoads = new ArrayList<>(size);
+        for (long i = sequence - 1; i >= sequence - size; i--) {
+            DictionaryLookupReport.SlowLoad slowLoad = recentSlowLoads.get((int) (i % recentSlowLoads.length()));
+            if (slowLoad != null) {
+                slowLoads.add(slowLoad);
+            }
+        }
+
+        return new DictionaryLookupReport(lookupCount.sum(),
+                                          slowLookupCount.sum(),
+                                          loadCount.sum(),
+                                          slowLoadCount.sum(),
+                                          writeCount.sum(),
+                                          staleWindowLoadCount.sum(),
+                                          millis(maxWriteWindow.get()),
+                                          List.copyOf(types.subList(0, Math.min(Math.max(0, top), types.size()))),
+                                          List.copyOf(slowLoads));
+    }
+
+    /**
+     * 重置所有统计数据
+     * <p> 保留各类型进行中的写入状态, 避免重置期间结束的写入计数出错
+     */
+    public void reset() {
+        lookupCount.reset();
+        slowLookupCount.reset();
+        loadCount.reset();
+        slowLoadCount.reset();
+        writeCount.reset();
+        staleWindowLoadCount.reset();
+        maxWriteWindow.reset();
+        for (int i = 0; i < recentSlowLoads.length(); i++) {
+            recentSlowLoads.set(i, null);
+        }
+        slowLoadSequence.set(0);
+        typeRecorders.forEach((typeCode, recorder) -> recorder.reset());
+    }
+
+    /**
+     * 纳秒转换为毫秒
+     *
+     * @param nanos 纳秒
+     * @return 毫秒
+     */
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * 一次写入的窗口
+     * <p> 持有写入开始时的类型记录器, 保证写入结束时更新的是开始时标记的同一个记录器
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static final class WriteWindow {
+        /** 写入开始时的类型记录器, 类型未被跟踪时为 null */
+        private final TypeRecorder recorder;
+        /** 写入开始时间 (纳秒) */
+        private final long startTime;
+
+        /**
+         * 构造函数
+         *
+         * @param recorder  写入开始时的类型记录器
+         * @param startTime 写入开始时间 (纳秒)
+         */
+        private WriteWindow(TypeRecorder recorder, long startTime) {
+            this.recorder = recorder;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * 单个字典类型的记录器
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class TypeRecorder {
+        /** 访问次数 */
+        private final LongAdder lookupCount = new LongAdder();
+        /** 访问总耗时 (纳秒) */
+        private final LongAdder totalLookupTime = new LongAdder();
+        /** 最大访问耗时 (纳秒) */
+        private final LongAccumulator maxLookupTime = new LongAccumulator(Math::max, 0);
+        /** 加载次数 */
+        private final LongAdder loadCount = new LongAdder();
+        /** 加载总耗时 (纳秒) */
+        private final LongAdder totalLoadTime = new LongAdder();
+        /** 最大加载耗时 (纳秒) */
+        private final LongAccumulator maxLoadTime = new LongAccumulator(Math::max, 0);
+        /** 慢加载次数 */
+        private final LongAdder slowLoadCount = new LongAdder();
+        /** 写入次数 */
+        private final LongAdder writeCount = new LongAdder();
+        /** 与写入窗口重叠的加载次数 */
+        private final LongAdder staleWindowLoadCount = new LongAdder();
+        /** 最长写入窗口 (纳秒) */
+        private final LongAccumulator maxWriteWindow = new LongAccumulator(Math::max, 0);
+        /** 写入代数, 每次写入开始时递增 */
+        private final AtomicLong writeGeneration = new AtomicLong();
+        /** 进行中的写入数量 */
+        private final AtomicInteger writesInProgress = new AtomicInteger();
+
+        /**
+         * 重置统计数据, 不重置写入状态
+         */
+        private void reset() {
+            lookupCount.reset();
+            totalLookupTime.reset();
+            maxLookupTime.reset();
+            loadCount.reset();
+            totalLoadTime.reset();
+            maxLoadTime.reset();
+            slowLoadCount.reset();
+            writeCount.reset();
+            staleWindowLoadCount.reset();
+            maxWriteWindow.reset();
+        }
+
+        /**
+         * 生成类型统计快照
+         *
+         * @param typeCode 字典类型编码
+         * @return 类型统计快照
+         */
+        private DictionaryLookupReport.TypeLookupStats snapshot(String typeCode) {
+            long lookups = lookupCount.sum();
+            long loads = loadCount.sum();
+            return new DictionaryLookupReport.TypeLookupStats(typeCode,
+                                                              lookups,
+                                                              lookups == 0 ? 0.0 : totalLookupTime.sum() / 1_000.0 / lookups,
+                                                              millis(maxLookupTime.get()),
+                                                              loads,
+                                                              loads == 0 ? 0.0 : millis(totalLoadTime.sum()) / loads,
+                                                              millis(maxLoadTime.get()),
+                                                              slowLoadCount.sum(),
+                                                              writeCount.sum(),
+                                                              staleWindowLoadCount.sum(),
+                                                              millis(maxWriteWindow.get()));
+        }
+    }
+}
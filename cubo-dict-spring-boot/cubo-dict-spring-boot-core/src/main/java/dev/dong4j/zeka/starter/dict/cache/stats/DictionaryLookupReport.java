@@ -0,0 +1,89 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import java.util.List;
+
+/**
+ * 字典访问追踪报告
+ * <p> 某一时刻字典服务的访问频率, 访问与加载耗时, 写入窗口以及慢加载记录, 由 {@link DictionaryLookupRecorder#report(int)} 生成, 不可变
+ *
+ * @param lookupCount          访问次数
+ * @param slowLookupCount      慢访问次数
+ * @param loadCount            数据库加载次数
+ * @param slowLoadCount        慢加载次数
+ * @param writeCount           写入次数 (删除缓存 → 写数据库 → 发布事件)
+ * @param staleWindowLoadCount 与写入窗口重叠的加载次数, 这些加载可能把写入前的旧数据写回缓存
+ * @param maxWriteWindowMillis 最长写入窗口 (毫秒), 从删除缓存到事务结束
+ * @param hotTypes             访问次数最多的字典类型, 按访问次数降序排列
+ * @param recentSlowLoads      最近的慢加载记录, 按时间倒序排列
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record DictionaryLookupReport(long lookupCount,
+                                     long slowLookupCount,
+                                     long loadCount,
+                                     long slowLoadCount,
+                                     long writeCount,
+                                     long staleWindowLoadCount,
+                                     double maxWriteWindowMillis,
+                                     List<TypeLookupStats> hotTypes,
+                                     List<SlowLoad> recentSlowLoads) {
+
+    /**
+     * 单个字典类型的访问统计
+     *
+     * @param typeCode             字典类型编码
+     * @param lookupCount          访问次数
+     * @param averageLookupMicros  平均访问耗时 (微秒)
+     * @param maxLookupMillis      最大访问耗时 (毫秒)
+     * @param loadCount            数据库加载次数
+     * @param averageLoadMillis    平均加载耗时 (毫秒)
+     * @param maxLoadMillis        最大加载耗时 (毫秒)
+     * @param slowLoadCount        慢加载次数
+     * @param writeCount           写入次数
+     * @param staleWindowLoadCount 与写入窗口重叠的加载次数
+     * @param maxWriteWindowMillis 最长写入窗口 (毫秒)
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record TypeLookupStats(String typeCode,
+                                  long lookupCount,
+                                  double averageLookupMicros,
+                                  double maxLookupMillis,
+                                  long loadCount,
+                                  double averageLoadMillis,
+                                  double maxLoadMillis,
+                                  long slowLoadCount,
+                                  long writeCount,
+                                  long staleWindowLoadCount,
+                                  double maxWriteWindowMillis) {
+    }
+
+    /**
+     * 慢加载记录
+     *
+     * @param typeCode   字典类型编码
+     * @param timestamp  加载完成时间 (毫秒时间戳)
+     * @param costMillis 加载耗时 (毫秒)
+     * @param rows       加载的字典值数量
+     * @param success    是否加载成功
+     * @param thread     执行加载的线程名
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record SlowLoad(String typeCode,
+                           long timestamp,
+                           double costMillis,
+                           int rows,
+                           boolean success,
+                           String thread) {
+    }
+}
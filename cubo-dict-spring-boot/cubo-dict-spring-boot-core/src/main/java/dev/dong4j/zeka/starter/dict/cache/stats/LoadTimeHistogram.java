@@ -0,0 +1,108 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 紧凑的加载耗时直方图
+ * <p> 与 mybatis 模块的 LatencyHistogram 相同的对数-线性分桶, 但每段只划分 {@link #SUB_BUCKET_HALF} 个桶,
+ * 任意值的相对误差不超过 1/4. 桶数组约 1KB, 可以为每个字典类型各持有一个
+ * <p> 记录只有一次原子自增, 没有锁也没有对象分配; 读取的分位值是近似快照, 并发记录期间各桶计数之间不保证一致
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class LoadTimeHistogram {
+
+    /** 每段的子桶位数 */
+    private static final int SUB_BUCKET_BITS = 3;
+    /** 每段的子桶数量 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** 子桶数量的一半, 第一段之后的每段实际使用的桶数量 */
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    /** 可记录的最大耗时 (微秒), 超过的值按该值记录, 约 71 分钟 */
+    static final long HIGHEST_TRACKABLE_MICROS = (1L << 32) - 1;
+    /** 桶数量 */
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_MICROS) + 1;
+
+    /** 各桶计数 */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时 (纳秒), 负数按 0 记录
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(indexOf(Math.min(Math.max(nanos / 1000, 0L), HIGHEST_TRACKABLE_MICROS)));
+    }
+
+    /**
+     * 重置所有桶
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * 计算多个分位值
+     * <p> 只复制一次桶数组, 保证同一次调用返回的分位值之间单调
+     *
+     * @param maxNanos    已记录的最大耗时 (纳秒), 分位值不超过该值
+     * @param percentiles 分位, 取值 (0, 1]
+     * @return 与 percentiles 一一对应的分位值 (毫秒), 没有记录时全部为 0
+     */
+    public double[] percentiles(long maxNanos, double... percentiles) {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        double maxMillis = maxNanos / 1_000_000.0;
+        double[] result = new double[percentiles.length];
+        if (total == 0) {
+            return result;
+        }
+        for (int p = 0; p < percentiles.length; p++) {
+            long threshold = Math.max(1L, (long) Math.ceil(total * Math.min(percentiles[p], 1D)));
+            long cumulative = 0;
+            result[p] = maxMillis;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += copy[i];
+                if (cumulative >= threshold) {
+                    result[p] = Math.min(highestEquivalentValue(i) / 1000.0, maxMillis);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 计算耗时所在的桶下标
+     *
+     * @param micros 耗时 (微秒), 非负
+     * @return 桶下标
+     */
+    static int indexOf(long micros) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1));
+        return (shift * SUB_BUCKET_HALF) + (int) (micros >>> shift);
+    }
+
+    /**
+     * 计算桶内的最大耗时, 即落入该桶的值的上界
+     *
+     * @param index 桶下标
+     * @return 桶内最大耗时 (微秒)
+     */
+    static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, (index / SUB_BUCKET_HALF) - 1);
+        long mantissa = index - ((long) shift * SUB_BUCKET_HALF);
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
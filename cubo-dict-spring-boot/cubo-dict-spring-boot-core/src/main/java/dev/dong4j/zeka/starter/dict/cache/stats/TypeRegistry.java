@@ -0,0 +1,80 @@
+package dev.dong4j.zeka.starter.dict.cache.stats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 按字典类型统计的明细表
+ * <p> {@link DictionaryCacheStatsCounter} 与 {@link DictionaryLookupRecorder} 共用的按类型跟踪实现: 第一次记录某个类型时创建其明细,
+ * 最多跟踪 {@link #MAX_TRACKED_TYPES} 个类型, 超过后新类型只计入整体统计, 避免不存在的类型编码导致统计数据无限增长
+ *
+ * @param <T> 单个类型的明细
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+final class TypeRegistry<T> {
+
+    /** 最多跟踪的字典类型数量 */
+    static final int MAX_TRACKED_TYPES = 10000;
+
+    /** 各类型的明细 */
+    private final Map<String, T> types = new ConcurrentHashMap<>();
+    /** 明细的创建方式 */
+    private final Supplier<T> factory;
+
+    /**
+     * 构造函数
+     *
+     * @param factory 明细的创建方式
+     */
+    TypeRegistry(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * 获取字典类型的明细, 不存在时创建
+     *
+     * @param typeCode 字典类型编码
+     * @return 类型明细, 类型编码为 null 或超过最大跟踪数量时返回 null
+     */
+    T get(String typeCode) {
+        if (typeCode == null) {
+            return null;
+        }
+        T value = types.get(typeCode);
+        if (value == null && types.size() < MAX_TRACKED_TYPES) {
+            value = types.computeIfAbsent(typeCode, key -> factory.get());
+        }
+        return value;
+    }
+
+    /**
+     * 获取跟踪中的类型数量
+     *
+     * @return 类型数量
+     */
+    int size() {
+        return types.size();
+    }
+
+    /**
+     * 遍历所有类型的明细
+     *
+     * @param action 处理类型编码与明细
+     */
+    void forEach(BiConsumer<String, T> action) {
+        types.forEach(action);
+    }
+
+    /**
+     * 删除所有类型的明细
+     */
+    void clear() {
+        types.clear();
+    }
+}
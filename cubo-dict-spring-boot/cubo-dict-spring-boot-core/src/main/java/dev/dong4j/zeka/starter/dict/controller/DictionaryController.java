@@ -1,17 +1,26 @@
 package dev.dong4j.zeka.starter.dict.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.xiaoymin.knife4j.annotations.ApiOperationSupport;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.Map;
 
 import dev.dong4j.zeka.kernel.common.api.R;
 import dev.dong4j.zeka.kernel.common.api.Result;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryETag;
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
+import dev.dong4j.zeka.starter.dict.event.DictionaryEventPublisher;
 import dev.dong4j.zeka.starter.dict.service.DictionaryService;
 import dev.dong4j.zeka.starter.rest.ServletController;
 import dev.dong4j.zeka.starter.rest.annotation.RestControllerWrapper;
@@ -23,6 +32,8 @@ import lombok.AllArgsConstructor;
 /**
  * 字典管理控制器
  * <p> 该控制器提供了与字典相关的 RESTful API 接口, 包括获取字典选项列表, 刷新字典缓存, 清除字典缓存等功能. 通过这些接口可以方便地管理和操作字典数据.
+ * <p> 选项查询与全量导出接口返回由响应内容计算的强 ETag ({@link DictionaryETag}), 请求携带的 If-None-Match 与当前 ETag 一致时
+ * 返回 304, 不序列化与传输响应. 数据以任何方式变化 (包括其他节点写入或直接修改数据库后缓存过期) 后, ETag 随读取到的内容变化.
  *
  * @author dong4j
  * @version 1.0.0
@@ -37,13 +48,18 @@ public class DictionaryController extends ServletController {
 
     /** 字典服务依赖, 用于处理字典相关的业务逻辑 */
     private final DictionaryService dictionaryService;
+    /** JSON 序列化器, 用于流式输出全量导出数据 */
+    private final ObjectMapper objectMapper;
+    /** 字典事件发布器, 手动清除缓存后通知其他节点 */
+    private final DictionaryEventPublisher eventPublisher;
 
     /**
      * 根据类型编码获取字典选项列表
-     * <p> 通过指定的字典类型编码查询对应的字典选项列表, 并返回结果
+     * <p> 通过指定的字典类型编码查询对应的字典选项列表, 并返回结果. 该类型未变化时返回 304
      *
-     * @param typeCode 字典类型编码
-     * @return 包含字典选项的列表结果
+     * @param typeCode   字典类型编码
+     * @param webRequest 当前请求, 用于处理 If-None-Match
+     * @return 包含字典选项的列表结果, 返回 304 时为 null
      * @since 1.0.0
      */
     @GetMapping("/options/{typeCode}")
@@ -51,26 +67,90 @@ public class DictionaryController extends ServletController {
     @ApiOperationSupport(order = 1)
     public Result<List<DictionaryOption>> getDictionaryOptions(
         @Parameter(description = "字典类型编码", required = true)
-        @PathVariable String typeCode) {
+        @PathVariable String typeCode,
+        WebRequest webRequest) {
         List<DictionaryOption> options = dictionaryService.getDictionaryOptions(typeCode);
+        if (webRequest.checkNotModified(DictionaryETag.of(options))) {
+            return null;
+        }
         return R.succeed(options);
     }
 
     /**
      * 获取所有字典选项
-     * <p> 返回系统中所有字典类型的选项列表, 以 Map 形式组织, 键为类型编码, 值为对应的字典选项列表.
+     * <p> 返回系统中所有字典类型的选项列表, 以 Map 形式组织, 键为类型编码, 值为对应的字典选项列表. 所有字典类型均未变化时返回 304
      *
-     * @return 所有字典选项
+     * @param webRequest 当前请求, 用于处理 If-None-Match
+     * @return 所有字典选项, 返回 304 时为 null
      * @since 1.0.0
      */
     @GetMapping("/options")
     @Operation(summary = "获取所有字典选项")
     @ApiOperationSupport(order = 2)
-    public Result<Map<String, List<DictionaryOption>>> getAllDictionaryOptions() {
+    public Result<Map<String, List<DictionaryOption>>> getAllDictionaryOptions(WebRequest webRequest) {
         Map<String, List<DictionaryOption>> options = dictionaryService.getAllDictionaryOptions();
+        if (webRequest.checkNotModified(DictionaryETag.of(options))) {
+            return null;
+        }
         return R.succeed(options);
     }
 
+    /**
+     * 全量导出字典数据
+     * <p> 以紧凑格式流式输出所有启用的字典类型及其字典值, 供客户端整体缓存, 不经过统一响应包装:
+     * <pre>
+     * {"version":"...","types":[{"code":"gender","name":"性别","values":[["1","男"],["2","女"]]}]}
+     * </pre>
+     * values 中每一项为 [字典值编码, 字典值名称], 按排序值升序排列. 数据在返回前一次性读取, version 与响应头中的 ETag 一致,
+     * 由读取到的数据计算, 所有字典类型均未变化时返回 304
+     *
+     * @param webRequest 当前请求, 用于处理 If-None-Match
+     * @return 流式响应, 返回 304 时为 null
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "全量导出字典数据")
+    @ApiOperationSupport(order = 3)
+    public ResponseEntity<StreamingResponseBody> export(WebRequest webRequest) {
+        List<ExportedType> exported = dictionaryService.listDictionaryTypes().stream()
+            .map(type -> new ExportedType(type.getCode(), type.getName(), dictionaryService.getDictionaryOptions(type.getCode())))
+            .toList();
+        MessageDigest digest = DictionaryETag.digest();
+        for (ExportedType type : exported) {
+            DictionaryETag.update(digest, type.code(), type.name(), type.options());
+        }
+        String etag = DictionaryETag.format(digest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeStringField("version", etag.substring(1, etag.length() - 1));
+                generator.writeArrayFieldStart("types");
+                for (ExportedType type : exported) {
+                    generator.writeStartObject();
+                    generator.writeStringField("code", type.code());
+                    generator.writeStringField("name", type.name());
+                    generator.writeArrayFieldStart("values");
+                    for (DictionaryOption option : type.options()) {
+                        generator.writeStartArray();
+                        generator.writeString(option.getValue());
+                        generator.writeString(option.getLabel());
+                        generator.writeEndArray();
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
     /**
      * 刷新指定字典类型缓存
      * <p> 根据传入的字典类型编码, 刷新对应的缓存数据
@@ -80,7 +160,7 @@ public class DictionaryController extends ServletController {
      */
     @PostMapping("/refresh/{typeCode}")
     @Operation(summary = "刷新指定字典类型缓存")
-    @ApiOperationSupport(order = 3)
+    @ApiOperationSupport(order = 4)
     public Result<Void> refreshCache(
         @Parameter(description = "字典类型编码", required = true)
         @PathVariable String typeCode) {
@@ -97,7 +177,7 @@ public class DictionaryController extends ServletController {
      */
     @PostMapping("/refresh")
     @Operation(summary = "刷新所有字典缓存")
-    @ApiOperationSupport(order = 4)
+    @ApiOperationSupport(order = 5)
     public Result<Void> refreshAllCache() {
         dictionaryService.refreshAllCache();
         return R.succeed();
@@ -105,7 +185,7 @@ public class DictionaryController extends ServletController {
 
     /**
      * 清除指定字典类型缓存
-     * <p> 根据给定的字典类型编码清除对应的缓存数据
+     * <p> 根据给定的字典类型编码清除本节点对应的缓存数据, 并发布清除事件, 由失效总线通知其他节点
      *
      * @param typeCode 字典类型编码
      * @return 操作结果
@@ -113,25 +193,42 @@ public class DictionaryController extends ServletController {
      */
     @PostMapping("/clear/{typeCode}")
     @Operation(summary = "清除指定字典类型缓存")
-    @ApiOperationSupport(order = 5)
+    @ApiOperationSupport(order = 6)
     public Result<Void> clearCache(
         @Parameter(description = "字典类型编码", required = true)
         @PathVariable String typeCode) {
         dictionaryService.clearCache(typeCode);
+        eventPublisher.publishClearEvent(typeCode);
         return R.succeed();
     }
 
     /**
      * 清除所有字典缓存
-     * <p> 清除系统中所有字典类型的缓存数据
+     * <p> 清除本节点所有字典类型的缓存数据, 并发布清除事件, 由失效总线通知其他节点
      *
      * @return 操作结果, 成功时返回空对象
      */
     @PostMapping("/clear")
     @Operation(summary = "清除所有字典缓存")
-    @ApiOperationSupport(order = 6)
+    @ApiOperationSupport(order = 7)
     public Result<Void> clearAllCache() {
         dictionaryService.clearAllCache();
+        eventPublisher.publishClearEvent(null);
         return R.succeed();
     }
+
+    /**
+     * 全量导出的字典类型
+     *
+     * @param code    字典类型编码
+     * @param name    字典类型名称
+     * @param options 字典选项, 按排序值升序排列
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record ExportedType(String code, String name, List<DictionaryOption> options) {
+    }
 }
@@ -133,7 +133,7 @@ public class DictionaryTypeController extends ServletController {
     @ApiOperationSupport(order = 6)
     public void remove(@RequestBody List<Long> ids) {
         BaseCodes.DATA_ERROR.notEmpty(ids, "带删除的数据标识不能为空");
-        this.dictionaryTypeService.removeByIds(ids);
+        this.dictionaryTypeService.remove(ids);
     }
 
 }
@@ -132,7 +132,7 @@ public class DictionaryValueController extends ServletController {
     @ApiOperationSupport(order = 6)
     public void remove(@RequestBody List<Long> ids) {
         BaseCodes.DATA_ERROR.notEmpty(ids, "带删除的数据标识不能为空");
-        this.dictionaryValueService.removeByIds(ids);
+        this.dictionaryValueService.remove(ids);
     }
 
 }
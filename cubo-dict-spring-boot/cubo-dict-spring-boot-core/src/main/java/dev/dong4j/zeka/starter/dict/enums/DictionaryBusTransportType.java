@@ -0,0 +1,32 @@
+package dev.dong4j.zeka.starter.dict.enums;
+
+import dev.dong4j.zeka.kernel.common.enums.SerializeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 字典缓存失效总线传输类型枚举
+ * <p> 定义跨节点广播字典缓存失效消息时使用的内置传输方式
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Getter
+@AllArgsConstructor
+public enum DictionaryBusTransportType implements SerializeEnum<String> {
+
+    /** UDP 组播, 适用于同一网段内的集群 */
+    MULTICAST("multicast", "UDP 组播"),
+
+    /** 进程内通道, 适用于同一 JVM 中的多个应用上下文 */
+    MEMORY("memory", "进程内通道");
+
+    /** 传输类型对应的值 */
+    private final String value;
+
+    /** 描述信息 */
+    private final String desc;
+}
@@ -21,6 +21,9 @@ public enum DictionaryCacheType implements SerializeEnum<String> {
     /** 内存缓存 */
     MEMORY("memory", "内存缓存"),
 
+    /** 基于 Caffeine (W-TinyLFU) 的有界内存缓存 */
+    CAFFEINE("caffeine", "有界内存缓存"),
+
     /** 无操作缓存 (禁用缓存) */
     NONE("none", "无操作缓存");
 
@@ -1,16 +1,20 @@
 package dev.dong4j.zeka.starter.dict.event;
 
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
 import dev.dong4j.zeka.starter.dict.service.DictionaryService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 字典事件监听器类
- * <p> 用于监听字典更新事件, 并根据事件类型执行相应的缓存清除或刷新操作, 确保字典数据在缓存中的一致性.
+ * <p> 用于监听字典更新事件, 并根据事件类型执行相应的缓存清除操作, 确保字典数据在缓存中的一致性.
+ * 刷新事件在刷新完成后发布, 监听器不再重复刷新.
+ * 缓存失效通过 {@link DictionaryService#clearCache(String)} 执行, 与字典服务自身的失效走同一条路径,
+ * 加载器的进行中任务与写入时间记录随之清理, 不会因直接删除底层缓存而与加载器状态不一致, 字典版本号也随之递增.
+ * 事件在发布方事务提交后处理 (没有事务时立即处理), 避免在提交前删除缓存后又被并发读取以旧数据回填.
  *
  * @author dong4j
  * @version 1.0.0
@@ -24,23 +28,15 @@ public class DictionaryEventListener {
 
     /** 字典服务, 用于处理字典相关的业务逻辑 */
     private final DictionaryService dictionaryService;
-    /**
-     * 字典缓存服务实例
-     * <p>
-     * 用于存储和管理字典数据的缓存, 支持根据字典类型码进行缓存操作, 如移除和刷新缓存.
-     *
-     * @see DictionaryCache
-     */
-    private final DictionaryCache dictionaryCache;
 
     /**
      * 监听字典更新事件并处理相应的缓存操作
-     * <p> 当接收到字典更新事件时, 根据操作类型执行对应的缓存清除或刷新操作.
-     * 支持的操作类型包括创建, 更新, 删除和刷新. 对于未知的操作类型会记录警告日志.
+     * <p> 当接收到字典更新事件时, 根据操作类型执行对应的缓存清除操作.
+     * 支持的操作类型包括创建, 更新, 删除, 刷新和清除, 其中刷新与清除事件已由发布方处理, 只记录日志. 对于未知的操作类型会记录警告日志.
      *
      * @param event 字典更新事件对象, 包含事件类型码, 操作类型和描述信息
      */
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Async
     public void handleDictionaryUpdateEvent(DictionaryUpdateEvent event) {
         log.info("收到字典更新事件: typeCode={}, operationType={}, description={}",
@@ -53,13 +49,19 @@ public class DictionaryEventListener {
                 case UPDATE:
                 case DELETE:
                     // 删除缓存，下次查询时重新加载
-                    dictionaryCache.remove(event.getTypeCode());
+                    if (event.getTypeCode() == null) {
+                        dictionaryService.clearAllCache();
+                    } else {
+                        dictionaryService.clearCache(event.getTypeCode());
+                    }
                     log.debug("已清除字典类型 [{}] 的缓存", event.getTypeCode());
                     break;
                 case REFRESH:
-                    // 刷新缓存
-                    dictionaryService.refreshCache(event.getTypeCode());
-                    log.debug("已刷新字典类型 [{}] 的缓存", event.getTypeCode());
+                    // 刷新事件由 refreshCache 在刷新完成后发布, 缓存已是最新; 在此再次刷新会重新发布事件, 形成刷新循环
+                    log.debug("字典类型 [{}] 的缓存已由发布方刷新", event.getTypeCode());
+                    break;
+                case CLEAR:
+                    log.debug("字典类型 [{}] 的缓存已由发布方清除", event.getTypeCode());
                     break;
                 default:
                     log.warn("未知的操作类型: {}", event.getOperationType());
@@ -109,6 +109,17 @@ public class DictionaryEventPublisher {
         publishUpdateEvent(typeCode, DictionaryUpdateEvent.OperationType.DELETE, "删除字典值: " + valueCode);
     }
 
+    /**
+     * 发布字典缓存清除事件
+     * <p> 用于管理端手动清除缓存后通知其他节点清除各自的本地缓存
+     *
+     * @param typeCode 字典类型编码, 为 null 时表示全部字典类型
+     */
+    public void publishClearEvent(String typeCode) {
+        publishUpdateEvent(typeCode, DictionaryUpdateEvent.OperationType.CLEAR,
+                           "清除字典缓存: " + (typeCode == null ? "全部" : typeCode));
+    }
+
     /**
      * 发布字典刷新事件
      * <p> 通过字典类型编码发布字典刷新事件, 用于通知系统刷新对应类型的字典缓存
@@ -17,7 +17,7 @@ import lombok.Getter;
 @Getter
 public class DictionaryUpdateEvent extends ApplicationEvent {
 
-    /** 字典类型编码 */
+    /** 字典类型编码, 为 null 时表示全部字典类型 */
     private final String typeCode;
 
     /** 操作类型 */
@@ -34,7 +34,7 @@ public class DictionaryUpdateEvent extends ApplicationEvent {
      * <p> 初始化字典更新事件的相关信息, 包括源对象, 字典类型编码, 操作类型和操作描述
      *
      * @param source        源对象, 通常为触发事件的对象
-     * @param typeCode      字典类型编码
+     * @param typeCode      字典类型编码, 为 null 时表示全部字典类型
      * @param operationType 操作类型, 表示对字典进行的操作 (新增, 更新, 删除, 刷新)
      * @param description   操作描述, 提供关于操作的额外信息
      */
@@ -63,6 +63,8 @@ public class DictionaryUpdateEvent extends ApplicationEvent {
         /** 删除操作类型 */
         DELETE,
         /** 刷新操作类型 */
-        REFRESH
+        REFRESH,
+        /** 清除缓存操作类型, 发布方已清除本地缓存, 只需通知其他节点 */
+        CLEAR
     }
 }
@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.starter.dict.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -111,6 +112,16 @@ public interface DictionaryService {
      */
     List<DictionaryValue> getDictionaryValues(String typeCode);
 
+    /**
+     * 批量获取多个字典类型的字典值
+     * <p> 通过一次查询获取给定字典类型下所有启用的字典值, 并按字典类型分组, 不经过缓存
+     *
+     * @param typeCodes 字典类型编码集合
+     * @return 字典值映射, 键为字典类型编码, 值为按排序升序排列的字典值列表; 没有字典值的类型不包含在结果中
+     * @since 2.0.0
+     */
+    Map<String, List<DictionaryValue>> listDictionaryValues(Collection<String> typeCodes);
+
     /**
      * 根据类型编码和值编码获取字典值
      * <p> 通过给定的字典类型编码和字典值编码查找并返回对应的字典值对象
@@ -122,6 +133,17 @@ public interface DictionaryService {
      */
     DictionaryValue getDictionaryValue(String typeCode, String valueCode);
 
+    /**
+     * 根据类型编码和值编码获取字典值名称 (标签)
+     * <p> 用于将字典编码翻译为展示文本
+     *
+     * @param typeCode  字典类型编码
+     * @param valueCode 字典值编码
+     * @return 字典值名称, 不存在时返回 null
+     * @since 2.0.0
+     */
+    String getDictionaryLabel(String typeCode, String valueCode);
+
     // ==================== 前端接口 ====================
 
     /**
@@ -1,5 +1,7 @@
 package dev.dong4j.zeka.starter.dict.service;
 
+import java.util.List;
+
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryTypeDTO;
 import dev.dong4j.zeka.starter.dict.entity.form.DictionaryTypeForm;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryType;
@@ -47,5 +49,14 @@ public interface DictionaryTypeService extends
      */
     void edit(DictionaryTypeForm form);
 
+    /**
+     * 删除数据
+     * <p> 根据主键批量删除字典类型, 并为每个被删除的字典类型发布删除事件 </p>
+     *
+     * @param ids 主键列表
+     * @since 2.0.0
+     */
+    void remove(List<Long> ids);
+
 }
 
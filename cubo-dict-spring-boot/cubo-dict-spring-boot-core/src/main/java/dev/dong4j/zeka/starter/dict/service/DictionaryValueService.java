@@ -1,5 +1,7 @@
 package dev.dong4j.zeka.starter.dict.service;
 
+import java.util.List;
+
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryValueDTO;
 import dev.dong4j.zeka.starter.dict.entity.form.DictionaryValueForm;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
@@ -46,5 +48,14 @@ public interface DictionaryValueService extends
      */
     void edit(DictionaryValueForm form);
 
+    /**
+     * 删除数据
+     * <p> 根据主键批量删除字典值, 并为每个被删除的字典值发布删除事件 </p>
+     *
+     * @param ids 主键列表
+     * @since 2.0.0
+     */
+    void remove(List<Long> ids);
+
 }
 
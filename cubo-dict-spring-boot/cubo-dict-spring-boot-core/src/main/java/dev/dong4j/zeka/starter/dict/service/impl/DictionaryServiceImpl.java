@@ -2,9 +2,15 @@ package dev.dong4j.zeka.starter.dict.service.impl;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,6 +18,12 @@ import java.util.stream.Collectors;
 import javax.annotation.Resource;
 
 import dev.dong4j.zeka.starter.dict.cache.DictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryCacheLoader;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryRefreshCoordinator;
+import dev.dong4j.zeka.starter.dict.cache.DictionarySnapshot;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryValueIndex;
+import dev.dong4j.zeka.starter.dict.cache.DictionaryVersions;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupRecorder;
 import dev.dong4j.zeka.starter.dict.dao.DictionaryTypeMapper;
 import dev.dong4j.zeka.starter.dict.dao.DictionaryValueMapper;
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
@@ -58,15 +70,49 @@ public class DictionaryServiceImpl implements DictionaryService {
     private DictionaryEventPublisher eventPublisher;
     /** 缓存刷新延迟时间 (单位: 毫秒) */
     private final long cacheRefreshDelay;
+    /** 字典缓存加载器, 开启加载缓存模式时合并并发未命中, 为 null 时直接读写 dictionaryCache */
+    private final DictionaryCacheLoader cacheLoader;
+    /** 字典缓存刷新协调器, 合并刷新请求并并行刷新, 为 null 时在调用线程上直接刷新 */
+    private final DictionaryRefreshCoordinator refreshCoordinator;
+    /** 字典版本号, 写入提交后以及缓存被清除或刷新时递增, 缓存未命中加载与淘汰不递增; 为 null 时不维护版本号 */
+    private final DictionaryVersions versions;
+    /** 字典访问追踪记录器, 为 null 时不追踪 */
+    private final DictionaryLookupRecorder lookupRecorder;
 
     /**
      * 构造函数, 用于初始化字典服务实现类
-     * <p> 设置缓存刷新延迟时间
+     * <p> 设置缓存刷新延迟时间, 不开启加载缓存模式, 刷新协调, 版本号与访问追踪
      *
      * @param cacheRefreshDelay 缓存刷新延迟时间 (单位: 毫秒)
      */
     public DictionaryServiceImpl(long cacheRefreshDelay) {
         this.cacheRefreshDelay = cacheRefreshDelay;
+        this.cacheLoader = null;
+        this.refreshCoordinator = null;
+        this.versions = null;
+        this.lookupRecorder = null;
+    }
+
+    /**
+     * 构造函数, 用于初始化字典服务实现类
+     * <p> 可选组件通过 {@link ObjectProvider} 获取, 容器中不存在时对应功能关闭
+     *
+     * @param cacheRefreshDelay          缓存刷新延迟时间 (单位: 毫秒)
+     * @param cacheLoaderProvider        字典缓存加载器, 不存在时不开启加载缓存模式
+     * @param refreshCoordinatorProvider 字典缓存刷新协调器, 不存在时在调用线程上直接刷新
+     * @param versionsProvider           字典版本号, 不存在时不维护版本号
+     * @param lookupRecorderProvider     字典访问追踪记录器, 不存在时不追踪
+     */
+    public DictionaryServiceImpl(long cacheRefreshDelay,
+                                 ObjectProvider<DictionaryCacheLoader> cacheLoaderProvider,
+                                 ObjectProvider<DictionaryRefreshCoordinator> refreshCoordinatorProvider,
+                                 ObjectProvider<DictionaryVersions> versionsProvider,
+                                 ObjectProvider<DictionaryLookupRecorder> lookupRecorderProvider) {
+        this.cacheRefreshDelay = cacheRefreshDelay;
+        this.cacheLoader = cacheLoaderProvider.getIfAvailable();
+        this.refreshCoordinator = refreshCoordinatorProvider.getIfAvailable();
+        this.versions = versionsProvider.getIfAvailable();
+        this.lookupRecorder = lookupRecorderProvider.getIfAvailable();
     }
 
     // ==================== 字典类型管理 ====================
@@ -82,7 +128,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean saveDictionaryType(DictionaryType type) {
         // 1. 先删除缓存
-        dictionaryCache.remove(type.getCode());
+        evictCacheForWrite(type.getCode());
 
         // 2. 保存到数据库
         int result = dictionaryTypeMapper.insert(type);
@@ -106,7 +152,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean updateDictionaryType(DictionaryType type) {
         // 1. 先删除缓存
-        dictionaryCache.remove(type.getCode());
+        evictCacheForWrite(type.getCode());
 
         // 2. 更新数据库
         int result = dictionaryTypeMapper.updateById(type);
@@ -130,7 +176,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteDictionaryType(String typeCode) {
         // 1. 先删除缓存
-        dictionaryCache.remove(typeCode);
+        evictCacheForWrite(typeCode);
 
         // 2. 删除字典值
         LambdaQueryWrapper<DictionaryValue> valueWrapper = new LambdaQueryWrapper<>();
@@ -192,7 +238,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean saveDictionaryValue(DictionaryValue value) {
         // 1. 先删除缓存
-        dictionaryCache.remove(value.getTypeCode());
+        evictCacheForWrite(value.getTypeCode());
 
         // 2. 保存到数据库
         int result = dictionaryValueMapper.insert(value);
@@ -216,7 +262,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean updateDictionaryValue(DictionaryValue value) {
         // 1. 先删除缓存
-        dictionaryCache.remove(value.getTypeCode());
+        evictCacheForWrite(value.getTypeCode());
 
         // 2. 更新数据库
         int result = dictionaryValueMapper.updateById(value);
@@ -241,7 +287,7 @@ public class DictionaryServiceImpl implements DictionaryService {
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteDictionaryValue(String typeCode, String valueCode) {
         // 1. 先删除缓存
-        dictionaryCache.remove(typeCode);
+        evictCacheForWrite(typeCode);
 
         // 2. 删除字典值
         LambdaQueryWrapper<DictionaryValue> wrapper = new LambdaQueryWrapper<>();
@@ -266,6 +312,40 @@ public class DictionaryServiceImpl implements DictionaryService {
      */
     @Override
     public List<DictionaryValue> getDictionaryValues(String typeCode) {
+        return readValues(typeCode);
+    }
+
+    /**
+     * 读取字典值列表并记录访问
+     * <p> 所有对外的字典值查询都经由该方法, 每次查询只记录一次访问
+     *
+     * @param typeCode 字典类型代码
+     * @return 字典值列表, 若无数据则返回空列表
+     */
+    private List<DictionaryValue> readValues(String typeCode) {
+        if (lookupRecorder == null) {
+            return lookupValues(typeCode);
+        }
+        long start = System.nanoTime();
+        try {
+            return lookupValues(typeCode);
+        } finally {
+            lookupRecorder.recordLookup(typeCode, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 从缓存读取字典值列表, 未命中时从数据库加载并写入缓存
+     *
+     * @param typeCode 字典类型代码
+     * @return 字典值列表, 若无数据则返回空列表
+     */
+    private List<DictionaryValue> lookupValues(String typeCode) {
+        // 加载缓存模式: 并发未命中合并为一次回源加载
+        if (cacheLoader != null) {
+            return cacheLoader.get(typeCode, this::loadDictionaryValues);
+        }
+
         // 1. 先尝试从缓存获取
         List<DictionaryValue> cachedValues = dictionaryCache.get(typeCode);
         if (cachedValues != null) {
@@ -273,11 +353,7 @@ public class DictionaryServiceImpl implements DictionaryService {
         }
 
         // 2. 从数据库查询
-        LambdaQueryWrapper<DictionaryValue> wrapper = new LambdaQueryWrapper<>();
-        wrapper.eq(DictionaryValue::getTypeCode, typeCode)
-            .eq(DictionaryValue::getState, DictionaryValueState.ENABLED)
-            .orderByAsc(DictionaryValue::getOrder);
-        List<DictionaryValue> values = dictionaryValueMapper.selectList(wrapper);
+        List<DictionaryValue> values = loadDictionaryValues(typeCode);
 
         // 3. 存入缓存
         if (!values.isEmpty()) {
@@ -287,9 +363,31 @@ public class DictionaryServiceImpl implements DictionaryService {
         return values;
     }
 
+    /**
+     * 批量获取多个字典类型的字典值
+     * <p> 使用 IN 条件一次查询所有类型的启用字典值, 按类型编码与排序升序返回, 再在内存中按类型分组
+     *
+     * @param typeCodes 字典类型编码集合
+     * @return 字典值映射, 键为字典类型编码, 值为字典值列表
+     */
+    @Override
+    public Map<String, List<DictionaryValue>> listDictionaryValues(Collection<String> typeCodes) {
+        if (typeCodes == null || typeCodes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        LambdaQueryWrapper<DictionaryValue> wrapper = new LambdaQueryWrapper<>();
+        wrapper.in(DictionaryValue::getTypeCode, typeCodes)
+            .eq(DictionaryValue::getState, DictionaryValueState.ENABLED)
+            .orderByAsc(DictionaryValue::getTypeCode)
+            .orderByAsc(DictionaryValue::getOrder);
+        return dictionaryValueMapper.selectList(wrapper).stream()
+            .collect(Collectors.groupingBy(DictionaryValue::getTypeCode, LinkedHashMap::new, Collectors.toList()));
+    }
+
     /**
      * 根据字典类型编码和值编码获取对应的字典值
-     * <p> 通过指定的字典类型编码和值编码查询字典值, 并确保该值处于启用状态
+     * <p> 缓存启用时从该类型的快照或缓存列表构建的二级索引中查找, 不访问数据库; 缓存未启用时直接查询数据库. 只返回状态为启用的字典值
      *
      * @param typeCode  字典类型编码
      * @param valueCode 字典值编码
@@ -297,6 +395,12 @@ public class DictionaryServiceImpl implements DictionaryService {
      */
     @Override
     public DictionaryValue getDictionaryValue(String typeCode, String valueCode) {
+        if (dictionaryCache.isEnabled()) {
+            List<DictionaryValue> values = readValues(typeCode);
+            DictionarySnapshot snapshot = snapshot(typeCode, values);
+            return snapshot != null ? snapshot.get(valueCode) : indexedValue(typeCode, values, valueCode);
+        }
+
         LambdaQueryWrapper<DictionaryValue> wrapper = new LambdaQueryWrapper<>();
         wrapper.eq(DictionaryValue::getTypeCode, typeCode)
             .eq(DictionaryValue::getCode, valueCode)
@@ -304,20 +408,48 @@ public class DictionaryServiceImpl implements DictionaryService {
         return dictionaryValueMapper.selectOne(wrapper);
     }
 
+    /**
+     * 根据字典类型编码和值编码获取字典值名称
+     *
+     * @param typeCode  字典类型编码
+     * @param valueCode 字典值编码
+     * @return 字典值名称, 若未找到则返回 null
+     */
+    @Override
+    public String getDictionaryLabel(String typeCode, String valueCode) {
+        DictionaryValue value;
+        if (dictionaryCache.isEnabled()) {
+            List<DictionaryValue> values = readValues(typeCode);
+            DictionarySnapshot snapshot = snapshot(typeCode, values);
+            if (snapshot != null) {
+                return snapshot.label(valueCode);
+            }
+            value = indexedValue(typeCode, values, valueCode);
+        } else {
+            value = getDictionaryValue(typeCode, valueCode);
+        }
+        return value == null ? null : value.getName();
+    }
+
     // ==================== 前端接口 ====================
 
     /**
      * 根据字典类型编码获取对应的字典选项列表
      * <p> 通过指定的字典类型编码获取该类型下的所有字典值, 并将其转换为字典选项对象列表返回.
+     * 缓存开启快照模式时直接返回快照中预先构建的不可修改列表.
      *
      * @param typeCode 字典类型编码
      * @return 对应字典类型的选项列表, 若未找到相关字典值则返回空列表
      */
     @Override
     public List<DictionaryOption> getDictionaryOptions(String typeCode) {
-        List<DictionaryValue> values = getDictionaryValues(typeCode);
+        List<DictionaryValue> values = readValues(typeCode);
+        DictionarySnapshot snapshot = snapshot(typeCode, values);
+        if (snapshot != null) {
+            return snapshot.options();
+        }
         return values.stream()
-            .map(this::convertToOption)
+            .map(DictionarySnapshot::toOption)
             .collect(Collectors.toList());
     }
 
@@ -341,35 +473,40 @@ public class DictionaryServiceImpl implements DictionaryService {
 
     /**
      * 刷新指定类型的字典缓存
-     * <p> 移除指定类型的缓存数据, 重新加载字典值, 并发布刷新事件
+     * <p> 移除指定类型的缓存数据, 重新加载字典值, 并发布刷新事件. 存在刷新协调器时, 合并窗口内对同一类型的多次调用只刷新一次,
+     * 调用方等待该次刷新完成
      *
      * @param typeCode 字典类型编码
      */
     @Override
     public void refreshCache(String typeCode) {
-        // 清除缓存
-        dictionaryCache.remove(typeCode);
-        // 重新加载
-        getDictionaryValues(typeCode);
-        // 发布事件
-        eventPublisher.publishRefreshEvent(typeCode);
+        if (refreshCoordinator != null) {
+            DictionaryRefreshCoordinator.await(refreshCoordinator.refresh(typeCode, () -> reloadCache(typeCode)));
+        } else {
+            reloadCache(typeCode);
+        }
         log.info("刷新字典缓存: typeCode={}", typeCode);
     }
 
     /**
      * 刷新所有字典缓存
-     * <p> 清空当前缓存, 并重新加载所有字典类型的值到缓存中
+     * <p> 清空当前缓存, 并重新加载所有字典类型的值到缓存中. 存在刷新协调器时各类型并行加载
      *
      * @since 1.0.0
      */
     @Override
     public void refreshAllCache() {
         // 清除所有缓存
-        dictionaryCache.clear();
+        evictAllCache();
         // 重新加载所有数据
         List<DictionaryType> types = listDictionaryTypes();
-        for (DictionaryType type : types) {
-            getDictionaryValues(type.getCode());
+        if (refreshCoordinator != null) {
+            refreshCoordinator.refreshAll(types.stream().map(DictionaryType::getCode).toList(),
+                                          typeCode -> () -> lookupValues(typeCode));
+        } else {
+            for (DictionaryType type : types) {
+                lookupValues(type.getCode());
+            }
         }
         log.info("刷新所有字典缓存: size={}", types.size());
     }
@@ -382,7 +519,7 @@ public class DictionaryServiceImpl implements DictionaryService {
      */
     @Override
     public void clearCache(String typeCode) {
-        dictionaryCache.remove(typeCode);
+        evictCache(typeCode);
         log.info("清除字典缓存: typeCode={}", typeCode);
     }
 
@@ -394,25 +531,166 @@ public class DictionaryServiceImpl implements DictionaryService {
      */
     @Override
     public void clearAllCache() {
-        dictionaryCache.clear();
+        evictAllCache();
         log.info("清除所有字典缓存");
     }
 
     // ==================== 私有方法 ====================
 
     /**
-     * 将字典值对象转换为字典选项对象
-     * <p> 根据字典值对象的属性, 创建并返回一个字典选项对象, 包括值, 标签, 描述, 禁用状态和排序顺序
+     * 重新加载指定类型的字典缓存并发布刷新事件
+     * <p> 刷新事件表示本节点缓存已刷新完成, 事件监听器收到后不再重复刷新
+     *
+     * @param typeCode 字典类型编码
+     */
+    private void reloadCache(String typeCode) {
+        evictCache(typeCode);
+        lookupValues(typeCode);
+        eventPublisher.publishRefreshEvent(typeCode);
+    }
+
+    /**
+     * 从数据库加载指定类型的字典值列表
+     * <p> 只返回状态为启用的字典值, 并按排序顺序升序排列, 同时记录加载耗时统计
      *
-     * @param value 字典值对象
-     * @return 字典选项对象
+     * @param typeCode 字典类型代码
+     * @return 字典值列表, 若无数据则返回空列表
+     */
+    private List<DictionaryValue> loadDictionaryValues(String typeCode) {
+        LambdaQueryWrapper<DictionaryValue> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(DictionaryValue::getTypeCode, typeCode)
+            .eq(DictionaryValue::getState, DictionaryValueState.ENABLED)
+            .orderByAsc(DictionaryValue::getOrder);
+        long token = lookupRecorder != null ? lookupRecorder.beginLoad(typeCode) : 0L;
+        long start = System.nanoTime();
+        List<DictionaryValue> values;
+        try {
+            values = dictionaryValueMapper.selectList(wrapper);
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            dictionaryCache.recordLoad(typeCode, elapsed, false);
+            if (lookupRecorder != null) {
+                lookupRecorder.endLoad(typeCode, token, elapsed, 0, false);
+            }
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        dictionaryCache.recordLoad(typeCode, elapsed, true);
+        if (lookupRecorder != null) {
+            lookupRecorder.endLoad(typeCode, token, elapsed, values.size(), true);
+        }
+        return values;
+    }
+
+    /**
+     * 写入前删除指定类型的字典缓存
+     * <p> 存在事务时先删除缓存, 事务提交后再删除一次并递增版本号: 提交前被并发读取以旧数据回填的缓存随之删除,
+     * 版本号也不会早于新数据生效而递增; 事务回滚时数据未变化, 不递增版本号. 没有事务时立即删除缓存并递增版本号
+     * <p> 开启访问追踪时记录写入窗口: 从删除缓存开始, 存在事务时到事务结束为止, 否则到删除缓存完成为止
+     *
+     * @param typeCode 字典类型代码
+     */
+    private void evictCacheForWrite(String typeCode) {
+        DictionaryLookupRecorder.WriteWindow window = lookupRecorder != null ? lookupRecorder.beginWrite(typeCode) : null;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictCache(typeCode);
+            if (window != null) {
+                lookupRecorder.endWrite(window);
+            }
+            return;
+        }
+        removeCache(typeCode);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCache(typeCode);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (window != null) {
+                    lookupRecorder.endWrite(window);
+                }
+            }
+        });
+    }
+
+    /**
+     * 删除指定类型的字典缓存并递增版本号
+     * <p> 二级索引随缓存条目一并删除
+     *
+     * @param typeCode 字典类型代码
+     */
+    private void evictCache(String typeCode) {
+        removeCache(typeCode);
+        if (versions != null) {
+            versions.advance(typeCode);
+        }
+    }
+
+    /**
+     * 删除指定类型的字典缓存, 不递增版本号
+     * <p> 开启加载缓存模式时使正在进行的加载失效, 避免旧数据在删除后被写回缓存
+     *
+     * @param typeCode 字典类型代码
+     */
+    private void removeCache(String typeCode) {
+        if (cacheLoader != null) {
+            cacheLoader.invalidate(typeCode);
+        } else {
+            dictionaryCache.remove(typeCode);
+        }
+    }
+
+    /**
+     * 删除所有字典缓存
+     *
+     * @since 2.0.0
+     */
+    private void evictAllCache() {
+        if (cacheLoader != null) {
+            cacheLoader.invalidateAll();
+        } else {
+            dictionaryCache.clear();
+        }
+        if (versions != null) {
+            versions.advanceAll();
+        }
+    }
+
+    /**
+     * 通过缓存持有的二级索引查找字典值
+     * <p> 缓存不提供索引时退化为按列表顺序查找
+     *
+     * @param typeCode  字典类型编码
+     * @param values    本次读取到的字典值列表
+     * @param valueCode 字典值编码
+     * @return 对应的字典值, 不存在时返回 null
+     */
+    private DictionaryValue indexedValue(String typeCode, List<DictionaryValue> values, String valueCode) {
+        DictionaryValueIndex index = dictionaryCache.getValueIndex();
+        if (index != null) {
+            return index.get(typeCode, values, valueCode);
+        }
+        if (valueCode == null) {
+            return null;
+        }
+        return values.stream()
+            .filter(value -> valueCode.equals(value.getCode()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * 获取与字典值列表对应的字典类型快照
+     * <p> 只有快照中的列表与传入的列表为同一实例时才返回, 保证快照与本次读取的数据一致
+     *
+     * @param typeCode 字典类型编码
+     * @param values   本次读取到的字典值列表
+     * @return 字典类型快照, 缓存未开启快照模式或快照已被替换时返回 null
      */
-    private DictionaryOption convertToOption(DictionaryValue value) {
-        return new DictionaryOption()
-            .setValue(value.getCode())
-            .setLabel(value.getName())
-            .setDescription(value.getDescription())
-            .setDisabled(value.getState() != DictionaryValueState.ENABLED)
-            .setSortOrder(value.getOrder());
+    private DictionarySnapshot snapshot(String typeCode, List<DictionaryValue> values) {
+        DictionarySnapshot snapshot = dictionaryCache.getSnapshot(typeCode);
+        return snapshot != null && snapshot.values() == values ? snapshot : null;
     }
 }
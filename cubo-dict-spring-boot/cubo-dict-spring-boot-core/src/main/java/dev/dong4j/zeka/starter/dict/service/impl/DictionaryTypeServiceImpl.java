@@ -3,12 +3,16 @@ package dev.dong4j.zeka.starter.dict.service.impl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
+
 import dev.dong4j.zeka.kernel.common.api.BaseCodes;
 import dev.dong4j.zeka.starter.dict.dao.DictionaryTypeMapper;
 import dev.dong4j.zeka.starter.dict.entity.converter.DictionaryTypeConverter;
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryTypeDTO;
 import dev.dong4j.zeka.starter.dict.entity.form.DictionaryTypeForm;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryType;
+import dev.dong4j.zeka.starter.dict.event.DictionaryEventPublisher;
 import dev.dong4j.zeka.starter.dict.service.DictionaryTypeService;
 import dev.dong4j.zeka.starter.mybatis.service.impl.BaseServiceImpl;
 import lombok.AllArgsConstructor;
@@ -17,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 字典类型服务实现类
  * <p> 提供字典类型相关的业务逻辑处理, 包括字典类型的查询, 创建和更新等操作. 该类继承自 BaseServiceImpl, 实现了 DictionaryTypeService 接口, 用于操作字典类型数据.
+ * <p> 写入后发布 {@link dev.dong4j.zeka.starter.dict.event.DictionaryUpdateEvent}, 由事件监听器与失效总线在事务提交后清除本节点与其他节点的缓存.
  *
  * @author dong4j
  * @version 1.0.0
@@ -29,6 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor
 public class DictionaryTypeServiceImpl extends BaseServiceImpl<DictionaryTypeMapper, DictionaryType> implements DictionaryTypeService {
 
+    /** 字典事件发布器 */
+    private final DictionaryEventPublisher eventPublisher;
+
     /**
      * 根据 ID 获取详细信息
      * <p> 通过给定的主键 ID 查找字典类型, 并返回对应的字典类型 DTO 对象. 如果字典类型不存在, 则抛出异常.</p>
@@ -57,19 +65,40 @@ public class DictionaryTypeServiceImpl extends BaseServiceImpl<DictionaryTypeMap
         final DictionaryType po = DictionaryTypeConverter.INSTANCE.f2p(form);
         final int savedCount = this.baseMapper.insertIgnore(po);
         BaseCodes.OPTION_FAILURE.isTrue(savedCount == 1);
+        this.eventPublisher.publishTypeCreateEvent(po.getCode(), po.getName());
     }
 
     /**
      * 更新字典类型数据
-     * <p> 根据传入的表单参数更新对应的字典类型记录, 若更新行数不为 1 则抛出异常 </p>
+     * <p> 根据传入的表单参数更新对应的字典类型记录, 若更新行数不为 1 则抛出异常. 编码被修改时新旧编码都发布更新事件 </p>
      *
      * @param form 字典类型表单参数, 包含需要更新的数据
      */
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void edit(DictionaryTypeForm form) {
-        final int updatedCount = this.baseMapper.updateById(DictionaryTypeConverter.INSTANCE.f2p(form));
+        final DictionaryType po = DictionaryTypeConverter.INSTANCE.f2p(form);
+        final DictionaryType old = this.baseMapper.selectById(po.getId());
+        final int updatedCount = this.baseMapper.updateById(po);
         BaseCodes.OPTION_FAILURE.isTrue(updatedCount == 1);
+        if (old != null && !Objects.equals(old.getCode(), po.getCode())) {
+            this.eventPublisher.publishTypeUpdateEvent(old.getCode(), old.getName());
+        }
+        this.eventPublisher.publishTypeUpdateEvent(po.getCode(), po.getName());
+    }
+
+    /**
+     * 批量删除字典类型
+     * <p> 删除前查询被删除的字典类型, 删除后为每个类型发布删除事件 </p>
+     *
+     * @param ids 主键列表
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void remove(List<Long> ids) {
+        final List<DictionaryType> types = this.listByIds(ids);
+        this.removeByIds(ids);
+        types.forEach(type -> this.eventPublisher.publishTypeDeleteEvent(type.getCode()));
     }
 }
 
@@ -3,12 +3,16 @@ package dev.dong4j.zeka.starter.dict.service.impl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Objects;
+
 import dev.dong4j.zeka.kernel.common.api.BaseCodes;
 import dev.dong4j.zeka.starter.dict.dao.DictionaryValueMapper;
 import dev.dong4j.zeka.starter.dict.entity.converter.DictionaryValueConverter;
 import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryValueDTO;
 import dev.dong4j.zeka.starter.dict.entity.form.DictionaryValueForm;
 import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.event.DictionaryEventPublisher;
 import dev.dong4j.zeka.starter.dict.service.DictionaryValueService;
 import dev.dong4j.zeka.starter.mybatis.service.impl.BaseServiceImpl;
 import lombok.AllArgsConstructor;
@@ -22,7 +26,9 @@ import lombok.extern.slf4j.Slf4j;
  * <li> 通过给定的 ID 查询字典值的详细信息 </li>
  * <li> 创建新的字典值记录 </li>
  * <li> 编辑现有的字典值记录 </li>
+ * <li> 批量删除字典值记录 </li>
  * </ul>
+ * 写入后发布 {@link dev.dong4j.zeka.starter.dict.event.DictionaryUpdateEvent}, 由事件监听器与失效总线在事务提交后清除本节点与其他节点的缓存.
  *
  * @author dong4j
  * @version 1.0.0
@@ -35,6 +41,9 @@ import lombok.extern.slf4j.Slf4j;
 @AllArgsConstructor
 public class DictionaryValueServiceImpl extends BaseServiceImpl<DictionaryValueMapper, DictionaryValue> implements DictionaryValueService {
 
+    /** 字典事件发布器 */
+    private final DictionaryEventPublisher eventPublisher;
+
     /**
      * 根据 ID 获取详细信息
      * <p> 通过主键查询字典值表数据, 并转换为对应的 DTO 对象返回 </p>
@@ -62,11 +71,12 @@ public class DictionaryValueServiceImpl extends BaseServiceImpl<DictionaryValueM
         final DictionaryValue po = DictionaryValueConverter.INSTANCE.f2p(form);
         final int savedCount = this.baseMapper.insertIgnore(po);
         BaseCodes.OPTION_FAILURE.isTrue(savedCount == 1);
+        this.eventPublisher.publishValueCreateEvent(po.getTypeCode(), po.getCode(), po.getName());
     }
 
     /**
      * 更新数据
-     * <p> 根据传入的表单参数更新字典值表中的数据. 如果更新失败, 则回滚事务.</p>
+     * <p> 根据传入的表单参数更新字典值表中的数据. 如果更新失败, 则回滚事务. 字典值被移到其他字典类型时新旧类型都发布更新事件</p>
      *
      * @param form 包含更新数据的表单实体
      * @since 1.0.0
@@ -74,8 +84,28 @@ public class DictionaryValueServiceImpl extends BaseServiceImpl<DictionaryValueM
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void edit(DictionaryValueForm form) {
-        final int updatedCount = this.baseMapper.updateById(DictionaryValueConverter.INSTANCE.f2p(form));
+        final DictionaryValue po = DictionaryValueConverter.INSTANCE.f2p(form);
+        final DictionaryValue old = this.baseMapper.selectById(po.getId());
+        final int updatedCount = this.baseMapper.updateById(po);
         BaseCodes.OPTION_FAILURE.isTrue(updatedCount == 1);
+        if (old != null && !Objects.equals(old.getTypeCode(), po.getTypeCode())) {
+            this.eventPublisher.publishValueUpdateEvent(old.getTypeCode(), old.getCode(), old.getName());
+        }
+        this.eventPublisher.publishValueUpdateEvent(po.getTypeCode(), po.getCode(), po.getName());
+    }
+
+    /**
+     * 批量删除字典值
+     * <p> 删除前查询被删除的字典值, 删除后为每个字典值发布删除事件</p>
+     *
+     * @param ids 主键列表
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void remove(List<Long> ids) {
+        final List<DictionaryValue> values = this.listByIds(ids);
+        this.removeByIds(ids);
+        values.forEach(value -> this.eventPublisher.publishValueDeleteEvent(value.getTypeCode(), value.getCode()));
     }
 }
 
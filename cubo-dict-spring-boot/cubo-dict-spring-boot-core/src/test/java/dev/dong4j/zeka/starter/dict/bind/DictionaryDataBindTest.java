@@ -0,0 +1,158 @@
+package dev.dong4j.zeka.starter.dict.bind;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.service.DictionaryService;
+import dev.dong4j.zeka.starter.mybatis.dict.DictKey;
+import dev.dong4j.zeka.starter.mybatis.dict.IDataBind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 基于字典服务的批量字典翻译测试类
+ * <p> 验证开启缓存时每个类型读取一次缓存, 未开启缓存时按类型一次批量查询, 未指定字典类型的字段交给表达式翻译
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryDataBindTest {
+
+    /**
+     * 测试开启缓存时的翻译
+     * <p>
+     * 测试场景: 开启缓存, 翻译 2 个字典类型下的 3 个字典键, 其中 1 个不存在
+     * 预期结果: 每个字典类型从缓存读取一次字典值列表, 不存在的字典键不包含在结果中, 不批量查询数据库
+     */
+    @Test
+    void testCached() {
+        List<String> calls = new ArrayList<>();
+        DictionaryDataBind dataBind = new DictionaryDataBind(dictionaryService(calls), true);
+
+        Map<DictKey, ?> labels = dataBind.translate(keys());
+
+        assertEquals(Map.of(new DictKey("gender", "1"), "男", new DictKey("status", "0"), "停用"), labels);
+        assertEquals(List.of("getDictionaryValues", "getDictionaryValues"), calls);
+    }
+
+    /**
+     * 测试不存在的字典类型
+     * <p>
+     * 测试场景: 开启缓存, 翻译一个不存在的字典类型下的 3 个字典键与一个存在的字典键
+     * 预期结果: 不存在的字典类型只读取一次, 其下的字典键都没有翻译结果
+     */
+    @Test
+    void testUnknownType() {
+        List<String> calls = new ArrayList<>();
+        DictionaryDataBind dataBind = new DictionaryDataBind(dictionaryService(calls), true);
+        Set<DictKey> keys = new LinkedHashSet<>();
+        keys.add(new DictKey("unknown", "1"));
+        keys.add(new DictKey("unknown", "2"));
+        keys.add(new DictKey("unknown", "3"));
+        keys.add(new DictKey("gender", "2"));
+
+        Map<DictKey, ?> labels = dataBind.translate(keys);
+
+        assertEquals(Map.of(new DictKey("gender", "2"), "女"), labels);
+        assertEquals(List.of("getDictionaryValues", "getDictionaryValues"), calls);
+    }
+
+    /**
+     * 测试未开启缓存时的翻译
+     * <p>
+     * 测试场景: 未开启缓存, 翻译 2 个字典类型下的 3 个字典键, 其中 1 个不存在
+     * 预期结果: 只批量查询一次字典值, 结果只包含请求的且存在的字典键
+     */
+    @Test
+    void testUncached() {
+        List<String> calls = new ArrayList<>();
+        DictionaryDataBind dataBind = new DictionaryDataBind(dictionaryService(calls), false);
+
+        Map<DictKey, ?> labels = dataBind.translate(keys());
+
+        assertEquals(Map.of(new DictKey("gender", "1"), "男", new DictKey("status", "0"), "停用"), labels);
+        assertEquals(List.of("listDictionaryValues"), calls);
+    }
+
+    /**
+     * 测试未指定字典类型的字段
+     * <p>
+     * 测试场景: 逐行翻译一个未指定字典类型的字段
+     * 预期结果: 交给表达式翻译处理, 不访问字典服务
+     */
+    @Test
+    void testExpress() {
+        List<String> calls = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        IDataBind expressBind = (field, fieldValue, metaObject) -> values.add(fieldValue);
+        DictionaryDataBind dataBind = new DictionaryDataBind(dictionaryService(calls), true, expressBind);
+
+        dataBind.setMetaObject(null, "1", null);
+
+        assertEquals(List.of("1"), values);
+        assertEquals(List.of(), calls);
+    }
+
+    /**
+     * 创建待翻译的字典键
+     *
+     * @return 字典键
+     */
+    private static Set<DictKey> keys() {
+        Set<DictKey> keys = new LinkedHashSet<>();
+        keys.add(new DictKey("gender", "1"));
+        keys.add(new DictKey("gender", "9"));
+        keys.add(new DictKey("status", "0"));
+        return keys;
+    }
+
+    /**
+     * 创建记录调用的字典服务, gender 下有 1 与 2, status 下有 0
+     *
+     * @param calls 调用的方法名
+     * @return 字典服务
+     */
+    private static DictionaryService dictionaryService(List<String> calls) {
+        Map<String, List<DictionaryValue>> values = Map.of(
+            "gender", List.of(value("gender", "1", "男"), value("gender", "2", "女")),
+            "status", List.of(value("status", "0", "停用")));
+        return (DictionaryService) Proxy.newProxyInstance(DictionaryService.class.getClassLoader(),
+                                                          new Class<?>[] {DictionaryService.class},
+                                                          (proxy, method, args) -> {
+                                                              calls.add(method.getName());
+                                                              return switch (method.getName()) {
+                                                                  case "getDictionaryValues" -> values.getOrDefault((String) args[0], List.of());
+                                                                  case "listDictionaryValues" -> {
+                                                                      @SuppressWarnings("unchecked")
+                                                                      Collection<String> typeCodes = (Collection<String>) args[0];
+                                                                      assertEquals(Set.of("gender", "status"), Set.copyOf(typeCodes));
+                                                                      yield values;
+                                                                  }
+                                                                  default -> throw new UnsupportedOperationException(method.getName());
+                                                              };
+                                                          });
+    }
+
+    /**
+     * 创建字典值
+     *
+     * @param typeCode 字典类型编码
+     * @param code     字典值编码
+     * @param name     字典值名称
+     * @return 字典值
+     */
+    private static DictionaryValue value(String typeCode, String code, String name) {
+        return new DictionaryValue().setTypeCode(typeCode).setCode(code).setName(name);
+    }
+}
@@ -0,0 +1,187 @@
+package dev.dong4j.zeka.starter.dict.bus;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典缓存失效总线测试类
+ * <p> 在同一进程内模拟多个节点, 验证失效收敛延迟, 发送合并与接收去重
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+class DictionaryInvalidationBusTest {
+
+    /** 节点数量 */
+    private static final int NODES = 5;
+
+    /** 测试中创建的总线 */
+    private final List<DictionaryInvalidationBus> buses = new ArrayList<>();
+
+    /**
+     * 关闭测试中创建的总线
+     */
+    @AfterEach
+    void tearDown() {
+        buses.forEach(DictionaryInvalidationBus::close);
+    }
+
+    /**
+     * 测试多节点失效收敛延迟
+     * <p>
+     * 测试场景: 5 个节点共享进程内通道, 节点 0 依次广播 200 个字典类型的失效
+     * 预期结果: 每次广播其余 4 个节点都会应用失效, 收敛延迟的最大值在 1 秒以内
+     */
+    @Test
+    void testConvergenceInMemory() throws Exception {
+        InMemoryInvalidationTransport.Channel channel = new InMemoryInvalidationTransport.Channel();
+        assertConvergence(() -> new InMemoryInvalidationTransport(channel));
+    }
+
+    /**
+     * 测试基于组播的多节点失效收敛延迟
+     * <p> 依赖本机网络支持组播, 通过 -Ddict.bus.multicast=true 开启
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "dict.bus.multicast", matches = "true")
+    void testConvergenceMulticast() throws Exception {
+        assertConvergence(() -> new MulticastInvalidationTransport("239.255.27.1", 45701, 0));
+    }
+
+    /**
+     * 测试发送合并
+     * <p>
+     * 测试场景: 合并窗口内对同一字典类型连续变更 100 次
+     * 预期结果: 远程节点只应用一次失效
+     */
+    @Test
+    void testCoalesce() throws Exception {
+        InMemoryInvalidationTransport.Channel channel = new InMemoryInvalidationTransport.Channel();
+        AtomicInteger applied = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        DictionaryInvalidationBus sender = bus(new InMemoryInvalidationTransport(channel), typeCode -> { });
+        bus(new InMemoryInvalidationTransport(channel), typeCode -> {
+            applied.incrementAndGet();
+            latch.countDown();
+        });
+
+        for (int i = 0; i < 100; i++) {
+            sender.publish("gender");
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(1, applied.get());
+        assertEquals(1, sender.getSentCount());
+    }
+
+    /**
+     * 测试接收去重与忽略本节点消息
+     * <p>
+     * 测试场景: 同一消息重复投递, 乱序投递, 以及投递本节点发出的消息
+     * 预期结果: 每条消息只应用一次, 本节点消息不应用
+     */
+    @Test
+    void testDeduplicate() {
+        List<String> applied = new ArrayList<>();
+        DictionaryInvalidationBus receiver = bus(new InMemoryInvalidationTransport(new InMemoryInvalidationTransport.Channel()),
+                                                 applied::add);
+
+        receiver.receive(new DictionaryInvalidationMessage("node-a", 2, 0, "b"));
+        receiver.receive(new DictionaryInvalidationMessage("node-a", 2, 0, "b"));
+        receiver.receive(new DictionaryInvalidationMessage("node-a", 1, 0, "a"));
+        receiver.receive(new DictionaryInvalidationMessage("node-a", 1, 0, "a"));
+        receiver.receive(new DictionaryInvalidationMessage("node-b", 1, 0, "c"));
+        receiver.receive(new DictionaryInvalidationMessage(receiver.getNodeId(), 1, 0, "d"));
+
+        assertEquals(List.of("b", "a", "c"), applied);
+        assertEquals(2, receiver.getDuplicateCount());
+    }
+
+    /**
+     * 测试消息编解码
+     * <p>
+     * 测试场景: 编码后解码, 以及解码不兼容的协议版本
+     * 预期结果: 编解码结果一致, 不兼容的消息被忽略
+     */
+    @Test
+    void testCodec() {
+        DictionaryInvalidationMessage message = new DictionaryInvalidationMessage("node-a", 7, 123L, "order|status");
+        assertEquals(message, DictionaryInvalidationMessage.decode(message.encode()));
+        assertNull(DictionaryInvalidationMessage.decode("2|node-a|7|123|gender"));
+        assertFalse(message.isAll());
+    }
+
+    /**
+     * 在多个节点间广播失效并统计收敛延迟
+     *
+     * @param transportFactory 为每个节点创建传输
+     */
+    private void assertConvergence(Supplier<DictionaryInvalidationTransport> transportFactory) throws Exception {
+        Map<String, CountDownLatch> latches = new ConcurrentHashMap<>();
+        DictionaryInvalidationBus origin = null;
+        for (int i = 0; i < NODES; i++) {
+            DictionaryInvalidationBus bus = bus(transportFactory.get(), typeCode -> latches.get(typeCode).countDown());
+            if (origin == null) {
+                origin = bus;
+            }
+        }
+
+        int rounds = 200;
+        long[] latencies = new long[rounds];
+        for (int round = 0; round < rounds; round++) {
+            String typeCode = "type-" + round;
+            CountDownLatch latch = new CountDownLatch(NODES - 1);
+            latches.put(typeCode, latch);
+            long start = System.nanoTime();
+            origin.publish(typeCode);
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "节点未收敛: " + typeCode);
+            latencies[round] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(latencies);
+        long p50 = TimeUnit.NANOSECONDS.toMicros(latencies[rounds / 2]);
+        long p99 = TimeUnit.NANOSECONDS.toMicros(latencies[rounds * 99 / 100]);
+        long max = TimeUnit.NANOSECONDS.toMicros(latencies[rounds - 1]);
+        log.info("字典失效收敛延迟: nodes={}, rounds={}, p50={}us, p99={}us, max={}us", NODES, rounds, p50, p99, max);
+        assertTrue(max < TimeUnit.SECONDS.toMicros(1), "收敛延迟过大: " + max + "us");
+    }
+
+    /**
+     * 创建并启动总线, 合并窗口为 10 毫秒
+     *
+     * @param transport   消息传输
+     * @param invalidator 本地失效动作
+     * @return 字典缓存失效总线
+     */
+    private DictionaryInvalidationBus bus(DictionaryInvalidationTransport transport,
+                                          Consumer<String> invalidator) {
+        DictionaryInvalidationBus bus = new DictionaryInvalidationBus(transport, 10, invalidator);
+        bus.start();
+        buses.add(bus);
+        return bus;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import dev.dong4j.zeka.starter.dict.cache.impl.CaffeineDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 有界字典缓存测试类
+ * <p> 验证 CaffeineDictionaryCache 的基本读写, 移除以及容量限制行为
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class CaffeineDictionaryCacheTest {
+
+    /**
+     * 测试基本读写与移除
+     * <p>
+     * 测试场景: 写入一个字典类型后读取, 再移除
+     * 预期结果: 写入后可读取到相同数据, 移除后返回 null
+     */
+    @Test
+    void testPutGetRemove() {
+        CaffeineDictionaryCache cache = new CaffeineDictionaryCache(3600, 100, 0);
+        List<DictionaryValue> values = List.of(new DictionaryValue().setTypeCode("gender").setCode("1").setName("男"));
+
+        cache.put("gender", values);
+        assertEquals(values, cache.get("gender"));
+
+        cache.remove("gender");
+        assertNull(cache.get("gender"));
+    }
+
+    /**
+     * 测试按权重限制容量
+     * <p>
+     * 测试场景: 最大权重为 10, 写入 20 个各含 1 个字典值 (权重 2) 的类型
+     * 预期结果: 缓存内容不超过权重上限
+     */
+    @Test
+    void testMaximumWeight() {
+        CaffeineDictionaryCache cache = new CaffeineDictionaryCache(3600, 0, 10);
+        for (int i = 0; i < 20; i++) {
+            cache.put("type_" + i, List.of(new DictionaryValue().setTypeCode("type_" + i).setCode("1")));
+        }
+
+        Map<String, List<DictionaryValue>> all = cache.getAll();
+        assertNotNull(all);
+        assertTrue(all.size() <= 5);
+    }
+}
@@ -0,0 +1,119 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryValueState;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典缓存本地快照文件测试类
+ * <p> 验证快照的保存与恢复, 以及损坏和版本不兼容的快照被丢弃
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryCacheFileStoreTest {
+
+    /** 临时目录 */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * 测试保存与恢复
+     * <p>
+     * 测试场景: 保存包含 null 字段的字典数据后重新读取
+     * 预期结果: 读取结果与保存的数据一致
+     */
+    @Test
+    void testRoundTrip() throws Exception {
+        DictionaryCacheFileStore store = new DictionaryCacheFileStore(tempDir.resolve("dict/cache.snapshot"), 3600);
+        Map<String, List<DictionaryValue>> data = new LinkedHashMap<>();
+        data.put("gender", List.of(value("1", "男", 1), value("2", "女", 2).setDescription(null).setOrder(null)));
+        data.put("status", List.of(value("on", "启用", 1)));
+
+        store.save(data);
+        Map<String, List<DictionaryValue>> loaded = store.load();
+
+        assertEquals(data.keySet(), loaded.keySet());
+        DictionaryValue first = loaded.get("gender").get(0);
+        assertEquals("男", first.getName());
+        assertEquals("描述", first.getDescription());
+        assertEquals(1, first.getOrder());
+        assertEquals(DictionaryValueState.ENABLED, first.getState());
+        assertNull(loaded.get("gender").get(1).getOrder());
+        assertNull(loaded.get("gender").get(1).getDescription());
+    }
+
+    /**
+     * 测试损坏的快照
+     * <p>
+     * 测试场景: 修改快照文件中的一个字节
+     * 预期结果: 校验和不匹配, 返回空数据并删除文件
+     */
+    @Test
+    void testCorrupted() throws Exception {
+        Path file = tempDir.resolve("cache.snapshot");
+        DictionaryCacheFileStore store = new DictionaryCacheFileStore(file, 0);
+        store.save(Map.of("gender", List.of(value("1", "男", 1))));
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * 测试不兼容的格式版本
+     * <p>
+     * 测试场景: 快照的格式版本与当前版本不一致 (校验和有效)
+     * 预期结果: 返回空数据并删除文件
+     */
+    @Test
+    void testVersionMismatch() throws Exception {
+        Path file = tempDir.resolve("cache.snapshot");
+        DictionaryCacheFileStore store = new DictionaryCacheFileStore(file, 0);
+        store.save(Map.of("gender", List.of(value("1", "男", 1))));
+
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(4, DictionaryCacheFileStore.FORMAT_VERSION + 1);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 8);
+        ByteBuffer.wrap(bytes).putLong(bytes.length - 8, crc.getValue());
+        Files.write(file, bytes);
+
+        assertTrue(store.load().isEmpty());
+        assertFalse(Files.exists(file));
+    }
+
+    /**
+     * 创建字典值
+     *
+     * @param code  字典值编码
+     * @param name  字典值名称
+     * @param order 排序值
+     * @return 字典值
+     */
+    private static DictionaryValue value(String code, String name, int order) {
+        return new DictionaryValue().setTypeCode("gender").setCode(code).setName(name).setDescription("描述").setOrder(order)
+            .setState(DictionaryValueState.ENABLED);
+    }
+}
@@ -0,0 +1,131 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.dong4j.zeka.starter.dict.cache.impl.CaffeineDictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 字典缓存加载器测试类
+ * <p> 验证并发未命中合并加载, 失效后加载结果不写回缓存, 以及提前刷新失败后的退避
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryCacheLoaderTest {
+
+    /**
+     * 测试并发未命中只加载一次
+     * <p>
+     * 测试场景: 16 个线程同时读取同一个未缓存的字典类型, 加载耗时 200 毫秒
+     * 预期结果: 回源加载只执行一次, 所有线程得到相同结果
+     */
+    @Test
+    void testSingleFlight() throws Exception {
+        DictionaryCacheLoader loader = new DictionaryCacheLoader(new CaffeineDictionaryCache(3600, 100, 0), 3600, 0, 100);
+        AtomicInteger loadCount = new AtomicInteger();
+        List<DictionaryValue> values = List.of(new DictionaryValue().setTypeCode("gender").setCode("1"));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<List<DictionaryValue>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return loader.get("gender", typeCode -> {
+                        loadCount.incrementAndGet();
+                        sleep(200);
+                        return values;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<List<DictionaryValue>> future : futures) {
+                assertEquals(values, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+    }
+
+    /**
+     * 测试加载期间失效
+     * <p>
+     * 测试场景: 加载过程中调用 invalidate
+     * 预期结果: 调用方仍得到加载结果, 但结果不写入缓存
+     */
+    @Test
+    void testInvalidateDuringLoad() {
+        CaffeineDictionaryCache cache = new CaffeineDictionaryCache(3600, 100, 0);
+        DictionaryCacheLoader loader = new DictionaryCacheLoader(cache, 3600, 0, 100);
+        List<DictionaryValue> values = List.of(new DictionaryValue().setTypeCode("gender").setCode("1"));
+
+        List<DictionaryValue> result = loader.get("gender", typeCode -> {
+            loader.invalidate(typeCode);
+            return values;
+        });
+
+        assertEquals(values, result);
+        assertNull(cache.get("gender"));
+    }
+
+    /**
+     * 测试提前刷新失败后不在每次命中时重复触发
+     * <p>
+     * 测试场景: 条目写入 1 秒后进入提前刷新区间, 刷新加载抛出异常, 之后连续命中 100 次
+     * 预期结果: 命中始终返回旧值, 刷新加载只执行一次
+     */
+    @Test
+    void testFailedRefreshBackoff() {
+        MemoryDictionaryCache cache = new MemoryDictionaryCache(3600);
+        DictionaryCacheLoader loader = new DictionaryCacheLoader(cache, 3600, 3599, 0);
+        List<DictionaryValue> values = List.of(new DictionaryValue().setTypeCode("gender").setCode("1"));
+        AtomicInteger refreshCount = new AtomicInteger();
+        try {
+            loader.get("gender", typeCode -> values);
+            sleep(1100);
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals(values, loader.get("gender", typeCode -> {
+                    refreshCount.incrementAndGet();
+                    throw new IllegalStateException("db down");
+                }));
+                sleep(1);
+            }
+            sleep(100);
+        } finally {
+            loader.shutdown();
+        }
+        assertEquals(1, refreshCount.get());
+    }
+
+    /**
+     * 线程休眠
+     *
+     * @param millis 休眠时间 (毫秒)
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
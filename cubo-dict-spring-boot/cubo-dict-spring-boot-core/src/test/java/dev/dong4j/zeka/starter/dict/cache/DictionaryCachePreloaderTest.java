@@ -0,0 +1,166 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryType;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.service.DictionaryService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典缓存预热器测试类
+ * <p> 使用动态代理模拟字典服务, 验证分块预热, 单块失败时的隔离以及查询期间并发写入时的版本号比较
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryCachePreloaderTest {
+
+    /** 类型数量 */
+    private static final int TYPE_COUNT = 1050;
+    /** 每块的类型数量 */
+    private static final int CHUNK_SIZE = 100;
+
+    /**
+     * 测试分块预热
+     * <p>
+     * 测试场景: 1050 个类型, 每块 100 个, 分别串行与 4 路并行预热
+     * 预期结果: 分 11 块查询, 每块不超过 100 个类型, 所有类型写入缓存
+     */
+    @Test
+    void testChunkedPreload() {
+        for (int parallelism : new int[] {1, 4}) {
+            AtomicInteger queries = new AtomicInteger();
+            MemoryDictionaryCache cache = new MemoryDictionaryCache(3600);
+            DictionaryService service = service(chunk -> {
+                queries.incrementAndGet();
+                assertTrue(chunk.size() <= CHUNK_SIZE);
+            });
+
+            new DictionaryCachePreloader(service, cache, CHUNK_SIZE, parallelism).run(null);
+
+            assertEquals(11, queries.get());
+            assertEquals(TYPE_COUNT, cache.getAll().size());
+            assertEquals("type-1049", cache.get("type-1049").get(0).getTypeCode());
+        }
+    }
+
+    /**
+     * 测试单块失败
+     * <p>
+     * 测试场景: 包含 type-250 的块查询抛出异常, 分别串行与 4 路并行预热
+     * 预期结果: 只有该块的 100 个类型未写入缓存, 其余块全部写入
+     */
+    @Test
+    void testChunkFailure() {
+        for (int parallelism : new int[] {1, 4}) {
+            MemoryDictionaryCache cache = new MemoryDictionaryCache(3600);
+            DictionaryService service = service(chunk -> {
+                if (chunk.contains("type-250")) {
+                    throw new IllegalStateException("connection reset");
+                }
+            });
+
+            new DictionaryCachePreloader(service, cache, CHUNK_SIZE, parallelism).run(null);
+
+            assertEquals(TYPE_COUNT - CHUNK_SIZE, cache.getAll().size());
+            assertNull(cache.get("type-250"));
+            assertNotNull(cache.get("type-199"));
+            assertNotNull(cache.get("type-300"));
+        }
+    }
+
+    /**
+     * 测试查询期间的并发写入与版本号
+     * <p>
+     * 测试场景: 查询包含 type-5 的块时模拟写操作 (递增 type-5 的版本号并写入新数据), 预热完成后用相同数据再预热一次
+     * 预期结果: 首次预热时 type-5 保留写操作写入的数据, 其余类型的版本号递增; 第二次预热在写操作之后开始查询,
+     * type-5 以数据库数据为准, 数据未变化的类型不再递增版本号
+     */
+    @Test
+    void testConcurrentWrite() {
+        MemoryDictionaryCache cache = new MemoryDictionaryCache(3600);
+        DictionaryVersions versions = new DictionaryVersions();
+        DictionaryService service = service(chunk -> {
+            if (chunk.contains("type-5") && cache.get("type-5") == null) {
+                versions.advance("type-5");
+                cache.put("type-5", List.of(new DictionaryValue().setTypeCode("type-5").setCode("newer")));
+            }
+        });
+
+        new DictionaryCachePreloader(service, cache, CHUNK_SIZE, 1, versions, null, 0).run(null);
+
+        assertEquals("newer", cache.get("type-5").get(0).getCode());
+        assertEquals(TYPE_COUNT, cache.getAll().size());
+        long version = versions.version("type-6");
+        assertTrue(version > versions.version("type-5"));
+
+        new DictionaryCachePreloader(service, cache, CHUNK_SIZE, 1, versions, null, 0).run(null);
+        assertEquals(version, versions.version("type-6"));
+        assertEquals("1", cache.get("type-5").get(0).getCode());
+    }
+
+    /**
+     * 创建模拟的字典服务
+     * <p> 每个类型有一个字典值, 每次批量查询前先调用 inspector
+     *
+     * @param inspector 检查每次批量查询的类型编码
+     * @return 只支持 listDictionaryTypes 与 listDictionaryValues 的字典服务
+     */
+    private static DictionaryService service(Inspector inspector) {
+        List<DictionaryType> types = IntStream.range(0, TYPE_COUNT)
+            .mapToObj(i -> new DictionaryType().setCode("type-" + i))
+            .toList();
+        return (DictionaryService) Proxy.newProxyInstance(DictionaryService.class.getClassLoader(),
+                                                          new Class<?>[] {DictionaryService.class},
+                                                          (proxy, method, args) -> switch (method.getName()) {
+                                                              case "listDictionaryTypes" -> types;
+                                                              case "listDictionaryValues" -> {
+                                                                  @SuppressWarnings("unchecked")
+                                                                  Collection<String> chunk = (Collection<String>) args[0];
+                                                                  inspector.inspect(chunk);
+                                                                  Map<String, List<DictionaryValue>> result = new HashMap<>();
+                                                                  chunk.forEach(code -> result.put(code, List.of(
+                                                                      new DictionaryValue().setTypeCode(code).setCode("1"))));
+                                                                  yield result;
+                                                              }
+                                                              default -> throw new UnsupportedOperationException(method.getName());
+                                                          });
+    }
+
+    /**
+     * 检查批量查询的类型编码
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @FunctionalInterface
+    private interface Inspector {
+
+        /**
+         * 检查类型编码
+         *
+         * @param chunk 一次批量查询的类型编码
+         */
+        void inspect(Collection<String> chunk);
+    }
+}
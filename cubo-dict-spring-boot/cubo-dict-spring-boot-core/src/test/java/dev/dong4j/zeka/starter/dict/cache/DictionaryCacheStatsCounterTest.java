@@ -0,0 +1,102 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStats;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryCacheStatsCounter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典缓存统计计数器测试类
+ * <p> 验证命中率, 加载耗时分位值以及按类型统计的明细
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryCacheStatsCounterTest {
+
+    /**
+     * 测试命中率与类型明细
+     * <p>
+     * 测试场景: gender 命中 3 次未命中 1 次, status 未命中 1 次
+     * 预期结果: 整体命中率为 0.6, 类型明细按请求次数降序排列
+     */
+    @Test
+    void testHitRate() {
+        DictionaryCacheStatsCounter counter = new DictionaryCacheStatsCounter();
+        counter.recordHit("gender");
+        counter.recordHit("gender");
+        counter.recordHit("gender");
+        counter.recordMiss("gender");
+        counter.recordMiss("status");
+
+        DictionaryCacheStats stats = counter.snapshot();
+        assertEquals(0.6, stats.hitRate(), 0.0001);
+        assertEquals("gender", stats.types().get(0).typeCode());
+        assertEquals(0.75, stats.types().get(0).hitRate(), 0.0001);
+    }
+
+    /**
+     * 测试加载耗时分位值
+     * <p>
+     * 测试场景: 记录 99 次 1 毫秒的加载与 1 次 100 毫秒的加载
+     * 预期结果: P50 在 1 毫秒所在的分桶内, 最大值为 100 毫秒
+     */
+    @Test
+    void testLoadPercentiles() {
+        DictionaryCacheStatsCounter counter = new DictionaryCacheStatsCounter();
+        for (int i = 0; i < 99; i++) {
+            counter.recordLoad("gender", TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+        counter.recordLoad("gender", TimeUnit.MILLISECONDS.toNanos(100), false);
+
+        DictionaryCacheStats stats = counter.snapshot();
+        assertEquals(99, stats.loadSuccessCount());
+        assertEquals(1, stats.loadFailureCount());
+        assertTrue(stats.loadTimeP50Millis() >= 1 && stats.loadTimeP50Millis() < 2.1);
+        assertEquals(100.0, stats.loadTimeMaxMillis(), 0.0001);
+
+        counter.reset();
+        assertEquals(0, counter.snapshot().loadSuccessCount());
+    }
+
+    /**
+     * 测试按类型的加载耗时分位值
+     * <p>
+     * 测试场景: gender 记录 90 次 1 毫秒与 10 次 50 毫秒的加载, status 记录 1 次 200 毫秒的加载
+     * 预期结果: 各类型的分位值互不影响, 误差在一个桶宽 (1/4) 以内, 且不超过该类型的最大值
+     */
+    @Test
+    void testTypeLoadPercentiles() {
+        DictionaryCacheStatsCounter counter = new DictionaryCacheStatsCounter();
+        for (int i = 0; i < 90; i++) {
+            counter.recordLoad("gender", TimeUnit.MILLISECONDS.toNanos(1), true);
+        }
+        for (int i = 0; i < 10; i++) {
+            counter.recordLoad("gender", TimeUnit.MILLISECONDS.toNanos(50), true);
+        }
+        counter.recordLoad("status", TimeUnit.MILLISECONDS.toNanos(200), true);
+
+        DictionaryCacheStats.TypeStats gender = counter.snapshot().types().stream()
+            .filter(type -> "gender".equals(type.typeCode()))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(gender.loadTimeP50Millis() >= 1 && gender.loadTimeP50Millis() < 1.25);
+        assertTrue(gender.loadTimeP90Millis() >= 1 && gender.loadTimeP90Millis() < 1.25);
+        assertEquals(50.0, gender.loadTimeP99Millis(), 0.0001);
+        assertEquals(50.0, gender.maxLoadMillis(), 0.0001);
+
+        DictionaryCacheStats.TypeStats status = counter.snapshot().types().stream()
+            .filter(type -> "status".equals(type.typeCode()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(200.0, status.loadTimeP50Millis(), 0.0001);
+    }
+}
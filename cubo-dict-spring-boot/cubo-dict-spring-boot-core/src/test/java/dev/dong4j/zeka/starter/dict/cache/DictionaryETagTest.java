@@ -0,0 +1,92 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import dev.dong4j.zeka.starter.dict.entity.dto.DictionaryOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典 ETag 测试类
+ * <p> 验证 ETag 只由内容决定
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryETagTest {
+
+    /**
+     * 测试内容相同
+     * <p>
+     * 测试场景: 两次分别构建内容相同的选项列表, 模拟不同节点或重启后加载的同一份数据
+     * 预期结果: ETag 相同, 为带双引号的强 ETag
+     */
+    @Test
+    void testSameContent() {
+        String etag = DictionaryETag.of(List.of(option("1", "男"), option("2", "女")));
+
+        assertEquals(etag, DictionaryETag.of(List.of(option("1", "男"), option("2", "女"))));
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    }
+
+    /**
+     * 测试内容变化
+     * <p>
+     * 测试场景: 名称变化, 排序值变化, 顺序变化, 字段边界移动
+     * 预期结果: ETag 均与原内容不同
+     */
+    @Test
+    void testChangedContent() {
+        String etag = DictionaryETag.of(List.of(option("1", "男"), option("2", "女")));
+        DictionaryOption reordered = option("1", "男");
+        reordered.setSortOrder(9);
+
+        assertNotEquals(etag, DictionaryETag.of(List.of(option("1", "男性"), option("2", "女"))));
+        assertNotEquals(etag, DictionaryETag.of(List.of(reordered, option("2", "女"))));
+        assertNotEquals(etag, DictionaryETag.of(List.of(option("2", "女"), option("1", "男"))));
+        assertNotEquals(DictionaryETag.of(List.of(option("ab", "c"))), DictionaryETag.of(List.of(option("a", "bc"))));
+    }
+
+    /**
+     * 测试多个字典类型
+     * <p>
+     * 测试场景: 遍历顺序不同的两个映射, 以及某一类型的内容变化
+     * 预期结果: 遍历顺序不影响 ETag, 任一类型变化时 ETag 变化
+     */
+    @Test
+    void testAllOptions() {
+        Map<String, List<DictionaryOption>> options = new LinkedHashMap<>();
+        options.put("status", List.of(option("0", "禁用")));
+        options.put("gender", List.of(option("1", "男")));
+        Map<String, List<DictionaryOption>> sorted = new TreeMap<>(options);
+
+        assertEquals(DictionaryETag.of(options), DictionaryETag.of(sorted));
+        sorted.put("status", List.of(option("0", "停用")));
+        assertNotEquals(DictionaryETag.of(options), DictionaryETag.of(sorted));
+    }
+
+    /**
+     * 创建字典选项
+     *
+     * @param value 字典值编码
+     * @param label 字典值名称
+     * @return 字典选项
+     */
+    private static DictionaryOption option(String value, String label) {
+        DictionaryOption option = new DictionaryOption();
+        option.setValue(value);
+        option.setLabel(label);
+        option.setSortOrder(1);
+        return option;
+    }
+}
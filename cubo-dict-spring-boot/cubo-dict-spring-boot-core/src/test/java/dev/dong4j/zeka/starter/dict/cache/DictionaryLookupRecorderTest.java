@@ -0,0 +1,107 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupRecorder;
+import dev.dong4j.zeka.starter.dict.cache.stats.DictionaryLookupReport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 字典访问追踪记录器测试类
+ * <p> 验证热点类型排序, 慢加载记录以及写入窗口内加载的识别
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryLookupRecorderTest {
+
+    /**
+     * 测试热点类型
+     * <p>
+     * 测试场景: 三个类型分别访问 5, 3, 1 次, 取前 2 个热点类型
+     * 预期结果: 按访问次数降序返回 gender 与 status
+     */
+    @Test
+    void testHotTypes() {
+        DictionaryLookupRecorder recorder = new DictionaryLookupRecorder(200, 500, 10);
+        lookup(recorder, "gender", 5);
+        lookup(recorder, "status", 3);
+        lookup(recorder, "level", 1);
+
+        DictionaryLookupReport report = recorder.report(2);
+
+        assertEquals(9, report.lookupCount());
+        assertEquals(2, report.hotTypes().size());
+        assertEquals("gender", report.hotTypes().get(0).typeCode());
+        assertEquals(5, report.hotTypes().get(0).lookupCount());
+        assertEquals("status", report.hotTypes().get(1).typeCode());
+    }
+
+    /**
+     * 测试慢加载记录
+     * <p>
+     * 测试场景: 记录 3 次超过阈值的加载与 1 次未超过阈值的加载, 最近记录只保留 2 条
+     * 预期结果: 慢加载次数为 3, 最近记录按时间倒序保留最后 2 条
+     */
+    @Test
+    void testSlowLoads() {
+        DictionaryLookupRecorder recorder = new DictionaryLookupRecorder(10, 0, 2);
+        long slow = TimeUnit.MILLISECONDS.toNanos(20);
+        for (String typeCode : new String[] {"a", "b", "c"}) {
+            recorder.endLoad(typeCode, recorder.beginLoad(typeCode), slow, 1, true);
+        }
+        recorder.endLoad("d", recorder.beginLoad("d"), TimeUnit.MILLISECONDS.toNanos(1), 1, true);
+
+        DictionaryLookupReport report = recorder.report(10);
+
+        assertEquals(4, report.loadCount());
+        assertEquals(3, report.slowLoadCount());
+        assertEquals(2, report.recentSlowLoads().size());
+        assertEquals("c", report.recentSlowLoads().get(0).typeCode());
+        assertEquals("b", report.recentSlowLoads().get(1).typeCode());
+    }
+
+    /**
+     * 测试写入窗口内的加载
+     * <p>
+     * 测试场景: 加载分别在写入前完成, 在写入期间开始, 以及开始于写入前但在写入开始后结束
+     * 预期结果: 后两次加载记为与写入窗口重叠, 写入结束后的加载不再记录
+     */
+    @Test
+    void testStaleWindowLoads() {
+        DictionaryLookupRecorder recorder = new DictionaryLookupRecorder(0, 0, 10);
+        recorder.endLoad("gender", recorder.beginLoad("gender"), 1, 1, true);
+
+        long straddling = recorder.beginLoad("gender");
+        DictionaryLookupRecorder.WriteWindow write = recorder.beginWrite("gender");
+        recorder.endLoad("gender", recorder.beginLoad("gender"), 1, 1, true);
+        recorder.endLoad("gender", straddling, 1, 1, true);
+        recorder.endWrite(write);
+
+        recorder.endLoad("gender", recorder.beginLoad("gender"), 1, 1, true);
+
+        DictionaryLookupReport report = recorder.report(10);
+        assertEquals(1, report.writeCount());
+        assertEquals(2, report.staleWindowLoadCount());
+        assertEquals(2, report.hotTypes().get(0).staleWindowLoadCount());
+    }
+
+    /**
+     * 记录多次访问
+     *
+     * @param recorder 记录器
+     * @param typeCode 字典类型编码
+     * @param times    访问次数
+     */
+    private static void lookup(DictionaryLookupRecorder recorder, String typeCode, int times) {
+        for (int i = 0; i < times; i++) {
+            recorder.recordLookup(typeCode, 1000);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典缓存刷新协调器测试类
+ * <p> 验证窗口内刷新请求合并, 同一类型最多一个刷新任务, 多类型并行刷新, 刷新状态清理以及关闭后的刷新
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryRefreshCoordinatorTest {
+
+    /** 刷新协调器, 合并窗口 50 毫秒, 4 个刷新线程 */
+    private final DictionaryRefreshCoordinator coordinator = new DictionaryRefreshCoordinator(50, 4);
+
+    /**
+     * 关闭刷新协调器
+     */
+    @AfterEach
+    void tearDown() {
+        coordinator.shutdown();
+    }
+
+    /**
+     * 测试窗口内的刷新请求合并
+     * <p>
+     * 测试场景: 合并窗口内对同一类型连续请求 100 次刷新
+     * 预期结果: 只执行一次刷新, 所有请求得到同一个 future
+     */
+    @Test
+    void testCoalesceBurst() {
+        AtomicInteger executed = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(coordinator.refresh("gender", executed::incrementAndGet));
+        }
+
+        DictionaryRefreshCoordinator.await(futures.get(99));
+        assertEquals(1, executed.get());
+        futures.forEach(future -> assertSame(futures.get(0), future));
+        assertEquals(99, coordinator.getCoalescedCount());
+    }
+
+    /**
+     * 测试刷新执行期间的请求
+     * <p>
+     * 测试场景: 刷新执行期间对同一类型再请求 10 次刷新
+     * 预期结果: 10 次请求合并为一次后续刷新, 且与当前刷新不并发执行
+     */
+    @Test
+    void testAtMostOneInFlight() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Runnable action = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            sleep(100);
+            executed.incrementAndGet();
+            running.decrementAndGet();
+        };
+
+        CompletableFuture<Void> first = coordinator.refresh("gender", action);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> next = null;
+        for (int i = 0; i < 10; i++) {
+            next = coordinator.refresh("gender", action);
+        }
+
+        DictionaryRefreshCoordinator.await(first);
+        DictionaryRefreshCoordinator.await(next);
+        assertEquals(2, executed.get());
+        assertEquals(1, maxRunning.get());
+    }
+
+    /**
+     * 测试多类型并行刷新
+     * <p>
+     * 测试场景: 8 个字典类型各刷新一次, 每次耗时 100 毫秒
+     * 预期结果: 全部刷新完成, 且存在并发执行的刷新
+     */
+    @Test
+    void testRefreshAllParallel() {
+        AtomicInteger executed = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> typeCodes = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+
+        coordinator.refreshAll(typeCodes, typeCode -> () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(100);
+            executed.incrementAndGet();
+            running.decrementAndGet();
+        });
+
+        assertEquals(typeCodes.size(), executed.get());
+        assertTrue(maxRunning.get() > 1);
+    }
+
+    /**
+     * 测试刷新完成后删除刷新状态
+     * <p>
+     * 测试场景: 8 个字典类型各刷新一次并等待完成
+     * 预期结果: 刷新状态表最终为空, 之后再次刷新同一类型仍正常执行
+     */
+    @Test
+    void testSlotsPruned() {
+        AtomicInteger executed = new AtomicInteger();
+        List<String> typeCodes = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+        coordinator.refreshAll(typeCodes, typeCode -> executed::incrementAndGet);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coordinator.getSlotCount() > 0 && System.currentTimeMillis() < deadline) {
+            sleep(10);
+        }
+        assertEquals(0, coordinator.getSlotCount());
+
+        DictionaryRefreshCoordinator.await(coordinator.refresh("a", executed::incrementAndGet));
+        assertEquals(typeCodes.size() + 1, executed.get());
+    }
+
+    /**
+     * 测试关闭后的刷新
+     * <p>
+     * 测试场景: 合并窗口内请求刷新后关闭协调器, 再请求一次刷新
+     * 预期结果: 关闭前等待中的刷新以异常完成而不是永久阻塞, 关闭后的刷新在调用线程上同步执行
+     */
+    @Test
+    void testRefreshAfterShutdown() {
+        AtomicInteger executed = new AtomicInteger();
+        CompletableFuture<Void> pending = coordinator.refresh("gender", executed::incrementAndGet);
+        coordinator.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> DictionaryRefreshCoordinator.await(pending));
+        assertEquals(0, executed.get());
+
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Void> after = coordinator.refresh("gender", () -> {
+            assertSame(caller, Thread.currentThread());
+            executed.incrementAndGet();
+        });
+        assertTrue(after.isDone());
+        assertEquals(1, executed.get());
+    }
+
+    /**
+     * 线程休眠
+     *
+     * @param millis 休眠时间 (毫秒)
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
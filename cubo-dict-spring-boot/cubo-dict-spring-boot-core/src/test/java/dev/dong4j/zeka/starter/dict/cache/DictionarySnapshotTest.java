@@ -0,0 +1,112 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+import dev.dong4j.zeka.starter.dict.enums.DictionaryValueState;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 字典类型快照测试类
+ * <p> 验证快照的排序, 映射, 列表与其中对象的不可修改以及内存缓存快照模式下的整体替换
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionarySnapshotTest {
+
+    /**
+     * 测试快照构建
+     * <p>
+     * 测试场景: 使用乱序且编码重复的字典值构建快照
+     * 预期结果: 字典值按排序升序排列, 重复编码保留排序靠前的字典值, 列表不可修改
+     */
+    @Test
+    void testSnapshot() {
+        List<DictionaryValue> values = new ArrayList<>(List.of(value("2", "女", 2), value("1", "男", 1), value("1", "重复", 3)));
+
+        DictionarySnapshot snapshot = DictionarySnapshot.of(values);
+
+        assertEquals(List.of("1", "2", "1"), snapshot.values().stream().map(DictionaryValue::getCode).toList());
+        assertEquals("男", snapshot.label("1"));
+        assertEquals("女", snapshot.get("2").getName());
+        assertNull(snapshot.label("3"));
+        assertEquals(3, snapshot.options().size());
+        assertEquals("男", snapshot.options().get(0).getLabel());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.values().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.options().clear());
+
+        values.clear();
+        assertEquals(3, snapshot.values().size());
+    }
+
+    /**
+     * 测试快照中的对象不可修改
+     * <p>
+     * 测试场景: 构建快照后修改原始字典值, 再尝试修改快照返回的字典值与选项
+     * 预期结果: 原始字典值的修改不影响快照, 修改快照中的对象抛出异常
+     */
+    @Test
+    void testReadOnlyEntries() {
+        DictionaryValue source = value("1", "男", 1);
+        DictionarySnapshot snapshot = DictionarySnapshot.of(List.of(source));
+
+        source.setName("女");
+        assertEquals("男", snapshot.get("1").getName());
+        assertEquals("男", snapshot.options().get(0).getLabel());
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.get("1").setName("女"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.values().get(0).setState(DictionaryValueState.DISABLED));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.options().get(0).setLabel("女"));
+        assertEquals("男", snapshot.label("1"));
+        assertEquals("gender", snapshot.get("1").getTypeCode());
+    }
+
+    /**
+     * 测试内存缓存快照模式
+     * <p>
+     * 测试场景: 开启快照模式后写入, 读取并重新写入同一字典类型
+     * 预期结果: 读取返回快照中的列表实例, 重新写入后整体替换为新快照
+     */
+    @Test
+    void testMemoryCacheSnapshot() {
+        MemoryDictionaryCache cache = new MemoryDictionaryCache(3600, true);
+        cache.put("gender", List.of(value("1", "男", 1)));
+
+        DictionarySnapshot first = cache.getSnapshot("gender");
+        assertSame(first.values(), cache.get("gender"));
+
+        cache.put("gender", List.of(value("1", "男性", 1)));
+        DictionarySnapshot second = cache.getSnapshot("gender");
+        assertNotSame(first, second);
+        assertEquals("男", first.label("1"));
+        assertEquals("男性", second.label("1"));
+
+        assertNull(new MemoryDictionaryCache(3600).getSnapshot("gender"));
+    }
+
+    /**
+     * 创建字典值
+     *
+     * @param code  字典值编码
+     * @param name  字典值名称
+     * @param order 排序值
+     * @return 字典值
+     */
+    private static DictionaryValue value(String code, String name, int order) {
+        return new DictionaryValue().setTypeCode("gender").setCode(code).setName(name).setOrder(order)
+            .setState(DictionaryValueState.ENABLED);
+    }
+}
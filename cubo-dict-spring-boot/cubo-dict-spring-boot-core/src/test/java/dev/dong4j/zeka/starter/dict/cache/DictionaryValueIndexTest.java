@@ -0,0 +1,127 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import dev.dong4j.zeka.starter.dict.cache.impl.CaffeineDictionaryCache;
+import dev.dong4j.zeka.starter.dict.cache.impl.MemoryDictionaryCache;
+import dev.dong4j.zeka.starter.dict.entity.po.DictionaryValue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 字典值二级索引测试类
+ * <p> 验证索引的构建, 查找, 随缓存条目删除或淘汰而清理, 以及重新加载后的重建
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryValueIndexTest {
+
+    /**
+     * 测试查找与重新加载
+     * <p>
+     * 测试场景: 写入 gender 后按编码查找, 再写入新的列表 (重新加载) 后查找
+     * 预期结果: 查找返回列表中的同一实例, 重新加载后返回新列表中的字典值
+     */
+    @Test
+    void testLookupAndReload() {
+        CaffeineDictionaryCache cache = new CaffeineDictionaryCache(3600, 100, 0);
+        List<DictionaryValue> values = values("男", "女");
+        cache.put("gender", values);
+
+        DictionaryValueIndex index = cache.getValueIndex();
+        assertSame(values.get(1), index.get("gender", cache.get("gender"), "2"));
+        assertNull(index.get("gender", cache.get("gender"), "3"));
+        assertEquals(1, index.size());
+
+        cache.put("gender", values("male", "female", "unknown"));
+        assertEquals("female", index.get("gender", cache.get("gender"), "2").getName());
+        assertEquals("unknown", index.get("gender", cache.get("gender"), "3").getName());
+        assertEquals(1, index.size());
+    }
+
+    /**
+     * 测试删除时清理索引
+     * <p>
+     * 测试场景: 分别对两种缓存查找后删除单个类型, 再清空缓存
+     * 预期结果: 删除后该类型的索引条目随之删除, 清空后索引为空
+     */
+    @Test
+    void testRemove() {
+        for (DictionaryCache cache : List.of(new CaffeineDictionaryCache(3600, 100, 0), new MemoryDictionaryCache(3600))) {
+            cache.put("gender", values("男", "女"));
+            cache.put("status", values("启用", "禁用"));
+            DictionaryValueIndex index = cache.getValueIndex();
+            index.get("gender", cache.get("gender"), "1");
+            index.get("status", cache.get("status"), "1");
+            assertEquals(2, index.size());
+
+            cache.remove("gender");
+            assertEquals(1, index.size());
+
+            cache.clear();
+            assertEquals(0, index.size());
+        }
+    }
+
+    /**
+     * 测试过期淘汰时清理索引
+     * <p>
+     * 测试场景: 过期时间为 1 秒的 Caffeine 缓存在过期后写入其他类型 (触发维护); 过期时间为 0 的内存缓存读取已过期的类型
+     * 预期结果: 过期被淘汰的类型的索引条目随之删除
+     */
+    @Test
+    void testEvict() {
+        CaffeineDictionaryCache caffeine = new CaffeineDictionaryCache(1, 100, 0);
+        caffeine.put("gender", values("男", "女"));
+        caffeine.getValueIndex().get("gender", caffeine.get("gender"), "1");
+        assertEquals(1, caffeine.getValueIndex().size());
+        sleep(1100);
+        caffeine.put("status", values("启用", "禁用"));
+        assertNull(caffeine.get("gender"));
+        assertEquals(0, caffeine.getValueIndex().size());
+
+        MemoryDictionaryCache memory = new MemoryDictionaryCache(0);
+        List<DictionaryValue> values = values("男", "女");
+        memory.put("gender", values);
+        memory.getValueIndex().get("gender", values, "1");
+        assertEquals(1, memory.getValueIndex().size());
+        sleep(5);
+        assertNull(memory.get("gender"));
+        assertEquals(0, memory.getValueIndex().size());
+    }
+
+    /**
+     * 创建字典值列表, 编码依次为 1, 2, 3 ...
+     *
+     * @param names 字典值名称
+     * @return 字典值列表
+     */
+    private static List<DictionaryValue> values(String... names) {
+        DictionaryValue[] values = new DictionaryValue[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = new DictionaryValue().setCode(String.valueOf(i + 1)).setName(names[i]);
+        }
+        return List.of(values);
+    }
+
+    /**
+     * 线程休眠
+     *
+     * @param millis 休眠时间 (毫秒)
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
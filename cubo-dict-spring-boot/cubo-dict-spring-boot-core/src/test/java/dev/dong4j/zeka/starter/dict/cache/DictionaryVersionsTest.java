@@ -0,0 +1,59 @@
+package dev.dong4j.zeka.starter.dict.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典版本号测试类
+ * <p> 验证单个类型与全量失效对版本号的影响
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DictionaryVersionsTest {
+
+    /**
+     * 测试单个类型失效
+     * <p>
+     * 测试场景: 递增 gender 的版本号
+     * 预期结果: gender 的版本号大于递增前的全局版本号, 其他类型与递增前相同, 全局版本号随之递增
+     */
+    @Test
+    void testAdvance() {
+        DictionaryVersions versions = new DictionaryVersions();
+        long status = versions.version("status");
+        long readVersion = versions.version();
+
+        versions.advance("gender");
+
+        assertTrue(versions.version("gender") > readVersion);
+        assertEquals(status, versions.version("status"));
+        assertTrue(versions.version() > readVersion);
+    }
+
+    /**
+     * 测试全量失效
+     * <p>
+     * 测试场景: 递增 gender 后执行全量失效
+     * 预期结果: 所有类型的版本号均与失效前不同, 并等于全局版本号
+     */
+    @Test
+    void testAdvanceAll() {
+        DictionaryVersions versions = new DictionaryVersions();
+        versions.advance("gender");
+        long gender = versions.version("gender");
+        long status = versions.version("status");
+
+        versions.advanceAll();
+
+        assertNotEquals(gender, versions.version("gender"));
+        assertNotEquals(status, versions.version("status"));
+        assertEquals(versions.version(), versions.version("status"));
+    }
+}
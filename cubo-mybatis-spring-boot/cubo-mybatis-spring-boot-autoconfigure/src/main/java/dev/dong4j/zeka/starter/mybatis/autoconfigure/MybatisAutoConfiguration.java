@@ -11,21 +11,30 @@ import com.baomidou.mybatisplus.extension.plugins.inner.IllegalSQLInnerIntercept
 import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
 
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 
 import java.io.Serializable;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.sql.DataSource;
+
 import dev.dong4j.zeka.kernel.autoconfigure.condition.ConditionalOnEnabled;
 import dev.dong4j.zeka.kernel.common.constant.App;
 import dev.dong4j.zeka.kernel.common.constant.ConfigDefaultValue;
@@ -33,22 +42,42 @@ import dev.dong4j.zeka.kernel.common.constant.ConfigKey;
 import dev.dong4j.zeka.kernel.common.enums.LibraryEnum;
 import dev.dong4j.zeka.kernel.common.start.ZekaAutoConfiguration;
 import dev.dong4j.zeka.kernel.common.start.ZekaComponentBean;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
 import dev.dong4j.zeka.starter.mybatis.dict.DataBindInterceptor;
+import dev.dong4j.zeka.starter.mybatis.dict.DataBindMemo;
+import dev.dong4j.zeka.starter.mybatis.dict.DataBindUtil;
 import dev.dong4j.zeka.starter.mybatis.dict.DefaultDataBind;
+import dev.dong4j.zeka.starter.mybatis.dict.IBatchDataBind;
 import dev.dong4j.zeka.starter.mybatis.dict.IDataBind;
 import dev.dong4j.zeka.starter.mybatis.handler.ClientIdMetIdaObjectHandler;
 import dev.dong4j.zeka.starter.mybatis.handler.GeneralEnumTypeHandler;
 import dev.dong4j.zeka.starter.mybatis.handler.MetaHandlerChain;
 import dev.dong4j.zeka.starter.mybatis.handler.MetaObjectChain;
 import dev.dong4j.zeka.starter.mybatis.handler.SerializableIdTypeHandler;
-import dev.dong4j.zeka.starter.mybatis.handler.SqlExecuteTimeoutHandler;
 import dev.dong4j.zeka.starter.mybatis.handler.TenantIdMetaObjectHandler;
 import dev.dong4j.zeka.starter.mybatis.handler.TimeMetaObjectHandler;
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
 import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlInjector;
 import dev.dong4j.zeka.starter.mybatis.plugins.PerformanceInterceptor;
 import dev.dong4j.zeka.starter.mybatis.plugins.SensitiveFieldDecryptIntercepter;
 import dev.dong4j.zeka.starter.mybatis.plugins.SensitiveFieldEncryptIntercepter;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.FieldEncryptionEngine;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.JdbcReEncryptor;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.KeyedFieldEncryptionEngine;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.LocalKeyStoreKeyProvider;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitiveCipher;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitiveKeyProvider;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.StaleCiphertextHandler;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.FileSlowSqlSink;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.LogSlowSqlSink;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlPipeline;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlRateLimiter;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlSink;
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyRecorder;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteExecutor;
+import dev.dong4j.zeka.starter.mybatis.util.SqlRenderer;
 import dev.dong4j.zeka.starter.mybatis.util.SqlUtils;
+import jakarta.servlet.Filter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -61,6 +90,7 @@ import lombok.extern.slf4j.Slf4j;
  * 4. 元数据处理器配置（自动填充创建时间、更新时间等）
  * 5. 类型处理器配置（枚举类型、ID 类型等）
  * 6. SQL 注入器配置
+ * 7. SQL 耗时统计配置
  * <p>
  * 注意：
  * - 部分插件仅在非生产环境下生效
@@ -201,14 +231,57 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
      * 主要功能包括：
      * - 注入 insertIgnore 方法（MySQL 的 INSERT IGNORE 语法）
      * - 注入 replace 方法（MySQL 的 REPLACE INTO 语法）
-     * - 支持批量操作的扩展方法
+     * - 注入多行 insertIgnoreBatch、replaceBatch、upsertBatch 方法
+     * - 持有语句大小上限为 batch-statement-bytes 的分批计划，BaseServiceImpl 的多行批量方法使用该计划切分
      *
+     * @param mybatisProperties mybatis properties
      * @return ISqlInjector 自定义 SQL 注入器实例
      * @since 1.0.0
      */
     @Bean
-    public ISqlInjector sqlInjector() {
-        return new MybatisSqlInjector();
+    public ISqlInjector sqlInjector(@NotNull MybatisProperties mybatisProperties) {
+        return new MybatisSqlInjector(new MultiRowBatchPlanner(mybatisProperties.getBatchStatementBytes()));
+    }
+
+    /**
+     * 创建分批写入的共享线程池
+     * <p>
+     * ExchangeService 的分批写入在该线程池上执行工作任务：
+     * - 最大线程数为 batch-write-threads，并发的分批写入共享这些线程，超出时工作任务排队
+     * - 空闲线程自动回收
+     * - 容器关闭时停止接收新的工作任务，并等待正在执行的写入结束
+     *
+     * @param mybatisProperties MyBatis 配置属性，包含分批写入线程数配置
+     * @return BatchWriteExecutor 分批写入线程池实例
+     * @since 2.0.0
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public BatchWriteExecutor batchWriteExecutor(@NotNull MybatisProperties mybatisProperties) {
+        return new BatchWriteExecutor(mybatisProperties.getBatchWriteThreads());
+    }
+
+    /**
+     * 创建 SQL 耗时统计记录器
+     * <p>
+     * 该记录器按 MappedStatement 统计 SQL 执行耗时分布，主要功能包括：
+     * - 无锁记录每次执行的耗时，计算 P50 / P90 / P99 / 最大耗时
+     * - 统计返回或影响的行数与执行失败次数
+     * - 通过编程接口或 /actuator/sqlstats 端点读取
+     * <p>
+     * 注意：需要通过 zeka-stack.mybatis.sql-stats.enabled 开启，不受 SQL 日志开关和运行环境限制
+     *
+     * @param mybatisProperties MyBatis 配置属性，包含统计的 MappedStatement 数量上限
+     * @return SqlLatencyRecorder SQL 耗时统计记录器实例
+     * @since 2.0.0
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = MybatisProperties.PREFIX + ".sql-stats",
+                           name = "enabled",
+                           havingValue = ConfigDefaultValue.TRUE_STRING)
+    public SqlLatencyRecorder sqlLatencyRecorder(@NotNull MybatisProperties mybatisProperties) {
+        return new SqlLatencyRecorder(mybatisProperties.getSqlStats().getMaxStatements());
     }
 
     /**
@@ -216,9 +289,10 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
      * <p>
      * 该拦截器用于监控 SQL 执行性能，主要功能包括：
      * - 记录 SQL 执行时间
-     * - 格式化输出 SQL 语句（可配置）
+     * - 格式化输出 SQL 语句（可配置），格式化结果按 SQL 模板缓存
      * - 设置 SQL 执行超时阈值
      * - 限制 SQL 输出长度，避免日志过长
+     * - 开启 SQL 耗时统计时同时记录耗时分布
      * <p>
      * 注意：
      * - 仅在非生产环境下生效，生产环境建议关闭
@@ -226,6 +300,8 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
      * - 与 P6spy 功能互斥，避免重复监控
      *
      * @param mybatisProperties MyBatis 配置属性，包含性能监控相关配置
+     * @param latencyRecorder   SQL 耗时统计记录器，未开启统计时为空
+     * @param slowSqlPipeline   慢 SQL 投递管道，未开启 append-sql-file 时为空（此时发布 SQL 执行超时事件）
      * @return PerformanceInterceptor 性能监控拦截器实例
      * @since 1.0.0
      */
@@ -237,35 +313,143 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
         value = ConfigKey.MybatisConfigKey.MYBATIS_ENABLE_LOG,
         havingValue = ConfigDefaultValue.TRUE_STRING
     )
-    public PerformanceInterceptor performanceInterceptor(MybatisProperties mybatisProperties) {
+    public PerformanceInterceptor performanceInterceptor(MybatisProperties mybatisProperties,
+                                                         ObjectProvider<SqlLatencyRecorder> latencyRecorder,
+                                                         ObjectProvider<SlowSqlPipeline> slowSqlPipeline) {
         PerformanceInterceptor performanceInterceptor = new PerformanceInterceptor();
         performanceInterceptor.setFormat(mybatisProperties.isSqlFormat());
+        performanceInterceptor.setSqlRenderer(new SqlRenderer(SqlRenderer.DEFAULT_MAX_TEMPLATES,
+                                                              mybatisProperties.getSqlFormatCacheSize()));
         performanceInterceptor.setMaxTime(mybatisProperties.getPerformmaxTime());
         performanceInterceptor.setMaxLength(mybatisProperties.getMaxLength());
+        performanceInterceptor.setLatencyRecorder(latencyRecorder.getIfAvailable());
+        performanceInterceptor.setSlowSqlPipeline(slowSqlPipeline.getIfAvailable());
         return performanceInterceptor;
     }
 
     /**
-     * 创建 SQL 执行超时处理器
+     * 创建仅做耗时统计的 SQL 性能监控拦截器
      * <p>
-     * 该处理器用于监听和处理 SQL 执行超时事件，主要功能包括：
-     * - 异步监听 SQL 执行超时事件
-     * - 将超时的 SQL 语句记录到单独的 sql.log 文件中
-     * - 便于后续分析和优化慢查询
+     * 开启 SQL 耗时统计但未创建 SQL 日志拦截器时（生产环境或未开启 SQL 日志），使用关闭 SQL 日志的
+     * PerformanceInterceptor 记录耗时分布，不渲染 SQL 也不发布超时事件
+     *
+     * @param latencyRecorder SQL 耗时统计记录器
+     * @return PerformanceInterceptor 性能监控拦截器实例
+     * @since 2.0.0
+     */
+    @Bean
+    @ConditionalOnMissingBean(PerformanceInterceptor.class)
+    @ConditionalOnProperty(prefix = MybatisProperties.PREFIX + ".sql-stats",
+                           name = "enabled",
+                           havingValue = ConfigDefaultValue.TRUE_STRING)
+    public PerformanceInterceptor sqlStatsPerformanceInterceptor(SqlLatencyRecorder latencyRecorder) {
+        PerformanceInterceptor performanceInterceptor = new PerformanceInterceptor();
+        performanceInterceptor.setSqlLog(false);
+        performanceInterceptor.setLatencyRecorder(latencyRecorder);
+        return performanceInterceptor;
+    }
+
+    /**
+     * 创建慢 SQL 投递管道
+     * <p>
+     * 替代原来的 SqlExecuteTimeoutEvent + @Async 处理器，慢 SQL 风暴时开销有上限：
+     * - 按 MappedStatement 限流，窗口内超出的记录合并为一条带次数的记录
+     * - 有界队列，队列已满时丢弃并计数，不阻塞执行 SQL 的线程
+     * - 单个线程批量输出到容器中的所有 SlowSqlSink，没有自定义输出时写入 sql.timing 日志
+     * - 配置 slow-sql.file-path 时同时写入本地文件
      * <p>
      * 注意：需要通过配置属性开启该功能
      *
-     * @return SqlExecuteTimeoutHandler SQL 执行超时处理器实例
-     * @since 1.0.0
+     * @param mybatisProperties MyBatis 配置属性，包含慢 SQL 投递配置
+     * @param sinks             慢 SQL 输出
+     * @return SlowSqlPipeline 慢 SQL 投递管道实例
+     * @since 2.0.0
      */
-    @Bean
+    @Bean(initMethod = "start", destroyMethod = "close")
     @ConditionalOnProperty(
         value = ConfigKey.MybatisConfigKey.APPEND_SQL_FILE,
         havingValue = ConfigDefaultValue.TRUE_STRING
     )
     @ConditionalOnMissingBean
-    public SqlExecuteTimeoutHandler sqlExecuteTimeoutHandler() {
-        return new SqlExecuteTimeoutHandler();
+    public SlowSqlPipeline slowSqlPipeline(@NotNull MybatisProperties mybatisProperties,
+                                           @NotNull ObjectProvider<SlowSqlSink> sinks) {
+        MybatisProperties.SlowSql slowSql = mybatisProperties.getSlowSql();
+        List<SlowSqlSink> sinkList = new ArrayList<>(sinks.orderedStream().toList());
+        if (sinkList.isEmpty()) {
+            sinkList.add(new LogSlowSqlSink());
+        }
+        if (StringUtils.isNotBlank(slowSql.getFilePath())) {
+            sinkList.add(new FileSlowSqlSink(slowSql.getFilePath(), slowSql.getMaxFileSize()));
+        }
+        return new SlowSqlPipeline(sinkList,
+                                   new SlowSqlRateLimiter(slowSql.getWindow(), slowSql.getMaxPerWindow(), slowSql.getMaxStatements()),
+                                   slowSql.getQueueCapacity(),
+                                   slowSql.getBatchSize(),
+                                   slowSql.getFlushInterval());
+    }
+
+    /**
+     * 创建敏感字段加解密引擎
+     * <p>
+     * 加解密拦截器使用该引擎，业务代码生成敏感字段的查询条件时注入该 Bean（encryptField / equalityCandidates）：
+     * - 容器中有 SensitiveKeyProvider 或配置了 sensitive.key-store 时，使用带密钥标识的引擎，支持密钥轮换与确定性加密
+     * - 否则使用 sensitive-key 单个密钥，密文格式与之前相同
+     * - 带密钥标识的引擎仍可解密 sensitive-key 加密的旧密文
+     *
+     * @param mybatisProperties MyBatis 配置属性，包含敏感字段密钥配置
+     * @param keyProviders      敏感字段密钥提供者
+     * @return FieldEncryptionEngine 敏感字段加解密引擎实例
+     * @since 2.0.0
+     */
+    @Bean
+    @ConditionalOnMissingBean(FieldEncryptionEngine.class)
+    @ConditionalOnProperty(
+        value = ConfigKey.MybatisConfigKey.MYBATIS_ENABLE_SENSITIVE,
+        havingValue = ConfigDefaultValue.TRUE_STRING,
+        matchIfMissing = true
+    )
+    public FieldEncryptionEngine fieldEncryptionEngine(@NotNull MybatisProperties mybatisProperties,
+                                                       @NotNull ObjectProvider<SensitiveKeyProvider> keyProviders) {
+        MybatisProperties.Sensitive sensitive = mybatisProperties.getSensitive();
+        SensitiveCipher legacy = new SensitiveCipher(mybatisProperties.getSensitiveKey());
+        SensitiveKeyProvider keyProvider = keyProviders.getIfAvailable();
+        if (keyProvider == null && StringUtils.isNotBlank(sensitive.getKeyStore())) {
+            char[] password = sensitive.getKeyStorePassword() == null ? new char[0] : sensitive.getKeyStorePassword().toCharArray();
+            keyProvider = new LocalKeyStoreKeyProvider(Paths.get(sensitive.getKeyStore()),
+                                                       sensitive.getKeyStoreType(),
+                                                       password,
+                                                       sensitive.getCurrentKeyId());
+        }
+        if (keyProvider == null) {
+            return legacy;
+        }
+        log.info("敏感字段使用带密钥标识的加解密引擎: keyIds={}, current={}", keyProvider.keyIds(), keyProvider.currentKeyId());
+        return new KeyedFieldEncryptionEngine(keyProvider, legacy, sensitive.isDeterministic());
+    }
+
+    /**
+     * 创建读取时重新加密的处理器
+     * <p>
+     * 解密拦截器读到旧密钥或 sensitive-key 加密的密文时，按主键以条件更新写回为当前密钥的密文：
+     * - 有界队列，队列已满时丢弃，不阻塞执行查询的线程
+     * - 单个线程批量写回，只更新列值仍是旧密文的行
+     * - 只处理有 MyBatis-Plus TableInfo 与主键的实体
+     * <p>
+     * 注意：需要通过配置属性开启该功能
+     *
+     * @param mybatisProperties MyBatis 配置属性，包含重新加密配置
+     * @param dataSource        数据源
+     * @return JdbcReEncryptor 读取时重新加密的处理器实例
+     * @since 2.0.0
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean(StaleCiphertextHandler.class)
+    @ConditionalOnProperty(prefix = MybatisProperties.PREFIX + ".sensitive",
+                           name = "re-encrypt-on-read",
+                           havingValue = ConfigDefaultValue.TRUE_STRING)
+    public JdbcReEncryptor jdbcReEncryptor(@NotNull MybatisProperties mybatisProperties, DataSource dataSource) {
+        MybatisProperties.Sensitive sensitive = mybatisProperties.getSensitive();
+        return new JdbcReEncryptor(dataSource, sensitive.getReEncryptQueueCapacity(), sensitive.getReEncryptBatchSize());
     }
 
     /**
@@ -279,7 +463,8 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
      * <p>
      * 注意：需要配置敏感字段加密功能才会生效
      *
-     * @param mybatisProperties MyBatis 配置属性，包含敏感字段加密密钥等配置
+     * @param engine                  敏感字段加解密引擎
+     * @param staleCiphertextHandlers 旧密文处理，没有时不重新加密
      * @return SensitiveFieldDecryptIntercepter 敏感字段解密拦截器实例
      * @since 1.0.0
      */
@@ -290,8 +475,9 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
         havingValue = ConfigDefaultValue.TRUE_STRING,
         matchIfMissing = true
     )
-    public SensitiveFieldDecryptIntercepter sensitiveFieldDecryptIntercepter(@NotNull MybatisProperties mybatisProperties) {
-        return new SensitiveFieldDecryptIntercepter(mybatisProperties.getSensitiveKey());
+    public SensitiveFieldDecryptIntercepter sensitiveFieldDecryptIntercepter(FieldEncryptionEngine engine,
+                                                                             @NotNull ObjectProvider<StaleCiphertextHandler> staleCiphertextHandlers) {
+        return new SensitiveFieldDecryptIntercepter(engine, staleCiphertextHandlers.getIfAvailable());
     }
 
     /**
@@ -307,6 +493,7 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
      * 注意：需要配置敏感字段加密功能才会生效
      *
      * @param mybatisProperties MyBatis 配置属性，包含敏感字段加密密钥等配置
+     * @param engine            敏感字段加解密引擎
      * @return SensitiveFieldEncryptIntercepter 敏感字段加密拦截器实例
      * @since 1.0.0
      */
@@ -317,9 +504,10 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
         havingValue = ConfigDefaultValue.TRUE_STRING,
         matchIfMissing = true
     )
-    public SensitiveFieldEncryptIntercepter sensitiveFieldEncryptIntercepter(@NotNull MybatisProperties mybatisProperties) {
+    public SensitiveFieldEncryptIntercepter sensitiveFieldEncryptIntercepter(@NotNull MybatisProperties mybatisProperties,
+                                                                             FieldEncryptionEngine engine) {
         SqlUtils.setSensitiveKey(mybatisProperties.getSensitiveKey());
-        return new SensitiveFieldEncryptIntercepter(mybatisProperties.getSensitiveKey());
+        return new SensitiveFieldEncryptIntercepter(engine);
     }
 
     /**
@@ -349,6 +537,26 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
         return new DataBindInterceptor(dataBind);
     }
 
+    /**
+     * 启动时预先编译字典翻译的绑定计划
+     * <p> 容器中所有单例初始化完成后, 按各 SqlSessionFactory 中 ResultMap 的类型 (Mapper 扫描到的实体与结果类型)
+     * 编译 {@link DataBindUtil} 的绑定计划, 避免第一次查询时的反射开销
+     *
+     * @param sqlSessionFactories SqlSessionFactory
+     * @return 预热任务
+     * @since 2.0.0
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = MybatisProperties.PREFIX,
+                           name = "data-bind-prewarm",
+                           havingValue = ConfigDefaultValue.TRUE_STRING)
+    public SmartInitializingSingleton dataBindPlanPrewarmer(ObjectProvider<SqlSessionFactory> sqlSessionFactories) {
+        return () -> sqlSessionFactories.orderedStream().forEach(sqlSessionFactory -> {
+            int count = DataBindUtil.prewarm(sqlSessionFactory.getConfiguration());
+            log.debug("字典翻译绑定计划预热完成: [{}] 个类需要翻译", count);
+        });
+    }
+
     /**
      * 创建枚举类型处理器配置定制器
      * <p>
@@ -511,6 +719,46 @@ public class MybatisAutoConfiguration implements ZekaAutoConfiguration {
 
     }
 
+    /**
+     * 字典翻译备忘自动配置类
+     * <p>
+     * Servlet 应用中存在批量字典翻译 ({@link IBatchDataBind}) 时, 注册在每个请求的开始打开 {@link DataBindMemo}, 结束时关闭的过滤器,
+     * 请求内的所有查询共用翻译结果, 相同的字典键只翻译一次. 备忘最多保存 data-bind-memo-max-size 个字典键
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @AutoConfiguration
+    @ConditionalOnClass(Filter.class)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class DataBindMemoAutoConfiguration implements ZekaAutoConfiguration {
+
+        /**
+         * 创建字典翻译备忘过滤器
+         *
+         * @param mybatisProperties MyBatis 配置属性, 包含备忘最多保存的字典键数量
+         * @return FilterRegistrationBean 过滤器注册 Bean
+         * @since 2.0.0
+         */
+        @Bean
+        @ConditionalOnBean(IBatchDataBind.class)
+        @ConditionalOnMissingBean(name = "dataBindMemoFilterRegistrationBean")
+        public FilterRegistrationBean<Filter> dataBindMemoFilterRegistrationBean(MybatisProperties mybatisProperties) {
+            int maxSize = mybatisProperties.getDataBindMemoMaxSize();
+            Filter filter = (request, response, chain) -> {
+                try (DataBindMemo ignored = DataBindMemo.open(maxSize)) {
+                    chain.doFilter(request, response);
+                }
+            };
+            FilterRegistrationBean<Filter> registrationBean = new FilterRegistrationBean<>(filter);
+            registrationBean.setName("dataBindMemoFilter");
+            return registrationBean;
+        }
+    }
+
     /**
      * 获取库类型标识
      * <p>
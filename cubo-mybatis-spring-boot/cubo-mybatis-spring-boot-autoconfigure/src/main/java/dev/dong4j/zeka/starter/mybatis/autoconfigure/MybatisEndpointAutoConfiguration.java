@@ -0,0 +1,71 @@
+package dev.dong4j.zeka.starter.mybatis.autoconfigure;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import dev.dong4j.zeka.kernel.common.constant.ConfigDefaultValue;
+import dev.dong4j.zeka.kernel.common.start.ZekaAutoConfiguration;
+import dev.dong4j.zeka.starter.mybatis.plugins.PerformanceInterceptor;
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyRecorder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MyBatis 端点自动配置类
+ * <p> 当 classpath 中存在 spring-boot-actuator 时注册 MyBatis 相关端点:
+ * <ul>
+ *     <li>开启 SQL 耗时统计 (zeka-stack.mybatis.sql-stats.enabled=true) 时, 注册 SQL 耗时统计端点</li>
+ *     <li>开启 SQL 格式化 (zeka-stack.mybatis.sql-format=true) 且存在 SQL 性能监控拦截器时, 注册格式化 SQL 模板缓存端点</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+@AutoConfiguration(after = MybatisAutoConfiguration.class)
+@ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+public class MybatisEndpointAutoConfiguration implements ZekaAutoConfiguration {
+
+    /**
+     * 构造函数, 记录自动配置启动日志
+     */
+    public MybatisEndpointAutoConfiguration() {
+        log.info("启动自动配置: [{}]", this.getClass());
+    }
+
+    /**
+     * 创建 SQL 耗时统计 Actuator 端点
+     *
+     * @param latencyRecorder   SQL 耗时统计记录器
+     * @param mybatisProperties MyBatis 配置属性
+     * @return SQL 耗时统计端点实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(SqlLatencyRecorder.class)
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlLatencyRecorder latencyRecorder, MybatisProperties mybatisProperties) {
+        return new SqlStatsEndpoint(latencyRecorder, mybatisProperties.getSqlStats().getTopStatements());
+    }
+
+    /**
+     * 创建格式化 SQL 模板缓存 Actuator 端点
+     *
+     * @param performanceInterceptor SQL 性能监控拦截器, 端点读取其 SQL 渲染器的格式化模板缓存
+     * @return 格式化 SQL 模板缓存端点实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(PerformanceInterceptor.class)
+    @ConditionalOnProperty(prefix = MybatisProperties.PREFIX,
+                           name = "sql-format",
+                           havingValue = ConfigDefaultValue.TRUE_STRING)
+    public SqlFormatEndpoint sqlFormatEndpoint(PerformanceInterceptor performanceInterceptor) {
+        return new SqlFormatEndpoint(performanceInterceptor.getSqlRenderer());
+    }
+}
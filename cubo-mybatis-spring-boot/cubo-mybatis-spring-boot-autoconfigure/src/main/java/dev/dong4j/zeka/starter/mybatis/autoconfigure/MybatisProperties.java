@@ -18,6 +18,10 @@ import lombok.Setter;
  * 3. 分页配置：设置默认的分页参数和单页限制
  * 4. 敏感数据配置：配置敏感字段加密的密钥
  * 5. 拦截器配置：控制各种 SQL 拦截器的开启状态
+ * 6. SQL 耗时统计：按 MappedStatement 统计耗时分布
+ * 7. 慢 SQL 投递：限流、合并与批量输出慢 SQL
+ * 8. 敏感字段密钥：密钥库、密钥轮换、确定性加密与读取时重新加密
+ * 9. 批量插入：多行 INSERT 语句的大小上限
  * <p>
  * 所有配置项都有合理的默认值，可根据实际需求进行调整。
  *
@@ -38,6 +42,8 @@ public class MybatisProperties extends ZekaProperties {
     private boolean enableLog = false;
     /** 输出到日志的 sql 是否格式化 */
     private boolean sqlFormat = false;
+    /** 最多缓存的格式化 SQL 模板数量, 开启 sql 格式化时生效 */
+    private int sqlFormatCacheSize = 1024;
     /** 超过 1000 毫秒的 sql 记录日志 */
     private Long performmaxTime = 1000L;
     /** 输出 sql 的最大长度 */
@@ -56,9 +62,23 @@ public class MybatisProperties extends ZekaProperties {
     private boolean enableIllegalSqlInterceptor = Boolean.FALSE;
     /** SQL执行分析插件, 拦截一些整表操作 */
     private boolean enableSqlExplainInterceptor = Boolean.FALSE;
+    /** 启动时按 Mapper 的结果类型预先编译字典翻译的绑定计划 */
+    private boolean dataBindPrewarm = false;
+    /** 请求内字典翻译备忘最多保存的字典键数量, 即将超过时先清空已有结果 */
+    private int dataBindMemoMaxSize = 10000;
+    /** 批量插入时每条多行 INSERT 语句的估算大小上限 (字节), 应小于数据库的 max_allowed_packet */
+    private long batchStatementBytes = 1024L * 1024;
+    /** 分批写入 (ExchangeService#saveBatch 等) 共享线程池的最大线程数, 所有写入同时使用的工作线程总数不超过该值 */
+    private int batchWriteThreads = 16;
 
     /** 用于执行 JDBC 检查的实例 */
     private JdbcCheck jdbcCheck = new JdbcCheck();
+    /** SQL 耗时统计 */
+    private SqlStats sqlStats = new SqlStats();
+    /** 慢 SQL 投递, append-sql-file 为 true 时生效 */
+    private SlowSql slowSql = new SlowSql();
+    /** 敏感字段密钥, 配置 key-store 后密文中带有密钥标识, 否则使用 sensitive-key */
+    private Sensitive sensitive = new Sensitive();
 
     /**
      * JDBC 检查配置类
@@ -77,4 +97,93 @@ public class MybatisProperties extends ZekaProperties {
         /** 是否开启 */
         private boolean enabled = true;
     }
+
+    /**
+     * SQL 耗时统计配置类
+     * <p>
+     * 开启后按 MappedStatement 记录执行耗时直方图 (P50 / P90 / P99 / 最大耗时), 行数与失败次数,
+     * 可通过 SqlLatencyRecorder Bean 或 /actuator/sqlstats 端点读取. 不依赖 SQL 日志开关, 也可用于生产环境
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class SqlStats {
+        /** 是否开启 */
+        private boolean enabled = false;
+        /** 最多统计的 MappedStatement 数量 */
+        private int maxStatements = 2000;
+        /** 端点默认返回的 MappedStatement 数量 (按累计耗时降序) */
+        private int topStatements = 20;
+    }
+
+    /**
+     * 慢 SQL 投递配置类
+     * <p>
+     * 开启 append-sql-file 后, 慢 SQL 经限流与合并后放入有界队列, 由单个线程批量写入 sql.timing 日志,
+     * 配置 file-path 时同时写入本地文件. 也可以声明 SlowSqlSink Bean 输出到其他位置
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class SlowSql {
+        /** 队列容量, 队列已满时丢弃新的慢 SQL */
+        private int queueCapacity = 1024;
+        /** 每批最多输出的记录数 */
+        private int batchSize = 100;
+        /** 输出间隔 (毫秒) */
+        private long flushInterval = 1000L;
+        /** 限流窗口 (毫秒) */
+        private long window = 60000L;
+        /** 每个窗口内同一 MappedStatement 最多输出的记录数, 其余合并为一条带次数的记录 */
+        private int maxPerWindow = 5;
+        /** 最多限流的 MappedStatement 数量 */
+        private int maxStatements = 2000;
+        /** 慢 SQL 文件路径, 为空时不写文件 */
+        private String filePath;
+        /** 慢 SQL 文件最大大小 (字节), 超过后滚动为 .1 备份 */
+        private long maxFileSize = 100L * 1024 * 1024;
+    }
+
+    /**
+     * 敏感字段密钥配置类
+     * <p>
+     * 配置 key-store 或声明 SensitiveKeyProvider Bean 后, 敏感字段的密文中带有密钥标识, 轮换密钥只需新增密钥并修改 current-key-id,
+     * 旧密钥与 sensitive-key 的密文仍可解密, 开启 re-encrypt-on-read 后在读取时按主键写回为当前密钥的密文
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Getter
+    @Setter
+    public static class Sensitive {
+        /** 本地密钥库文件路径, 别名为密钥标识, 为空时不使用密钥库 */
+        private String keyStore;
+        /** 密钥库类型: PKCS12 或 JCEKS */
+        private String keyStoreType = "PKCS12";
+        /** 密钥库与密钥的密码 */
+        private String keyStorePassword;
+        /** 当前用于加密的密钥标识, 密钥库中只有一个密钥时可以不配置 */
+        private String currentKeyId;
+        /** 是否所有敏感字段都使用确定性加密, 为 false 时只有标注了 DeterministicEncrypt 的字段使用 */
+        private boolean deterministic = false;
+        /** 读取到旧密钥或旧格式的密文时是否写回为当前密钥的密文 */
+        private boolean reEncryptOnRead = false;
+        /** 重新加密队列容量, 队列已满时丢弃, 下次读取时再次提交 */
+        private int reEncryptQueueCapacity = 1024;
+        /** 每批最多写回的记录数 */
+        private int reEncryptBatchSize = 100;
+    }
 }
@@ -0,0 +1,37 @@
+package dev.dong4j.zeka.starter.mybatis.autoconfigure;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import dev.dong4j.zeka.starter.mybatis.util.SqlFormatCacheStats;
+import dev.dong4j.zeka.starter.mybatis.util.SqlRenderer;
+import lombok.AllArgsConstructor;
+
+/**
+ * 格式化 SQL 模板缓存 Actuator 端点
+ * <p> 通过 /actuator/sqlformat 暴露格式化 SQL 模板缓存的命中次数, 未命中次数, 命中率与缓存数量,
+ * 命中率持续偏低且缓存已满时应调大 zeka-stack.mybatis.sql-format-cache-size
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@AllArgsConstructor
+@Endpoint(id = "sqlformat")
+public class SqlFormatEndpoint {
+
+    /** SQL 性能监控拦截器使用的 SQL 渲染器, 持有格式化模板缓存 */
+    private final SqlRenderer sqlRenderer;
+
+    /**
+     * 获取格式化 SQL 模板缓存统计
+     *
+     * @return 缓存统计
+     */
+    @ReadOperation
+    public SqlFormatCacheStats stats() {
+        return sqlRenderer.formatCacheStats();
+    }
+}
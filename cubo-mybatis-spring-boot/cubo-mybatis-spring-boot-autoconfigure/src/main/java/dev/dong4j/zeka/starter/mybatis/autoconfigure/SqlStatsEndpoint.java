@@ -0,0 +1,62 @@
+package dev.dong4j.zeka.starter.mybatis.autoconfigure;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyRecorder;
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyReport;
+import lombok.AllArgsConstructor;
+
+/**
+ * SQL 耗时统计 Actuator 端点
+ * <p> 通过 /actuator/sqlstats 暴露按 MappedStatement 统计的耗时分布, 行数与失败次数,
+ * /actuator/sqlstats/{statementId} 查看单个 MappedStatement
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@AllArgsConstructor
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    /** SQL 耗时统计记录器 */
+    private final SqlLatencyRecorder latencyRecorder;
+    /** 默认返回的 MappedStatement 数量 */
+    private final int defaultTop;
+
+    /**
+     * 获取 SQL 耗时统计报告
+     *
+     * @param top 返回的 MappedStatement 数量, 为空时使用 zeka-stack.mybatis.sql-stats.top-statements
+     * @return 按累计耗时降序排列的统计报告
+     */
+    @ReadOperation
+    public SqlLatencyReport report(@Nullable Integer top) {
+        return latencyRecorder.report(top != null ? top : defaultTop);
+    }
+
+    /**
+     * 获取单个 MappedStatement 的耗时统计
+     *
+     * @param statementId MappedStatement ID
+     * @return 耗时统计, 未执行过时返回 null (404)
+     */
+    @ReadOperation
+    public SqlLatencyReport.StatementLatency statement(@Selector String statementId) {
+        return latencyRecorder.statement(statementId);
+    }
+
+    /**
+     * 重置 SQL 耗时统计数据
+     */
+    @DeleteOperation
+    public void reset() {
+        latencyRecorder.reset();
+    }
+}
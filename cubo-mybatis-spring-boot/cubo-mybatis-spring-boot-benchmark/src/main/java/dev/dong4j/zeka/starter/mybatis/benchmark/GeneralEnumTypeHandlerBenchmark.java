@@ -0,0 +1,296 @@
+package dev.dong4j.zeka.starter.mybatis.benchmark;
+
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.MetaClass;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.kernel.common.annotation.SerializeValue;
+import dev.dong4j.zeka.starter.mybatis.handler.GeneralEnumTypeHandler;
+
+/**
+ * GeneralEnumTypeHandler 基准测试
+ * <p> 模拟读取 1000 行的状态列, 结果为单行 (一列) 的平均耗时:
+ * <ul>
+ *     <li>legacy: 2.0.0 之前的实现, 每次遍历所有常量, 通过 Invoker 读取值并转换为 BigDecimal 比较</li>
+ *     <li>index: {@link GeneralEnumTypeHandler}, 按枚举类构建一次的反向索引</li>
+ * </ul>
+ * column 为 int 时数据库返回 Integer (常见的 TINYINT / INT 列), 为 decimal 时返回 BigDecimal (DECIMAL 列或部分驱动).
+ * ResultSet 为只实现 getObject / wasNull 的代理, 两种实现的开销相同
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneralEnumTypeHandlerBenchmark {
+
+    /** 行数 */
+    private static final int ROWS = 1000;
+
+    /** 类型处理器实现 */
+    @Param({"legacy", "index"})
+    private String mode;
+
+    /** 数据库返回的值类型 */
+    @Param({"int", "decimal"})
+    private String column;
+
+    /** 类型处理器 */
+    private TypeHandler<?> handler;
+    /** 结果集 */
+    private RowCursor cursor;
+    /** 结果集代理 */
+    private ResultSet resultSet;
+
+    /**
+     * 准备类型处理器与结果集
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        handler = switch (mode) {
+            case "legacy" -> new LegacyEnumTypeHandler<>(OrderStatus.class);
+            case "index" -> new GeneralEnumTypeHandler<>(OrderStatus.class);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        Object[] values = new Object[ROWS];
+        int constants = OrderStatus.values().length;
+        for (int i = 0; i < ROWS; i++) {
+            // 状态集中在靠后的常量上, 与多数业务表的分布相近
+            int code = OrderStatus.values()[constants - 1 - (i % 3)].getCode();
+            values[i] = "int".equals(column) ? Integer.valueOf(code) : BigDecimal.valueOf(code);
+        }
+        cursor = new RowCursor(values);
+        resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                                                       new Class<?>[] {ResultSet.class},
+                                                       (proxy, method, args) -> switch (method.getName()) {
+                                                           case "getObject" -> cursor.current();
+                                                           case "wasNull" -> false;
+                                                           default -> throw new UnsupportedOperationException(method.getName());
+                                                       });
+    }
+
+    /**
+     * 读取所有行
+     *
+     * @return 最后一行的结果
+     * @throws SQLException 读取失败
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object readColumn() throws SQLException {
+        Object last = null;
+        for (int i = 0; i < ROWS; i++) {
+            cursor.row = i;
+            last = handler.getResult(resultSet, 1);
+        }
+        return last;
+    }
+
+    /**
+     * 结果集当前行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class RowCursor {
+        /** 各行的值 */
+        private final Object[] values;
+        /** 当前行 */
+        private int row;
+
+        /**
+         * 构造函数
+         *
+         * @param values 各行的值
+         */
+        private RowCursor(Object[] values) {
+            this.values = values;
+        }
+
+        /**
+         * 当前行的值
+         *
+         * @return 值
+         */
+        private Object current() {
+            return values[row];
+        }
+    }
+
+    /**
+     * 订单状态
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public enum OrderStatus {
+        /** 待支付 */
+        UNPAID(10),
+        /** 已支付 */
+        PAID(20),
+        /** 待发货 */
+        TO_SHIP(30),
+        /** 已发货 */
+        SHIPPED(40),
+        /** 已签收 */
+        RECEIVED(50),
+        /** 已完成 */
+        FINISHED(60),
+        /** 已关闭 */
+        CLOSED(70),
+        /** 已退款 */
+        REFUNDED(80);
+
+        /** 数据库存储的值 */
+        @SerializeValue
+        private final Integer code;
+
+        /**
+         * 构造函数
+         *
+         * @param code 数据库存储的值
+         */
+        OrderStatus(Integer code) {
+            this.code = code;
+        }
+
+        /**
+         * Gets code
+         *
+         * @return the code
+         */
+        public Integer getCode() {
+            return code;
+        }
+    }
+
+    /**
+     * 2.0.0 之前 GeneralEnumTypeHandler 的读取实现 (省略 DeletedEnum 的特殊处理)
+     *
+     * @param <E> 枚举类型参数
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static class LegacyEnumTypeHandler<E extends Enum<?>> extends BaseTypeHandler<Enum<?>> {
+        /** Type */
+        private final Class<E> type;
+        /** Invoker */
+        private final Invoker invoker;
+
+        /**
+         * 构造函数
+         *
+         * @param type type
+         */
+        LegacyEnumTypeHandler(Class<E> type) {
+            this.type = type;
+            this.invoker = MetaClass.forClass(type, new DefaultReflectorFactory()).getGetInvoker("code");
+        }
+
+        @Override
+        public void setNonNullParameter(PreparedStatement ps, int i, Enum<?> parameter, JdbcType jdbcType) throws SQLException {
+            ps.setObject(i, getValue(parameter));
+        }
+
+        @Override
+        public E getNullableResult(ResultSet rs, String columnName) throws SQLException {
+            return valueOf(rs.getObject(columnName));
+        }
+
+        @Override
+        public E getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+            if (null == rs.getObject(columnIndex) && rs.wasNull()) {
+                return null;
+            }
+            return valueOf(rs.getObject(columnIndex));
+        }
+
+        @Override
+        public E getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+            return valueOf(cs.getObject(columnIndex));
+        }
+
+        /**
+         * Value of e
+         *
+         * @param value value
+         * @return the e
+         */
+        private E valueOf(Object value) {
+            return Arrays.stream(type.getEnumConstants()).filter(e -> equalsValue(value, getValue(e))).findAny().orElse(null);
+        }
+
+        /**
+         * 值比较
+         *
+         * @param sourceValue 数据库字段值
+         * @param targetValue 当前枚举属性值
+         * @return 是否匹配
+         */
+        private boolean equalsValue(Object sourceValue, Object targetValue) {
+            if (sourceValue instanceof Number && targetValue instanceof Number
+                && new BigDecimal(String.valueOf(sourceValue)).compareTo(new BigDecimal(String.valueOf(targetValue))) == 0) {
+                return true;
+            }
+            return Objects.equals(sourceValue, targetValue);
+        }
+
+        /**
+         * Gets value
+         *
+         * @param object object
+         * @return the value
+         */
+        private Object getValue(Object object) {
+            try {
+                return invoker.invoke(object, new Object[0]);
+            } catch (ReflectiveOperationException e) {
+                throw ExceptionUtils.mpe(e);
+            }
+        }
+    }
+}
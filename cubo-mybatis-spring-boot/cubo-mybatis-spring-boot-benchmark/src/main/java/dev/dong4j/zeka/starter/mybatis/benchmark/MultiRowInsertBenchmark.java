@@ -0,0 +1,358 @@
+package dev.dong4j.zeka.starter.mybatis.benchmark;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.mybatis.base.BaseDao;
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlInjector;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
+
+/**
+ * 多行插入基准测试
+ * <p> 使用 H2 内存数据库 (MySQL 模式) 与不依赖 Spring 的 MyBatis Plus, 在一个事务中写入 1000 行, 结果为单行的平均耗时:
+ * <ul>
+ *     <li>jdbcBatch: BaseServiceImpl#saveIgnoreBatch 的实现, BATCH 执行器逐行调用 insertIgnore 后 flushStatements</li>
+ *     <li>insertIgnore / replace / upsert: 经 {@link MultiRowBatchPlanner} 切分后调用 insertIgnoreBatch / replaceBatch / upsertBatch</li>
+ * </ul>
+ * width 为 narrow 时备注为 16 个字符, 为 wide 时为 2000 个字符, 后者按 1 MiB 的语句大小上限每批约 170 行.
+ * 每次调用前清空表, 因此测量的是无冲突的插入. 初始化时每种方式各执行一次并校验行数, 同时作为 H2 上的集成检查.
+ * H2 的单次往返开销远小于网络上的 MySQL, 实际环境中多行语句的收益更大
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiRowInsertBenchmark {
+
+    /** 每次调用写入的行数 */
+    private static final int ROWS = 1000;
+
+    /** 写入方式 */
+    @Param({"jdbcBatch", "insertIgnore", "replace", "upsert"})
+    private String mode;
+
+    /** 行宽 */
+    @Param({"narrow", "wide"})
+    private String width;
+
+    /** 连接池 */
+    private PooledDataSource dataSource;
+    /** 会话工厂 */
+    private SqlSessionFactory sqlSessionFactory;
+    /** 多行插入的分批计划 */
+    private MultiRowBatchPlanner planner;
+    /** 表信息 */
+    private TableInfo tableInfo;
+    /** 待写入的行 */
+    private List<OrderRow> rows;
+
+    /**
+     * 创建数据库, 会话工厂与待写入的行, 并校验写入结果
+     *
+     * @throws SQLException 初始化失败
+     */
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                                          "jdbc:h2:mem:multirow_" + mode + "_" + width + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                                          "sa",
+                                          "");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (id BIGINT PRIMARY KEY, order_no VARCHAR(32), amount INT, "
+                              + "remark VARCHAR(4000), create_time TIMESTAMP)");
+        }
+
+        MybatisConfiguration configuration = new MybatisConfiguration(new Environment("benchmark",
+                                                                                      new JdbcTransactionFactory(),
+                                                                                      dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        GlobalConfig globalConfig = GlobalConfigUtils.getGlobalConfig(configuration);
+        globalConfig.setBanner(false);
+        globalConfig.setSqlInjector(new MybatisSqlInjector());
+        configuration.addMapper(OrderMapper.class);
+        sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+        planner = new MultiRowBatchPlanner();
+        tableInfo = TableInfoHelper.getTableInfo(OrderRow.class);
+
+        String remark = "x".repeat("wide".equals(width) ? 2000 : 16);
+        Date now = new Date();
+        rows = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            OrderRow row = new OrderRow();
+            row.setId((long) i);
+            row.setOrderNo("NO" + i);
+            row.setAmount(i % 500);
+            row.setRemark(remark);
+            row.setCreateTime(now);
+            rows.add(row);
+        }
+
+        truncate();
+        write();
+        if (count() != ROWS) {
+            throw new IllegalStateException(mode + " 写入的行数不正确: " + count());
+        }
+        // 全部冲突时 insertIgnore 不修改, replace 与 upsert 覆盖, 行数不变
+        write();
+        if (count() != ROWS) {
+            throw new IllegalStateException(mode + " 重复写入后的行数不正确: " + count());
+        }
+    }
+
+    /**
+     * 清空表
+     *
+     * @throws SQLException 清空失败
+     */
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE t_order");
+        }
+    }
+
+    /**
+     * 关闭连接池
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    /**
+     * 在一个事务中写入所有行
+     *
+     * @return 批数
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int write() {
+        if ("jdbcBatch".equals(mode)) {
+            return jdbcBatch();
+        }
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(false)) {
+            OrderMapper mapper = sqlSession.getMapper(OrderMapper.class);
+            int chunks = switch (mode) {
+                case "insertIgnore" -> planner.forEachChunk(tableInfo, rows, ROWS, mapper::insertIgnoreBatch);
+                case "replace" -> planner.forEachChunk(tableInfo, rows, ROWS, mapper::replaceBatch);
+                case "upsert" -> planner.forEachChunk(tableInfo, rows, ROWS, mapper::upsertBatch);
+                default -> throw new IllegalArgumentException(mode);
+            };
+            sqlSession.commit();
+            return chunks;
+        }
+    }
+
+    /**
+     * saveIgnoreBatch 的批量写入: BATCH 执行器逐行 insertIgnore, 每 batchSize 行 flushStatements
+     *
+     * @return 行数
+     */
+    private int jdbcBatch() {
+        String statement = OrderMapper.class.getName() + "." + MybatisSqlMethod.INSERT_IGNORE_ONE.getMethod();
+        try (SqlSession batchSqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            int i = 0;
+            for (OrderRow row : rows) {
+                batchSqlSession.insert(statement, row);
+                if (i >= 1 && i % ROWS == 0) {
+                    batchSqlSession.flushStatements();
+                }
+                i++;
+            }
+            batchSqlSession.flushStatements();
+            batchSqlSession.commit();
+            return i;
+        }
+    }
+
+    /**
+     * 表中的行数
+     *
+     * @return 行数
+     * @throws SQLException 查询失败
+     */
+    private int count() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM t_order")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * 基准测试 Mapper
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public interface OrderMapper extends BaseDao<OrderRow> {
+    }
+
+    /**
+     * 订单
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @TableName("t_order")
+    public static class OrderRow {
+
+        /** 主键 */
+        @TableId(type = IdType.INPUT)
+        private Long id;
+        /** 订单号 */
+        private String orderNo;
+        /** 金额 */
+        private Integer amount;
+        /** 备注 */
+        private String remark;
+        /** 创建时间 */
+        private Date createTime;
+
+        /**
+         * Gets id
+         *
+         * @return the id
+         */
+        public Long getId() {
+            return this.id;
+        }
+
+        /**
+         * Sets id
+         *
+         * @param id id
+         */
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        /**
+         * Gets order no
+         *
+         * @return the order no
+         */
+        public String getOrderNo() {
+            return this.orderNo;
+        }
+
+        /**
+         * Sets order no
+         *
+         * @param orderNo order no
+         */
+        public void setOrderNo(String orderNo) {
+            this.orderNo = orderNo;
+        }
+
+        /**
+         * Gets amount
+         *
+         * @return the amount
+         */
+        public Integer getAmount() {
+            return this.amount;
+        }
+
+        /**
+         * Sets amount
+         *
+         * @param amount amount
+         */
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+
+        /**
+         * Gets remark
+         *
+         * @return the remark
+         */
+        public String getRemark() {
+            return this.remark;
+        }
+
+        /**
+         * Sets remark
+         *
+         * @param remark remark
+         */
+        public void setRemark(String remark) {
+            this.remark = remark;
+        }
+
+        /**
+         * Gets create time
+         *
+         * @return the create time
+         */
+        public Date getCreateTime() {
+            return this.createTime;
+        }
+
+        /**
+         * Sets create time
+         *
+         * @param createTime create time
+         */
+        public void setCreateTime(Date createTime) {
+            this.createTime = createTime;
+        }
+    }
+}
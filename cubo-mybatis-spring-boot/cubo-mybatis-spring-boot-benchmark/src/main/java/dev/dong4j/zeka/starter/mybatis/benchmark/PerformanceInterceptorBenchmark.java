@@ -0,0 +1,265 @@
+package dev.dong4j.zeka.starter.mybatis.benchmark;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.starter.mybatis.plugins.PerformanceInterceptor;
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyRecorder;
+
+/**
+ * PerformanceInterceptor 基准测试
+ * <p> 使用 H2 内存数据库与不依赖 Spring 的 MyBatis, 对比同一条 SQL 在不同拦截器配置下的单次执行耗时, 差值即拦截器的开销:
+ * <ul>
+ *     <li>raw: 不注册拦截器, 作为基线</li>
+ *     <li>timing: 注册拦截器, SQL 日志开启但 DEBUG 级别关闭 (slf4j-simple 默认 info), 对应开发环境的常见配置, 只走计时的快速路径</li>
+ *     <li>stats: 在 timing 的基础上开启 SQL 耗时统计, 每次执行解析 MappedStatement 并写入直方图</li>
+ * </ul>
+ * 一级缓存作用域设置为 STATEMENT, 保证每次调用都真正执行 SQL
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PerformanceInterceptorBenchmark {
+
+    /** 表中的行数 */
+    private static final int ROWS = 1000;
+
+    /** 拦截器配置 */
+    @org.openjdk.jmh.annotations.Param({"raw", "timing", "stats"})
+    private String mode;
+
+    /** 连接池 */
+    private PooledDataSource dataSource;
+    /** 会话工厂 */
+    private SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * 创建数据库与会话工厂
+     *
+     * @throws SQLException 初始化数据失败
+     */
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                                          "jdbc:h2:mem:benchmark_" + mode + ";DB_CLOSE_DELAY=-1",
+                                          "sa",
+                                          "");
+        dataSource.setPoolMaximumActiveConnections(16);
+        dataSource.setPoolMaximumIdleConnections(16);
+        initData();
+
+        Configuration configuration = new Configuration(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.addMapper(BenchmarkMapper.class);
+        if (!"raw".equals(mode)) {
+            PerformanceInterceptor interceptor = new PerformanceInterceptor();
+            interceptor.setMaxTime(1000L);
+            interceptor.setMaxLength(1000);
+            if ("stats".equals(mode)) {
+                interceptor.setLatencyRecorder(new SqlLatencyRecorder());
+            }
+            configuration.addInterceptor(interceptor);
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    /**
+     * 关闭连接池
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    /**
+     * 按主键查询单行
+     *
+     * @param session 线程会话
+     * @return 查询结果
+     */
+    @Benchmark
+    public Map<String, Object> selectById(Session session) {
+        return session.mapper.selectById(ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+    }
+
+    /**
+     * 按年龄范围查询 20 行
+     *
+     * @param session 线程会话
+     * @return 查询结果
+     */
+    @Benchmark
+    public List<Map<String, Object>> selectList(Session session) {
+        return session.mapper.selectByAge(ThreadLocalRandom.current().nextInt(18, 60), 20);
+    }
+
+    /**
+     * 按主键更新单行
+     *
+     * @param session 线程会话
+     * @return 影响行数
+     */
+    @Benchmark
+    public int updateById(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return session.mapper.updateAge(random.nextLong(1, ROWS + 1), random.nextInt(18, 60));
+    }
+
+    /**
+     * 8 个线程并发按主键查询, 观察统计直方图在争用下的开销
+     *
+     * @param session 线程会话
+     * @return 查询结果
+     */
+    @Benchmark
+    @Threads(8)
+    public Map<String, Object> selectByIdContended(Session session) {
+        return session.mapper.selectById(ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+    }
+
+    /**
+     * 建表并写入测试数据
+     *
+     * @throws SQLException 初始化数据失败
+     */
+    private void initData() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_user");
+            statement.execute("CREATE TABLE t_user (id BIGINT PRIMARY KEY, name VARCHAR(64), age INT, create_time TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_user_age ON t_user (age)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO t_user VALUES (?, ?, ?, ?)")) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "user-" + i);
+                    insert.setInt(3, 18 + (i % 42));
+                    insert.setTimestamp(4, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * 线程会话
+     * <p> 每个线程持有一个自动提交的 SqlSession, 避免把打开会话的开销计入结果
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @State(Scope.Thread)
+    public static class Session {
+
+        /** 会话 */
+        private SqlSession sqlSession;
+        /** Mapper */
+        private BenchmarkMapper mapper;
+
+        /**
+         * 打开会话
+         *
+         * @param benchmark 基准测试状态
+         */
+        @Setup(Level.Trial)
+        public void open(PerformanceInterceptorBenchmark benchmark) {
+            sqlSession = benchmark.sqlSessionFactory.openSession(true);
+            mapper = sqlSession.getMapper(BenchmarkMapper.class);
+        }
+
+        /**
+         * 关闭会话
+         */
+        @TearDown(Level.Trial)
+        public void close() {
+            sqlSession.close();
+        }
+    }
+
+    /**
+     * 基准测试 Mapper
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public interface BenchmarkMapper {
+
+        /**
+         * 按主键查询
+         *
+         * @param id 主键
+         * @return 行数据
+         */
+        @Select("SELECT id, name, age, create_time FROM t_user WHERE id = #{id}")
+        Map<String, Object> selectById(@Param("id") long id);
+
+        /**
+         * 按年龄查询
+         *
+         * @param age   年龄下限
+         * @param limit 返回行数
+         * @return 行数据
+         */
+        @Select("SELECT id, name, age, create_time FROM t_user WHERE age >= #{age} ORDER BY age LIMIT #{limit}")
+        List<Map<String, Object>> selectByAge(@Param("age") int age, @Param("limit") int limit);
+
+        /**
+         * 按主键更新年龄
+         *
+         * @param id  主键
+         * @param age 年龄
+         * @return 影响行数
+         */
+        @Update("UPDATE t_user SET age = #{age} WHERE id = #{id}")
+        int updateAge(@Param("id") long id, @Param("age") int age);
+    }
+}
@@ -0,0 +1,230 @@
+package dev.dong4j.zeka.starter.mybatis.benchmark;
+
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Invocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import dev.dong4j.zeka.kernel.common.annotation.SensitiveField;
+import dev.dong4j.zeka.kernel.common.base.BaseDTO;
+import dev.dong4j.zeka.kernel.common.util.AesUtils;
+import dev.dong4j.zeka.kernel.common.util.Base64Utils;
+import dev.dong4j.zeka.kernel.common.util.ReflectionUtils;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
+import dev.dong4j.zeka.starter.mybatis.plugins.SensitiveFieldDecryptIntercepter;
+
+/**
+ * 敏感字段解密基准测试
+ * <p> 模拟一次返回 1000 行的查询, 结果为单行的平均耗时:
+ * <ul>
+ *     <li>legacy: 2.0.0 之前的实现, 每行通过 ReflectionUtils 遍历字段与读写, 每个字段通过 AesUtils 重新创建 Cipher</li>
+ *     <li>plan: {@link SensitiveFieldDecryptIntercepter}, 按类缓存的处理计划 + MethodHandle 读写 + 线程内复用的 Cipher</li>
+ * </ul>
+ * decryptPage 每行 2 个敏感字段与 4 个普通字段 (其中 1 个敏感字段在父类中), plainPage 的行没有敏感字段, 用于对比跳过的开销
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SensitiveFieldBenchmark {
+
+    /** 每次查询的行数 */
+    private static final int ROWS = 1000;
+    /** 密钥 */
+    private static final String KEY = "rFsHHirtsGuST7HtBzebLge1uVYCg2ZS";
+
+    /** 解密实现 */
+    @Param({"legacy", "plan"})
+    private String mode;
+
+    /** 解密拦截器 */
+    private Interceptor interceptor;
+    /** 查询结果 */
+    private List<UserRow> rows;
+    /** 没有敏感字段的查询结果 */
+    private List<PlainRow> plainRows;
+    /** 手机号密文 */
+    private String[] mobiles;
+    /** 身份证号密文 */
+    private String[] idCards;
+
+    /**
+     * 准备密文
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        interceptor = new SensitiveFieldDecryptIntercepter(KEY);
+        mobiles = new String[ROWS];
+        idCards = new String[ROWS];
+        rows = new ArrayList<>(ROWS);
+        plainRows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            mobiles[i] = Base64Utils.encodeToString(AesUtils.encrypt(String.valueOf(13800000000L + i), KEY));
+            idCards[i] = Base64Utils.encodeToString(AesUtils.encrypt("11010119900101" + (1000 + i), KEY));
+            rows.add(new UserRow());
+            PlainRow plain = new PlainRow();
+            plain.name = "user-" + i;
+            plainRows.add(plain);
+        }
+    }
+
+    /**
+     * 每次调用前把字段恢复为密文
+     */
+    @Setup(Level.Invocation)
+    public void reset() {
+        for (int i = 0; i < ROWS; i++) {
+            UserRow row = rows.get(i);
+            row.mobile = mobiles[i];
+            row.idCard = idCards[i];
+            row.name = "user-" + i;
+            row.age = i % 80;
+            row.email = "user-" + i + "@example.com";
+            row.address = "address-" + i;
+        }
+    }
+
+    /**
+     * 解密一次查询结果
+     *
+     * @return 查询结果
+     * @throws Throwable 拦截器执行失败
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object decryptPage() throws Throwable {
+        return decrypt(rows);
+    }
+
+    /**
+     * 处理没有敏感字段的查询结果
+     *
+     * @return 查询结果
+     * @throws Throwable 拦截器执行失败
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Object plainPage() throws Throwable {
+        return decrypt(plainRows);
+    }
+
+    /**
+     * 按 mode 解密
+     *
+     * @param result 查询结果
+     * @return 查询结果
+     * @throws Throwable 拦截器执行失败
+     */
+    private Object decrypt(List<?> result) throws Throwable {
+        if ("legacy".equals(mode)) {
+            for (Object o : result) {
+                legacyProcess(o);
+            }
+            return result;
+        }
+        Supplier<List<?>> supplier = () -> result;
+        Method get = Supplier.class.getMethod("get");
+        return interceptor.intercept(new Invocation(supplier, get, new Object[0]));
+    }
+
+    /**
+     * 2.0.0 之前 SensitiveFieldDecryptIntercepter#process 的实现 (省略 SensitiveBody 的递归部分, 遍历方式相同)
+     *
+     * @param o 行
+     */
+    private static void legacyProcess(Object o) {
+        ReflectionUtils.doWithFields(o.getClass(), field -> {
+            Object fieldValue = ReflectionUtils.getFieldValue(o, field.getName());
+            if (!StringUtils.isEmpty(fieldValue)) {
+                String decrypt = AesUtils.decryptToStr(Base64Utils.decodeFromString(String.valueOf(fieldValue)), KEY);
+                ReflectionUtils.setFieldValue(o, field.getName(), decrypt);
+            }
+        }, field -> field.getAnnotation(SensitiveField.class) != null);
+    }
+
+    /**
+     * 父类, 敏感字段声明在父类中
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class BaseUserRow extends BaseDTO<Long> {
+        /** serialVersionUID */
+        private static final long serialVersionUID = 1L;
+
+        /** 身份证号 */
+        @SensitiveField
+        String idCard;
+        /** 地址 */
+        String address;
+    }
+
+    /**
+     * 查询结果行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class UserRow extends BaseUserRow {
+        /** serialVersionUID */
+        private static final long serialVersionUID = 1L;
+
+        /** 手机号 */
+        @SensitiveField
+        String mobile;
+        /** 名称 */
+        String name;
+        /** 年龄 */
+        int age;
+        /** 邮箱 */
+        String email;
+    }
+
+    /**
+     * 没有敏感字段的查询结果行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class PlainRow extends BaseDTO<Long> {
+        /** serialVersionUID */
+        private static final long serialVersionUID = 1L;
+
+        /** 名称 */
+        String name;
+    }
+}
@@ -0,0 +1,368 @@
+package dev.dong4j.zeka.starter.mybatis.benchmark;
+
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanExpressionContext;
+import org.springframework.beans.factory.config.BeanExpressionResolver;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.expression.StandardBeanExpressionResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.dong4j.zeka.kernel.common.util.StringPool;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
+import dev.dong4j.zeka.starter.mybatis.dict.FieldBind;
+import dev.dong4j.zeka.starter.mybatis.dict.IDataBind;
+import dev.dong4j.zeka.starter.mybatis.dict.SpelDataBind;
+
+/**
+ * SpelDataBind 基准测试
+ * <p> 模拟一页查询结果的字典翻译, 每行 2 个 {@link FieldBind} 字段, 结果为单行 (2 个字段) 的平均耗时:
+ * <ul>
+ *     <li>legacy: 2.0.0 之前的实现, 每次通过 {@link StandardBeanExpressionResolver} 求值, 每次访问 Bean 都查询 BeanFactory</li>
+ *     <li>interpreted: 表达式与 Bean 缓存, 解释执行</li>
+ *     <li>compiled: 表达式与 Bean 缓存, SpEL 编译模式</li>
+ * </ul>
+ * 注意 legacy 的求值上下文被 StandardBeanExpressionResolver 按 BeanFactory 缓存, 所有行都使用第一行的 params, 结果并不正确,
+ * 这里只用于对比开销
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpelDataBindBenchmark {
+
+    /** 每页行数 */
+    private static final int ROWS = 100;
+
+    /** 绑定实现 */
+    @Param({"legacy", "interpreted", "compiled"})
+    private String mode;
+
+    /** 数据绑定 */
+    private IDataBind dataBind;
+    /** 绑定字段 */
+    private FieldBind[] fields;
+    /** 绑定字段名 */
+    private String[] fieldNames;
+    /** 一页数据 */
+    private List<Row> rows;
+
+    /**
+     * 注册字典服务并准备数据
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchFieldException {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("dictServiceImpl", new DictService());
+        dataBind = switch (mode) {
+            case "legacy" -> new LegacySpelDataBind(beanFactory);
+            case "interpreted" -> new SpelDataBind(beanFactory, false);
+            case "compiled" -> new SpelDataBind(beanFactory, true);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        fieldNames = new String[] {"gender", "tags"};
+        fields = new FieldBind[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fields[i] = Row.class.getDeclaredField(fieldNames[i]).getAnnotation(FieldBind.class);
+        }
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Row row = new Row();
+            row.setGender(String.valueOf(i % 2));
+            row.setTags(i % 5 + "," + i % 7);
+            rows.add(row);
+        }
+    }
+
+    /**
+     * 翻译一页数据
+     *
+     * @return 最后一行的翻译结果
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Row bindPage() {
+        Row last = null;
+        for (Row row : rows) {
+            MetaObject metaObject = SystemMetaObject.forObject(row);
+            for (int i = 0; i < fields.length; i++) {
+                dataBind.setMetaObject(fields[i], metaObject.getValue(fieldNames[i]), metaObject);
+            }
+            last = row;
+        }
+        return last;
+    }
+
+    /**
+     * 字典服务
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class DictService {
+
+        /** 字典名称 */
+        private static final String[] LABELS = {"零", "一", "二", "三", "四", "五", "六"};
+
+        /**
+         * 翻译单个字典值
+         *
+         * @param params 字典值
+         * @return 字典名称
+         */
+        public String label(List<String> params) {
+            return LABELS[Integer.parseInt(params.get(0))];
+        }
+
+        /**
+         * 翻译多个字典值
+         *
+         * @param params 字典值
+         * @return 以逗号连接的字典名称
+         */
+        public String labels(List<String> params) {
+            StringBuilder builder = new StringBuilder();
+            for (String param : params) {
+                if (!builder.isEmpty()) {
+                    builder.append(StringPool.COMMA);
+                }
+                builder.append(LABELS[Integer.parseInt(param)]);
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * 2.0.0 之前的 SpelDataBind, Bean 工厂改为构造时传入
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class LegacySpelDataBind implements IDataBind {
+
+        /** Spel expression parser */
+        private final BeanExpressionResolver parseExpression = new StandardBeanExpressionResolver();
+        /** Bean 工厂 */
+        private final ConfigurableBeanFactory beanFactory;
+
+        /**
+         * 构造函数
+         *
+         * @param beanFactory Bean 工厂
+         */
+        private LegacySpelDataBind(ConfigurableBeanFactory beanFactory) {
+            this.beanFactory = beanFactory;
+        }
+
+        /**
+         * Set meta object
+         *
+         * @param field      field
+         * @param fieldValue field value
+         * @param metaObject meta object
+         */
+        @Override
+        public void setMetaObject(FieldBind field, Object fieldValue, MetaObject metaObject) {
+            List<String> dictIds = StringUtils.splitTrim(String.valueOf(fieldValue), StringPool.COMMA);
+            String express = field.express();
+            if (StringUtils.isBlank(express)) {
+                return;
+            }
+            Object result = this.parseExpression.evaluate(express, new InnerParamsExpressionContext(this.beanFactory, dictIds));
+            if (result != null) {
+                metaObject.setValue(field.target(), result);
+            }
+        }
+    }
+
+    /**
+     * 2.0.0 之前的内部参数上下文
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class InnerParamsExpressionContext extends BeanExpressionContext {
+
+        /** PARAMS_KEY */
+        private static final String PARAMS_KEY = "params";
+
+        /** 参数 */
+        private final Object params;
+
+        /**
+         * 内部参数表达式上下文
+         *
+         * @param beanFactory Spring 的 Bean 工厂
+         * @param params      参数
+         */
+        private InnerParamsExpressionContext(ConfigurableBeanFactory beanFactory, Object params) {
+            super(beanFactory, null);
+            this.params = params;
+        }
+
+        /**
+         * Gets object *
+         *
+         * @param key key
+         * @return the object
+         */
+        @Override
+        public Object getObject(String key) {
+            if (PARAMS_KEY.contains(key)) {
+                return this.params;
+            }
+            if (!StringUtils.endsWithIgnoreCase(key, "Impl") && !super.containsObject(key)) {
+                key += "Impl";
+            }
+            return super.getObject(key);
+        }
+
+        /**
+         * Contains object
+         *
+         * @param key key
+         * @return the boolean
+         */
+        @Override
+        public boolean containsObject(String key) {
+            if (PARAMS_KEY.contains(key)) {
+                return true;
+            }
+            if (!StringUtils.endsWithIgnoreCase(key, "Impl") && !super.containsObject(key)) {
+                key += "Impl";
+            }
+            return super.containsObject(key);
+        }
+    }
+
+    /**
+     * 测试行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class Row {
+
+        /** 性别 */
+        @FieldBind(target = "genderName", express = "#{dictService.label(params)}")
+        private String gender;
+        /** 标签 */
+        @FieldBind(target = "tagNames", express = "#{dictService.labels(params)}")
+        private String tags;
+        /** 性别名称 */
+        private String genderName;
+        /** 标签名称 */
+        private String tagNames;
+
+        /**
+         * Gets gender *
+         *
+         * @return the gender
+         */
+        public String getGender() {
+            return this.gender;
+        }
+
+        /**
+         * Sets gender *
+         *
+         * @param gender gender
+         */
+        public void setGender(String gender) {
+            this.gender = gender;
+        }
+
+        /**
+         * Gets tags *
+         *
+         * @return the tags
+         */
+        public String getTags() {
+            return this.tags;
+        }
+
+        /**
+         * Sets tags *
+         *
+         * @param tags tags
+         */
+        public void setTags(String tags) {
+            this.tags = tags;
+        }
+
+        /**
+         * Gets gender name *
+         *
+         * @return the gender name
+         */
+        public String getGenderName() {
+            return this.genderName;
+        }
+
+        /**
+         * Sets gender name *
+         *
+         * @param genderName gender name
+         */
+        public void setGenderName(String genderName) {
+            this.genderName = genderName;
+        }
+
+        /**
+         * Gets tag names *
+         *
+         * @return the tag names
+         */
+        public String getTagNames() {
+            return this.tagNames;
+        }
+
+        /**
+         * Sets tag names *
+         *
+         * @param tagNames tag names
+         */
+        public void setTagNames(String tagNames) {
+            this.tagNames = tagNames;
+        }
+    }
+}
@@ -7,10 +7,12 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.cursor.Cursor;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 
 import dev.dong4j.zeka.kernel.common.base.BaseDTO;
 import dev.dong4j.zeka.kernel.common.base.BaseQuery;
+import dev.dong4j.zeka.starter.mybatis.injector.methods.AbstractInsertBatchMethod;
 
 /**
  * 基础数据访问接口
@@ -21,6 +23,8 @@ import dev.dong4j.zeka.kernel.common.base.BaseQuery;
  * 1. 扩展插入操作：
  * - insertIgnore：插入时忽略重复数据
  * - replace：替换插入操作
+ * - insertIgnoreBatch / replaceBatch / upsertBatch：多行插入，一次往返写入多行
+ *   （总是写入主键列：自增主键不为 null 时按该值写入，为 null 时由数据库生成，生成的主键不回写到实体）
  * <p>
  * 2. 通用查询操作：
  * - 支持分页查询（带/不带 count 查询）
@@ -79,6 +83,43 @@ public interface BaseDao<T> extends BaseMapper<T> {
      */
     int replace(T entity);
 
+    /**
+     * 多行插入忽略操作
+     * <p>
+     * 生成一条 INSERT IGNORE INTO ... VALUES (...), (...) 语句，与现有数据冲突的行被忽略。
+     * 插入所有字段，值为 null 的字段写入 NULL；语句大小随行数增加，
+     * 应通过 MultiRowBatchPlanner 切分，或使用 BaseService#saveIgnoreBatchMultiRow
+     *
+     * @param entityList 要插入的实体集合，不能为空
+     * @return int 实际插入的记录数
+     * @since 2.0.0
+     */
+    int insertIgnoreBatch(@Param(AbstractInsertBatchMethod.LIST) Collection<T> entityList);
+
+    /**
+     * 多行替换插入操作
+     * <p>
+     * 生成一条 REPLACE INTO ... VALUES (...), (...) 语句，与现有数据冲突的行先删除再插入
+     *
+     * @param entityList 要插入或替换的实体集合，不能为空
+     * @return int 影响的记录数（插入计 1，替换计 2）
+     * @since 2.0.0
+     */
+    int replaceBatch(@Param(AbstractInsertBatchMethod.LIST) Collection<T> entityList);
+
+    /**
+     * 多行插入或更新操作
+     * <p>
+     * 生成一条 INSERT INTO ... VALUES (...), (...) ON DUPLICATE KEY UPDATE 语句，
+     * 与现有数据冲突的行按新值更新非主键列（创建时间等只在插入时填充的字段与逻辑删除字段除外），
+     * 值为 null 的字段保留原值（更新策略为 ALWAYS 的字段除外）；新插入的行中值为 null 的字段写入 NULL
+     *
+     * @param entityList 要插入或更新的实体集合，不能为空
+     * @return int 影响的记录数（插入计 1，更新计 2，未变化计 0）
+     * @since 2.0.0
+     */
+    int upsertBatch(@Param(AbstractInsertBatchMethod.LIST) Collection<T> entityList);
+
     /**
      * 通用列表查询接口
      * <p>
@@ -14,10 +14,23 @@ import org.apache.ibatis.reflection.SystemMetaObject;
 import org.apache.ibatis.session.Configuration;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import dev.dong4j.zeka.kernel.common.util.StringPool;
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
 
 /**
- * <p>Description: </p>
+ * 结果集字典翻译拦截器
+ * <p> 在 {@link ResultSetHandler#handleResultSets} 之后翻译带有 {@link FieldBind} 的字段:
+ * <ul>
+ *     <li>{@link IBatchDataBind}: 收集整个结果集去重后的字典键, 一次批量翻译后填充所有行, 结果经 {@link DataBindMemo} 备忘.
+ *     与 {@link SpelDataBind} 一致, 字段值按逗号切分为多个字典值, 各自翻译后以逗号拼接</li>
+ *     <li>其他 {@link IDataBind}: 逐行逐字段调用 {@link IDataBind#setMetaObject}</li>
+ * </ul>
  *
  * @author dong4j
  * @version 1.0.0
@@ -71,8 +84,23 @@ public class DataBindInterceptor implements Interceptor {
         MetaObject metaObject = SystemMetaObject.forObject(handler);
         MappedStatement ms =
             (MappedStatement) metaObject.getValue("mappedStatement");
-        Configuration configuration = ms.getConfiguration();
+        bind(ms.getConfiguration(), list, this.dictBind);
+        return result;
+    }
 
+    /**
+     * 翻译结果集
+     *
+     * @param configuration configuration
+     * @param list          结果集
+     * @param dictBind      字典数据绑定
+     * @since 2.0.0
+     */
+    static void bind(Configuration configuration, List<?> list, IDataBind dictBind) {
+        if (dictBind instanceof IBatchDataBind batchDataBind) {
+            bindBatch(configuration, list, batchDataBind);
+            return;
+        }
         for (Object row : list) {
             if (row == null) {
                 continue;
@@ -80,22 +108,129 @@ public class DataBindInterceptor implements Interceptor {
 
             // 检查是否需要翻译，是否需要翻译的标准是，检查目标对象的Class是否有自定义的注解，
             // 有的话，调用字典数据绑定，取修改对象的target属性
-            boolean needTranslate = DataBindUtil.needTranslate(
-                configuration,
-                row,
-                (m, f) -> {
-                    // 得到自定义注解
-                    FieldBind fieldBind = f.getFieldBind();
-                    // 得到具体属性的值
-                    Object value = m.getValue(f.getName());
-                    dictBind.setMetaObject(fieldBind, value, m);
-                });
-
-            if (!needTranslate) {
+            DataBindPlan plan = DataBindUtil.getPlan(row.getClass());
+            if (plan.isEmpty()) {
                 continue;
             }
+            MetaObject metaObject = configuration.newMetaObject(row);
+            for (DataBindPlan.BoundField field : plan.fields()) {
+                dictBind.setMetaObject(field.property().getFieldBind(), field.read(row, metaObject), metaObject);
+            }
         }
+    }
 
-        return result;
+    /**
+     * 批量翻译结果集: 先收集所有行中去重后的字典键, 备忘中没有的键一次性交给 {@link IBatchDataBind#translate}, 再填充各行.
+     * 包含逗号的字段值切分为多个字典键, 填充时按原顺序以逗号拼接各字典值的翻译结果, 没有翻译结果的字典值被跳过.
+     * 未指定 {@link FieldBind#type()} 的字段不生成字典键, 逐行调用 {@link IDataBind#setMetaObject}
+     *
+     * @param configuration configuration
+     * @param list          结果集
+     * @param dictBind      批量字典翻译
+     * @since 2.0.0
+     */
+    private static void bindBatch(Configuration configuration, List<?> list, IBatchDataBind dictBind) {
+        List<Binding> bindings = new ArrayList<>();
+        Set<DictKey> keys = new LinkedHashSet<>();
+        for (Object row : list) {
+            if (row == null) {
+                continue;
+            }
+            DataBindPlan plan = DataBindUtil.getPlan(row.getClass());
+            if (plan.isEmpty()) {
+                continue;
+            }
+            // 所有字段都能通过 MethodHandle 读写时不创建 MetaObject
+            MetaObject metaObject = plan.requiresMetaObject() ? configuration.newMetaObject(row) : null;
+            for (DataBindPlan.BoundField field : plan.fields()) {
+                String type = field.property().getDictType();
+                if (type == null) {
+                    // 未指定字典类型的字段不参与批量翻译, 与逐行翻译一样交给 setMetaObject 处理 express
+                    if (metaObject == null) {
+                        metaObject = configuration.newMetaObject(row);
+                    }
+                    dictBind.setMetaObject(field.property().getFieldBind(), field.read(row, metaObject), metaObject);
+                    continue;
+                }
+                Object value = field.read(row, metaObject);
+                if (value == null) {
+                    continue;
+                }
+                List<DictKey> fieldKeys = dictKeys(type, String.valueOf(value));
+                if (fieldKeys.isEmpty()) {
+                    continue;
+                }
+                keys.addAll(fieldKeys);
+                bindings.add(new Binding(row, metaObject, field, fieldKeys));
+            }
+        }
+        if (bindings.isEmpty()) {
+            return;
+        }
+
+        DataBindMemo memo = DataBindMemo.currentOrLocal();
+        memo.load(keys, dictBind::translate);
+        for (Binding binding : bindings) {
+            List<DictKey> fieldKeys = binding.keys();
+            Object value = fieldKeys.size() == 1 ? memo.get(fieldKeys.get(0)) : joined(memo, fieldKeys);
+            if (value != null) {
+                binding.field().write(binding.row(), binding.metaObject(), value);
+            }
+        }
+    }
+
+    /**
+     * 生成字段值的字典键, 字段值包含逗号时按逗号切分并去掉各项首尾空白
+     *
+     * @param type  字典类型
+     * @param value 字段值
+     * @return 字典键, 切分后没有字典值时为空列表
+     */
+    private static List<DictKey> dictKeys(String type, String value) {
+        if (value.indexOf(',') < 0) {
+            return List.of(new DictKey(type, value));
+        }
+        List<String> codes = StringUtils.splitTrim(value, StringPool.COMMA);
+        List<DictKey> keys = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            keys.add(new DictKey(type, code));
+        }
+        return keys;
+    }
+
+    /**
+     * 以逗号拼接多个字典键的翻译结果
+     *
+     * @param memo 备忘
+     * @param keys 字典键
+     * @return 拼接后的翻译结果, 都没有翻译结果时返回 null
+     */
+    private static String joined(DataBindMemo memo, List<DictKey> keys) {
+        StringJoiner joiner = new StringJoiner(StringPool.COMMA);
+        boolean found = false;
+        for (DictKey key : keys) {
+            Object value = memo.get(key);
+            if (value != null) {
+                joiner.add(String.valueOf(value));
+                found = true;
+            }
+        }
+        return found ? joiner.toString() : null;
+    }
+
+    /**
+     * 待填充的字段
+     *
+     * @param row        行
+     * @param metaObject 行的元数据对象, 计划不需要 MetaObject 时为 null
+     * @param field      需要翻译的字段
+     * @param keys       字段值对应的字典键, 按字段值中的顺序排列
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record Binding(Object row, MetaObject metaObject, DataBindPlan.BoundField field, List<DictKey> keys) {
     }
 }
@@ -0,0 +1,157 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 批量字典翻译结果的备忘
+ * <p> 每次查询都会使用一个备忘, 同一个字典键在结果集中只翻译一次. 通过 {@link #open()} 在当前线程上打开备忘后,
+ * 直到 {@link #close()} 之前的所有查询共用翻译结果, 通常在一次请求的开始打开, 结束时关闭:
+ * <pre>{@code
+ * try (DataBindMemo ignored = DataBindMemo.open()) {
+ *     // 多次查询, 相同的字典键只翻译一次
+ * }
+ * }</pre>
+ * 嵌套打开时复用外层的备忘, 只有最外层关闭时才解除绑定. 备忘不是线程安全的, 只在打开它的线程上使用.
+ * 备忘最多保存打开时指定数量的字典键, 即将超过时先清空已有结果再保存本次查询的结果, 长时间打开也不会无限增长.
+ * Servlet 应用中由 MyBatis 自动配置注册的过滤器在每个请求的开始打开, 结束时关闭
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class DataBindMemo implements AutoCloseable {
+
+    /** 当前线程打开的备忘 */
+    private static final ThreadLocal<DataBindMemo> CURRENT = new ThreadLocal<>();
+    /** 表示翻译结果为空的占位对象 */
+    private static final Object NONE = new Object();
+    /** 默认最多保存的字典键数量 */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /** 翻译结果, 翻译结果为空时为 {@link #NONE} */
+    private final Map<DictKey, Object> values;
+    /** 最多保存的字典键数量 */
+    private final int maxSize;
+    /** 是否由该实例绑定到当前线程 */
+    private final boolean owner;
+
+    /**
+     * 构造函数
+     *
+     * @param values  翻译结果
+     * @param maxSize 最多保存的字典键数量
+     * @param owner   是否由该实例绑定到当前线程
+     */
+    private DataBindMemo(Map<DictKey, Object> values, int maxSize, boolean owner) {
+        this.values = values;
+        this.maxSize = maxSize;
+        this.owner = owner;
+    }
+
+    /**
+     * 在当前线程上打开备忘, 最多保存 {@link #DEFAULT_MAX_SIZE} 个字典键, 已打开时复用外层的备忘
+     *
+     * @return 备忘, 使用完毕后关闭
+     */
+    public static DataBindMemo open() {
+        return open(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 在当前线程上打开备忘, 已打开时复用外层的备忘及其数量上限
+     *
+     * @param maxSize 最多保存的字典键数量, 小于等于 0 时使用默认值
+     * @return 备忘, 使用完毕后关闭
+     */
+    public static DataBindMemo open(int maxSize) {
+        DataBindMemo current = CURRENT.get();
+        if (current != null) {
+            return new DataBindMemo(current.values, current.maxSize, false);
+        }
+        DataBindMemo memo = new DataBindMemo(new HashMap<>(), maxSize > 0 ? maxSize : DEFAULT_MAX_SIZE, true);
+        CURRENT.set(memo);
+        return memo;
+    }
+
+    /**
+     * 获取当前线程打开的备忘, 未打开时返回只用于一次查询的备忘
+     *
+     * @return 备忘
+     */
+    static DataBindMemo currentOrLocal() {
+        DataBindMemo current = CURRENT.get();
+        return current != null ? current : new DataBindMemo(new HashMap<>(), Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * 翻译备忘中还没有的字典键
+     * <p> 保存后将超过数量上限时先清空已有结果, 本次查询的字典键始终保留到查询结束
+     *
+     * @param keys       字典键
+     * @param translator 批量翻译
+     */
+    void load(Set<DictKey> keys, Function<Set<DictKey>, Map<DictKey, ?>> translator) {
+        Set<DictKey> missing = new LinkedHashSet<>();
+        for (DictKey key : keys) {
+            if (!this.values.containsKey(key)) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<DictKey, ?> translated = translator.apply(missing);
+        if (this.values.size() + missing.size() > this.maxSize) {
+            // 只保留本次查询用到的已有结果
+            Map<DictKey, Object> retained = new HashMap<>();
+            for (DictKey key : keys) {
+                Object value = this.values.get(key);
+                if (value != null) {
+                    retained.put(key, value);
+                }
+            }
+            this.values.clear();
+            this.values.putAll(retained);
+        }
+        for (DictKey key : missing) {
+            Object value = translated == null ? null : translated.get(key);
+            this.values.put(key, value == null ? NONE : value);
+        }
+    }
+
+    /**
+     * 获取翻译结果
+     *
+     * @param key 字典键
+     * @return 翻译结果, 未翻译或结果为空时返回 null
+     */
+    Object get(DictKey key) {
+        Object value = this.values.get(key);
+        return value == NONE ? null : value;
+    }
+
+    /**
+     * 获取备忘中的字典键数量
+     *
+     * @return 字典键数量
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * 关闭备忘, 最外层关闭时解除与当前线程的绑定
+     */
+    @Override
+    public void close() {
+        if (this.owner) {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 字典翻译的类级绑定计划
+ * <p> 每个类在第一次出现时编译一次, 之后每行直接使用:
+ * <ul>
+ *     <li>带有 {@link FieldBind} 的字段 (不含 static / transient 字段, 不含父类字段) 与其 {@link FieldProperty}</li>
+ *     <li>源字段 getter 与目标属性 setter 的 {@link MethodHandle}, 只使用 public 方法, 不调用 setAccessible,
+ *     无法访问 (非 public 类, 未导出的模块, 嵌套的目标属性等) 时回退为 {@link MetaObject}</li>
+ * </ul>
+ * 没有需要翻译的字段的类使用 {@link #EMPTY}, 作为否定缓存
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class DataBindPlan {
+
+    /** 没有需要翻译的字段 */
+    static final DataBindPlan EMPTY = new DataBindPlan(List.of());
+
+    /** getter 的调用类型 */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /** setter 的调用类型 */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** 需要翻译的字段 */
+    private final List<BoundField> fields;
+    /** 是否有字段需要回退为 MetaObject */
+    private final boolean requiresMetaObject;
+
+    /**
+     * 构造函数
+     *
+     * @param fields 需要翻译的字段
+     */
+    private DataBindPlan(List<BoundField> fields) {
+        this.fields = fields;
+        this.requiresMetaObject = fields.stream().anyMatch(field -> field.getter() == null || field.setter() == null);
+    }
+
+    /**
+     * 编译绑定计划
+     *
+     * @param type 行的类型
+     * @return 绑定计划, 没有需要翻译的字段时返回 {@link #EMPTY}
+     */
+    static DataBindPlan compile(Class<?> type) {
+        // Map, 集合, 数组与基本类型不可能有自定义注解
+        if (type.isPrimitive() || type.isArray() || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)) {
+            return EMPTY;
+        }
+        List<BoundField> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            FieldBind fieldBind = field.getAnnotation(FieldBind.class);
+            if (fieldBind == null) {
+                continue;
+            }
+            fields.add(new BoundField(new FieldProperty(field.getName(), fieldBind),
+                                      getter(type, field.getName()),
+                                      setter(type, fieldBind.target())));
+        }
+        return fields.isEmpty() ? EMPTY : new DataBindPlan(List.copyOf(fields));
+    }
+
+    /**
+     * 是否没有需要翻译的字段
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return this.fields.isEmpty();
+    }
+
+    /**
+     * 获取需要翻译的字段
+     *
+     * @return 需要翻译的字段
+     */
+    public List<BoundField> fields() {
+        return this.fields;
+    }
+
+    /**
+     * 是否有字段需要通过 MetaObject 读写
+     *
+     * @return the boolean
+     */
+    public boolean requiresMetaObject() {
+        return this.requiresMetaObject;
+    }
+
+    /**
+     * 查找 public getter, 属性名与 MyBatis 一致忽略大小写
+     *
+     * @param type     类型
+     * @param property 属性名
+     * @return getter, 找不到或无法访问时返回 null
+     */
+    private static MethodHandle getter(Class<?> type, String property) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() != 0 || method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            String name = method.getName();
+            if (name.equalsIgnoreCase("get" + property) || name.equalsIgnoreCase("is" + property)) {
+                return unreflect(method, GETTER_TYPE);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 查找 public setter, 有多个重载时回退为 MetaObject
+     *
+     * @param type     类型
+     * @param property 属性名
+     * @return setter, 找不到或无法访问时返回 null
+     */
+    private static MethodHandle setter(Class<?> type, String property) {
+        if (property.indexOf('.') >= 0 || property.indexOf('[') >= 0) {
+            return null;
+        }
+        Method setter = null;
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 1
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getName().equalsIgnoreCase("set" + property)) {
+                if (setter != null) {
+                    return null;
+                }
+                setter = method;
+            }
+        }
+        return setter == null ? null : unreflect(setter, SETTER_TYPE);
+    }
+
+    /**
+     * 转换为指定调用类型的 MethodHandle
+     *
+     * @param method 方法
+     * @param type   调用类型
+     * @return MethodHandle, 无法访问时返回 null
+     */
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 需要翻译的字段
+     *
+     * @param property 字段属性
+     * @param getter   源字段 getter, 为空时通过 MetaObject 读取
+     * @param setter   目标属性 setter, 为空时通过 MetaObject 写入
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record BoundField(FieldProperty property, MethodHandle getter, MethodHandle setter) {
+
+        /**
+         * 读取源字段的值
+         *
+         * @param row        行
+         * @param metaObject 行的元数据对象, 计划不需要 MetaObject 时可以为 null
+         * @return 字段值
+         */
+        public Object read(Object row, MetaObject metaObject) {
+            if (this.getter == null) {
+                return metaObject.getValue(this.property.getName());
+            }
+            try {
+                return (Object) this.getter.invokeExact(row);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectionException("读取属性失败: " + this.property.getName(), e);
+            }
+        }
+
+        /**
+         * 写入目标属性
+         *
+         * @param row        行
+         * @param metaObject 行的元数据对象, 计划不需要 MetaObject 时可以为 null
+         * @param value      翻译结果
+         */
+        public void write(Object row, MetaObject metaObject, Object value) {
+            String target = this.property.getFieldBind().target();
+            if (this.setter == null) {
+                metaObject.setValue(target, value);
+                return;
+            }
+            try {
+                this.setter.invokeExact(row, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectionException("写入属性失败: " + target, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+/**
+ * 批量翻译的字典键
+ *
+ * @param type 字典类型, 取自 {@link FieldBind#type()}
+ * @param code 字典值, 即字段值的字符串形式
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record DictKey(String type, String code) {
+}
@@ -37,4 +37,14 @@ public @interface FieldBind {
      * @since 2024.2.0
      */
     String express() default "";
+
+    /**
+     * 字典类型, 批量翻译时与字段值组成 {@link DictKey}.
+     * 为空时该字段不参与批量翻译, 仍逐行交给 {@link IDataBind#setMetaObject} 按 {@link #express()} 处理
+     *
+     * @return the string
+     * @see IBatchDataBind
+     * @since 2.0.0
+     */
+    String type() default "";
 }
@@ -1,5 +1,6 @@
 package dev.dong4j.zeka.starter.mybatis.dict;
 
+import dev.dong4j.zeka.kernel.common.util.StringUtils;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -19,4 +20,15 @@ public class FieldProperty {
     private String name;
     /** 属性绑定的注解 */
     private FieldBind fieldBind;
+
+    /**
+     * 获取字典类型
+     *
+     * @return {@link FieldBind#type()}, 未指定时返回 null, 不使用属性名推断字典类型
+     * @since 2.0.0
+     */
+    public String getDictType() {
+        String type = this.fieldBind.type();
+        return StringUtils.isBlank(type) ? null : type;
+    }
 }
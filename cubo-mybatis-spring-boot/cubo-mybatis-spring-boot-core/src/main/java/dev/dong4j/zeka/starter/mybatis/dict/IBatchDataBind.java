@@ -0,0 +1,43 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import org.apache.ibatis.reflection.MetaObject;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 批量字典翻译
+ * <p> {@link DataBindInterceptor} 先收集整个结果集中去重后的 {@link DictKey}, 调用一次 {@link #translate(Set)},
+ * 再将翻译结果写入各行 {@link FieldBind#target()} 指定的属性. 已翻译过的键在同一次查询内,
+ * 以及在 {@link DataBindMemo} 打开期间的后续查询中不会再次翻译
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public interface IBatchDataBind extends IDataBind {
+
+    /**
+     * 批量翻译
+     *
+     * @param keys 去重后的字典键
+     * @return 字典键与翻译结果, 未包含的键或结果为 null 时不设置目标属性
+     * @since 2.0.0
+     */
+    Map<DictKey, ?> translate(Set<DictKey> keys);
+
+    /**
+     * 未指定 {@link FieldBind#type()} 的字段由 {@link DataBindInterceptor} 逐行调用该方法, 默认不处理;
+     * 指定了字典类型的字段只通过 {@link #translate(Set)} 翻译
+     *
+     * @param field      field
+     * @param fieldValue field value
+     * @param metaObject meta object
+     * @since 2.0.0
+     */
+    @Override
+    default void setMetaObject(FieldBind field, Object fieldValue, MetaObject metaObject) {
+    }
+}
@@ -1,15 +1,26 @@
 package dev.dong4j.zeka.starter.mybatis.dict;
 
 import org.apache.ibatis.reflection.MetaObject;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.beans.factory.config.BeanExpressionContext;
-import org.springframework.beans.factory.config.BeanExpressionResolver;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.expression.StandardBeanExpressionResolver;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MapAccessor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeConverter;
+import org.springframework.expression.spel.support.StandardTypeLocator;
 
+import java.util.AbstractMap;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.context.SpringContext;
@@ -18,6 +29,20 @@ import dev.dong4j.zeka.kernel.common.util.StringUtils;
 
 /**
  * 默认 spel 表达式
+ * <p> {@link FieldBind#express()} 为模板表达式 ({@code #{...}}), 表达式中可引用:
+ * <ul>
+ *     <li>{@code params}: 字段值按逗号切分后的列表</li>
+ *     <li>Bean 名称: 找不到时再查找以 {@code Impl} 结尾的同名 Bean</li>
+ *     <li>{@code @beanName}: 标准的 SpEL Bean 引用</li>
+ * </ul>
+ * 每行每个字段的开销只有一次表达式求值:
+ * <ul>
+ *     <li>每个表达式只解析一次, 按表达式文本缓存</li>
+ *     <li>表达式引用的单例 Bean (包括 {@code Impl} 回退) 只查找一次并缓存, 不再每次访问 BeanFactory.
+ *     prototype 等非单例 Bean 每次从 BeanFactory 获取, 不存在的名称不缓存, 之后注册的 Bean 仍可被找到</li>
+ *     <li>EvaluationContext 只创建一次, 每行只创建一个持有 params 的根对象. 根对象是 Map, 通过可编译的 {@link MapAccessor} 读取</li>
+ *     <li>开启编译模式时使用 SpEL 的 {@link SpelCompilerMode#MIXED}, 表达式执行若干次后编译为字节码, 编译失败时回退为解释执行</li>
+ * </ul>
  *
  * @author dong4j
  * @version 1.0.0
@@ -27,8 +52,53 @@ import dev.dong4j.zeka.kernel.common.util.StringUtils;
  */
 public class SpelDataBind implements IDataBind {
 
+    /** 表达式中字段值列表的名称 */
+    public static final String PARAMS_KEY = "params";
+    /** 实现类 Bean 名称后缀 */
+    private static final String IMPL_SUFFIX = "Impl";
+
     /** Spel expression parser */
-    private final BeanExpressionResolver parseExpression = new StandardBeanExpressionResolver();
+    private final SpelExpressionParser parser;
+    /** 已解析的表达式 */
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    /** 已查找的单例 Bean, 以表达式中的名称为键 */
+    private final Map<String, Object> beans = new ConcurrentHashMap<>();
+    /** Bean 工厂, 为空时在首次求值时从 Spring 容器获取 */
+    private volatile BeanFactory beanFactory;
+    /** 所有表达式共用的求值上下文 */
+    private volatile StandardEvaluationContext evaluationContext;
+
+    /**
+     * 使用 Spring 容器中的 Bean 工厂, 编译模式由 spring.expression.compiler.mode 决定
+     *
+     * @since 2024.2.0
+     */
+    public SpelDataBind() {
+        this(null, false);
+    }
+
+    /**
+     * 使用 Spring 容器中的 Bean 工厂
+     *
+     * @param compiled 是否使用 SpEL 编译模式
+     * @since 2.0.0
+     */
+    public SpelDataBind(boolean compiled) {
+        this(null, compiled);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param beanFactory Bean 工厂, 为空时在首次求值时从 Spring 容器获取
+     * @param compiled    是否使用 SpEL 编译模式, 为 false 时由 spring.expression.compiler.mode 决定
+     * @since 2.0.0
+     */
+    public SpelDataBind(BeanFactory beanFactory, boolean compiled) {
+        this.beanFactory = beanFactory;
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(compiled ? SpelCompilerMode.MIXED : null,
+                                                                           SpelDataBind.class.getClassLoader()));
+    }
 
     /**
      * Set meta object
@@ -40,97 +110,182 @@ public class SpelDataBind implements IDataBind {
      */
     @Override
     public void setMetaObject(FieldBind field, Object fieldValue, MetaObject metaObject) {
-        // 最终输出的数据
-        String dictIdStr = String.valueOf(fieldValue);
-        List<String> dictIds = StringUtils.splitTrim(dictIdStr, StringPool.COMMA);
         String express = field.express();
         if (StringUtils.isBlank(express)) {
             return;
         }
-        ApplicationContext applicationContext = SpringContext.getApplicationContext();
-        Assertions.notNull(applicationContext, "spring 容器不能为空");
-        AutowireCapableBeanFactory beanFactory = applicationContext.getAutowireCapableBeanFactory();
-        Assertions.notNull(beanFactory, "bean 工厂不能为空");
-        BeanExpressionContext expressionContext = new InnerParamsExpressionContext((ConfigurableBeanFactory) beanFactory, dictIds);
-        Object result = this.parseExpression.evaluate(express, expressionContext);
+        // 最终输出的数据
+        List<String> dictIds = StringUtils.splitTrim(String.valueOf(fieldValue), StringPool.COMMA);
+        Expression expression = this.expressions.computeIfAbsent(express,
+                                                                 key -> this.parser.parseExpression(key, ParserContext.TEMPLATE_EXPRESSION));
+        Object result = expression.getValue(this.evaluationContext(), new BindRoot(this, dictIds));
         if (result != null) {
             metaObject.setValue(field.target(), result);
         }
     }
 
     /**
-     * 自定义内部参数上下文
+     * 获取求值上下文, 首次调用时创建
+     *
+     * @return 求值上下文
+     */
+    private StandardEvaluationContext evaluationContext() {
+        StandardEvaluationContext context = this.evaluationContext;
+        if (context == null) {
+            synchronized (this) {
+                context = this.evaluationContext;
+                if (context == null) {
+                    context = this.createEvaluationContext(this.beanFactory());
+                    this.evaluationContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 创建求值上下文, 与 Spring 解析 Bean 定义中的表达式时的配置一致
      *
-     * @author zhonghaijun
+     * @param beanFactory Bean 工厂
+     * @return 求值上下文
+     */
+    private StandardEvaluationContext createEvaluationContext(BeanFactory beanFactory) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.addPropertyAccessor(new MapAccessor());
+        context.setBeanResolver(new BeanFactoryResolver(beanFactory));
+        if (beanFactory instanceof ConfigurableBeanFactory configurableBeanFactory) {
+            context.setTypeLocator(new StandardTypeLocator(configurableBeanFactory.getBeanClassLoader()));
+            ConversionService conversionService = configurableBeanFactory.getConversionService();
+            if (conversionService != null) {
+                context.setTypeConverter(new StandardTypeConverter(conversionService));
+            }
+        }
+        // 提前初始化延迟创建的解析器, 之后多个线程共用该上下文只读不写
+        context.getPropertyAccessors();
+        context.getMethodResolvers();
+        context.getConstructorResolvers();
+        return context;
+    }
+
+    /**
+     * 获取 Bean 工厂
+     *
+     * @return Bean 工厂
+     */
+    private BeanFactory beanFactory() {
+        BeanFactory factory = this.beanFactory;
+        if (factory == null) {
+            ApplicationContext applicationContext = SpringContext.getApplicationContext();
+            Assertions.notNull(applicationContext, "spring 容器不能为空");
+            factory = applicationContext.getAutowireCapableBeanFactory();
+            Assertions.notNull(factory, "bean 工厂不能为空");
+            this.beanFactory = factory;
+        }
+        return factory;
+    }
+
+    /**
+     * 获取表达式引用的 Bean, 单例 Bean 按名称缓存
+     *
+     * @param name Bean 名称
+     * @return Bean, 不存在时返回 null
+     */
+    private Object bean(String name) {
+        Object bean = this.beans.get(name);
+        if (bean != null) {
+            return bean;
+        }
+        BeanFactory factory = this.beanFactory();
+        String beanName = this.resolveBeanName(factory, name);
+        if (beanName == null) {
+            return null;
+        }
+        bean = factory.getBean(beanName);
+        if (factory.isSingleton(beanName)) {
+            this.beans.putIfAbsent(name, bean);
+        }
+        return bean;
+    }
+
+    /**
+     * 解析表达式中的名称对应的 Bean 名称
+     *
+     * @param factory Bean 工厂
+     * @param name    表达式中的名称
+     * @return Bean 名称, 不存在时返回 null
+     */
+    private String resolveBeanName(BeanFactory factory, String name) {
+        if (factory.containsBean(name)) {
+            return name;
+        }
+        // 如果传递的数据不是 impl 实现类名称结尾那么可能找不到对应的 bean 对象, 找 impl 实现类
+        if (!StringUtils.endsWithIgnoreCase(name, IMPL_SUFFIX) && factory.containsBean(name + IMPL_SUFFIX)) {
+            return name + IMPL_SUFFIX;
+        }
+        return null;
+    }
+
+    /**
+     * 表达式的根对象
+     * <p> 以只读 Map 的形式提供 params 与 Bean, 由 {@link MapAccessor} 读取, 编译模式下直接生成 {@code Map.get} 调用
+     *
+     * @author dong4j
      * @version 1.0.0
-     * @email "mailto:zhonghaijun@zhxx.com"
-     * @date 2024.07.11 17:59
-     * @since 2024.2.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
      */
-    private static final class InnerParamsExpressionContext extends BeanExpressionContext {
+    private static final class BindRoot extends AbstractMap<String, Object> {
 
-        /** PARAMS_KEY */
-        public static final String PARAMS_KEY = "params";
+        /** 数据绑定 */
+        private final SpelDataBind dataBind;
+        /** 字段值列表 */
+        private final List<String> params;
 
-        /** Callback */
-        private final Supplier<?> callback;
+        /**
+         * 构造函数
+         *
+         * @param dataBind 数据绑定
+         * @param params   字段值列表
+         */
+        private BindRoot(SpelDataBind dataBind, List<String> params) {
+            this.dataBind = dataBind;
+            this.params = params;
+        }
 
         /**
-         * 内部参数表达式上下文
+         * Contains key
          *
-         * @param beanFactory Spring 的 Bean 工厂
-         * @param params      用于回调的参数对象
-         * @since 2024.2.0
+         * @param key key
+         * @return the boolean
          */
-        InnerParamsExpressionContext(ConfigurableBeanFactory beanFactory, Object params) {
-            super(beanFactory, null);
-            this.callback = () -> params;
+        @Override
+        public boolean containsKey(Object key) {
+            return PARAMS_KEY.equals(key) || (key instanceof String name && this.dataBind.bean(name) != null);
         }
 
         /**
-         * Gets object *
+         * Get
          *
          * @param key key
          * @return the object
-         * @since 2024.2.0
          */
         @Override
-        @SuppressWarnings("all")
-        public Object getObject(String key) {
-            boolean paramsContains = PARAMS_KEY.contains(key);
-            if (paramsContains) {
-                return this.callback.get();
-            }
-            // 如果传递的数据不是 impl 实现类名称结尾那么可能找不到对应的 bean 对象
-            boolean containsObject = super.containsObject(key);
-            if (!StringUtils.endsWithIgnoreCase(key, "Impl") && !containsObject) {
-                // 找 impl 实现类
-                key += "Impl";
+        public Object get(Object key) {
+            if (PARAMS_KEY.equals(key)) {
+                return this.params;
             }
-            return super.getObject(key);
+            return key instanceof String name ? this.dataBind.bean(name) : null;
         }
 
         /**
-         * Contains object
+         * Entry set
          *
-         * @param key key
-         * @return the boolean
-         * @since 2024.2.0
+         * @return 空集合, 根对象只支持按名称读取
          */
         @Override
-        @SuppressWarnings("all")
-        public boolean containsObject(String key) {
-            boolean paramsContains = PARAMS_KEY.contains(key);
-            if (paramsContains) {
-                return true;
-            }
-            // 如果传递的数据不是 impl 实现类名称结尾那么可能找不到对应的 bean 对象
-            boolean containsObject = super.containsObject(key);
-            if (!StringUtils.endsWithIgnoreCase(key, "Impl") && !containsObject) {
-                // 找 impl 实现类
-                key += "Impl";
-            }
-            return super.containsObject(key);
+        public Set<Entry<String, Object>> entrySet() {
+            return Set.of();
         }
     }
 }
@@ -0,0 +1,254 @@
+package dev.dong4j.zeka.starter.mybatis.handler;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 枚举值反向索引
+ * <p> 每个枚举类只构建一次, 将数据库中的值 O(1) 映射为枚举常量, 替代逐个比较常量并转换为 BigDecimal 的方式:
+ * <ul>
+ *     <li>数值: 统一为 long (整数) 或去掉末尾 0 的 BigDecimal (小数) 作为键, 不同数值类型之间按数值相等匹配 (1, 1L, 1.0 相同).
+ *     整数值的范围不超过 {@link #MAX_DENSE_RANGE} 时使用数组, Integer / Long 等查找时不需要装箱</li>
+ *     <li>字符串: 按 equals 匹配, 与数值之间不做转换 ("1" 不匹配 1)</li>
+ *     <li>其他类型: 按 equals 匹配</li>
+ * </ul>
+ * 多个常量的值相同时取声明在前的常量. 值为 null 时返回 null; 没有对应常量的值返回 null, 每个值只记录一次警告日志
+ *
+ * @param <E> 枚举类型参数
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+final class EnumValueIndex<E extends Enum<?>> {
+
+    /** 使用数组索引的最大整数范围 */
+    static final int MAX_DENSE_RANGE = 256;
+    /** 每个枚举类最多记录警告日志的未知值数量 */
+    private static final int MAX_REPORTED_UNKNOWN = 64;
+    /** 各枚举类的索引 */
+    private static final Map<Class<?>, EnumValueIndex<?>> INDEXES = new ConcurrentHashMap<>();
+
+    /** 枚举类型 */
+    private final Class<E> type;
+    /** 各常量的值, 按 ordinal */
+    private final Object[] values;
+    /** 整数值, 按 value - denseBase, 范围过大时为空 */
+    private final E[] dense;
+    /** 数组索引的起始值 */
+    private final long denseBase;
+    /** 整数值 */
+    private final Map<Long, E> longs;
+    /** 小数值 */
+    private final Map<BigDecimal, E> decimals;
+    /** 字符串值 */
+    private final Map<String, E> strings;
+    /** 其他类型的值 */
+    private final Map<Object, E> others;
+    /** 已记录警告日志的未知值 */
+    private final Set<Object> reportedUnknown = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 构造函数
+     *
+     * @param type        枚举类型
+     * @param valueGetter 读取常量的值
+     */
+    @SuppressWarnings("unchecked")
+    private EnumValueIndex(Class<E> type, Function<Object, Object> valueGetter) {
+        this.type = type;
+        E[] constants = type.getEnumConstants();
+        this.values = new Object[constants.length];
+        Map<Long, E> longs = new HashMap<>();
+        Map<BigDecimal, E> decimals = new HashMap<>();
+        Map<String, E> strings = new HashMap<>();
+        Map<Object, E> others = new HashMap<>();
+        for (E constant : constants) {
+            Object value = valueGetter.apply(constant);
+            this.values[constant.ordinal()] = value;
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number number) {
+                Object key = numericKey(number);
+                if (key instanceof Long longKey) {
+                    longs.putIfAbsent(longKey, constant);
+                } else if (key instanceof BigDecimal decimalKey) {
+                    decimals.putIfAbsent(decimalKey, constant);
+                } else {
+                    others.putIfAbsent(value, constant);
+                }
+            } else if (value instanceof String string) {
+                strings.putIfAbsent(string, constant);
+            } else {
+                others.putIfAbsent(value, constant);
+            }
+        }
+        this.longs = Map.copyOf(longs);
+        this.decimals = Map.copyOf(decimals);
+        this.strings = Map.copyOf(strings);
+        this.others = Map.copyOf(others);
+
+        long min = longs.keySet().stream().mapToLong(Long::longValue).min().orElse(0);
+        long max = longs.keySet().stream().mapToLong(Long::longValue).max().orElse(-1);
+        // max - min 溢出时为负数
+        if (!longs.isEmpty() && max - min >= 0 && max - min < MAX_DENSE_RANGE) {
+            this.dense = (E[]) Array.newInstance(type, (int) (max - min + 1));
+            longs.forEach((key, constant) -> this.dense[(int) (key - min)] = constant);
+            this.denseBase = min;
+        } else {
+            this.dense = null;
+            this.denseBase = 0;
+        }
+    }
+
+    /**
+     * 获取枚举类的索引, 第一次调用时构建
+     *
+     * @param type        枚举类型
+     * @param valueGetter 读取常量的值, 只在构建时调用
+     * @param <E>         枚举类型参数
+     * @return 索引
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<?>> EnumValueIndex<E> of(Class<E> type, Function<Object, Object> valueGetter) {
+        EnumValueIndex<?> index = INDEXES.get(type);
+        if (index == null) {
+            index = INDEXES.computeIfAbsent(type, key -> new EnumValueIndex<>(type, valueGetter));
+        }
+        return (EnumValueIndex<E>) index;
+    }
+
+    /**
+     * 按数据库中的值查找常量
+     *
+     * @param value 数据库中的值
+     * @return 常量, 值为 null 或没有对应常量时返回 null
+     */
+    E lookup(Object value) {
+        if (value == null) {
+            return null;
+        }
+        E constant;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            constant = this.lookupLong(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            Object key = numericKey(number);
+            if (key instanceof Long longKey) {
+                constant = this.lookupLong(longKey);
+            } else if (key instanceof BigDecimal decimalKey) {
+                constant = this.decimals.get(decimalKey);
+            } else {
+                constant = this.others.get(value);
+            }
+        } else if (value instanceof String string) {
+            constant = this.strings.get(string);
+        } else {
+            constant = this.others.get(value);
+        }
+        if (constant == null) {
+            this.reportUnknown(value);
+        }
+        return constant;
+    }
+
+    /**
+     * 获取常量的值
+     *
+     * @param constant 常量
+     * @return 值
+     */
+    Object value(Enum<?> constant) {
+        return this.values[constant.ordinal()];
+    }
+
+    /**
+     * 是否数值 0
+     *
+     * @param number 数值
+     * @return 是否为 0, NaN 与无穷大不为 0
+     */
+    static boolean isZero(Number number) {
+        return Long.valueOf(0L).equals(numericKey(number));
+    }
+
+    /**
+     * 按整数值查找常量
+     *
+     * @param value 整数值
+     * @return 常量
+     */
+    private E lookupLong(long value) {
+        if (this.dense != null) {
+            long offset = value - this.denseBase;
+            return offset >= 0 && offset < this.dense.length ? this.dense[(int) offset] : null;
+        }
+        return this.longs.get(value);
+    }
+
+    /**
+     * 记录未知值, 每个值只记录一次
+     *
+     * @param value 数据库中的值
+     */
+    private void reportUnknown(Object value) {
+        if (this.reportedUnknown.size() < MAX_REPORTED_UNKNOWN && this.reportedUnknown.add(value)) {
+            log.warn("数据库中的值没有对应的枚举常量, 映射为 null: type={}, value={}, valueType={}, known={}",
+                     this.type.getName(), value, value.getClass().getSimpleName(), Arrays.toString(this.values));
+        }
+    }
+
+    /**
+     * 数值的键: 整数为 Long, 小数为去掉末尾 0 的 BigDecimal
+     *
+     * @param number 数值
+     * @return 键, NaN, 无穷大或无法解析时返回 null
+     */
+    private static Object numericKey(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        BigDecimal decimal;
+        if (number instanceof BigDecimal bigDecimal) {
+            decimal = bigDecimal;
+        } else if (number instanceof BigInteger bigInteger) {
+            decimal = new BigDecimal(bigInteger);
+        } else if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            if (!Double.isFinite(d)) {
+                return null;
+            }
+            decimal = new BigDecimal(String.valueOf(number));
+        } else {
+            try {
+                decimal = new BigDecimal(String.valueOf(number));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (decimal.signum() == 0) {
+            return 0L;
+        }
+        BigDecimal stripped = decimal.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
+            try {
+                return stripped.longValueExact();
+            } catch (ArithmeticException e) {
+                // 超出 long 范围的整数
+                return stripped;
+            }
+        }
+        return stripped;
+    }
+}
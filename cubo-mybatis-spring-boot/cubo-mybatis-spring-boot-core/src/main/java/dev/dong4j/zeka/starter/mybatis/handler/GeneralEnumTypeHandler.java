@@ -13,14 +13,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
-import java.math.BigDecimal;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -53,6 +51,8 @@ import dev.dong4j.zeka.kernel.common.enums.serialize.EntityEnumSerializer;
  * - 扫描后会使用 MybatisEnumTypeHandler 处理，可能导致冲突
  * - 建议使用 SerializeEnum 接口定义枚举
  * <p>
+ * 读取时通过 EnumValueIndex 按值 O(1) 查找常量 (每个枚举类只构建一次), 数据库值为 null 或没有对应常量时返回 null
+ * <p>
  * 相关类：
  * - SerializeEnum：自定义枚举接口
  * - EntityEnumSerializer：枚举序列化器
@@ -80,6 +80,10 @@ public class GeneralEnumTypeHandler<E extends Enum<?>> extends BaseTypeHandler<E
     private final Class<E> type;
     /** Invoker */
     private final Invoker invoker;
+    /** 枚举值反向索引 */
+    private final EnumValueIndex<E> index;
+    /** 是否为 DeletedEnum */
+    private final boolean deletedEnum;
 
     /**
      * General enum type handler
@@ -106,6 +110,8 @@ public class GeneralEnumTypeHandler<E extends Enum<?>> extends BaseTypeHandler<E
         }
         // 是 SerializeEnum 子类, 则使用 SerializeEnum.getValue
         this.invoker = metaClass.getGetInvoker(name);
+        this.index = EnumValueIndex.of(type, this::invoke);
+        this.deletedEnum = DeletedEnum.class.getName().equals(type.getName());
     }
 
     /**
@@ -239,46 +245,36 @@ public class GeneralEnumTypeHandler<E extends Enum<?>> extends BaseTypeHandler<E
      * @since 1.0.0
      */
     private E valueOf(@NotNull Class<E> enumClass, Object value) {
-        E[] es = enumClass.getEnumConstants();
-        if (DeletedEnum.class.getName().equals(enumClass.getName()) && value instanceof Number) {
+        if (this.deletedEnum && value instanceof Number number) {
             // 如果是数值类型, 则应该是使用了大于0表示已删除的方式来处理 deleted 字段, 因此需要特殊处理
-            if (new BigDecimal(String.valueOf(value)).compareTo(BigDecimal.ZERO) == 0) {
-                // 如果等于 0 表示未删除, 否则为已删除(不考虑小于0的情况))
-                value = DeletedEnum.N.getValue();
-            } else {
-                value = DeletedEnum.Y.getValue();
-            }
+            // 如果等于 0 表示未删除, 否则为已删除(不考虑小于0的情况))
+            value = EnumValueIndex.isZero(number) ? DeletedEnum.N.getValue() : DeletedEnum.Y.getValue();
         }
-        // 其他枚举走原有逻辑
-        Object finalValue = value;
-        return Arrays.stream(es).filter((e) -> this.equalsValue(finalValue, this.getValue(e))).findAny().orElse(null);
+        return this.index.lookup(value);
     }
 
     /**
-     * 值比较
+     * Gets value *
      *
-     * @param sourceValue 数据库字段值
-     * @param targetValue 当前枚举属性值
-     * @return 是否匹配 boolean
+     * @param object object
+     * @return the value
      * @since 1.0.0
      */
-    private boolean equalsValue(Object sourceValue, Object targetValue) {
-        if (sourceValue instanceof Number && targetValue instanceof Number
-            && new BigDecimal(String.valueOf(sourceValue))
-                   .compareTo(new BigDecimal(String.valueOf(targetValue))) == 0) {
-            return true;
+    private Object getValue(@NotNull Enum<?> object) {
+        if (object.getDeclaringClass() == this.type) {
+            return this.index.value(object);
         }
-        return Objects.equals(sourceValue, targetValue);
+        return this.invoke(object);
     }
 
     /**
-     * Gets value *
+     * 通过 Invoker 读取常量的值
      *
      * @param object object
      * @return the value
-     * @since 1.0.0
+     * @since 2.0.0
      */
-    private Object getValue(Object object) {
+    private Object invoke(Object object) {
         try {
             return this.invoker.invoke(object, new Object[0]);
         } catch (ReflectiveOperationException e) {
@@ -11,16 +11,21 @@ import java.util.Map;
 
 import dev.dong4j.zeka.kernel.common.event.BaseEventHandler;
 import dev.dong4j.zeka.kernel.common.event.SqlExecuteTimeoutEvent;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlPipeline;
 
 /**
  * <p>Description: 异步监听日志事件 </p>
+ * <p> 自动配置不再注册该处理器, 慢 SQL 由 {@link SlowSqlPipeline} 限流后批量输出.
+ * 手动注册时仍可处理未配置 SlowSqlPipeline 的 PerformanceInterceptor 发布的事件
  *
  * @author dong4j
  * @version 1.0.0
  * @email "mailto:dong4j@gmail.com"
  * @date 2025.05.30 14:22
  * @since 1.0.0
+ * @deprecated 使用 {@link SlowSqlPipeline} 与 {@link dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlSink}
  */
+@Deprecated
 public class SqlExecuteTimeoutHandler extends BaseEventHandler<SqlExecuteTimeoutEvent> {
     /** 日志输出到指定的文件 */
     private static final Logger LOG = LoggerFactory.getLogger("sql.timing");
@@ -37,6 +42,6 @@ public class SqlExecuteTimeoutHandler extends BaseEventHandler<SqlExecuteTimeout
     @EventListener
     public void handler(@NotNull SqlExecuteTimeoutEvent event) {
         Map<String, Object> source = event.getSource();
-        LOG.warn("{}", source.get("formatSql"));
+        LOG.warn("Time: {} ms - ID: {} Execute SQL: {}", source.get("duration"), source.get("statementId"), source.get("sql"));
     }
 }
@@ -0,0 +1,270 @@
+package dev.dong4j.zeka.starter.mybatis.injector;
+
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 多行插入语句的分批计划
+ * <p> 多行 VALUES 语句的大小随行宽变化, 固定行数在宽表上可能超过 max_allowed_packet, 在窄表上又浪费往返次数.
+ * 按以下三个上限中最先达到的一个切分:
+ * <ul>
+ *     <li>行数: 调用方传入的 batchSize</li>
+ *     <li>语句大小: 按每行各字段的值估算字节数 (字符串按 UTF-8 最坏情况), 累计不超过 {@link #getMaxStatementBytes()}</li>
+ *     <li>参数数量: 行数 * 列数不超过 {@link #MAX_PARAMETERS} (MySQL 单条预编译语句的占位符上限)</li>
+ * </ul>
+ * 列与 {@link dev.dong4j.zeka.starter.mybatis.injector.methods.AbstractInsertBatchMethod} 生成的语句一致, 单行超过语句大小上限时单独成批.
+ * 语句大小上限属于实例, 由 {@link MybatisSqlInjector} 持有并提供给 BaseServiceImpl, 各实体类的列在第一次使用时解析并缓存在实例中
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class MultiRowBatchPlanner {
+
+    /** 默认语句大小上限 (1 MiB), 低于 MySQL 5.7 默认 max_allowed_packet (4 MiB) */
+    public static final long DEFAULT_MAX_STATEMENT_BYTES = 1024L * 1024;
+    /** 单条语句的参数数量上限 */
+    static final int MAX_PARAMETERS = 65535;
+    /** 语句中除 VALUES 以外部分的估算字节数 */
+    private static final int STATEMENT_OVERHEAD_BYTES = 512;
+    /** 数值, 时间等定长值的估算字节数 */
+    private static final int SCALAR_BYTES = 24;
+    /** NULL 的字节数 */
+    private static final int NULL_BYTES = 4;
+
+    /** 语句大小上限 */
+    private final long maxStatementBytes;
+    /** 各实体类的行布局 */
+    private final Map<Class<?>, RowLayout> layouts = new ConcurrentHashMap<>();
+
+    /**
+     * 使用默认语句大小上限的构造函数
+     */
+    public MultiRowBatchPlanner() {
+        this(DEFAULT_MAX_STATEMENT_BYTES);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxStatementBytes 语句大小上限 (字节), 小于等于 0 时使用默认值
+     */
+    public MultiRowBatchPlanner(long maxStatementBytes) {
+        this.maxStatementBytes = maxStatementBytes > 0 ? maxStatementBytes : DEFAULT_MAX_STATEMENT_BYTES;
+    }
+
+    /**
+     * 多行插入语句是否包含该字段
+     *
+     * @param fieldInfo 字段信息
+     * @return 插入策略不为 NEVER 时包含
+     */
+    public static boolean insertable(@NotNull TableFieldInfo fieldInfo) {
+        return fieldInfo.getInsertStrategy() != FieldStrategy.NEVER;
+    }
+
+    /**
+     * 多行插入语句是否包含主键列
+     *
+     * @param tableInfo 表信息
+     * @return 有主键时包含, 自增主键为 null 时写入 NULL 由数据库生成
+     */
+    public static boolean insertKey(@NotNull TableInfo tableInfo) {
+        return StringUtils.isNotBlank(tableInfo.getKeyProperty());
+    }
+
+    /**
+     * 获取语句大小上限
+     *
+     * @return 语句大小上限 (字节)
+     */
+    public long getMaxStatementBytes() {
+        return this.maxStatementBytes;
+    }
+
+    /**
+     * 按行数, 语句大小与参数数量切分实体集合, 每批调用一次 writer
+     *
+     * @param <T>       实体类型参数
+     * @param tableInfo 实体的表信息
+     * @param entities  实体集合
+     * @param maxRows   每批最多行数
+     * @param writer    写入一批实体, 每次调用的 List 都是新的实例
+     * @return 批数
+     */
+    public <T> int forEachChunk(@NotNull TableInfo tableInfo, @NotNull Collection<T> entities, int maxRows, Consumer<List<T>> writer) {
+        return this.forEachChunk(this.layout(tableInfo), entities, maxRows, writer);
+    }
+
+    /**
+     * 获取实体类的行布局, 第一次调用时构建
+     *
+     * @param tableInfo 表信息
+     * @return 行布局
+     */
+    RowLayout layout(@NotNull TableInfo tableInfo) {
+        RowLayout layout = this.layouts.get(tableInfo.getEntityType());
+        if (layout == null) {
+            layout = this.layouts.computeIfAbsent(tableInfo.getEntityType(), key -> RowLayout.of(tableInfo));
+        }
+        return layout;
+    }
+
+    /**
+     * 按行布局切分实体集合
+     *
+     * @param <T>      实体类型参数
+     * @param layout   行布局
+     * @param entities 实体集合
+     * @param maxRows  每批最多行数
+     * @param writer   写入一批实体
+     * @return 批数
+     */
+    <T> int forEachChunk(@NotNull RowLayout layout, @NotNull Collection<T> entities, int maxRows, Consumer<List<T>> writer) {
+        int rowLimit = Math.max(1, Math.min(maxRows, MAX_PARAMETERS / Math.max(1, layout.columnCount())));
+        long byteLimit = this.maxStatementBytes - STATEMENT_OVERHEAD_BYTES;
+        List<T> chunk = new ArrayList<>(Math.min(rowLimit, entities.size()));
+        long chunkBytes = 0;
+        int chunks = 0;
+        for (T entity : entities) {
+            long rowBytes = layout.estimateRowBytes(entity);
+            if (!chunk.isEmpty() && (chunk.size() >= rowLimit || chunkBytes + rowBytes > byteLimit)) {
+                writer.accept(chunk);
+                chunks++;
+                chunk = new ArrayList<>(chunk.size());
+                chunkBytes = 0;
+            }
+            chunk.add(entity);
+            chunkBytes += rowBytes;
+        }
+        if (!chunk.isEmpty()) {
+            writer.accept(chunk);
+            chunks++;
+        }
+        return chunks;
+    }
+
+    /**
+     * 估算单个值的字节数
+     *
+     * @param value 值
+     * @return 字节数, 字符串按每个字符 3 字节与转义后的引号计算
+     */
+    static long estimateValueBytes(Object value) {
+        if (value == null) {
+            return NULL_BYTES;
+        }
+        if (value instanceof CharSequence chars) {
+            return chars.length() * 3L + 2;
+        }
+        if (value instanceof byte[] bytes) {
+            // 十六进制字面量
+            return bytes.length * 2L + 3;
+        }
+        if (value instanceof char[] chars) {
+            return chars.length * 3L + 2;
+        }
+        return SCALAR_BYTES;
+    }
+
+    /**
+     * 实体类的行布局: 多行插入语句中各列对应的属性
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static final class RowLayout {
+
+        /** 插入的属性, 与列的顺序一致 */
+        private final String[] properties;
+        /** 值为空时是否会在执行时填充 (主键生成与自动填充), 估算时按定长值计算 */
+        private final boolean[] filled;
+        /** 读取实体的属性值 */
+        private final BiFunction<Object, String, Object> reader;
+
+        /**
+         * 构造函数
+         *
+         * @param properties 插入的属性
+         * @param filled     值为空时是否会在执行时填充
+         * @param reader     读取实体的属性值
+         */
+        RowLayout(String[] properties, boolean[] filled, BiFunction<Object, String, Object> reader) {
+            this.properties = properties;
+            this.filled = filled;
+            this.reader = reader;
+        }
+
+        /**
+         * 按表信息构建行布局
+         *
+         * @param tableInfo 表信息
+         * @return 行布局
+         */
+        static RowLayout of(@NotNull TableInfo tableInfo) {
+            List<String> properties = new ArrayList<>();
+            List<Boolean> filled = new ArrayList<>();
+            if (insertKey(tableInfo)) {
+                properties.add(tableInfo.getKeyProperty());
+                // ASSIGN_ID / ASSIGN_UUID 在执行时生成, 自增主键按实体中的值估算
+                filled.add(tableInfo.getIdType() != IdType.AUTO);
+            }
+            for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+                if (insertable(fieldInfo)) {
+                    properties.add(fieldInfo.getProperty());
+                    filled.add(fieldInfo.isWithInsertFill());
+                }
+            }
+            boolean[] fill = new boolean[filled.size()];
+            for (int i = 0; i < fill.length; i++) {
+                fill[i] = filled.get(i);
+            }
+            return new RowLayout(properties.toArray(new String[0]), fill, tableInfo::getPropertyValue);
+        }
+
+        /**
+         * 列数
+         *
+         * @return 多行插入语句的列数
+         */
+        int columnCount() {
+            return this.properties.length;
+        }
+
+        /**
+         * 估算一行在 VALUES 中的字节数
+         *
+         * @param entity 实体
+         * @return 字节数
+         */
+        long estimateRowBytes(Object entity) {
+            // 括号与行之间的逗号
+            long bytes = 3;
+            for (int i = 0; i < this.properties.length; i++) {
+                Object value = this.reader.apply(entity, this.properties[i]);
+                bytes += value == null && this.filled[i] ? SCALAR_BYTES : estimateValueBytes(value);
+                // 列之间的逗号
+                bytes += 1;
+            }
+            return bytes;
+        }
+    }
+}
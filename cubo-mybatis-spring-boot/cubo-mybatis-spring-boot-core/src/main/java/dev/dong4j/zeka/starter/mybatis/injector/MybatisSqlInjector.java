@@ -12,7 +12,10 @@ import java.util.Collections;
 import java.util.List;
 
 import dev.dong4j.zeka.starter.mybatis.injector.methods.InsertIgnore;
+import dev.dong4j.zeka.starter.mybatis.injector.methods.InsertIgnoreBatch;
 import dev.dong4j.zeka.starter.mybatis.injector.methods.Replace;
+import dev.dong4j.zeka.starter.mybatis.injector.methods.ReplaceBatch;
+import dev.dong4j.zeka.starter.mybatis.injector.methods.UpsertBatch;
 import dev.dong4j.zeka.starter.mybatis.service.impl.BaseServiceImpl;
 
 /**
@@ -23,14 +26,21 @@ import dev.dong4j.zeka.starter.mybatis.service.impl.BaseServiceImpl;
  * <p>
  * 1. 注入 INSERT IGNORE 方法，支持插入时忽略重复数据
  * 2. 注入 REPLACE INTO 方法，支持替换插入操作
- * 3. 保留 MyBatis Plus 默认的所有方法
+ * 3. 注入多行插入方法，一次往返写入多行
+ * 4. 保留 MyBatis Plus 默认的所有方法
  * <p>
  * 注入的方法：
  * - insertIgnore：MySQL 的 INSERT IGNORE 语法
  * - replace：MySQL 的 REPLACE INTO 语法
+ * - insertIgnoreBatch：多行 INSERT IGNORE
+ * - replaceBatch：多行 REPLACE INTO
+ * - upsertBatch：多行 INSERT ... ON DUPLICATE KEY UPDATE
  * <p>
  * 这些方法可以在 BaseDao 接口中直接使用，也可以通过 BaseService
  * 的批量操作方法间接使用。
+ * <p>
+ * 注入器持有多行插入的分批计划 {@link MultiRowBatchPlanner}（包含语句大小上限），
+ * BaseServiceImpl 通过当前配置的注入器取得该计划。
  *
  * @author dong4j
  * @version 1.0.0
@@ -40,6 +50,38 @@ import dev.dong4j.zeka.starter.mybatis.service.impl.BaseServiceImpl;
  */
 public class MybatisSqlInjector extends DefaultSqlInjector {
 
+    /** 多行插入的分批计划 */
+    private final MultiRowBatchPlanner batchPlanner;
+
+    /**
+     * 使用默认语句大小上限的构造方法
+     *
+     * @since 1.0.0
+     */
+    public MybatisSqlInjector() {
+        this(new MultiRowBatchPlanner());
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param batchPlanner 多行插入的分批计划
+     * @since 2.0.0
+     */
+    public MybatisSqlInjector(MultiRowBatchPlanner batchPlanner) {
+        this.batchPlanner = batchPlanner;
+    }
+
+    /**
+     * 获取多行插入的分批计划
+     *
+     * @return 分批计划
+     * @since 2.0.0
+     */
+    public MultiRowBatchPlanner getBatchPlanner() {
+        return this.batchPlanner;
+    }
+
     /**
      * 获取方法列表
      * <p>
@@ -48,7 +90,8 @@ public class MybatisSqlInjector extends DefaultSqlInjector {
      * 注入的方法包括：
      * 1. InsertIgnore：实现 INSERT IGNORE 功能
      * 2. Replace：实现 REPLACE INTO 功能
-     * 3. 所有 MyBatis Plus 默认方法
+     * 3. InsertIgnoreBatch、ReplaceBatch、UpsertBatch：多行插入
+     * 4. 所有 MyBatis Plus 默认方法
      * <p>
      * 返回的方法列表是不可修改的，确保注入方法的稳定性。
      *
@@ -56,8 +99,9 @@ public class MybatisSqlInjector extends DefaultSqlInjector {
      * @param mapperClass   Mapper 接口类
      * @param tableInfo     表信息对象
      * @return 不可修改的方法列表
-     * @see BaseServiceImpl#saveIgnoreBatch(Collection, int)
-     * @see BaseServiceImpl#saveReplaceBatch(Collection, int)
+     * @see BaseServiceImpl#saveIgnoreBatchMultiRow(Collection, int)
+     * @see BaseServiceImpl#saveReplaceBatchMultiRow(Collection, int)
+     * @see BaseServiceImpl#saveUpsertBatch(Collection, int)
      * @since 1.0.0
      */
     @Override
@@ -65,6 +109,9 @@ public class MybatisSqlInjector extends DefaultSqlInjector {
         List<AbstractMethod> methodList = new ArrayList<>();
         methodList.add(new InsertIgnore());
         methodList.add(new Replace());
+        methodList.add(new InsertIgnoreBatch());
+        methodList.add(new ReplaceBatch());
+        methodList.add(new UpsertBatch());
         methodList.addAll(super.getMethodList(configuration, mapperClass, tableInfo));
         return Collections.unmodifiableList(methodList);
     }
@@ -12,7 +12,8 @@ import lombok.Getter;
  * 主要功能：
  * 1. 定义 INSERT IGNORE 方法，支持插入时忽略重复数据
  * 2. 定义 REPLACE INTO 方法，支持替换插入操作
- * 3. 提供 SQL 模板，用于动态生成具体的 SQL 语句
+ * 3. 定义多行 INSERT IGNORE、REPLACE INTO 与 ON DUPLICATE KEY UPDATE 方法，一次往返写入多行
+ * 4. 提供 SQL 模板，用于动态生成具体的 SQL 语句
  * <p>
  * 枚举属性：
  * - method：方法名称，对应 Mapper 接口中的方法名
@@ -37,7 +38,17 @@ public enum MybatisSqlMethod {
     INSERT_IGNORE_ONE("insertIgnore", "插入一条数据 (选择字段插入) ", "<script>\nINSERT IGNORE INTO %s %s VALUES %s\n</script>"),
 
     /** 表示插入替换数据,需求表中有PrimaryKey,或者unique索引,如果数据库已经存在数据,则用新数据替换,如果没有数据效果则和insert into一样 */
-    REPLACE_ONE("replace", "插入一条数据 (选择字段插入) ", "<script>\nREPLACE INTO %s %s VALUES %s\n</script>");
+    REPLACE_ONE("replace", "插入一条数据 (选择字段插入) ", "<script>\nREPLACE INTO %s %s VALUES %s\n</script>"),
+
+    /** 多行插入, 与已存在的记录冲突的行被忽略 */
+    INSERT_IGNORE_BATCH("insertIgnoreBatch", "插入多条数据 (插入所有字段) ", "<script>\nINSERT IGNORE INTO %s %s VALUES %s\n</script>"),
+
+    /** 多行替换插入, 与已存在的记录冲突的行先删除再插入 */
+    REPLACE_BATCH("replaceBatch", "插入多条数据 (插入所有字段) ", "<script>\nREPLACE INTO %s %s VALUES %s\n</script>"),
+
+    /** 多行插入, 与已存在的记录冲突的行按新值更新, 值为 null 的字段保留原值 */
+    UPSERT_BATCH("upsertBatch", "插入或更新多条数据 (插入所有字段) ",
+                 "<script>\nINSERT INTO %s %s VALUES %s\nON DUPLICATE KEY UPDATE %s\n</script>");
 
     /** Method */
     private final String method;
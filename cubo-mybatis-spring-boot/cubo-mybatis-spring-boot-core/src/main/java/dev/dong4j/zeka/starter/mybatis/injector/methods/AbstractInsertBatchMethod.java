@@ -0,0 +1,151 @@
+package dev.dong4j.zeka.starter.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.List;
+
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
+
+/**
+ * 多行插入方法基类
+ * <p>
+ * 生成 {@code INSERT ... VALUES (...), (...)} 形式的语句, 一次往返写入多行, 参数为 Mapper 方法中名为 list 的实体集合.
+ * <p>
+ * 与 {@link AbstractInsertMethod} 的区别：
+ * - 每行的列必须相同, 因此插入所有字段 (插入策略为 NEVER 的字段除外), 不做非空判断, 值为 null 的字段写入 NULL 而不是数据库默认值
+ * - 逻辑删除字段为 null 时写入未删除值
+ * - 主键列总是写入: 自增主键的实体主键不为 null 时写入该值 (可与已有行冲突), 为 null 时写入 NULL 由数据库生成
+ * - 不回写生成的主键: INSERT IGNORE 跳过的行, REPLACE 与 ON DUPLICATE KEY UPDATE 更新的行与 JDBC 返回的自增值无法一一对应,
+ *   需要生成的主键时使用逐行插入
+ * - 不支持序列主键
+ * <p>
+ * 语句大小随行数与行宽变化, 调用方应通过 {@link MultiRowBatchPlanner} 切分实体集合
+ * <p>
+ * 子类实现：
+ * - InsertIgnoreBatch：INSERT IGNORE
+ * - ReplaceBatch：REPLACE INTO
+ * - UpsertBatch：INSERT ... ON DUPLICATE KEY UPDATE
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public abstract class AbstractInsertBatchMethod extends AbstractMethod {
+
+    @Serial
+    private static final long serialVersionUID = 4527711387214658153L;
+    /** Mapper 方法中实体集合的参数名 */
+    public static final String LIST = "list";
+    /** SQL 方法枚举 */
+    private final MybatisSqlMethod sqlMethod;
+
+    /**
+     * 构造方法
+     *
+     * @param sqlMethod SQL 方法枚举，定义了方法名和 SQL 模板
+     * @since 2.0.0
+     */
+    protected AbstractInsertBatchMethod(MybatisSqlMethod sqlMethod) {
+        super(sqlMethod.getMethod());
+        this.sqlMethod = sqlMethod;
+    }
+
+    /**
+     * 注入映射语句
+     * <p>
+     * SQL 模板的参数依次为表名, 列, 多行 VALUES 与 {@link #extraScript(TableInfo)}
+     *
+     * @param mapperClass Mapper 接口类
+     * @param modelClass  实体模型类
+     * @param tableInfo   表信息对象
+     * @return MappedStatement 映射语句对象
+     * @since 2.0.0
+     */
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, @NotNull TableInfo tableInfo) {
+        List<TableFieldInfo> fieldList = tableInfo.getFieldList();
+        boolean insertKey = MultiRowBatchPlanner.insertKey(tableInfo);
+        String insertSqlColumn = (insertKey ? tableInfo.getKeyColumn() + COMMA : EMPTY)
+                                 + this.filterTableFieldInfo(fieldList, MultiRowBatchPlanner::insertable,
+                                                             TableFieldInfo::getInsertSqlColumn, EMPTY);
+        String columnScript = LEFT_BRACKET + insertSqlColumn.substring(0, insertSqlColumn.length() - 1) + RIGHT_BRACKET;
+        String insertSqlProperty = (insertKey ? SqlScriptUtils.safeParam(ENTITY_DOT + tableInfo.getKeyProperty()) + COMMA : EMPTY)
+                                   + this.filterTableFieldInfo(fieldList, MultiRowBatchPlanner::insertable,
+                                                               AbstractInsertBatchMethod::insertSqlProperty, EMPTY);
+        insertSqlProperty = LEFT_BRACKET + insertSqlProperty.substring(0, insertSqlProperty.length() - 1) + RIGHT_BRACKET;
+        String valuesScript = SqlScriptUtils.convertForeach(insertSqlProperty, LIST, null, ENTITY, COMMA);
+
+        String sql = String.format(this.sqlMethod.getSql(),
+                                   tableInfo.getTableName(),
+                                   columnScript,
+                                   valuesScript,
+                                   this.extraScript(tableInfo));
+        SqlSource sqlSource = this.languageDriver.createSqlSource(this.configuration, sql, modelClass);
+        return this.addInsertMappedStatement(mapperClass,
+                                             modelClass,
+                                             this.sqlMethod.getMethod(),
+                                             sqlSource,
+                                             NoKeyGenerator.INSTANCE,
+                                             null,
+                                             null);
+    }
+
+    /**
+     * 字段在 VALUES 中的参数脚本
+     *
+     * @param fieldInfo 字段信息
+     * @return 参数脚本, 逻辑删除字段为 null 时使用未删除值
+     * @since 2.0.0
+     */
+    private static String insertSqlProperty(@NotNull TableFieldInfo fieldInfo) {
+        String sqlScript = fieldInfo.getInsertSqlProperty(ENTITY_DOT);
+        if (!fieldInfo.isLogicDelete()) {
+            return sqlScript;
+        }
+        String property = ENTITY_DOT + fieldInfo.getProperty();
+        return SqlScriptUtils.convertChoose(property + " != null",
+                                            sqlScript.substring(0, sqlScript.length() - 1),
+                                            literal(fieldInfo.getLogicNotDeleteValue()))
+               + COMMA;
+    }
+
+    /**
+     * 逻辑删除值的 SQL 字面量
+     *
+     * @param value 注解中配置的值
+     * @return 整数与 null 原样输出, 其他值加单引号
+     * @since 2.0.0
+     */
+    private static String literal(String value) {
+        if (value == null || "null".equalsIgnoreCase(value)) {
+            return "NULL";
+        }
+        if (value.matches("-?\\d+")) {
+            return value;
+        }
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    /**
+     * VALUES 之后的语句片段, 默认为空
+     *
+     * @param tableInfo 表信息对象
+     * @return 语句片段
+     * @since 2.0.0
+     */
+    protected String extraScript(TableInfo tableInfo) {
+        return EMPTY;
+    }
+}
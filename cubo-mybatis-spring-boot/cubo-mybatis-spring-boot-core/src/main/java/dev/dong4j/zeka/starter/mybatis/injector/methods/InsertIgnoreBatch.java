@@ -0,0 +1,34 @@
+package dev.dong4j.zeka.starter.mybatis.injector.methods;
+
+import java.io.Serial;
+
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
+
+/**
+ * 多行 INSERT IGNORE 方法注入器
+ * <p>
+ * 向 Mapper 注入 insertIgnoreBatch 方法, 生成 INSERT IGNORE INTO ... VALUES (...), (...) 语句,
+ * 与主键或唯一索引冲突的行被忽略, 返回值为实际插入的行数
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class InsertIgnoreBatch extends AbstractInsertBatchMethod {
+
+    @Serial
+    private static final long serialVersionUID = -3516894277069451238L;
+
+    /**
+     * 构造方法
+     * <p>
+     * 使用 INSERT_IGNORE_BATCH 作为 SQL 方法类型。
+     *
+     * @since 2.0.0
+     */
+    public InsertIgnoreBatch() {
+        super(MybatisSqlMethod.INSERT_IGNORE_BATCH);
+    }
+}
@@ -0,0 +1,34 @@
+package dev.dong4j.zeka.starter.mybatis.injector.methods;
+
+import java.io.Serial;
+
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
+
+/**
+ * 多行 REPLACE INTO 方法注入器
+ * <p>
+ * 向 Mapper 注入 replaceBatch 方法, 生成 REPLACE INTO ... VALUES (...), (...) 语句,
+ * 与主键或唯一索引冲突的行先删除再插入, 被替换的行计为 2 行影响
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class ReplaceBatch extends AbstractInsertBatchMethod {
+
+    @Serial
+    private static final long serialVersionUID = 6021385449613772904L;
+
+    /**
+     * 构造方法
+     * <p>
+     * 使用 REPLACE_BATCH 作为 SQL 方法类型。
+     *
+     * @since 2.0.0
+     */
+    public ReplaceBatch() {
+        super(MybatisSqlMethod.REPLACE_BATCH);
+    }
+}
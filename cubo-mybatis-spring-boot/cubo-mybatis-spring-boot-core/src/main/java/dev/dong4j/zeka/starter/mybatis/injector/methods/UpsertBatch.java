@@ -0,0 +1,103 @@
+package dev.dong4j.zeka.starter.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serial;
+import java.util.stream.Collectors;
+
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
+
+/**
+ * 多行 INSERT ... ON DUPLICATE KEY UPDATE 方法注入器
+ * <p>
+ * 向 Mapper 注入 upsertBatch 方法, 与主键或唯一索引冲突的行按新值更新, 不删除原有行 (与 REPLACE 不同, 不会触发删除与自增值变化).
+ * <p>
+ * 更新的列：
+ * - 多行插入语句中的所有非主键列
+ * - 排除更新策略为 NEVER 的字段, 只在插入时填充的字段 (如创建时间) 与逻辑删除字段
+ * - 没有可更新的列时为不做修改的 {@code key = key}
+ * <p>
+ * 值为 null 的字段不覆盖原值: 赋值为 {@code c = IFNULL(VALUES(c), c)}, 与 updateById 默认跳过 null 字段的行为一致;
+ * 更新策略为 ALWAYS 的字段为 {@code c = VALUES(c)}, 值为 null 时更新为 NULL. 新插入的行中值为 null 的字段仍写入 NULL, 不使用数据库默认值
+ * <p>
+ * MySQL 返回的影响行数: 插入计 1 行, 更新计 2 行, 值未变化计 0 行
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class UpsertBatch extends AbstractInsertBatchMethod {
+
+    @Serial
+    private static final long serialVersionUID = -1780932541097236618L;
+
+    /**
+     * 构造方法
+     * <p>
+     * 使用 UPSERT_BATCH 作为 SQL 方法类型。
+     *
+     * @since 2.0.0
+     */
+    public UpsertBatch() {
+        super(MybatisSqlMethod.UPSERT_BATCH);
+    }
+
+    /**
+     * ON DUPLICATE KEY UPDATE 的赋值列表
+     *
+     * @param tableInfo 表信息对象
+     * @return 赋值列表
+     * @since 2.0.0
+     */
+    @Override
+    protected String extraScript(@NotNull TableInfo tableInfo) {
+        String assignments = tableInfo.getFieldList().stream()
+            .filter(UpsertBatch::updatable)
+            .map(UpsertBatch::assignment)
+            .collect(Collectors.joining(COMMA));
+        if (StringUtils.isNotBlank(assignments)) {
+            return assignments;
+        }
+        String column = StringUtils.isNotBlank(tableInfo.getKeyColumn())
+                        ? tableInfo.getKeyColumn()
+                        : tableInfo.getFieldList().get(0).getColumn();
+        return column + " = " + column;
+    }
+
+    /**
+     * 冲突时该字段的赋值
+     *
+     * @param fieldInfo 字段信息
+     * @return 更新策略为 ALWAYS 时直接使用新值, 否则新值为 null 时保留原值
+     * @since 2.0.0
+     */
+    private static String assignment(@NotNull TableFieldInfo fieldInfo) {
+        String column = fieldInfo.getColumn();
+        if (fieldInfo.getUpdateStrategy() == FieldStrategy.ALWAYS) {
+            return column + " = VALUES(" + column + ")";
+        }
+        return column + " = IFNULL(VALUES(" + column + "), " + column + ")";
+    }
+
+    /**
+     * 冲突时是否更新该字段
+     *
+     * @param fieldInfo 字段信息
+     * @return 是否更新
+     * @since 2.0.0
+     */
+    private static boolean updatable(@NotNull TableFieldInfo fieldInfo) {
+        return MultiRowBatchPlanner.insertable(fieldInfo)
+               && fieldInfo.getUpdateStrategy() != FieldStrategy.NEVER
+               && !fieldInfo.isLogicDelete()
+               && !(fieldInfo.isWithInsertFill() && !fieldInfo.isWithUpdateFill());
+    }
+}
@@ -1,16 +1,12 @@
 package dev.dong4j.zeka.starter.mybatis.plugins;
 
 import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
-import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
 import com.baomidou.mybatisplus.core.toolkit.StringPool;
 import com.baomidou.mybatisplus.core.toolkit.StringUtils;
-import com.baomidou.mybatisplus.core.toolkit.SystemClock;
 
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
-import org.apache.ibatis.mapping.ParameterMapping;
-import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.plugin.Intercepts;
 import org.apache.ibatis.plugin.Invocation;
@@ -18,15 +14,12 @@ import org.apache.ibatis.plugin.Plugin;
 import org.apache.ibatis.plugin.Signature;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.reflection.SystemMetaObject;
-import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
-import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.Statement;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
@@ -36,7 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.concurrent.TimeUnit;
 
 import dev.dong4j.zeka.kernel.common.context.ExpandIds;
 import dev.dong4j.zeka.kernel.common.context.ExpandIdsContext;
@@ -44,7 +37,12 @@ import dev.dong4j.zeka.kernel.common.context.SpringContext;
 import dev.dong4j.zeka.kernel.common.context.Trace;
 import dev.dong4j.zeka.kernel.common.event.SqlExecuteTimeoutEvent;
 import dev.dong4j.zeka.kernel.common.util.ConfigKit;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlPipeline;
+import dev.dong4j.zeka.starter.mybatis.plugins.slowsql.SlowSqlRecord;
+import dev.dong4j.zeka.starter.mybatis.plugins.stats.SqlLatencyRecorder;
+import dev.dong4j.zeka.starter.mybatis.util.SqlRenderer;
 import dev.dong4j.zeka.starter.mybatis.util.SqlUtils;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,8 +57,14 @@ import lombok.extern.slf4j.Slf4j;
  * 2. 格式化输出 SQL 语句，便于调试
  * 3. 设置 SQL 执行超时阈值，超时时发出警告
  * 4. 限制 SQL 输出长度，避免日志过长
- * 5. 发布 SQL 执行超时事件，支持异步处理
+ * 5. 慢 SQL 交给 {@link SlowSqlPipeline} 限流后批量输出 (未配置时发布 SQL 执行超时事件)
  * 6. 支持多种数据库连接池的 SQL 提取
+ * 7. 按 MappedStatement 统计耗时分布, 行数与失败次数 (设置 {@link SqlLatencyRecorder} 后生效)
+ * <p>
+ * 执行流程：
+ * - 快速路径：只计时。未开启耗时统计, 且既不输出 DEBUG 日志也未超过阈值时, 直接返回执行结果
+ * - 统计路径：通过 {@link StatementHandlerUtils} 读取 MappedStatement ID 并记录耗时, 不渲染 SQL
+ * - 渲染路径：仅在输出 DEBUG 日志或出现慢 SQL 时由 {@link SqlRenderer} 替换参数, 格式化时复用按 SQL 缓存的格式化模板
  * <p>
  * 拦截方法：
  * - StatementHandler.query：查询操作
@@ -71,6 +75,8 @@ import lombok.extern.slf4j.Slf4j;
  * - format：是否格式化 SQL 输出
  * - maxTime：SQL 执行超时阈值（毫秒）
  * - maxLength：SQL 输出最大长度
+ * - sqlLog：是否输出 SQL 日志与发布超时事件, 关闭后只做耗时统计
+ * - sqlRenderer：SQL 渲染器, 决定模板与格式化模板的缓存上限
  * <p>
  * 使用场景：
  * - 开发和测试环境的 SQL 性能监控
@@ -104,12 +110,26 @@ public class PerformanceInterceptor implements Interceptor {
     /** 输出的最长 sql */
     @Setter
     private int maxLength;
+    /** 是否输出 SQL 日志并检查慢 SQL, 关闭时只记录耗时统计 */
+    @Setter
+    private boolean sqlLog = true;
+    /** SQL 耗时统计记录器, 为空时不统计 */
+    @Setter
+    private SqlLatencyRecorder latencyRecorder;
+    /** 慢 SQL 投递管道, 为空时发布 {@link SqlExecuteTimeoutEvent} */
+    @Setter
+    private SlowSqlPipeline slowSqlPipeline;
+    /** SQL 渲染器, 缓存各 SQL 的模板与格式化模板, 缓存上限由创建渲染器时指定 */
+    @Getter
+    @Setter
+    private SqlRenderer sqlRenderer = new SqlRenderer();
     /** Druid get sql method */
     private Method druidGetSqlMethod;
 
     /**
      * 拦截方法, 用于监控 SQL 执行性能
-     * <p> 该方法在 SQL 执行前后进行时间记录, 并计算执行耗时, 随后调用 record 方法记录相关信息.
+     * <p> 该方法在 SQL 执行前后进行时间记录, 并计算执行耗时, 随后记录耗时统计并调用 record 方法输出 SQL 日志.
+     * 执行失败时同样记录耗时统计, 并原样抛出异常.
      *
      * @param invocation 调用上下文, 用于执行 SQL 操作并获取相关参数
      * @return SQL 操作的执行结果
@@ -119,32 +139,97 @@ public class PerformanceInterceptor implements Interceptor {
     @SuppressWarnings(value = {"checkstyle:NestedIfDepth", "D"})
     public Object intercept(@NotNull Invocation invocation) throws Throwable {
         // 计算执行 SQL 耗时
-        long start = SystemClock.now();
-
-        Object result = invocation.proceed();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            this.afterExecute(invocation, System.nanoTime() - start, null, false);
+            throw e;
+        }
 
-        long timing = SystemClock.now() - start;
-        this.record(invocation, timing);
+        this.afterExecute(invocation, System.nanoTime() - start, result, true);
         return result;
     }
 
+    /**
+     * SQL 执行后的处理
+     * <p> 先判断是否需要统计耗时或输出 SQL, 都不需要时直接返回, 不访问 StatementHandler 也不创建任何对象;
+     * 需要时只解析一次 MappedStatement, SQL 文本仅在真正输出日志或发布超时事件时渲染. 处理过程中的异常不影响 SQL 执行结果.
+     *
+     * @param invocation 调用上下文, 用于获取 MappedStatement 与 SQL
+     * @param nanos      SQL 执行耗时 (纳秒)
+     * @param result     SQL 执行结果, 用于计算行数
+     * @param success    是否执行成功
+     */
+    private void afterExecute(@NotNull Invocation invocation, long nanos, Object result, boolean success) {
+        long timing = TimeUnit.NANOSECONDS.toMillis(nanos);
+        boolean slow = this.sqlLog && success && this.maxTime >= 1 && timing > this.maxTime;
+        boolean render = slow || (this.sqlLog && success && log.isDebugEnabled());
+        if (this.latencyRecorder == null && !render) {
+            return;
+        }
+        try {
+            MappedStatement ms = StatementHandlerUtils.mappedStatement(invocation.getTarget());
+            if (this.latencyRecorder != null) {
+                this.latencyRecorder.record(ms.getId(), nanos, rows(result), success);
+            }
+            if (render) {
+                this.record(invocation, ms, timing, slow);
+            }
+        } catch (Exception e) {
+            log.error("SQL 执行时间监控异常: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 计算 SQL 返回或影响的行数
+     * <p> 查询返回结果列表的大小, 更新返回影响行数, 批量操作返回各语句影响行数之和 (忽略驱动返回的 SUCCESS_NO_INFO).
+     *
+     * @param result SQL 执行结果
+     * @return 行数, 无法确定时返回 0
+     */
+    private static long rows(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long rows = 0;
+            for (int count : counts) {
+                if (count > 0) {
+                    rows += count;
+                }
+            }
+            return rows;
+        }
+        return 0;
+    }
+
     /**
      * 记录 SQL 执行信息
      * <p> 该方法用于记录 SQL 语句的执行时间,ID 和具体内容, 并在执行时间超过设定阈值时进行日志记录或事件发布.
+     * 仅在需要输出时调用, SQL 提取, 参数替换与格式化都在这里完成.
+     * 慢 SQL 在配置了 {@link SlowSqlPipeline} 时只提交到管道, 由管道中的输出 (默认为 sql.timing 日志) 在后台线程输出,
+     * 执行 SQL 的线程不再同步写错误日志; 未配置管道时输出错误日志并发布 {@link SqlExecuteTimeoutEvent}
      *
      * @param invocation 调用上下文, 用于获取 SQL 语句和相关元数据
+     * @param ms         SQL 对应的 MappedStatement
      * @param timing     SQL 执行所花费的时间 (毫秒)
+     * @param slow       是否超过 SQL 执行超时阈值
      */
-    private void record(@NotNull Invocation invocation, long timing) {
+    private void record(@NotNull Invocation invocation, MappedStatement ms, long timing, boolean slow) {
         try {
-            // 获取被代理对象
-            Object target = PluginUtils.realTarget(invocation.getTarget());
-            // 获取被代理对象的元数据
-            MetaObject metaObject = SystemMetaObject.forObject(target);
-            // 获取被代理对象的MappedStatement
-            MappedStatement ms = (MappedStatement) metaObject.getValue("delegate.mappedStatement");
-            String originalSql = getSql(invocation, metaObject, ms);
-            String outputSql = applyMaxLength(SqlUtils.sqlFormat(originalSql, this.format));
+            if (slow && this.slowSqlPipeline != null) {
+                // 慢 SQL 记录保持未格式化的单行 SQL, 由管道限流合并后输出
+                this.slowSqlPipeline.submit(slowSqlRecord(ms, getSql(invocation, ms, false, 0), timing));
+                return;
+            }
+            // 慢 SQL 需要完整 SQL, 渲染后再截断, 其余情况渲染时直接按最大长度截断. 格式化时参数渲染到缓存的格式化模板中
+            String renderedSql = getSql(invocation, ms, this.format, slow ? 0 : this.maxLength);
+            String outputSql = applyMaxLength(renderedSql);
             // 构建格式化的SQL语句
             StringBuilder formatSql = new StringBuilder()
                 .append(" Time: ").append(timing)
@@ -154,28 +239,10 @@ public class PerformanceInterceptor implements Interceptor {
                 .append(outputSql)
                 .append(StringPool.NEWLINE);
 
-            if (this.maxTime >= 1 && timing > this.maxTime) {
+            if (slow) {
                 log.error("耗时 SQL, 请优化: {}", formatSql);
-                Map<String, Object> map = new HashMap<>(8);
-                map.put("sql", originalSql);
-                map.put("duration", timing);
-                map.put("statementId", ms.getId());
-                map.put("traceId", Trace.context().get());
-                map.put("applicationName", ConfigKit.getAppName());
-                map.put("applicationVersion", ConfigKit.getAppVersion());
-                ExpandIds expandIds = ExpandIdsContext.context().get();
-                if (null != expandIds) {
-                    map.put("clientId", expandIds.getClientId().orElse(""));
-                    map.put("tenantId", expandIds.getTenantId().orElse(-1L));
-                } else {
-                    map.put("clientId", "");
-                    map.put("tenantId", -1L);
-                }
-                map.put("createTime", new Date());
-                try {
-                    SpringContext.publishEvent(new SqlExecuteTimeoutEvent(map));
-                } catch (Exception ignored) {
-                }
+                // 慢 SQL 记录保持未格式化的单行 SQL
+                publishTimeoutEvent(slowSqlRecord(ms, this.format ? getSql(invocation, ms, false, 0) : renderedSql, timing));
             } else {
                 log.debug("{}", formatSql);
             }
@@ -185,16 +252,74 @@ public class PerformanceInterceptor implements Interceptor {
     }
 
     /**
-     * 从调用上下文中提取原始 SQL 语句
-     * <p> 该方法尝试从 Statement 对象中提取实际执行的 SQL 语句. 如果无法从 Statement 中提取, 则尝试从 BoundSql 中获取 SQL.
+     * 创建慢 SQL 记录
+     *
+     * @param ms     SQL 对应的 MappedStatement
+     * @param sql    替换参数后的 SQL
+     * @param timing SQL 执行所花费的时间 (毫秒)
+     * @return 慢 SQL 记录
+     */
+    private static SlowSqlRecord slowSqlRecord(MappedStatement ms, String sql, long timing) {
+        ExpandIds expandIds = ExpandIdsContext.context().get();
+        return new SlowSqlRecord(ms.getId(),
+                                 sql,
+                                 timing,
+                                 System.currentTimeMillis(),
+                                 Trace.context().get(),
+                                 ConfigKit.getAppName(),
+                                 ConfigKit.getAppVersion(),
+                                 expandIds != null ? expandIds.getClientId().orElse("") : "",
+                                 expandIds != null ? expandIds.getTenantId().orElse(-1L) : -1L,
+                                 1);
+    }
+
+    /**
+     * 发布 SQL 执行超时事件
+     * <p> 未配置 {@link SlowSqlPipeline} 时使用, 兼容监听 {@link SqlExecuteTimeoutEvent} 的已有代码
+     *
+     * @param slowSql 慢 SQL 记录
+     */
+    private static void publishTimeoutEvent(SlowSqlRecord slowSql) {
+        Map<String, Object> map = new HashMap<>(16);
+        map.put("sql", slowSql.sql());
+        map.put("duration", slowSql.durationMillis());
+        map.put("statementId", slowSql.statementId());
+        map.put("traceId", slowSql.traceId());
+        map.put("applicationName", slowSql.applicationName());
+        map.put("applicationVersion", slowSql.applicationVersion());
+        map.put("clientId", slowSql.clientId());
+        map.put("tenantId", slowSql.tenantId());
+        map.put("createTime", new Date(slowSql.timestamp()));
+        try {
+            SpringContext.publishEvent(new SqlExecuteTimeoutEvent(map));
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * 获取替换参数后的 SQL 语句
+     * <p> 优先通过 {@link SqlRenderer} 由 BoundSql 渲染, 与驱动和连接池无关. 无法渲染时尝试从 Statement 对象中提取实际执行的 SQL 语句,
+     * 此时无法复用格式化模板, 需要格式化时完整运行一次格式化器.
      * 若两者均无法获取, 则返回空字符串.
      *
      * @param invocation      调用上下文, 用于获取参数
-     * @param metaObject      用于访问目标对象的元数据对象
      * @param mappedStatement 与 SQL 语句相关联的 MappedStatement 对象
-     * @return 提取到的原始 SQL 语句, 若无法获取则返回空字符串
+     * @param format          是否格式化
+     * @param maxLength       最大长度, 小于等于 0 时不截断
+     * @return 替换参数后的 SQL 语句, 若无法获取则返回空字符串
      */
-    private String getSql(@NotNull Invocation invocation, MetaObject metaObject, MappedStatement mappedStatement) {
+    private String getSql(@NotNull Invocation invocation, MappedStatement mappedStatement, boolean format, int maxLength) {
+        String sql = null;
+        try {
+            BoundSql boundSql = ((StatementHandler) invocation.getTarget()).getBoundSql();
+            sql = this.sqlRenderer.render(mappedStatement.getConfiguration(), boundSql, maxLength, format);
+        } catch (Exception e) {
+            log.debug("无法从 BoundSql 中渲染 SQL: {}", e.getMessage());
+        }
+        if (StringUtils.isNotBlank(sql)) {
+            return sql;
+        }
+
         String rawSql = null;
         try {
             Statement statement = extractTargetStatement(invocation);
@@ -205,12 +330,8 @@ public class PerformanceInterceptor implements Interceptor {
             log.debug("无法从 Statement 中提取 SQL: {}", e.getMessage());
         }
 
-        if (StringUtils.isBlank(rawSql)) {
-            rawSql = extractSqlFromBoundSql(metaObject, mappedStatement);
-        }
-
         // 格式化 SQL（去除多余空格 + 定位 SQL 开始位置）
-        return formatSql(rawSql);
+        return SqlUtils.sqlFormat(formatSql(rawSql), format);
     }
 
     /**
@@ -339,83 +460,6 @@ public class PerformanceInterceptor implements Interceptor {
         return sql;
     }
 
-    private String extractSqlFromBoundSql(MetaObject metaObject, MappedStatement mappedStatement) {
-        if (metaObject == null || mappedStatement == null) {
-            return "";
-        }
-        try {
-            BoundSql boundSql;
-            if (metaObject.hasGetter("boundSql")) {
-                boundSql = (BoundSql) metaObject.getValue("boundSql");
-            } else if (metaObject.hasGetter("delegate.boundSql")) {
-                boundSql = (BoundSql) metaObject.getValue("delegate.boundSql");
-            } else {
-                return "";
-            }
-            return buildSql(mappedStatement.getConfiguration(), boundSql);
-        } catch (Exception e) {
-            log.debug("无法从 BoundSql 中提取 SQL: {}", e.getMessage());
-            return "";
-        }
-    }
-
-    private String buildSql(Configuration configuration, BoundSql boundSql) {
-        if (boundSql == null || configuration == null) {
-            return "";
-        }
-        String sql = boundSql.getSql();
-        if (StringUtils.isBlank(sql)) {
-            return "";
-        }
-        Object parameterObject = boundSql.getParameterObject();
-        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
-        if (parameterObject == null || CollectionUtils.isEmpty(parameterMappings)) {
-            return sql;
-        }
-        TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
-        String parsedSql = sql.replaceAll("\\s+", " ").trim();
-        if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
-            return replaceFirstPlaceholder(parsedSql, parameterObject);
-        }
-        MetaObject metaObject = configuration.newMetaObject(parameterObject);
-        for (ParameterMapping parameterMapping : parameterMappings) {
-            if (parameterMapping.getMode() == ParameterMode.OUT) {
-                continue;
-            }
-            String propertyName = parameterMapping.getProperty();
-            Object value;
-            if (boundSql.hasAdditionalParameter(propertyName)) {
-                value = boundSql.getAdditionalParameter(propertyName);
-            } else if (metaObject.hasGetter(propertyName)) {
-                value = metaObject.getValue(propertyName);
-            } else {
-                value = null;
-            }
-            parsedSql = replaceFirstPlaceholder(parsedSql, value);
-        }
-        return parsedSql;
-    }
-
-    private String replaceFirstPlaceholder(String sql, Object value) {
-        if (StringUtils.isBlank(sql)) {
-            return "";
-        }
-        return sql.replaceFirst("\\?", Matcher.quoteReplacement(formatParameterValue(value)));
-    }
-
-    private String formatParameterValue(Object value) {
-        if (value == null) {
-            return "null";
-        }
-        if (value instanceof String) {
-            return "'" + value + "'";
-        }
-        if (value instanceof Date) {
-            return "'" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(value) + "'";
-        }
-        return String.valueOf(value);
-    }
-
     private String applyMaxLength(String sql) {
         if (StringUtils.isBlank(sql) || this.maxLength <= 0 || sql.length() <= this.maxLength) {
             return sql == null ? "" : sql;
@@ -12,14 +12,14 @@ import org.jetbrains.annotations.NotNull;
 import java.sql.Statement;
 import java.util.List;
 
-import dev.dong4j.zeka.kernel.common.annotation.SensitiveBody;
-import dev.dong4j.zeka.kernel.common.annotation.SensitiveField;
 import dev.dong4j.zeka.kernel.common.base.BaseDTO;
-import dev.dong4j.zeka.kernel.common.util.AesUtils;
-import dev.dong4j.zeka.kernel.common.util.Base64Utils;
-import dev.dong4j.zeka.kernel.common.util.ReflectionUtils;
 import dev.dong4j.zeka.kernel.common.util.StringUtils;
 import dev.dong4j.zeka.starter.mybatis.base.BasePO;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.FieldEncryptionEngine;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitiveCipher;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitivePlan;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.StaleCiphertext;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.StaleCiphertextHandler;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -37,8 +37,10 @@ import lombok.extern.slf4j.Slf4j;
     args = {Statement.class}))
 @Slf4j
 public class SensitiveFieldDecryptIntercepter implements Interceptor {
-    /** Sensitive key */
-    private final String sensitiveKey;
+    /** 敏感字段加解密引擎 */
+    private final FieldEncryptionEngine engine;
+    /** 旧密文处理, 为空时不重新加密 */
+    private final StaleCiphertextHandler staleCiphertextHandler;
 
     /**
      * Sensitive field encrypt intercepter
@@ -46,9 +48,31 @@ public class SensitiveFieldDecryptIntercepter implements Interceptor {
      * @param sensitiveKey sensitive key
      * @since 1.0.0
      */
-    @Contract(pure = true)
     public SensitiveFieldDecryptIntercepter(String sensitiveKey) {
-        this.sensitiveKey = sensitiveKey;
+        this(new SensitiveCipher(sensitiveKey));
+    }
+
+    /**
+     * Sensitive field decrypt intercepter
+     *
+     * @param engine 敏感字段加解密引擎
+     * @since 2.0.0
+     */
+    public SensitiveFieldDecryptIntercepter(FieldEncryptionEngine engine) {
+        this(engine, null);
+    }
+
+    /**
+     * Sensitive field decrypt intercepter
+     *
+     * @param engine                 敏感字段加解密引擎
+     * @param staleCiphertextHandler 旧密文处理, 为空时不重新加密
+     * @since 2.0.0
+     */
+    @Contract(pure = true)
+    public SensitiveFieldDecryptIntercepter(FieldEncryptionEngine engine, StaleCiphertextHandler staleCiphertextHandler) {
+        this.engine = engine;
+        this.staleCiphertextHandler = staleCiphertextHandler;
     }
 
     /**
@@ -76,32 +100,41 @@ public class SensitiveFieldDecryptIntercepter implements Interceptor {
     }
 
     /**
-     * 加密处理, 目前递归
+     * 解密处理, 目前递归
+     * <p> 按 {@link SensitivePlan} 处理, 没有敏感字段的类只需一次哈希查找.
+     * 旧格式, 非当前密钥或与字段加密方式不一致的密文用当前密钥重新加密后交给 {@link StaleCiphertextHandler}
      *
      * @param o o
      * @since 1.0.0
      */
     private void process(Object o) {
-        ReflectionUtils.doWithFields(o.getClass(), field -> {
-            Object fieldValue = ReflectionUtils.getFieldValue(o, field.getName());
+        SensitivePlan plan = SensitivePlan.of(o.getClass());
+        if (plan.isEmpty()) {
+            return;
+        }
+        for (SensitivePlan.Accessor body : plan.bodies()) {
+            Object fieldValue = body.get(o);
             if (fieldValue != null) {
                 this.process(fieldValue);
             }
-        }, field -> o instanceof BaseDTO && field.getAnnotation(SensitiveBody.class) != null);
+        }
 
-        ReflectionUtils.doWithFields(o.getClass(), field -> {
-            Object fieldValue = ReflectionUtils.getFieldValue(o, field.getName());
+        for (SensitivePlan.Accessor field : plan.fields()) {
+            Object fieldValue = field.get(o);
             if (!StringUtils.isEmpty(fieldValue)) {
                 try {
-                    String decrypt = AesUtils.decryptToStr(Base64Utils.decodeFromString(String.valueOf(fieldValue)),
-                                                           this.sensitiveKey);
-
-                    ReflectionUtils.setFieldValue(o, field.getName(), decrypt);
+                    String encrypted = String.valueOf(fieldValue);
+                    FieldEncryptionEngine.Decrypted decrypted = this.engine.decryptField(encrypted, field.deterministic());
+                    field.set(o, decrypted.plain());
+                    if (decrypted.stale() && this.staleCiphertextHandler != null) {
+                        String ciphertext = this.engine.encryptField(decrypted.plain(), field.deterministic());
+                        this.staleCiphertextHandler.handle(new StaleCiphertext(o, field.field(), encrypted, ciphertext));
+                    }
                 } catch (Exception e) {
                     log.debug("敏感字段解密异常, fieldValue={}, exception={}", fieldValue, e.getMessage());
                 }
             }
-        }, field -> field.getAnnotation(SensitiveField.class) != null);
+        }
     }
 
     /**
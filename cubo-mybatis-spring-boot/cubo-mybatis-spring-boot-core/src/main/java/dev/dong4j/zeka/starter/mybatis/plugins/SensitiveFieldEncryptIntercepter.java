@@ -14,16 +14,14 @@ import org.apache.ibatis.plugin.Signature;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 
-import dev.dong4j.zeka.kernel.common.annotation.SensitiveField;
-import dev.dong4j.zeka.kernel.common.util.AesUtils;
-import dev.dong4j.zeka.kernel.common.util.Base64Utils;
 import dev.dong4j.zeka.kernel.common.util.CollectionUtils;
-import dev.dong4j.zeka.kernel.common.util.ReflectionUtils;
 import dev.dong4j.zeka.kernel.common.util.StringUtils;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.FieldEncryptionEngine;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitiveCipher;
+import dev.dong4j.zeka.starter.mybatis.plugins.sensitive.SensitivePlan;
 
 /**
  * <p>Description: </p>
@@ -41,8 +39,8 @@ import dev.dong4j.zeka.kernel.common.util.StringUtils;
         method = "update",
         args = {MappedStatement.class, Object.class}))
 public class SensitiveFieldEncryptIntercepter implements Interceptor {
-    /** Sensitive key */
-    private final String sensitiveKey;
+    /** 敏感字段加解密引擎 */
+    private final FieldEncryptionEngine engine;
 
     /**
      * Sensitive field encrypt intercepter
@@ -50,9 +48,19 @@ public class SensitiveFieldEncryptIntercepter implements Interceptor {
      * @param sensitiveKey sensitive key
      * @since 1.0.0
      */
-    @Contract(pure = true)
     public SensitiveFieldEncryptIntercepter(String sensitiveKey) {
-        this.sensitiveKey = sensitiveKey;
+        this(new SensitiveCipher(sensitiveKey));
+    }
+
+    /**
+     * Sensitive field encrypt intercepter
+     *
+     * @param engine 敏感字段加解密引擎
+     * @since 2.0.0
+     */
+    @Contract(pure = true)
+    public SensitiveFieldEncryptIntercepter(FieldEncryptionEngine engine) {
+        this.engine = engine;
     }
 
     /**
@@ -90,13 +98,8 @@ public class SensitiveFieldEncryptIntercepter implements Interceptor {
         }
         if (CollectionUtils.isNotEmpty(parameterList)) {
             for (Object o : parameterList) {
-                Class<?> clazz = o.getClass();
-                if (!clazz.getSuperclass().isInstance(Object.class)) {
-                    // 如果有父类, 需要对父类中判断是否使用自定义注解
-                    Class<?> superclass = clazz.getSuperclass();
-                    this.encryptField(superclass.getDeclaredFields(), o, sqlCommandType);
-                }
-                this.encryptField(o.getClass().getDeclaredFields(), o, sqlCommandType);
+                // 处理计划包含整个继承层次中的敏感字段, 没有敏感字段的类只需一次哈希查找
+                this.encryptField(SensitivePlan.of(o.getClass()), o);
             }
         }
 
@@ -118,21 +121,16 @@ public class SensitiveFieldEncryptIntercepter implements Interceptor {
     /**
      * Encrypt field
      *
-     * @param declaredFields declared fields
-     * @param parameter      parameter
-     * @param sqlCommandType sql command type
+     * @param plan      处理计划
+     * @param parameter parameter
      * @since 1.0.0
      */
-    private void encryptField(Field @NotNull [] declaredFields, Object parameter, SqlCommandType sqlCommandType) {
-        for (Field field : declaredFields) {
-            if (field.isAnnotationPresent(SensitiveField.class)) {
-                // 如果使用了指定注解, 对内容加密再存储
-                Object fieldValue = ReflectionUtils.getFieldValue(parameter, field.getName());
-                if (!StringUtils.isEmpty(fieldValue)) {
-                    byte[] encrypt = AesUtils.encrypt(String.valueOf(fieldValue), this.sensitiveKey);
-                    String encryptStr = Base64Utils.encodeToString(encrypt);
-                    ReflectionUtils.setFieldValue(parameter, field.getName(), encryptStr);
-                }
+    private void encryptField(@NotNull SensitivePlan plan, Object parameter) {
+        for (SensitivePlan.Accessor field : plan.fields()) {
+            // 如果使用了指定注解, 对内容加密再存储
+            Object fieldValue = field.get(parameter);
+            if (!StringUtils.isEmpty(fieldValue)) {
+                field.set(parameter, this.engine.encryptField(String.valueOf(fieldValue), field.deterministic()));
             }
         }
     }
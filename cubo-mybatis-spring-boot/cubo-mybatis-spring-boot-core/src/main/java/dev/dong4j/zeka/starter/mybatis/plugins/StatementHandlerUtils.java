@@ -0,0 +1,98 @@
+package dev.dong4j.zeka.starter.mybatis.plugins;
+
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+
+import org.apache.ibatis.executor.statement.BaseStatementHandler;
+import org.apache.ibatis.executor.statement.RoutingStatementHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.reflection.SystemMetaObject;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StatementHandler 工具类
+ * <p> 在拦截器的热路径上获取 StatementHandler 对应的 MappedStatement. 与 {@code SystemMetaObject.forObject(...).getValue("delegate.mappedStatement")}
+ * 相比不创建 MetaObject, 只通过类加载时解析好的 VarHandle 读取 MyBatis 自身的字段:
+ * <ul>
+ *     <li>{@link Plugin} 代理: 通过公开 API {@link Proxy#getInvocationHandler(Object)} 取得 Plugin 后读取 target, 不反射 JDK Proxy 的内部字段</li>
+ *     <li>{@link RoutingStatementHandler}: 读取 delegate</li>
+ *     <li>{@link BaseStatementHandler}: 读取 mappedStatement</li>
+ * </ul>
+ * 字段解析失败 (MyBatis 版本变化) 或遇到其他 StatementHandler 实现时回退到 {@link PluginUtils#realTarget(Object)} + MetaObject
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+final class StatementHandlerUtils {
+
+    /** Plugin.target */
+    private static final VarHandle PLUGIN_TARGET;
+    /** RoutingStatementHandler.delegate */
+    private static final VarHandle ROUTING_DELEGATE;
+    /** BaseStatementHandler.mappedStatement */
+    private static final VarHandle MAPPED_STATEMENT;
+
+    static {
+        PLUGIN_TARGET = findVarHandle(Plugin.class, "target", Object.class);
+        ROUTING_DELEGATE = findVarHandle(RoutingStatementHandler.class, "delegate", StatementHandler.class);
+        MAPPED_STATEMENT = findVarHandle(BaseStatementHandler.class, "mappedStatement", MappedStatement.class);
+    }
+
+    /**
+     * 私有构造函数
+     */
+    private StatementHandlerUtils() {
+    }
+
+    /**
+     * 获取 StatementHandler 对应的 MappedStatement
+     *
+     * @param target 拦截的 StatementHandler, 可能被多层 Plugin 代理
+     * @return MappedStatement
+     */
+    static MappedStatement mappedStatement(Object target) {
+        Object handler = target;
+        while (PLUGIN_TARGET != null && Proxy.isProxyClass(handler.getClass())) {
+            InvocationHandler invocationHandler = Proxy.getInvocationHandler(handler);
+            if (!(invocationHandler instanceof Plugin)) {
+                break;
+            }
+            handler = PLUGIN_TARGET.get(invocationHandler);
+        }
+        if (ROUTING_DELEGATE != null && handler instanceof RoutingStatementHandler) {
+            handler = ROUTING_DELEGATE.get(handler);
+        }
+        if (MAPPED_STATEMENT != null && handler instanceof BaseStatementHandler) {
+            return (MappedStatement) MAPPED_STATEMENT.get(handler);
+        }
+        return (MappedStatement) SystemMetaObject.forObject(PluginUtils.realTarget(target)).getValue("delegate.mappedStatement");
+    }
+
+    /**
+     * 解析字段的 VarHandle
+     *
+     * @param owner 字段所在类
+     * @param name  字段名
+     * @param type  字段类型
+     * @return VarHandle, 解析失败时返回 null
+     */
+    private static VarHandle findVarHandle(Class<?> owner, String name, Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).findVarHandle(owner, name, type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("无法解析 {}.{}, 回退到 MetaObject: {}", owner.getSimpleName(), name, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 确定性加密
+ * <p> 与 SensitiveField 一起使用, 相同密钥下相同明文得到相同密文, 用于需要建索引做等值查询的列.
+ * 查询条件通过 SqlUtils#encryptFiled 或 SqlUtils#encryptCandidates (密钥轮换期间) 加密.
+ * 确定性密文会暴露哪些行的值相同, 只在需要等值查询的列上使用
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface DeterministicEncrypt {
+}
@@ -0,0 +1,75 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.util.List;
+
+/**
+ * 敏感字段加解密引擎
+ * <p> 由敏感字段加解密拦截器调用, 业务代码注入同一个引擎生成敏感字段的查询条件, 查询条件才能与存储的密文一致.
+ * 可按部署环境实现为本地密钥, KMS 或 HSM 等. 实现必须是线程安全的:
+ * <ul>
+ *     <li>{@link SensitiveCipher}: 单个 AES 密钥, 与 2.0.0 之前的密文格式相同, 密文中没有密钥标识</li>
+ *     <li>{@link KeyedFieldEncryptionEngine}: 密文中带有密钥标识, 支持密钥轮换与确定性加密</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public interface FieldEncryptionEngine {
+
+    /**
+     * 加密
+     *
+     * @param plain         明文
+     * @param deterministic 是否确定性加密, 为 true 时相同明文得到相同密文, 可用于等值查询
+     * @return 密文
+     */
+    String encryptField(String plain, boolean deterministic);
+
+    /**
+     * 解密
+     *
+     * @param encrypted 密文
+     * @return 明文, 以及密文是否需要用当前密钥重新加密
+     */
+    Decrypted decryptField(String encrypted);
+
+    /**
+     * 按字段的加密方式解密
+     * <p> 密文的加密方式与字段当前要求的不一致时 (例如字段改为 {@link DeterministicEncrypt} 前写入的随机密文), 实现可以将其标记为 stale
+     *
+     * @param encrypted     密文
+     * @param deterministic 字段是否要求确定性加密
+     * @return 明文, 以及密文是否需要用当前密钥与当前加密方式重新加密
+     */
+    default Decrypted decryptField(String encrypted, boolean deterministic) {
+        return this.decryptField(encrypted);
+    }
+
+    /**
+     * 获取等值查询时可能匹配的所有密文
+     * <p> 密钥轮换后, 尚未重新加密的行仍是旧密钥的密文, 等值查询需要用 IN 匹配所有候选密文
+     *
+     * @param plain 明文
+     * @return 候选密文, 第一个为当前密钥的密文
+     */
+    default List<String> equalityCandidates(String plain) {
+        return List.of(this.encryptField(plain, true));
+    }
+
+    /**
+     * 解密结果
+     *
+     * @param plain 明文
+     * @param stale 密文是否由旧密钥, 旧格式或与字段不一致的加密方式加密, 需要用当前密钥重新加密
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    record Decrypted(String plain, boolean stale) {
+    }
+}
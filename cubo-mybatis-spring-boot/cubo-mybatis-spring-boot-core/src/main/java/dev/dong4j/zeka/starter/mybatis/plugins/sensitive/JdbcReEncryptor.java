@@ -0,0 +1,337 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import dev.dong4j.zeka.kernel.common.util.ReflectionUtils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 读取时重新加密
+ * <p> 将旧密文按主键写回为当前密钥的密文, 密钥轮换后无需停机全量重新加密:
+ * <ul>
+ *     <li>提交: 按 MyBatis-Plus 的 TableInfo 确定表名, 主键列与字段列 (每个类与字段只解析一次), 放入有界队列,
+ *     队列已满时丢弃并计数, 从不阻塞执行查询的线程. 没有 TableInfo 或主键的结果 (例如 DTO) 跳过</li>
+ *     <li>写回: 单个守护线程按批取出, 同一 SQL 合并为一次 JDBC 批量执行, 不经过 MyBatis 拦截器</li>
+ *     <li>条件更新: {@code UPDATE t SET c = ? WHERE id = ? AND c = ?}, 只有列值仍是读到的旧密文时才更新,
+ *     不会覆盖读取之后的写入; 同一行被多次读到时后续更新不影响任何行</li>
+ * </ul>
+ * 写回使用独立连接, 与查询所在的事务无关. 连接显式关闭自动提交, 每个 SQL 的批量执行后提交, 失败时回滚,
+ * 归还连接前恢复原来的自动提交设置, 不依赖连接池的默认配置
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class JdbcReEncryptor implements StaleCiphertextHandler {
+
+    /** 默认队列容量 */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    /** 默认每批最多写回的记录数 */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    /** 没有对应的表或主键 */
+    private static final Target NONE = new Target(null, null);
+    /** 等待记录的最长时间 (毫秒) */
+    private static final long POLL_INTERVAL = 1000L;
+
+    /** 数据源 */
+    private final DataSource dataSource;
+    /** 待写回的记录 */
+    private final BlockingQueue<Update> queue;
+    /** 每批最多写回的记录数 */
+    private final int batchSize;
+    /** 按类与字段缓存的更新语句 */
+    private final Map<Class<?>, Map<String, Target>> targets = new ConcurrentHashMap<>();
+    /** 写回线程 */
+    private final Thread worker;
+    /** 是否运行中 */
+    private volatile boolean running;
+    /** 是否已关闭 */
+    private volatile boolean closed;
+
+    /** 提交的记录数 */
+    private final LongAdder submittedCount = new LongAdder();
+    /** 没有对应的表或主键而跳过的记录数 */
+    private final LongAdder skippedCount = new LongAdder();
+    /** 因队列已满丢弃的记录数 */
+    private final LongAdder droppedCount = new LongAdder();
+    /** 重新加密的行数 */
+    private final LongAdder updatedCount = new LongAdder();
+    /** 写回失败的记录数 */
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 构造函数, 参数小于等于 0 时使用默认值
+     *
+     * @param dataSource    数据源
+     * @param queueCapacity 队列容量
+     * @param batchSize     每批最多写回的记录数
+     */
+    public JdbcReEncryptor(DataSource dataSource, int queueCapacity, int batchSize) {
+        this.dataSource = dataSource;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY);
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.worker = new Thread(this::run, "sensitive-re-encryptor");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 启动写回线程
+     */
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 提交需要重新加密的密文, 不阻塞调用线程
+     *
+     * @param staleCiphertext 需要重新加密的密文
+     */
+    @Override
+    public void handle(StaleCiphertext staleCiphertext) {
+        submittedCount.increment();
+        Object row = staleCiphertext.row();
+        Target target = targets.computeIfAbsent(row.getClass(), type -> new ConcurrentHashMap<>())
+            .computeIfAbsent(staleCiphertext.field().getName(), name -> resolve(row.getClass(), name));
+        Object id = target == NONE ? null : ReflectionUtils.getFieldValue(row, target.keyProperty());
+        if (id == null) {
+            skippedCount.increment();
+            return;
+        }
+        if (closed || !queue.offer(new Update(target.sql(), id, staleCiphertext.ciphertext(), staleCiphertext.stale()))) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 关闭, 写回队列中剩余的记录
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        running = false;
+        try {
+            worker.join(POLL_INTERVAL + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Update> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            write(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+        log.info("敏感字段重新加密已关闭: submitted={}, skipped={}, dropped={}, updated={}, failed={}",
+                 getSubmittedCount(), getSkippedCount(), getDroppedCount(), getUpdatedCount(), getFailedCount());
+    }
+
+    /**
+     * 解析更新语句
+     *
+     * @param type     结果类型
+     * @param property 字段名
+     * @return 更新语句, 没有对应的表, 主键或列时返回 {@link #NONE}
+     */
+    private static Target resolve(Class<?> type, String property) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(type);
+        if (tableInfo == null || !tableInfo.havePK()) {
+            return NONE;
+        }
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            if (fieldInfo.getProperty().equals(property)) {
+                String column = fieldInfo.getColumn();
+                String sql = "UPDATE " + tableInfo.getTableName() + " SET " + column + " = ? WHERE "
+                             + tableInfo.getKeyColumn() + " = ? AND " + column + " = ?";
+                return new Target(sql, tableInfo.getKeyProperty());
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 写回线程
+     */
+    private void run() {
+        List<Update> batch = new ArrayList<>(batchSize);
+        long reportedDropped = 0;
+        while (running) {
+            try {
+                Update first = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            long dropped = droppedCount.sum();
+            if (dropped > reportedDropped) {
+                log.warn("敏感字段重新加密队列已满, 丢弃 {} 条记录, 这些行会在下次读取时再次提交", dropped - reportedDropped);
+                reportedDropped = dropped;
+            }
+        }
+    }
+
+    /**
+     * 写回一批记录, 同一 SQL 合并为一次批量执行并单独提交
+     *
+     * @param batch 待写回的记录
+     */
+    private void write(List<Update> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, List<Update>> bySql = new LinkedHashMap<>();
+        for (Update update : batch) {
+            bySql.computeIfAbsent(update.sql(), sql -> new ArrayList<>()).add(update);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                for (Map.Entry<String, List<Update>> entry : bySql.entrySet()) {
+                    write(connection, entry.getKey(), entry.getValue());
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            failedCount.add(batch.size());
+            log.warn("敏感字段重新加密获取连接失败: size={}", batch.size(), e);
+        }
+    }
+
+    /**
+     * 批量执行同一 SQL 的记录并提交, 失败时回滚
+     *
+     * @param connection 关闭了自动提交的连接
+     * @param sql        更新语句
+     * @param updates    待写回的记录
+     */
+    private void write(Connection connection, String sql, List<Update> updates) {
+        long updated = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Update update : updates) {
+                statement.setString(1, update.ciphertext());
+                statement.setObject(2, update.id());
+                statement.setString(3, update.stale());
+                statement.addBatch();
+            }
+            for (int count : statement.executeBatch()) {
+                // 驱动无法给出行数时返回 SUCCESS_NO_INFO (-2), 按 1 行计
+                updated += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+            connection.commit();
+            updatedCount.add(updated);
+        } catch (SQLException e) {
+            failedCount.add(updates.size());
+            log.warn("敏感字段重新加密失败: sql={}, size={}", sql, updates.size(), e);
+            try {
+                connection.rollback();
+            } catch (SQLException rollback) {
+                log.warn("敏感字段重新加密回滚失败: sql={}", sql, rollback);
+            }
+        }
+    }
+
+    /**
+     * 获取提交的记录数
+     *
+     * @return 提交的记录数
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * 获取没有对应的表或主键而跳过的记录数
+     *
+     * @return 跳过的记录数
+     */
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    /**
+     * 获取因队列已满丢弃的记录数
+     *
+     * @return 丢弃的记录数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 获取重新加密的行数, 列值已被其他写入修改的行不计入
+     *
+     * @return 重新加密的行数
+     */
+    public long getUpdatedCount() {
+        return updatedCount.sum();
+    }
+
+    /**
+     * 获取写回失败的记录数
+     *
+     * @return 写回失败的记录数
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 更新语句
+     *
+     * @param sql         更新语句
+     * @param keyProperty 主键属性
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record Target(String sql, String keyProperty) {
+    }
+
+    /**
+     * 待写回的记录
+     *
+     * @param sql        更新语句
+     * @param id         主键
+     * @param ciphertext 新密文
+     * @param stale      旧密文
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record Update(String sql, Object id, String ciphertext, String stale) {
+    }
+}
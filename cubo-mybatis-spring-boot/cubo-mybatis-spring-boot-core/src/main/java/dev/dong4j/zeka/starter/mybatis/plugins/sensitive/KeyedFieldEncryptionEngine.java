@@ -0,0 +1,397 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * 带密钥标识的敏感字段加解密引擎
+ * <p> 密文格式为 {@code $<keyId>$<mode><Base64(iv + 密文)>}, 密钥由 {@link SensitiveKeyProvider} 按标识提供:
+ * <ul>
+ *     <li>R (随机): AES/GCM, 每次加密使用随机的 12 字节 nonce, 相同明文得到不同密文</li>
+ *     <li>D (确定性): 以 HMAC-SHA256(密文头 + 明文) 的前 16 字节为 IV 的 AES/CTR (SIV 结构), 相同密钥下相同明文得到相同密文,
+ *     可以建索引做等值查询, 解密时重新计算 IV 校验完整性. 加密与 HMAC 密钥由原密钥派生</li>
+ *     <li>旧格式: 不以 '$' 开头的密文交给旧引擎 (通常为 {@link SensitiveCipher}) 解密</li>
+ * </ul>
+ * 旧格式与非当前密钥的密文, 以及确定性加密的字段中随机模式的密文 (字段改为确定性加密前写入) 解密后标记为 stale,
+ * 由解密拦截器交给 {@link StaleCiphertextHandler} 用当前密钥与当前加密方式重新加密.
+ * 密钥标识与模式作为 GCM 的附加数据参与认证, 无法被替换
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class KeyedFieldEncryptionEngine implements FieldEncryptionEngine {
+
+    /** 密文前缀, 不属于 Base64 字符, 可以与旧格式区分 */
+    public static final char PREFIX = '$';
+    /** 随机模式 */
+    private static final char RANDOMIZED = 'R';
+    /** 确定性模式 */
+    private static final char DETERMINISTIC = 'D';
+    /** GCM nonce 长度 */
+    private static final int NONCE_LENGTH = 12;
+    /** GCM tag 长度 (bit) */
+    private static final int TAG_LENGTH = 128;
+    /** SIV 长度 */
+    private static final int SIV_LENGTH = 16;
+    /** 派生加密密钥的标签 */
+    private static final byte[] ENC_LABEL = "zeka-sensitive-enc".getBytes(StandardCharsets.UTF_8);
+    /** 派生 HMAC 密钥的标签 */
+    private static final byte[] MAC_LABEL = "zeka-sensitive-mac".getBytes(StandardCharsets.UTF_8);
+
+    /** 随机数 */
+    private static final SecureRandom RANDOM = new SecureRandom();
+    /** 线程内复用的 GCM Cipher */
+    private static final ThreadLocal<Cipher> GCM = ThreadLocal.withInitial(() -> newInstance("AES/GCM/NoPadding"));
+    /** 线程内复用的 CTR Cipher */
+    private static final ThreadLocal<Cipher> CTR = ThreadLocal.withInitial(() -> newInstance("AES/CTR/NoPadding"));
+    /** 线程内复用的 Mac */
+    private static final ThreadLocal<Mac> HMAC = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /** 密钥提供者 */
+    private final SensitiveKeyProvider keyProvider;
+    /** 旧格式密文的引擎, 为空时不支持旧格式 */
+    private final FieldEncryptionEngine legacy;
+    /** 是否所有字段都使用确定性加密 */
+    private final boolean deterministic;
+    /** 按密钥标识缓存的密钥与派生密钥 */
+    private final Map<String, KeyMaterial> materials = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param keyProvider   密钥提供者
+     * @param legacy        旧格式密文的引擎, 为空时不支持旧格式
+     * @param deterministic 是否所有字段都使用确定性加密, 为 false 时只有标注了 {@link DeterministicEncrypt} 的字段使用
+     */
+    public KeyedFieldEncryptionEngine(SensitiveKeyProvider keyProvider, FieldEncryptionEngine legacy, boolean deterministic) {
+        this.keyProvider = keyProvider;
+        this.legacy = legacy;
+        this.deterministic = deterministic;
+    }
+
+    /**
+     * 用当前密钥加密
+     *
+     * @param plain         明文
+     * @param deterministic 是否确定性加密
+     * @return 密文
+     */
+    @Override
+    public String encryptField(String plain, boolean deterministic) {
+        return this.encrypt(this.keyProvider.currentKeyId(), plain, deterministic || this.deterministic);
+    }
+
+    /**
+     * 解密
+     *
+     * @param encrypted 密文
+     * @return 明文, 旧格式与非当前密钥的密文标记为 stale
+     */
+    @Override
+    public Decrypted decryptField(String encrypted) {
+        return this.decryptField(encrypted, false);
+    }
+
+    /**
+     * 按字段的加密方式解密
+     *
+     * @param encrypted     密文
+     * @param deterministic 字段是否要求确定性加密
+     * @return 明文, 旧格式与非当前密钥的密文, 以及要求确定性加密的字段中随机模式的密文标记为 stale
+     */
+    @Override
+    public Decrypted decryptField(String encrypted, boolean deterministic) {
+        if (encrypted.isEmpty() || encrypted.charAt(0) != PREFIX) {
+            if (this.legacy == null) {
+                throw new IllegalStateException("不支持没有密钥标识的密文");
+            }
+            return new Decrypted(this.legacy.decryptField(encrypted).plain(), true);
+        }
+        int end = encrypted.indexOf(PREFIX, 1);
+        if (end < 2 || end + 1 >= encrypted.length()) {
+            throw new IllegalStateException("敏感字段密文格式错误");
+        }
+        String keyId = encrypted.substring(1, end);
+        char mode = encrypted.charAt(end + 1);
+        byte[] header = encrypted.substring(0, end + 2).getBytes(StandardCharsets.UTF_8);
+        byte[] payload = Base64.getDecoder().decode(encrypted.substring(end + 2));
+        KeyMaterial material = this.material(keyId);
+        String plain = switch (mode) {
+            case RANDOMIZED -> openRandomized(material, header, payload);
+            case DETERMINISTIC -> openDeterministic(material, header, payload);
+            default -> throw new IllegalStateException("未知的敏感字段加密模式: " + mode);
+        };
+        boolean modeChanged = mode == RANDOMIZED && (deterministic || this.deterministic);
+        return new Decrypted(plain, modeChanged || !keyId.equals(this.keyProvider.currentKeyId()));
+    }
+
+    /**
+     * 获取等值查询时可能匹配的所有密文: 当前密钥, 其他密钥与旧格式的确定性密文
+     *
+     * @param plain 明文
+     * @return 候选密文, 第一个为当前密钥的密文
+     */
+    @Override
+    public List<String> equalityCandidates(String plain) {
+        String current = this.keyProvider.currentKeyId();
+        List<String> candidates = new ArrayList<>();
+        candidates.add(this.encrypt(current, plain, true));
+        for (String keyId : this.keyProvider.keyIds()) {
+            if (!keyId.equals(current)) {
+                candidates.add(this.encrypt(keyId, plain, true));
+            }
+        }
+        if (this.legacy != null) {
+            candidates.add(this.legacy.encryptField(plain, true));
+        }
+        return candidates;
+    }
+
+    /**
+     * 用指定密钥加密
+     *
+     * @param keyId         密钥标识
+     * @param plain         明文
+     * @param deterministic 是否确定性加密
+     * @return 密文
+     */
+    private String encrypt(String keyId, String plain, boolean deterministic) {
+        String header = PREFIX + keyId + PREFIX + (deterministic ? DETERMINISTIC : RANDOMIZED);
+        byte[] headerBytes = header.getBytes(StandardCharsets.UTF_8);
+        byte[] content = plain.getBytes(StandardCharsets.UTF_8);
+        KeyMaterial material = this.material(keyId);
+        byte[] payload = deterministic ? sealDeterministic(material, headerBytes, content) : sealRandomized(material, headerBytes, content);
+        return header + Base64.getEncoder().encodeToString(payload);
+    }
+
+    /**
+     * 获取密钥与派生密钥
+     *
+     * @param keyId 密钥标识
+     * @return 密钥与派生密钥
+     */
+    private KeyMaterial material(String keyId) {
+        KeyMaterial material = this.materials.get(keyId);
+        if (material == null) {
+            SecretKey key = this.keyProvider.getKey(keyId);
+            if (key == null) {
+                throw new IllegalStateException("未知的敏感字段密钥: " + keyId);
+            }
+            material = this.materials.computeIfAbsent(keyId, id -> KeyMaterial.of(key));
+        }
+        return material;
+    }
+
+    /**
+     * 随机模式加密
+     *
+     * @param material 密钥
+     * @param header   密文头, 作为附加数据
+     * @param content  明文
+     * @return nonce + 密文
+     */
+    private static byte[] sealRandomized(KeyMaterial material, byte[] header, byte[] content) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
+        try {
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.ENCRYPT_MODE, material.key(), new GCMParameterSpec(TAG_LENGTH, nonce));
+            cipher.updateAAD(header);
+            ByteBuffer payload = ByteBuffer.allocate(NONCE_LENGTH + cipher.getOutputSize(content.length));
+            payload.put(nonce);
+            cipher.doFinal(ByteBuffer.wrap(content), payload);
+            return payload.array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段加密失败", e);
+        }
+    }
+
+    /**
+     * 随机模式解密
+     *
+     * @param material 密钥
+     * @param header   密文头, 作为附加数据
+     * @param payload  nonce + 密文
+     * @return 明文
+     */
+    private static String openRandomized(KeyMaterial material, byte[] header, byte[] payload) {
+        try {
+            Cipher cipher = GCM.get();
+            cipher.init(Cipher.DECRYPT_MODE, material.key(), new GCMParameterSpec(TAG_LENGTH, payload, 0, NONCE_LENGTH));
+            cipher.updateAAD(header);
+            return new String(cipher.doFinal(payload, NONCE_LENGTH, payload.length - NONCE_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段解密失败", e);
+        }
+    }
+
+    /**
+     * 确定性模式加密
+     *
+     * @param material 密钥
+     * @param header   密文头, 参与 IV 计算
+     * @param content  明文
+     * @return IV + 密文
+     */
+    private static byte[] sealDeterministic(KeyMaterial material, byte[] header, byte[] content) {
+        byte[] siv = siv(material, header, content);
+        byte[] payload = Arrays.copyOf(siv, SIV_LENGTH + content.length);
+        try {
+            Cipher cipher = CTR.get();
+            cipher.init(Cipher.ENCRYPT_MODE, material.encKey(), new IvParameterSpec(siv));
+            cipher.doFinal(content, 0, content.length, payload, SIV_LENGTH);
+            return payload;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段加密失败", e);
+        }
+    }
+
+    /**
+     * 确定性模式解密
+     *
+     * @param material 密钥
+     * @param header   密文头, 参与 IV 计算
+     * @param payload  IV + 密文
+     * @return 明文
+     */
+    private static String openDeterministic(KeyMaterial material, byte[] header, byte[] payload) {
+        if (payload.length < SIV_LENGTH) {
+            throw new IllegalStateException("敏感字段密文格式错误");
+        }
+        byte[] siv = Arrays.copyOf(payload, SIV_LENGTH);
+        byte[] content;
+        try {
+            Cipher cipher = CTR.get();
+            cipher.init(Cipher.DECRYPT_MODE, material.encKey(), new IvParameterSpec(siv));
+            content = cipher.doFinal(payload, SIV_LENGTH, payload.length - SIV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段解密失败", e);
+        }
+        if (!MessageDigest.isEqual(siv, siv(material, header, content))) {
+            throw new IllegalStateException("敏感字段密文校验失败");
+        }
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 计算 SIV: HMAC-SHA256(密文头 + 明文) 的前 16 字节
+     *
+     * @param material 密钥
+     * @param header   密文头
+     * @param content  明文
+     * @return SIV
+     */
+    private static byte[] siv(KeyMaterial material, byte[] header, byte[] content) {
+        try {
+            Mac mac = HMAC.get();
+            mac.init(material.macKey());
+            mac.update(header);
+            return Arrays.copyOf(mac.doFinal(content), SIV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段加密失败", e);
+        }
+    }
+
+    /**
+     * 创建 Cipher
+     *
+     * @param transformation 算法
+     * @return Cipher
+     */
+    private static Cipher newInstance(String transformation) {
+        try {
+            return Cipher.getInstance(transformation);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 密钥与派生密钥
+     *
+     * @param key    原密钥, 用于随机模式
+     * @param encKey 确定性模式的加密密钥, 原密钥不可导出时为空
+     * @param macKey 确定性模式的 HMAC 密钥, 原密钥不可导出时为空
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record KeyMaterial(SecretKey key, SecretKeySpec encKey, SecretKeySpec macKey) {
+
+        /**
+         * 派生确定性模式的密钥
+         *
+         * @param key 原密钥
+         * @return 密钥与派生密钥
+         */
+        static KeyMaterial of(SecretKey key) {
+            byte[] raw = key.getEncoded();
+            if (raw == null) {
+                // 不可导出的密钥 (例如 HSM) 只支持随机模式
+                return new KeyMaterial(key, null, null);
+            }
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(raw, "HmacSHA256"));
+                byte[] encKey = Arrays.copyOf(mac.doFinal(ENC_LABEL), raw.length);
+                byte[] macKey = mac.doFinal(MAC_LABEL);
+                return new KeyMaterial(key, new SecretKeySpec(encKey, "AES"), new SecretKeySpec(macKey, "HmacSHA256"));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("派生敏感字段密钥失败", e);
+            }
+        }
+
+        /**
+         * 确定性模式的加密密钥
+         *
+         * @return 加密密钥
+         */
+        @Override
+        public SecretKeySpec encKey() {
+            if (this.encKey == null) {
+                throw new IllegalStateException("密钥不可导出, 不支持确定性加密");
+            }
+            return this.encKey;
+        }
+
+        /**
+         * 确定性模式的 HMAC 密钥
+         *
+         * @return HMAC 密钥
+         */
+        @Override
+        public SecretKeySpec macKey() {
+            if (this.macKey == null) {
+                throw new IllegalStateException("密钥不可导出, 不支持确定性加密");
+            }
+            return this.macKey;
+        }
+    }
+}
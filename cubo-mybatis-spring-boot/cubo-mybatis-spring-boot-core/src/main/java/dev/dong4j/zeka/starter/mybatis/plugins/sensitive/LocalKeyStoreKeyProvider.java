@@ -0,0 +1,151 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.crypto.SecretKey;
+
+/**
+ * 本地密钥库文件密钥提供者
+ * <p> 启动时从 PKCS12 或 JCEKS 密钥库文件中读取所有 AES 密钥, 别名即密钥标识, 不依赖外部服务, 便于开发与测试.
+ * 可以用 keytool 生成密钥:
+ * <pre>
+ * keytool -genseckey -keyalg AES -keysize 256 -storetype PKCS12 -keystore sensitive.p12 -alias k2026
+ * </pre>
+ * 注意 PKCS12 的别名不区分大小写, 读取后为小写
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class LocalKeyStoreKeyProvider implements SensitiveKeyProvider {
+
+    /** 默认密钥库类型 */
+    public static final String DEFAULT_TYPE = "PKCS12";
+    /** 密钥标识的合法字符 */
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    /** 密钥, 按别名 */
+    private final Map<String, SecretKey> keys;
+    /** 当前密钥标识 */
+    private final String currentKeyId;
+
+    /**
+     * 构造函数
+     *
+     * @param path         密钥库文件
+     * @param type         密钥库类型, 为空时使用 PKCS12
+     * @param password     密钥库与密钥的密码
+     * @param currentKeyId 当前密钥标识, 为空且只有一个密钥时使用该密钥
+     */
+    public LocalKeyStoreKeyProvider(Path path, String type, char[] password, String currentKeyId) {
+        KeyStore keyStore;
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore = KeyStore.getInstance(type == null || type.isBlank() ? DEFAULT_TYPE : type);
+            keyStore.load(in, password);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("读取敏感字段密钥库失败: " + path, e);
+        }
+        this.keys = Collections.unmodifiableMap(load(keyStore, password));
+        if (this.keys.isEmpty()) {
+            throw new IllegalStateException("敏感字段密钥库中没有 AES 密钥: " + path);
+        }
+        this.currentKeyId = this.resolveCurrent(currentKeyId);
+    }
+
+    /**
+     * 获取当前用于加密的密钥标识
+     *
+     * @return 密钥标识
+     */
+    @Override
+    public String currentKeyId() {
+        return this.currentKeyId;
+    }
+
+    /**
+     * 获取密钥
+     *
+     * @param keyId 密钥标识
+     * @return AES 密钥, 不存在时返回 null
+     */
+    @Override
+    public SecretKey getKey(String keyId) {
+        return this.keys.get(keyId);
+    }
+
+    /**
+     * 获取所有可用于解密的密钥标识
+     *
+     * @return 密钥标识
+     */
+    @Override
+    public Set<String> keyIds() {
+        return this.keys.keySet();
+    }
+
+    /**
+     * 读取所有 AES 密钥
+     *
+     * @param keyStore 密钥库
+     * @param password 密码
+     * @return 密钥, 按别名
+     */
+    private static Map<String, SecretKey> load(KeyStore keyStore, char[] password) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        try {
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.isKeyEntry(alias)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, password);
+                if (!(key instanceof SecretKey secretKey) || !"AES".equalsIgnoreCase(secretKey.getAlgorithm())) {
+                    continue;
+                }
+                if (!KEY_ID.matcher(alias).matches()) {
+                    throw new IllegalStateException("敏感字段密钥别名只能包含字母, 数字, '_', '-' 与 '.': " + alias);
+                }
+                keys.put(alias, secretKey);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("读取敏感字段密钥失败", e);
+        }
+        return keys;
+    }
+
+    /**
+     * 确定当前密钥标识
+     *
+     * @param configured 配置的密钥标识
+     * @return 密钥标识
+     */
+    private String resolveCurrent(String configured) {
+        if (configured == null || configured.isBlank()) {
+            if (this.keys.size() == 1) {
+                return this.keys.keySet().iterator().next();
+            }
+            throw new IllegalStateException("敏感字段密钥库中有多个密钥, 需要指定当前密钥: " + this.keys.keySet());
+        }
+        if (this.keys.containsKey(configured)) {
+            return configured;
+        }
+        String lowerCase = configured.toLowerCase(Locale.ROOT);
+        if (this.keys.containsKey(lowerCase)) {
+            return lowerCase;
+        }
+        throw new IllegalStateException("敏感字段密钥库中没有当前密钥: " + configured);
+    }
+}
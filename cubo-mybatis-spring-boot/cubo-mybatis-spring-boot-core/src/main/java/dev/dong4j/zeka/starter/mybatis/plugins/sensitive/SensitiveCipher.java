@@ -0,0 +1,213 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import dev.dong4j.zeka.kernel.common.util.AesUtils;
+import dev.dong4j.zeka.kernel.common.util.Base64Utils;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 单个密钥的敏感字段加解密引擎
+ * <p> 密文格式与 {@link AesUtils} + {@link Base64Utils} 相同 (AES/CBC, 密钥的 UTF-8 字节为 AES 密钥, 其前 16 字节为 IV,
+ * 以 32 字节为块的 PKCS#7 填充, 结果 Base64 编码), 已有数据无需迁移:
+ * <ul>
+ *     <li>每个线程持有各自已初始化的加密与解密 {@link Cipher}, 不再每次调用都 getInstance 与 init</li>
+ *     <li>创建时用同一个探测值与 {@link AesUtils} 比对加密结果并互相解密, 不一致 (例如密钥长度不是 32) 时回退为直接调用 {@link AesUtils}</li>
+ * </ul>
+ * 密文中没有密钥标识, 且 IV 固定, 相同明文总是得到相同密文 (即 deterministic 参数没有影响). 需要密钥轮换时使用 {@link KeyedFieldEncryptionEngine},
+ * 并将本类作为其旧格式引擎
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class SensitiveCipher implements FieldEncryptionEngine {
+
+    /** 算法 */
+    private static final String TRANSFORMATION = "AES/CBC/NoPadding";
+    /** 填充块大小 */
+    private static final int BLOCK_SIZE = 32;
+    /** 自检使用的探测值 */
+    private static final String PROBE = "zeka-stack 敏感字段 0123456789";
+
+    /** 密钥 */
+    private final String key;
+    /** 是否使用线程内复用的 Cipher */
+    private final boolean reuseCipher;
+    /** 线程内复用的加密 Cipher */
+    private final ThreadLocal<Cipher> encryptor;
+    /** 线程内复用的解密 Cipher */
+    private final ThreadLocal<Cipher> decryptor;
+
+    /**
+     * 构造函数
+     *
+     * @param key 密钥
+     */
+    public SensitiveCipher(String key) {
+        this.key = key;
+        if (key == null || key.isEmpty()) {
+            // 空密钥无法创建 SecretKeySpec, 交给 AesUtils 按原来的方式报错
+            this.encryptor = null;
+            this.decryptor = null;
+            this.reuseCipher = false;
+            return;
+        }
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        SecretKeySpec keySpec = new SecretKeySpec(keyBytes, "AES");
+        IvParameterSpec iv = new IvParameterSpec(Arrays.copyOfRange(keyBytes, 0, Math.min(16, keyBytes.length)));
+        this.encryptor = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE, keySpec, iv));
+        this.decryptor = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE, keySpec, iv));
+        this.reuseCipher = this.selfCheck();
+    }
+
+    /**
+     * 加密
+     *
+     * @param plain 明文
+     * @return Base64 编码的密文
+     */
+    public String encrypt(String plain) {
+        if (!this.reuseCipher) {
+            return Base64Utils.encodeToString(AesUtils.encrypt(plain, this.key));
+        }
+        return Base64.getEncoder().encodeToString(this.doFinal(this.encryptor.get(), pad(plain.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * 解密
+     *
+     * @param encrypted Base64 编码的密文
+     * @return 明文
+     */
+    public String decrypt(String encrypted) {
+        if (!this.reuseCipher) {
+            return AesUtils.decryptToStr(Base64Utils.decodeFromString(encrypted), this.key);
+        }
+        return new String(unpad(this.doFinal(this.decryptor.get(), Base64.getDecoder().decode(encrypted))), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 加密, 本引擎总是确定性的
+     *
+     * @param plain         明文
+     * @param deterministic 是否确定性加密, 没有影响
+     * @return Base64 编码的密文
+     */
+    @Override
+    public String encryptField(String plain, boolean deterministic) {
+        return this.encrypt(plain);
+    }
+
+    /**
+     * 解密, 本引擎只有一个密钥, 密文从不需要重新加密
+     *
+     * @param encrypted Base64 编码的密文
+     * @return 明文
+     */
+    @Override
+    public Decrypted decryptField(String encrypted) {
+        return new Decrypted(this.decrypt(encrypted), false);
+    }
+
+    /**
+     * 是否使用线程内复用的 Cipher
+     *
+     * @return 自检不通过而回退为 AesUtils 时返回 false
+     */
+    public boolean isReuseCipher() {
+        return this.reuseCipher;
+    }
+
+    /**
+     * 与 AesUtils 比对加解密结果
+     *
+     * @return 结果一致时返回 true
+     */
+    private boolean selfCheck() {
+        try {
+            String expected = Base64Utils.encodeToString(AesUtils.encrypt(PROBE, this.key));
+            String actual = Base64.getEncoder().encodeToString(this.doFinal(this.encryptor.get(),
+                                                                            pad(PROBE.getBytes(StandardCharsets.UTF_8))));
+            if (expected.equals(actual)
+                && PROBE.equals(new String(unpad(this.doFinal(this.decryptor.get(), Base64.getDecoder().decode(expected))),
+                                           StandardCharsets.UTF_8))) {
+                return true;
+            }
+            log.warn("敏感字段加解密自检结果与 AesUtils 不一致, 回退为 AesUtils");
+        } catch (Exception e) {
+            log.warn("敏感字段加解密自检失败, 回退为 AesUtils: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * 执行加解密, 完成后 Cipher 恢复为初始化后的状态, 可以继续使用
+     *
+     * @param cipher cipher
+     * @param input  输入
+     * @return 输出
+     */
+    private byte[] doFinal(Cipher cipher, byte[] input) {
+        try {
+            return cipher.doFinal(input);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("敏感字段加解密失败", e);
+        }
+    }
+
+    /**
+     * 创建并初始化 Cipher
+     *
+     * @param mode    模式
+     * @param keySpec 密钥
+     * @param iv      IV
+     * @return Cipher
+     */
+    private static Cipher newCipher(int mode, SecretKeySpec keySpec, IvParameterSpec iv) {
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, keySpec, iv);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("初始化敏感字段 Cipher 失败", e);
+        }
+    }
+
+    /**
+     * PKCS#7 填充到 32 字节的整数倍, 已是整数倍时再填充一个整块
+     *
+     * @param content 内容
+     * @return 填充后的内容
+     */
+    private static byte[] pad(byte[] content) {
+        int amountToPad = BLOCK_SIZE - (content.length % BLOCK_SIZE);
+        byte[] padded = Arrays.copyOf(content, content.length + amountToPad);
+        Arrays.fill(padded, content.length, padded.length, (byte) amountToPad);
+        return padded;
+    }
+
+    /**
+     * 去掉 PKCS#7 填充, 填充值不合法时视为没有填充
+     *
+     * @param decrypted 解密后的内容
+     * @return 去掉填充的内容
+     */
+    private static byte[] unpad(byte[] decrypted) {
+        int pad = decrypted.length == 0 ? 0 : decrypted[decrypted.length - 1];
+        if (pad < 1 || pad > BLOCK_SIZE) {
+            pad = 0;
+        }
+        return Arrays.copyOf(decrypted, decrypted.length - pad);
+    }
+}
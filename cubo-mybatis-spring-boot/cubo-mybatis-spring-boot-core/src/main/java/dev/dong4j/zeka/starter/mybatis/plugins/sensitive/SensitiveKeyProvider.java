@@ -0,0 +1,41 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.util.Set;
+
+import javax.crypto.SecretKey;
+
+/**
+ * 敏感字段密钥提供者
+ * <p> 为 {@link KeyedFieldEncryptionEngine} 按密钥标识提供 AES 密钥. 密钥标识会写入密文, 只能包含字母, 数字, '_', '-' 与 '.';
+ * 同一个标识对应的密钥不能改变, 轮换密钥时新增一个标识并将其设为当前密钥, 旧密钥需保留到所有数据重新加密为止
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public interface SensitiveKeyProvider {
+
+    /**
+     * 获取当前用于加密的密钥标识
+     *
+     * @return 密钥标识
+     */
+    String currentKeyId();
+
+    /**
+     * 获取密钥
+     *
+     * @param keyId 密钥标识
+     * @return AES 密钥, 不存在时返回 null
+     */
+    SecretKey getKey(String keyId);
+
+    /**
+     * 获取所有可用于解密的密钥标识
+     *
+     * @return 密钥标识
+     */
+    Set<String> keyIds();
+}
@@ -0,0 +1,204 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.dong4j.zeka.kernel.common.annotation.SensitiveBody;
+import dev.dong4j.zeka.kernel.common.annotation.SensitiveField;
+import dev.dong4j.zeka.kernel.common.base.BaseDTO;
+import dev.dong4j.zeka.kernel.common.util.ReflectionUtils;
+
+/**
+ * 敏感字段的类级处理计划
+ * <p> 每个类在第一次出现时编译一次并缓存, 没有敏感字段的类缓存为 {@link #EMPTY}, 之后只需一次哈希查找即可跳过:
+ * <ul>
+ *     <li>fields: 整个继承层次 (直到 Object) 中带有 {@link SensitiveField} 的非 static 字段</li>
+ *     <li>bodies: {@link BaseDTO} 子类中带有 {@link SensitiveBody} 的非 static 字段, 其值需要递归处理</li>
+ * </ul>
+ * 字段通过 {@link MethodHandles#privateLookupIn} 取得的字段 getter / setter 读写, 所在模块未向本模块开放时回退为 {@link ReflectionUtils}
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class SensitivePlan {
+
+    /** 没有敏感字段 */
+    static final SensitivePlan EMPTY = new SensitivePlan(List.of(), List.of());
+    /** 各类的处理计划, 包括没有敏感字段的类 (空计划) */
+    private static final Map<Class<?>, SensitivePlan> PLANS = new ConcurrentHashMap<>();
+
+    /** getter 的调用类型 */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /** setter 的调用类型 */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** 敏感字段 */
+    private final List<Accessor> fields;
+    /** 需要递归处理的字段 */
+    private final List<Accessor> bodies;
+
+    /**
+     * 构造函数
+     *
+     * @param fields 敏感字段
+     * @param bodies 需要递归处理的字段
+     */
+    private SensitivePlan(List<Accessor> fields, List<Accessor> bodies) {
+        this.fields = fields;
+        this.bodies = bodies;
+    }
+
+    /**
+     * 获取处理计划, 第一次出现的类在此编译
+     *
+     * @param type 类型
+     * @return 处理计划, 没有敏感字段时返回空计划
+     */
+    public static SensitivePlan of(Class<?> type) {
+        SensitivePlan plan = PLANS.get(type);
+        if (plan == null) {
+            plan = PLANS.computeIfAbsent(type, SensitivePlan::compile);
+        }
+        return plan;
+    }
+
+    /**
+     * 是否没有需要处理的字段
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return this.fields.isEmpty() && this.bodies.isEmpty();
+    }
+
+    /**
+     * 获取敏感字段
+     *
+     * @return 敏感字段
+     */
+    public List<Accessor> fields() {
+        return this.fields;
+    }
+
+    /**
+     * 获取需要递归处理的字段
+     *
+     * @return 需要递归处理的字段
+     */
+    public List<Accessor> bodies() {
+        return this.bodies;
+    }
+
+    /**
+     * 编译处理计划
+     *
+     * @param type 类型
+     * @return 处理计划
+     */
+    private static SensitivePlan compile(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || Map.class.isAssignableFrom(type)
+            || Collection.class.isAssignableFrom(type)) {
+            return EMPTY;
+        }
+        boolean dto = BaseDTO.class.isAssignableFrom(type);
+        List<Accessor> fields = new ArrayList<>();
+        List<Accessor> bodies = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(SensitiveField.class)) {
+                    fields.add(Accessor.of(field));
+                }
+                if (dto && field.isAnnotationPresent(SensitiveBody.class)) {
+                    bodies.add(Accessor.of(field));
+                }
+            }
+        }
+        return fields.isEmpty() && bodies.isEmpty() ? EMPTY : new SensitivePlan(List.copyOf(fields), List.copyOf(bodies));
+    }
+
+    /**
+     * 字段读写
+     *
+     * @param field         字段
+     * @param getter        字段 getter, 为空时通过 ReflectionUtils 读取
+     * @param setter        字段 setter, 为空时通过 ReflectionUtils 写入
+     * @param deterministic 是否标注了 {@link DeterministicEncrypt}
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record Accessor(Field field, MethodHandle getter, MethodHandle setter, boolean deterministic) {
+
+        /**
+         * 创建字段读写
+         *
+         * @param field 字段
+         * @return 字段读写
+         */
+        static Accessor of(Field field) {
+            boolean deterministic = field.isAnnotationPresent(DeterministicEncrypt.class);
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                MethodHandle setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+                return new Accessor(field, lookup.unreflectGetter(field).asType(GETTER_TYPE), setter, deterministic);
+            } catch (IllegalAccessException e) {
+                return new Accessor(field, null, null, deterministic);
+            }
+        }
+
+        /**
+         * 读取字段值
+         *
+         * @param target 对象
+         * @return 字段值
+         */
+        public Object get(Object target) {
+            if (this.getter == null) {
+                return ReflectionUtils.getFieldValue(target, this.field.getName());
+            }
+            try {
+                return (Object) this.getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("读取字段失败: " + this.field.getName(), e);
+            }
+        }
+
+        /**
+         * 写入字段值
+         *
+         * @param target 对象
+         * @param value  字段值
+         */
+        public void set(Object target, Object value) {
+            if (this.setter == null) {
+                ReflectionUtils.setFieldValue(target, this.field.getName(), value);
+                return;
+            }
+            try {
+                this.setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("写入字段失败: " + this.field.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import java.lang.reflect.Field;
+
+/**
+ * 需要重新加密的密文
+ * <p> 解密拦截器读到旧格式或非当前密钥的密文时创建, 交给 {@link StaleCiphertextHandler}
+ *
+ * @param row        查询结果行, 字段已解密为明文
+ * @param field      敏感字段
+ * @param stale      数据库中的旧密文
+ * @param ciphertext 当前密钥的新密文
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record StaleCiphertext(Object row, Field field, String stale, String ciphertext) {
+}
@@ -0,0 +1,23 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+/**
+ * 旧密文处理接口
+ * <p> 由解密拦截器在执行查询的线程中调用, 实现不能阻塞, 也不能在当前线程中执行 SQL (结果集尚未处理完).
+ * 内置的 {@link JdbcReEncryptor} 放入队列后由单独的线程写回数据库
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface StaleCiphertextHandler {
+
+    /**
+     * 处理需要重新加密的密文
+     *
+     * @param staleCiphertext 需要重新加密的密文
+     */
+    void handle(StaleCiphertext staleCiphertext);
+}
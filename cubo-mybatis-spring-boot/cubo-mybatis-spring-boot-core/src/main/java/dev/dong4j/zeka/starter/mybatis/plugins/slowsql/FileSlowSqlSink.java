@@ -0,0 +1,151 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 写入本地文件的慢 SQL 输出
+ * <p> 每条记录一行, 字段以制表符分隔:
+ * <pre>时间  耗时(ms)  次数  MappedStatement ID  链路 ID  应用名  客户端 ID  租户 ID  SQL</pre>
+ * SQL 中的换行与制表符替换为空格, 便于 grep / awk 处理. 每批记录写完后刷新一次;
+ * 文件超过最大大小时重命名为 {@code <文件名>.1} (覆盖旧的备份) 并重新创建, 磁盘占用不超过最大大小的两倍
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class FileSlowSqlSink implements SlowSqlSink {
+
+    /** 默认文件最大大小 (100 MB) */
+    public static final long DEFAULT_MAX_FILE_SIZE = 100L * 1024 * 1024;
+    /** 时间格式 */
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    /** 文件路径 */
+    private final Path path;
+    /** 备份文件路径 */
+    private final Path backup;
+    /** 文件最大大小 (字节) */
+    private final long maxFileSize;
+    /** 当前文件写入器, 首次写入时打开 */
+    private Writer writer;
+    /** 当前文件大小 (按字符数估算) */
+    private long size;
+
+    /**
+     * 构造函数
+     *
+     * @param path        文件路径
+     * @param maxFileSize 文件最大大小 (字节), 小于等于 0 时使用默认值
+     */
+    public FileSlowSqlSink(String path, long maxFileSize) {
+        this.path = Paths.get(path).toAbsolutePath();
+        this.backup = this.path.resolveSibling(this.path.getFileName() + ".1");
+        this.maxFileSize = maxFileSize > 0 ? maxFileSize : DEFAULT_MAX_FILE_SIZE;
+    }
+
+    /**
+     * 输出一批慢 SQL 记录
+     *
+     * @param records 慢 SQL 记录
+     * @throws IOException 写入文件失败
+     */
+    @Override
+    public synchronized void write(List<SlowSqlRecord> records) throws IOException {
+        if (writer == null) {
+            open();
+        }
+        StringBuilder line = new StringBuilder(256);
+        for (SlowSqlRecord record : records) {
+            line.setLength(0);
+            TIME.formatTo(Instant.ofEpochMilli(record.timestamp()), line);
+            line.append('\t').append(record.durationMillis())
+                .append('\t').append(record.occurrences())
+                .append('\t').append(record.statementId())
+                .append('\t').append(record.traceId())
+                .append('\t').append(record.applicationName())
+                .append('\t').append(record.clientId())
+                .append('\t').append(record.tenantId())
+                .append('\t');
+            appendSingleLine(line, record.sql());
+            line.append('\n');
+            writer.append(line);
+            size += line.length();
+        }
+        writer.flush();
+        if (size >= maxFileSize) {
+            rollover();
+        }
+    }
+
+    /**
+     * 关闭文件
+     */
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("关闭慢 SQL 文件失败: {}", path, e);
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * 以追加方式打开文件, 目录不存在时创建
+     *
+     * @throws IOException 打开文件失败
+     */
+    private void open() throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    /**
+     * 将当前文件重命名为备份文件并重新打开
+     *
+     * @throws IOException 重命名或打开文件失败
+     */
+    private void rollover() throws IOException {
+        close();
+        Files.move(path, backup, StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    /**
+     * 追加 SQL, 换行与制表符替换为空格
+     *
+     * @param line 行
+     * @param sql  SQL
+     */
+    private static void appendSingleLine(StringBuilder line, String sql) {
+        if (sql == null) {
+            return;
+        }
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            line.append(c == '\n' || c == '\r' || c == '\t' ? ' ' : c);
+        }
+    }
+}
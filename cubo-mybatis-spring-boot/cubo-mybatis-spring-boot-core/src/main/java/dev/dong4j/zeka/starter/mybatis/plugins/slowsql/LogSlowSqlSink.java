@@ -0,0 +1,38 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 输出到 sql.timing 日志的慢 SQL 输出
+ * <p> 可通过日志配置将 sql.timing 输出到单独的文件
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class LogSlowSqlSink implements SlowSqlSink {
+    /** 日志输出到指定的文件 */
+    private static final Logger LOG = LoggerFactory.getLogger("sql.timing");
+
+    /**
+     * 输出一批慢 SQL 记录
+     *
+     * @param records 慢 SQL 记录
+     */
+    @Override
+    public void write(List<SlowSqlRecord> records) {
+        for (SlowSqlRecord record : records) {
+            LOG.warn("Time: {} ms - Count: {} - ID: {} - TraceId: {} Execute SQL: {}",
+                     record.durationMillis(),
+                     record.occurrences(),
+                     record.statementId(),
+                     record.traceId(),
+                     record.sql());
+        }
+    }
+}
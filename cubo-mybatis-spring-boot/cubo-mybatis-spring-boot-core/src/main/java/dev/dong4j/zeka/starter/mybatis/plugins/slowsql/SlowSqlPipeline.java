@@ -0,0 +1,264 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 慢 SQL 投递管道
+ * <p> 替代通过 Spring 事件与 @Async 处理慢 SQL 的方式, 慢 SQL 风暴时开销有上限:
+ * <ul>
+ *     <li>提交: 先经 {@link SlowSqlRateLimiter} 按 MappedStatement 限流与合并, 再放入有界队列, 队列已满时直接丢弃并计数, 从不阻塞执行 SQL 的线程</li>
+ *     <li>投递: 单个守护线程从队列中按批取出记录 (最多 batchSize 条, 最长等待 flushInterval 毫秒), 依次交给各 {@link SlowSqlSink}</li>
+ *     <li>合并记录: 投递线程每隔 flushInterval 毫秒结束到期的限流窗口, 输出其中的合并记录</li>
+ *     <li>关闭: 停止投递线程, 输出所有窗口中的合并记录与队列中剩余的记录后关闭各输出</li>
+ * </ul>
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class SlowSqlPipeline {
+
+    /** 默认队列容量 */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    /** 默认每批最多投递的记录数 */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    /** 默认投递间隔 (毫秒) */
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+
+    /** 慢 SQL 输出 */
+    private final List<SlowSqlSink> sinks;
+    /** 限流与合并 */
+    private final SlowSqlRateLimiter rateLimiter;
+    /** 待投递的记录 */
+    private final BlockingQueue<SlowSqlRecord> queue;
+    /** 每批最多投递的记录数 */
+    private final int batchSize;
+    /** 投递间隔 (毫秒) */
+    private final long flushInterval;
+    /** 投递线程 */
+    private final Thread worker;
+    /** 是否运行中 */
+    private volatile boolean running;
+    /** 是否已关闭 */
+    private volatile boolean closed;
+
+    /** 提交的记录数 */
+    private final LongAdder submittedCount = new LongAdder();
+    /** 被合并的记录数 */
+    private final LongAdder mergedCount = new LongAdder();
+    /** 因队列已满丢弃的记录数 */
+    private final LongAdder droppedCount = new LongAdder();
+    /** 投递的记录数 */
+    private final LongAdder deliveredCount = new LongAdder();
+    /** 输出失败的记录数, 每个输出分别计数 */
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 构造函数, 参数小于等于 0 时使用默认值
+     *
+     * @param sinks         慢 SQL 输出
+     * @param rateLimiter   限流与合并
+     * @param queueCapacity 队列容量
+     * @param batchSize     每批最多投递的记录数
+     * @param flushInterval 投递间隔 (毫秒)
+     */
+    public SlowSqlPipeline(List<SlowSqlSink> sinks,
+                           SlowSqlRateLimiter rateLimiter,
+                           int queueCapacity,
+                           int batchSize,
+                           long flushInterval) {
+        this.sinks = List.copyOf(sinks);
+        this.rateLimiter = rateLimiter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY);
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.flushInterval = flushInterval > 0 ? flushInterval : DEFAULT_FLUSH_INTERVAL;
+        this.worker = new Thread(this::run, "slow-sql-pipeline");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * 启动投递线程
+     */
+    public void start() {
+        running = true;
+        worker.start();
+        log.info("慢 SQL 投递管道已启动: sinks={}", sinks.stream().map(sink -> sink.getClass().getSimpleName()).toList());
+    }
+
+    /**
+     * 提交慢 SQL 记录, 不阻塞调用线程
+     *
+     * @param record 慢 SQL 记录
+     */
+    public void submit(SlowSqlRecord record) {
+        submittedCount.increment();
+        if (rateLimiter.tryAcquire(record, this::enqueue)) {
+            enqueue(record);
+        } else {
+            mergedCount.increment();
+        }
+    }
+
+    /**
+     * 关闭管道, 投递剩余记录并关闭各输出
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // 不中断投递线程, 避免中断正在写文件的输出 (FileChannel 被中断时会关闭), 投递线程最多在一个投递间隔后退出
+        running = false;
+        try {
+            worker.join(flushInterval + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<SlowSqlRecord> batch = new ArrayList<>();
+        rateLimiter.expireAll(batch::add);
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            deliver(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+        for (SlowSqlSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (Exception e) {
+                log.warn("关闭慢 SQL 输出失败: {}", sink.getClass().getSimpleName(), e);
+            }
+        }
+        log.info("慢 SQL 投递管道已关闭: submitted={}, merged={}, dropped={}, delivered={}",
+                 getSubmittedCount(), getMergedCount(), getDroppedCount(), getDeliveredCount());
+    }
+
+    /**
+     * 放入队列, 队列已满或管道已关闭时丢弃
+     *
+     * @param record 慢 SQL 记录
+     */
+    private void enqueue(SlowSqlRecord record) {
+        if (closed || !queue.offer(record)) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 投递线程
+     */
+    private void run() {
+        List<SlowSqlRecord> batch = new ArrayList<>(batchSize);
+        long lastExpire = System.currentTimeMillis();
+        long reportedDropped = 0;
+        while (running) {
+            try {
+                SlowSqlRecord first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long now = System.currentTimeMillis();
+            if (now - lastExpire >= flushInterval) {
+                lastExpire = now;
+                rateLimiter.expire(now, this::enqueue);
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch.clear();
+            }
+            long dropped = droppedCount.sum();
+            if (dropped > reportedDropped) {
+                log.warn("慢 SQL 队列已满, 丢弃 {} 条记录", dropped - reportedDropped);
+                reportedDropped = dropped;
+            }
+        }
+    }
+
+    /**
+     * 将一批记录交给各输出
+     *
+     * @param batch 慢 SQL 记录
+     */
+    private void deliver(List<SlowSqlRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<SlowSqlRecord> records = List.copyOf(batch);
+        for (SlowSqlSink sink : sinks) {
+            try {
+                sink.write(records);
+            } catch (Exception e) {
+                failedCount.add(records.size());
+                log.warn("慢 SQL 输出失败: sink={}, size={}", sink.getClass().getSimpleName(), records.size(), e);
+            }
+        }
+        deliveredCount.add(records.size());
+    }
+
+    /**
+     * 获取提交的记录数
+     *
+     * @return 提交的记录数
+     */
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * 获取被合并的记录数, 这些记录以合并记录的 occurrences 形式输出
+     *
+     * @return 被合并的记录数
+     */
+    public long getMergedCount() {
+        return mergedCount.sum();
+    }
+
+    /**
+     * 获取因队列已满丢弃的记录数
+     *
+     * @return 丢弃的记录数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 获取投递的记录数, 包括合并记录
+     *
+     * @return 投递的记录数
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    /**
+     * 获取输出失败的记录数, 每个输出分别计数
+     *
+     * @return 输出失败的记录数
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 获取队列中等待投递的记录数
+     *
+     * @return 等待投递的记录数
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 慢 SQL 限流与合并
+ * <p> 按 MappedStatement 划分固定时间窗口, 每个窗口内同一 MappedStatement 最多放行 maxPerWindow 条记录,
+ * 其余记录不进入队列, 只累计次数并保留耗时最长的一条. 窗口结束后输出一条合并记录, 其 occurrences 为被合并的次数,
+ * 因此慢 SQL 风暴时输出量与 MappedStatement 数量成正比, 而执行次数不会丢失
+ * <p> 限流的 MappedStatement 数量不超过 maxStatements, 超过后新出现的 MappedStatement 不限流, 由队列容量兜底
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class SlowSqlRateLimiter {
+
+    /** 默认窗口长度 (毫秒) */
+    public static final long DEFAULT_WINDOW = 60_000L;
+    /** 默认每个窗口放行的记录数 */
+    public static final int DEFAULT_MAX_PER_WINDOW = 5;
+    /** 默认最多限流的 MappedStatement 数量 */
+    public static final int DEFAULT_MAX_STATEMENTS = 2000;
+
+    /** 窗口长度 (毫秒) */
+    private final long window;
+    /** 每个窗口放行的记录数 */
+    private final int maxPerWindow;
+    /** 最多限流的 MappedStatement 数量 */
+    private final int maxStatements;
+    /** 各 MappedStatement 的当前窗口 */
+    private final Map<String, StatementWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数, 参数小于等于 0 时使用默认值
+     *
+     * @param window        窗口长度 (毫秒)
+     * @param maxPerWindow  每个窗口放行的记录数
+     * @param maxStatements 最多限流的 MappedStatement 数量
+     */
+    public SlowSqlRateLimiter(long window, int maxPerWindow, int maxStatements) {
+        this.window = window > 0 ? window : DEFAULT_WINDOW;
+        this.maxPerWindow = maxPerWindow > 0 ? maxPerWindow : DEFAULT_MAX_PER_WINDOW;
+        this.maxStatements = maxStatements > 0 ? maxStatements : DEFAULT_MAX_STATEMENTS;
+    }
+
+    /**
+     * 判断记录是否放行
+     * <p> 记录所在 MappedStatement 的上一个窗口已结束且有被合并的记录时, 先将合并记录交给 merged
+     *
+     * @param record 慢 SQL 记录, 以其 timestamp 作为当前时间
+     * @param merged 接收上一个窗口的合并记录
+     * @return 放行时返回 true, 被合并时返回 false
+     */
+    public boolean tryAcquire(SlowSqlRecord record, Consumer<SlowSqlRecord> merged) {
+        long now = record.timestamp();
+        while (true) {
+            StatementWindow current = windows.get(record.statementId());
+            if (current == null) {
+                if (windows.size() >= maxStatements) {
+                    return true;
+                }
+                current = windows.computeIfAbsent(record.statementId(), key -> new StatementWindow(now));
+            }
+            synchronized (current) {
+                // 窗口已被 expire 移除, 重新获取
+                if (current.removed) {
+                    continue;
+                }
+                if (now - current.start >= window) {
+                    current.flush(merged);
+                    current.start = now;
+                    current.passed = 0;
+                }
+                if (current.passed < maxPerWindow) {
+                    current.passed++;
+                    return true;
+                }
+                current.merge(record);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 结束已到期的窗口, 输出其中的合并记录并移除窗口, 使长时间不再出现的 MappedStatement 不占用内存
+     *
+     * @param now    当前时间 (毫秒时间戳)
+     * @param merged 接收合并记录
+     */
+    public void expire(long now, Consumer<SlowSqlRecord> merged) {
+        expire(now, false, merged);
+    }
+
+    /**
+     * 结束所有窗口并输出其中的合并记录, 用于关闭时
+     *
+     * @param merged 接收合并记录
+     */
+    public void expireAll(Consumer<SlowSqlRecord> merged) {
+        expire(0, true, merged);
+    }
+
+    /**
+     * 获取当前限流的 MappedStatement 数量
+     *
+     * @return MappedStatement 数量
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * 结束窗口
+     *
+     * @param now    当前时间 (毫秒时间戳)
+     * @param all    是否结束所有窗口
+     * @param merged 接收合并记录
+     */
+    private void expire(long now, boolean all, Consumer<SlowSqlRecord> merged) {
+        Iterator<StatementWindow> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            StatementWindow current = iterator.next();
+            synchronized (current) {
+                if (all || now - current.start >= window) {
+                    current.flush(merged);
+                    current.removed = true;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * 单个 MappedStatement 的限流窗口
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class StatementWindow {
+        /** 窗口开始时间 */
+        private long start;
+        /** 窗口内已放行的记录数 */
+        private int passed;
+        /** 窗口内被合并的记录数 */
+        private long mergedCount;
+        /** 被合并的记录中耗时最长的一条 */
+        private SlowSqlRecord slowest;
+        /** 是否已从限流表中移除 */
+        private boolean removed;
+
+        /**
+         * 构造函数
+         *
+         * @param start 窗口开始时间
+         */
+        private StatementWindow(long start) {
+            this.start = start;
+        }
+
+        /**
+         * 合并一条记录
+         *
+         * @param record 慢 SQL 记录
+         */
+        private void merge(SlowSqlRecord record) {
+            mergedCount++;
+            if (slowest == null || record.durationMillis() > slowest.durationMillis()) {
+                slowest = record;
+            }
+        }
+
+        /**
+         * 输出窗口内的合并记录并清空
+         *
+         * @param merged 接收合并记录
+         */
+        private void flush(Consumer<SlowSqlRecord> merged) {
+            if (mergedCount > 0) {
+                merged.accept(slowest.withOccurrences(mergedCount));
+                mergedCount = 0;
+                slowest = null;
+            }
+        }
+    }
+}
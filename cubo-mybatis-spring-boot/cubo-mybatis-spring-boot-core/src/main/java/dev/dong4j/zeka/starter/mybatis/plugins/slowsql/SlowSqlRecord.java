@@ -0,0 +1,53 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+/**
+ * 慢 SQL 记录
+ * <p> 由 PerformanceInterceptor 在 SQL 执行超过阈值时创建, 经 {@link SlowSqlPipeline} 限流与合并后批量交给 {@link SlowSqlSink}.
+ * occurrences 为 1 时表示单次执行; 大于 1 时是限流窗口内被合并的多次执行, 记录内容取其中耗时最长的一次
+ *
+ * @param statementId        MappedStatement ID
+ * @param sql                替换参数后的 SQL
+ * @param durationMillis     执行耗时 (毫秒)
+ * @param timestamp          执行结束时间 (毫秒时间戳)
+ * @param traceId            链路 ID
+ * @param applicationName    应用名
+ * @param applicationVersion 应用版本
+ * @param clientId           客户端 ID, 没有时为空字符串
+ * @param tenantId           租户 ID, 没有时为 -1
+ * @param occurrences        记录代表的执行次数
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record SlowSqlRecord(String statementId,
+                            String sql,
+                            long durationMillis,
+                            long timestamp,
+                            String traceId,
+                            String applicationName,
+                            String applicationVersion,
+                            String clientId,
+                            Long tenantId,
+                            long occurrences) {
+
+    /**
+     * 返回代表指定执行次数的副本
+     *
+     * @param occurrences 执行次数
+     * @return 慢 SQL 记录
+     */
+    public SlowSqlRecord withOccurrences(long occurrences) {
+        return new SlowSqlRecord(statementId,
+                                 sql,
+                                 durationMillis,
+                                 timestamp,
+                                 traceId,
+                                 applicationName,
+                                 applicationVersion,
+                                 clientId,
+                                 tenantId,
+                                 occurrences);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import java.util.List;
+
+/**
+ * 慢 SQL 输出接口
+ * <p> 由 {@link SlowSqlPipeline} 的投递线程按批调用, 可按部署环境实现为写入日志, 文件, 消息队列或数据库等.
+ * 同一个输出只会被投递线程串行调用; 抛出的异常只记录日志, 不影响其他输出与后续批次
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public interface SlowSqlSink extends AutoCloseable {
+
+    /**
+     * 输出一批慢 SQL 记录
+     *
+     * @param records 慢 SQL 记录, 不可修改
+     * @throws Exception 输出失败
+     */
+    void write(List<SlowSqlRecord> records) throws Exception;
+
+    /**
+     * 关闭输出, 释放资源
+     */
+    @Override
+    default void close() {
+    }
+}
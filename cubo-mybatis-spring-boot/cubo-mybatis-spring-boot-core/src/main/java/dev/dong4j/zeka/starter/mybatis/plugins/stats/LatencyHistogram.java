@@ -0,0 +1,183 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁耗时直方图
+ * <p> 参考 HdrHistogram 的对数-线性分桶: 小于 {@link #SUB_BUCKET_COUNT} 微秒的值每微秒一个桶,
+ * 更大的值按 2 的幂分段, 每段再线性划分为 {@link #SUB_BUCKET_HALF} 个桶, 因此任意值的相对误差不超过 1/32.
+ * 记录只有一次原子自增, 没有锁也没有对象分配, 桶数组在创建时一次性分配 (约 7KB)
+ * <p> 读取的百分位是记录时刻的近似快照, 并发记录期间各桶计数之间不保证一致
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class LatencyHistogram {
+
+    /** 每段的子桶位数 */
+    private static final int SUB_BUCKET_BITS = 6;
+    /** 每段的子桶数量 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** 子桶数量的一半, 第一段之后的每段实际使用的桶数量 */
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    /** 可记录的最大耗时 (微秒), 超过的值按该值记录, 约 71 分钟 */
+    static final long HIGHEST_TRACKABLE_MICROS = (1L << 32) - 1;
+    /** 桶数量 */
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_MICROS) + 1;
+
+    /** 各桶计数 */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    /** 耗时总和 (微秒) */
+    private final LongAdder totalMicros = new LongAdder();
+    /** 最大耗时 (微秒) */
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param micros 耗时 (微秒), 负数按 0 记录
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0L), HIGHEST_TRACKABLE_MICROS);
+        counts.incrementAndGet(indexOf(value));
+        totalMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    /**
+     * 生成直方图快照
+     *
+     * @return 当前各桶计数的拷贝
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalMicros.sum(), maxMicros.get());
+    }
+
+    /**
+     * 计算耗时所在的桶下标
+     *
+     * @param micros 耗时 (微秒), 非负
+     * @return 桶下标
+     */
+    static int indexOf(long micros) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1));
+        return (shift * SUB_BUCKET_HALF) + (int) (micros >>> shift);
+    }
+
+    /**
+     * 计算桶内的最大耗时, 即落入该桶的值的上界
+     *
+     * @param index 桶下标
+     * @return 桶内最大耗时 (微秒)
+     */
+    static long highestEquivalentValue(int index) {
+        int shift = Math.max(0, (index / SUB_BUCKET_HALF) - 1);
+        long mantissa = index - ((long) shift * SUB_BUCKET_HALF);
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * 直方图快照
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static final class Snapshot {
+
+        /** 各桶计数 */
+        private final long[] counts;
+        /** 记录次数 */
+        private final long count;
+        /** 耗时总和 (微秒) */
+        private final long totalMicros;
+        /** 最大耗时 (微秒) */
+        private final long maxMicros;
+
+        /**
+         * 创建快照
+         *
+         * @param counts      各桶计数
+         * @param count       记录次数
+         * @param totalMicros 耗时总和 (微秒)
+         * @param maxMicros   最大耗时 (微秒)
+         */
+        private Snapshot(long[] counts, long count, long totalMicros, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.totalMicros = totalMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * 获取记录次数
+         *
+         * @return 记录次数
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * 获取耗时总和
+         *
+         * @return 耗时总和 (微秒)
+         */
+        public long totalMicros() {
+            return totalMicros;
+        }
+
+        /**
+         * 获取最大耗时
+         *
+         * @return 最大耗时 (微秒)
+         */
+        public long maxMicros() {
+            return maxMicros;
+        }
+
+        /**
+         * 获取平均耗时
+         *
+         * @return 平均耗时 (微秒), 没有记录时返回 0
+         */
+        public double meanMicros() {
+            return count == 0 ? 0 : (double) totalMicros / count;
+        }
+
+        /**
+         * 获取百分位耗时
+         * <p> 返回覆盖指定比例记录的桶的上界, 不超过最大耗时
+         *
+         * @param percentile 百分位, 取值 (0, 100]
+         * @return 百分位耗时 (微秒), 没有记录时返回 0
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1L, (long) Math.ceil(count * Math.min(percentile, 100D) / 100D));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    return Math.min(highestEquivalentValue(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL 耗时统计记录器
+ * <p> 按 MappedStatement 记录每次执行的耗时, 返回或影响的行数以及失败次数, 耗时保存在无锁的 {@link LatencyHistogram} 中,
+ * 可随时计算 P50 / P90 / P99 / 最大耗时, 用于按 mapper 方法定位性能退化而无需解析日志
+ * <p> 记录路径只有 Map 查找与若干原子累加, 不加锁也不分配对象. 统计的 MappedStatement 数量不超过构造时指定的上限,
+ * 超过后新出现的 MappedStatement 只计入总数, 避免动态生成的 ID 导致内存无限增长
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class SqlLatencyRecorder {
+
+    /** 默认最多统计的 MappedStatement 数量 */
+    public static final int DEFAULT_MAX_STATEMENTS = 2000;
+
+    /** 最多统计的 MappedStatement 数量 */
+    private final int maxStatements;
+    /** 执行次数 */
+    private final LongAdder executionCount = new LongAdder();
+    /** 执行失败次数 */
+    private final LongAdder errorCount = new LongAdder();
+    /** 按 MappedStatement 统计的明细 */
+    private final Map<String, StatementRecorder> statements = new ConcurrentHashMap<>();
+
+    /**
+     * 使用默认的 MappedStatement 数量上限创建记录器
+     */
+    public SqlLatencyRecorder() {
+        this(DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxStatements 最多统计的 MappedStatement 数量
+     */
+    public SqlLatencyRecorder(int maxStatements) {
+        this.maxStatements = maxStatements > 0 ? maxStatements : DEFAULT_MAX_STATEMENTS;
+    }
+
+    /**
+     * 记录一次 SQL 执行
+     *
+     * @param statementId MappedStatement ID
+     * @param nanos       执行耗时 (纳秒)
+     * @param rows        返回或影响的行数, 未知时传 0
+     * @param success     是否执行成功
+     */
+    public void record(String statementId, long nanos, long rows, boolean success) {
+        executionCount.increment();
+        if (!success) {
+            errorCount.increment();
+        }
+        StatementRecorder recorder = recorder(statementId);
+        if (recorder == null) {
+            return;
+        }
+        recorder.histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (rows > 0) {
+            recorder.rowCount.add(rows);
+        }
+        if (!success) {
+            recorder.errorCount.increment();
+        }
+    }
+
+    /**
+     * 生成耗时统计报告
+     *
+     * @param top 返回的 MappedStatement 数量, 小于等于 0 时返回全部
+     * @return 按累计耗时降序排列的统计报告
+     */
+    public SqlLatencyReport report(int top) {
+        List<SqlLatencyReport.StatementLatency> list = new ArrayList<>(statements.size());
+        statements.forEach((statementId, recorder) -> list.add(recorder.stats(statementId)));
+        list.sort(Comparator.comparingDouble(SqlLatencyReport.StatementLatency::totalMillis).reversed());
+        List<SqlLatencyReport.StatementLatency> result = top > 0 && list.size() > top ? list.subList(0, top) : list;
+        return new SqlLatencyReport(executionCount.sum(),
+                                    errorCount.sum(),
+                                    statements.size(),
+                                    List.copyOf(result));
+    }
+
+    /**
+     * 获取单个 MappedStatement 的耗时统计
+     *
+     * @param statementId MappedStatement ID
+     * @return 耗时统计, 未执行过或超出统计上限时返回 null
+     */
+    public SqlLatencyReport.StatementLatency statement(String statementId) {
+        StatementRecorder recorder = statements.get(statementId);
+        return recorder == null ? null : recorder.stats(statementId);
+    }
+
+    /**
+     * 清空所有统计数据
+     */
+    public void reset() {
+        executionCount.reset();
+        errorCount.reset();
+        statements.clear();
+        log.info("SQL 耗时统计已重置");
+    }
+
+    /**
+     * 获取 MappedStatement 对应的统计明细, 超过统计上限时返回 null
+     *
+     * @param statementId MappedStatement ID
+     * @return 统计明细
+     */
+    private StatementRecorder recorder(String statementId) {
+        StatementRecorder recorder = statements.get(statementId);
+        if (recorder == null && statements.size() < maxStatements) {
+            recorder = statements.computeIfAbsent(statementId, key -> new StatementRecorder());
+        }
+        return recorder;
+    }
+
+    /**
+     * 微秒转换为毫秒
+     *
+     * @param micros 微秒
+     * @return 毫秒
+     */
+    private static double toMillis(double micros) {
+        return micros / 1000D;
+    }
+
+    /**
+     * 单个 MappedStatement 的统计明细
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class StatementRecorder {
+        /** 耗时直方图 */
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        /** 返回或影响的行数之和 */
+        private final LongAdder rowCount = new LongAdder();
+        /** 执行失败次数 */
+        private final LongAdder errorCount = new LongAdder();
+
+        /**
+         * 生成统计快照
+         *
+         * @param statementId MappedStatement ID
+         * @return 耗时统计
+         */
+        private SqlLatencyReport.StatementLatency stats(String statementId) {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            return new SqlLatencyReport.StatementLatency(statementId,
+                                                         snapshot.count(),
+                                                         errorCount.sum(),
+                                                         rowCount.sum(),
+                                                         toMillis(snapshot.totalMicros()),
+                                                         toMillis(snapshot.meanMicros()),
+                                                         toMillis(snapshot.percentile(50)),
+                                                         toMillis(snapshot.percentile(90)),
+                                                         toMillis(snapshot.percentile(99)),
+                                                         toMillis(snapshot.maxMicros()));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.stats;
+
+import java.util.List;
+
+/**
+ * SQL 耗时统计报告
+ * <p> 某一时刻按 MappedStatement 统计的执行耗时分布, 由 {@link SqlLatencyRecorder#report(int)} 生成, 不可变
+ *
+ * @param executionCount 执行次数
+ * @param errorCount     执行失败次数
+ * @param statementCount 已统计的 MappedStatement 数量
+ * @param statements     累计耗时最多的 MappedStatement, 按累计耗时降序排列
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record SqlLatencyReport(long executionCount,
+                               long errorCount,
+                               int statementCount,
+                               List<StatementLatency> statements) {
+
+    /**
+     * 单个 MappedStatement 的耗时统计
+     * <p> 百分位耗时取自对数-线性直方图, 相对误差不超过 1/32
+     *
+     * @param statementId    MappedStatement ID (mapper 全限定名 + 方法名)
+     * @param count          执行次数
+     * @param errorCount     执行失败次数
+     * @param rowCount       返回或影响的行数之和
+     * @param totalMillis    累计耗时 (毫秒)
+     * @param meanMillis     平均耗时 (毫秒)
+     * @param p50Millis      P50 耗时 (毫秒)
+     * @param p90Millis      P90 耗时 (毫秒)
+     * @param p99Millis      P99 耗时 (毫秒)
+     * @param maxMillis      最大耗时 (毫秒)
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record StatementLatency(String statementId,
+                                   long count,
+                                   long errorCount,
+                                   long rowCount,
+                                   double totalMillis,
+                                   double meanMillis,
+                                   double p50Millis,
+                                   double p90Millis,
+                                   double p99Millis,
+                                   double maxMillis) {
+    }
+}
@@ -157,6 +157,98 @@ public interface BaseService<PO> extends IService<PO> {
      */
     boolean saveReplaceBatch(Collection<PO> entityList, int batchSize);
 
+    /**
+     * 多行批量插入忽略操作（默认批次大小）
+     * <p>
+     * 与 saveIgnoreBatch 相同，但每批使用一条多行 INSERT IGNORE 语句，使用默认批次大小 1000。
+     *
+     * @param entityList 实体对象集合
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    default boolean saveIgnoreBatchMultiRow(Collection<PO> entityList) {
+        Assertions.notEmpty(entityList);
+        return this.saveIgnoreBatchMultiRow(entityList, 1000);
+    }
+
+    /**
+     * 多行批量插入忽略操作（自定义批次大小）
+     * <p>
+     * 每批一条 INSERT IGNORE INTO ... VALUES (...), (...) 语句，一次往返写入多行，与现有数据冲突的行被忽略。
+     * <p>
+     * 与 saveIgnoreBatch 的区别：每行的列必须相同，因此插入所有字段，值为 null 的字段写入 NULL 而不是数据库默认值。
+     * 依赖数据库默认值的表请使用 saveIgnoreBatch
+     *
+     * @param entityList 实体对象集合
+     * @param batchSize  每条语句最多行数，实际行数还受语句大小限制
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    boolean saveIgnoreBatchMultiRow(Collection<PO> entityList, int batchSize);
+
+    /**
+     * 多行批量替换插入操作（默认批次大小）
+     * <p>
+     * 与 saveReplaceBatch 相同，但每批使用一条多行 REPLACE INTO 语句，使用默认批次大小 1000。
+     *
+     * @param entityList 实体对象集合
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    default boolean saveReplaceBatchMultiRow(Collection<PO> entityList) {
+        Assertions.notEmpty(entityList);
+        return this.saveReplaceBatchMultiRow(entityList, 1000);
+    }
+
+    /**
+     * 多行批量替换插入操作（自定义批次大小）
+     * <p>
+     * 每批一条 REPLACE INTO ... VALUES (...), (...) 语句，与现有数据冲突的行先删除再插入。
+     * <p>
+     * 与 saveReplaceBatch 的区别：插入所有字段，值为 null 的字段写入 NULL 而不是数据库默认值。
+     * <p>
+     * 注意：该操作要求表必须有主键或唯一索引约束
+     *
+     * @param entityList 实体对象集合
+     * @param batchSize  每条语句最多行数，实际行数还受语句大小限制
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    boolean saveReplaceBatchMultiRow(Collection<PO> entityList, int batchSize);
+
+    /**
+     * 批量插入或更新操作（默认批次大小）
+     * <p>
+     * 与主键或唯一索引冲突的行按新值更新，其余行插入，使用默认批次大小 1000。
+     *
+     * @param entityList 实体对象集合
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    default boolean saveUpsertBatch(Collection<PO> entityList) {
+        Assertions.notEmpty(entityList);
+        return this.saveUpsertBatch(entityList, 1000);
+    }
+
+    /**
+     * 批量插入或更新操作（自定义批次大小）
+     * <p>
+     * 底层使用 MySQL 的 INSERT ... ON DUPLICATE KEY UPDATE 语法，与 saveReplaceBatch 不同，冲突的行不会被删除。
+     * 冲突时值为 null 的字段保留原值（更新策略为 ALWAYS 的字段除外）；插入的新行中值为 null 的字段写入 NULL 而不是数据库默认值。
+     * 自增主键不为 null 时按该值写入，可与已有行冲突；为 null 时由数据库生成，生成的主键不回写到实体。
+     * <p>
+     * 注意：该操作要求表必须有主键或唯一索引约束
+     *
+     * @param entityList 实体对象集合
+     * @param batchSize  每条语句最多行数，实际行数还受语句大小限制
+     * @return boolean 是否成功
+     * @since 2.0.0
+     */
+    boolean saveUpsertBatch(Collection<PO> entityList, int batchSize);
+
     /**
      * 分页查询接口 (已废弃)
      * <p>
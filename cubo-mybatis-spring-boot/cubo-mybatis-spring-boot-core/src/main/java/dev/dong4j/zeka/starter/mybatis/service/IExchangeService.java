@@ -1,8 +1,13 @@
 package dev.dong4j.zeka.starter.mybatis.service;
 
+import java.util.Collection;
+
 import dev.dong4j.zeka.kernel.common.base.AbstractBaseEntity;
 import dev.dong4j.zeka.kernel.common.base.ICrudDelegate;
 import dev.dong4j.zeka.starter.mybatis.base.BasePO;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteEngine;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteOptions;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteResult;
 
 /**
  * 实体转换服务接口
@@ -39,4 +44,47 @@ import dev.dong4j.zeka.starter.mybatis.base.BasePO;
 public interface IExchangeService<PO extends BasePO<?, PO>, DTO extends AbstractBaseEntity<?>>
     extends ICrudDelegate<DTO>, BaseService<PO> {
 
+    /**
+     * 并行分批插入
+     * <p>
+     * 由 {@link BatchWriteEngine} 按 options 切分并行写入, 每批独立提交, 不参与调用方的事务.
+     * 失败的批次记录在返回结果中, 不抛出异常.
+     * <p>
+     * 每批提交后将生成的 id 写回该批的 DTO; 失败或未写入的批次中的 DTO 不写回, id 保持原值
+     *
+     * @param dtos    数据
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    BatchWriteResult createBatch(Collection<DTO> dtos, BatchWriteOptions options);
+
+    /**
+     * 并行分批根据 id 更新
+     * <p>
+     * 由 {@link BatchWriteEngine} 按 options 切分并行写入, 每批独立提交, 不参与调用方的事务.
+     * 失败的批次记录在返回结果中, 不抛出异常
+     *
+     * @param dtos    数据
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    BatchWriteResult updateBatch(Collection<DTO> dtos, BatchWriteOptions options);
+
+    /**
+     * 并行分批插入或更新
+     * <p>
+     * 每批通过一次按 id 的查询判断已存在的行, 已存在的更新, 其余插入.
+     * 由 {@link BatchWriteEngine} 按 options 切分并行写入, 每批独立提交, 不参与调用方的事务.
+     * 失败的批次记录在返回结果中, 不抛出异常.
+     * <p>
+     * 每批提交后将插入行生成的 id 写回该批的 DTO; 失败或未写入的批次中的 DTO 不写回, id 保持原值
+     *
+     * @param dtos    数据
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    BatchWriteResult createOrUpdateBatch(Collection<DTO> dtos, BatchWriteOptions options);
 }
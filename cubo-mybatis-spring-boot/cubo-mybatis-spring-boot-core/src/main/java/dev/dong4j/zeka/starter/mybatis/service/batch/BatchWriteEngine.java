@@ -0,0 +1,597 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import dev.dong4j.zeka.kernel.common.context.ExpandIds;
+import dev.dong4j.zeka.kernel.common.context.ExpandIdsContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 并行分批写入引擎
+ * <p> 将大集合按 chunkSize 切分后由多个工作线程并行写入:
+ * <ul>
+ *     <li>线程: 工作任务提交到 {@link BatchWriteOptions#executor()}, 未设置时使用构造时传入的线程池, 都没有时使用
+ *     {@link BatchWriteExecutor} 的默认线程池; 线程池繁忙时工作任务排队, 已开始的工作任务继续写入</li>
+ *     <li>线程上下文: 工作任务在工作线程上恢复调用线程的 MDC 与 {@link ExpandIdsContext} (租户等自动填充字段), 结束后还原工作线程原有的值;
+ *     其他 ThreadLocal 不会传递, 需要时通过 {@link BatchWriteOptions#taskDecorator()} 包装</li>
+ *     <li>转换与写入流水线: 调用线程逐批转换 (如 DTO 转 PO), 放入容量为 2 * parallelism 的有界队列,
+ *     工作线程写入前一批时调用线程已在转换下一批; 队列已满时调用线程等待, 内存中最多保留 3 * parallelism 批</li>
+ *     <li>会话: 每个工作线程打开一个会话并在整个写入过程中持有, 每批写入后刷新语句并直接在连接上提交,
+ *     与 Spring 托管的事务工厂同样有效</li>
+ *     <li>失败: 单批写入或提交失败时回滚该批并记录到结果中, 其余批次不受影响; failFast 时调用线程停止提交新的批次,
+ *     已在队列中的批次仍会写入. 转换失败的批次同样记录, 不会写入</li>
+ *     <li>提交回调: 每批提交后可在工作线程上回调该批的原始数据与写入的数据, 如将生成的主键复制回 DTO, 失败的批次不回调</li>
+ *     <li>进度: 每批完成后通知 {@link BatchWriteListener}, 结束时记录总行数, 失败批数与吞吐量</li>
+ * </ul>
+ * 各批次在独立的事务中提交, 整体不是原子的: 在调用方的 Spring 事务中调用时, 写入不参与该事务, 回滚该事务也不会撤销已提交的批次
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class BatchWriteEngine {
+
+    /** 工作线程等待新批次的间隔 (毫秒) */
+    private static final long POLL_INTERVAL = 100L;
+
+    /** 会话工厂 */
+    private final SqlSessionFactory sqlSessionFactory;
+    /** 配置 */
+    private final BatchWriteOptions options;
+    /** 执行工作任务的线程池 */
+    private final Executor executor;
+
+    /**
+     * 构造函数, 使用配置中的线程池, 未设置时使用默认线程池
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param options           配置
+     */
+    public BatchWriteEngine(@NotNull SqlSessionFactory sqlSessionFactory, @NotNull BatchWriteOptions options) {
+        this(sqlSessionFactory, options, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param sqlSessionFactory 会话工厂
+     * @param options           配置
+     * @param executor          线程池, 配置中设置了线程池时使用配置中的线程池, 都为 null 时使用默认线程池
+     */
+    public BatchWriteEngine(@NotNull SqlSessionFactory sqlSessionFactory, @NotNull BatchWriteOptions options, Executor executor) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.options = options;
+        if (options.executor() != null) {
+            this.executor = options.executor();
+        } else {
+            this.executor = executor != null ? executor : BatchWriteExecutor.shared();
+        }
+    }
+
+    /**
+     * 分批转换并写入
+     *
+     * @param <S>          原始数据类型
+     * @param <T>          写入的数据类型
+     * @param source       原始数据
+     * @param converter    转换一批数据, 在调用线程上执行
+     * @param executorType 工作线程会话的执行器类型, 逐行执行语句时使用 BATCH, 多行语句使用 SIMPLE
+     * @param writer       写入一批数据, 在工作线程上执行
+     * @return 写入结果
+     */
+    public <S, T> BatchWriteResult write(@NotNull Collection<S> source,
+                                         @NotNull Function<List<S>, List<T>> converter,
+                                         @NotNull ExecutorType executorType,
+                                         @NotNull ChunkWriter<T> writer) {
+        return this.write(source, converter, executorType, writer, null);
+    }
+
+    /**
+     * 分批转换并写入, 每批提交后回调
+     * <p> committed 在提交该批的工作线程上调用, 参数为该批的原始数据与转换后写入的数据, 两者按位置一一对应,
+     * 可用于将数据库生成的值 (如自增主键) 复制回原始数据. 失败回滚或未写入的批次不会回调; 回调异常只记录日志,
+     * 该批仍计为已提交. 各批的回调在不同的工作线程上并发执行, write 返回后调用线程可以看到所有回调的修改
+     *
+     * @param <S>          原始数据类型
+     * @param <T>          写入的数据类型
+     * @param source       原始数据
+     * @param converter    转换一批数据, 在调用线程上执行
+     * @param executorType 工作线程会话的执行器类型, 逐行执行语句时使用 BATCH, 多行语句使用 SIMPLE
+     * @param writer       写入一批数据, 在工作线程上执行
+     * @param committed    每批提交后的回调, 可以为 null
+     * @return 写入结果
+     */
+    public <S, T> BatchWriteResult write(@NotNull Collection<S> source,
+                                         @NotNull Function<List<S>, List<T>> converter,
+                                         @NotNull ExecutorType executorType,
+                                         @NotNull ChunkWriter<T> writer,
+                                         BiConsumer<List<S>, List<T>> committed) {
+        int totalChunks = (int) ((source.size() + (long) this.options.chunkSize() - 1) / this.options.chunkSize());
+        int workerCount = Math.min(this.options.parallelism(), totalChunks);
+        Run<S, T> run = new Run<>(source.size(), totalChunks, Math.max(1, workerCount * 2), workerCount, committed);
+        if (source.isEmpty()) {
+            return run.result();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("批量写入在当前事务之外按批提交, 当前事务回滚不会撤销已提交的批次");
+        }
+        this.start(run, workerCount, executorType, writer);
+        try {
+            this.produce(source, converter, run);
+        } finally {
+            run.produced = true;
+            await(run.finished);
+        }
+        BatchWriteResult result = run.result();
+        log.info("批量写入完成: rows={}, written={}, skipped={}, chunks={}, failed={}, elapsed={}ms, rows/s={}",
+                 result.totalRows(), result.writtenRows(), result.skippedRows(), result.totalChunks(), result.failures().size(),
+                 TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 提交工作任务, 线程池拒绝的工作任务不再计入运行中的工作线程
+     *
+     * @param <S>          原始数据类型
+     * @param <T>          写入的数据类型
+     * @param run          本次写入的状态
+     * @param workerCount  工作任务数
+     * @param executorType 执行器类型
+     * @param writer       写入一批数据
+     * @throws RejectedExecutionException 线程池拒绝了工作任务且没有运行中的工作线程, 此时还没有写入任何数据
+     */
+    private <S, T> void start(Run<S, T> run, int workerCount, ExecutorType executorType, ChunkWriter<T> writer) {
+        int accepted = 0;
+        RejectedExecutionException rejected = null;
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                this.executor.execute(this.propagate(() -> {
+                    try {
+                        this.work(run, executorType, writer);
+                    } finally {
+                        run.finished.countDown();
+                    }
+                }));
+                accepted++;
+            } catch (RejectedExecutionException e) {
+                rejected = e;
+                run.finished.countDown();
+                if (run.aliveWorkers.decrementAndGet() == 0) {
+                    // 没有运行中的工作线程, 调用线程还没有提交批次
+                    throw e;
+                }
+            }
+        }
+        if (rejected != null) {
+            log.warn("批量写入的线程池拒绝了 {} 个工作任务, 使用 {} 个工作线程继续写入", workerCount - accepted, accepted, rejected);
+        }
+    }
+
+    /**
+     * 在调用线程上取得 MDC 与 ExpandIds, 工作任务执行时在工作线程上恢复, 结束后还原工作线程原有的值
+     *
+     * @param task 工作任务
+     * @return 包装后的工作任务
+     */
+    private Runnable propagate(Runnable task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        ExpandIds expandIds = ExpandIdsContext.context().get();
+        Runnable propagated = () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            ExpandIds previousExpandIds = ExpandIdsContext.context().get();
+            restore(mdc, expandIds);
+            try {
+                task.run();
+            } finally {
+                restore(previousMdc, previousExpandIds);
+            }
+        };
+        TaskDecorator taskDecorator = this.options.taskDecorator();
+        return taskDecorator == null ? propagated : taskDecorator.decorate(propagated);
+    }
+
+    /**
+     * 设置当前线程的 MDC 与 ExpandIds
+     *
+     * @param mdc       MDC, 为 null 时清空
+     * @param expandIds ExpandIds, 可以为 null
+     */
+    private static void restore(Map<String, String> mdc, ExpandIds expandIds) {
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+        ExpandIdsContext.context().set(expandIds);
+    }
+
+    /**
+     * 调用线程: 切分, 转换并放入队列
+     *
+     * @param <S>       原始数据类型
+     * @param <T>       写入的数据类型
+     * @param source    原始数据
+     * @param converter 转换一批数据
+     * @param run       本次写入的状态
+     */
+    private <S, T> void produce(Collection<S> source, Function<List<S>, List<T>> converter, Run<S, T> run) {
+        int chunkSize = this.options.chunkSize();
+        List<S> pending = new ArrayList<>(Math.min(chunkSize, source.size()));
+        int index = 0;
+        long offset = 0;
+        for (S item : source) {
+            pending.add(item);
+            if (pending.size() < chunkSize) {
+                continue;
+            }
+            if (!this.submit(run, index++, offset, pending, converter)) {
+                return;
+            }
+            offset += pending.size();
+            pending = new ArrayList<>(chunkSize);
+        }
+        if (!pending.isEmpty()) {
+            this.submit(run, index, offset, pending, converter);
+        }
+    }
+
+    /**
+     * 转换一批数据并放入队列
+     *
+     * @param <S>       原始数据类型
+     * @param <T>       写入的数据类型
+     * @param run       本次写入的状态
+     * @param index     批次序号
+     * @param offset    第一行在原集合中的位置
+     * @param items     原始数据
+     * @param converter 转换一批数据
+     * @return 是否继续提交后续批次
+     */
+    private <S, T> boolean submit(Run<S, T> run, int index, long offset, List<S> items, Function<List<S>, List<T>> converter) {
+        if (this.options.failFast() && run.failed) {
+            run.skippedRows.add(run.totalRows - offset);
+            return false;
+        }
+        List<T> converted;
+        try {
+            converted = converter.apply(items);
+        } catch (RuntimeException e) {
+            run.fail(new BatchWriteResult.ChunkFailure(index, offset, items.size(), "convert", e), this.options);
+            run.completedChunks.incrementAndGet();
+            this.notifyProgress(run);
+            if (this.options.failFast()) {
+                run.skippedRows.add(run.totalRows - offset - items.size());
+                return false;
+            }
+            return true;
+        }
+        try {
+            run.queue.put(new Chunk<>(index, offset, items, converted));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.skippedRows.add(run.totalRows - offset);
+            return false;
+        }
+    }
+
+    /**
+     * 工作线程: 持有一个会话, 逐批写入并提交
+     *
+     * @param <S>          原始数据类型
+     * @param <T>          写入的数据类型
+     * @param run          本次写入的状态
+     * @param executorType 执行器类型
+     * @param writer       写入一批数据
+     */
+    private <S, T> void work(Run<S, T> run, ExecutorType executorType, ChunkWriter<T> writer) {
+        try (SqlSession session = this.sqlSessionFactory.openSession(executorType, false)) {
+            Connection connection = session.getConnection();
+            boolean autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                Chunk<S, T> chunk;
+                while ((chunk = this.next(run)) != null) {
+                    this.writeChunk(run, session, connection, writer, chunk);
+                }
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            // 会话或连接不可用: 由其他工作线程继续写入, 最后一个工作线程退出时队列中剩余的批次记为失败
+            log.error("批量写入的工作线程异常退出", e);
+            if (run.aliveWorkers.decrementAndGet() == 0) {
+                this.drain(run, e);
+            }
+            return;
+        }
+        run.aliveWorkers.decrementAndGet();
+    }
+
+    /**
+     * 写入并提交一批, 失败时回滚, 提交后执行回调
+     *
+     * @param <S>        原始数据类型
+     * @param <T>        写入的数据类型
+     * @param run        本次写入的状态
+     * @param session    会话
+     * @param connection 会话的连接
+     * @param writer     写入一批数据
+     * @param chunk      批次
+     */
+    private <S, T> void writeChunk(Run<S, T> run, SqlSession session, Connection connection, ChunkWriter<T> writer, Chunk<S, T> chunk) {
+        boolean written = false;
+        try {
+            writer.write(session, chunk.items);
+            session.flushStatements();
+            connection.commit();
+            session.clearCache();
+            run.writtenRows.add(chunk.items.size());
+            written = true;
+        } catch (SQLException | RuntimeException e) {
+            rollback(session, connection);
+            run.fail(new BatchWriteResult.ChunkFailure(chunk.index, chunk.offset, chunk.items.size(), "write", e), this.options);
+        }
+        if (written && run.committed != null) {
+            try {
+                run.committed.accept(chunk.sources, chunk.items);
+            } catch (RuntimeException e) {
+                log.warn("批量写入提交回调异常: chunk={}, offset={}, size={}", chunk.index, chunk.offset, chunk.items.size(), e);
+            }
+        }
+        run.completedChunks.incrementAndGet();
+        this.notifyProgress(run);
+    }
+
+    /**
+     * 取出下一批
+     *
+     * @param <S> 原始数据类型
+     * @param <T> 写入的数据类型
+     * @param run 本次写入的状态
+     * @return 批次, 调用线程已结束且队列为空时返回 null
+     */
+    private <S, T> Chunk<S, T> next(Run<S, T> run) {
+        while (true) {
+            Chunk<S, T> chunk;
+            try {
+                chunk = run.queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return run.queue.poll();
+            }
+            if (chunk != null) {
+                return chunk;
+            }
+            if (run.produced) {
+                return run.queue.poll();
+            }
+        }
+    }
+
+    /**
+     * 工作线程无法继续时, 将队列中剩余的批次记为失败
+     *
+     * @param <S>   原始数据类型
+     * @param <T>   写入的数据类型
+     * @param run   本次写入的状态
+     * @param cause 异常
+     */
+    private <S, T> void drain(Run<S, T> run, Throwable cause) {
+        Chunk<S, T> chunk;
+        while ((chunk = this.next(run)) != null) {
+            run.fail(new BatchWriteResult.ChunkFailure(chunk.index, chunk.offset, chunk.items.size(), "write", cause), this.options);
+            run.completedChunks.incrementAndGet();
+            this.notifyProgress(run);
+        }
+    }
+
+    /**
+     * 通知进度监听器
+     *
+     * @param <S> 原始数据类型
+     * @param <T> 写入的数据类型
+     * @param run 本次写入的状态
+     */
+    private <S, T> void notifyProgress(Run<S, T> run) {
+        BatchWriteListener listener = this.options.listener();
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onProgress(run.progress());
+        } catch (RuntimeException e) {
+            log.warn("批量写入进度监听器异常", e);
+        }
+    }
+
+    /**
+     * 回滚当前批次: 丢弃执行器中未执行的语句, 再回滚连接
+     *
+     * @param session    会话
+     * @param connection 会话的连接
+     */
+    private static void rollback(SqlSession session, Connection connection) {
+        try {
+            session.rollback(true);
+        } catch (RuntimeException e) {
+            log.warn("批量写入回滚会话失败", e);
+        }
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("批量写入回滚连接失败", e);
+        }
+        session.clearCache();
+    }
+
+    /**
+     * 等待所有工作任务结束
+     *
+     * @param finished 未结束的工作任务数
+     */
+    private static void await(CountDownLatch finished) {
+        boolean interrupted = false;
+        while (finished.getCount() > 0) {
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 一批数据
+     *
+     * @param <S>     原始数据类型
+     * @param <T>     写入的数据类型
+     * @param index   批次序号
+     * @param offset  第一行在原集合中的位置
+     * @param sources 原始数据
+     * @param items   转换后的数据
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private record Chunk<S, T>(int index, long offset, List<S> sources, List<T> items) {
+    }
+
+    /**
+     * 一次写入的状态
+     *
+     * @param <S> 原始数据类型
+     * @param <T> 写入的数据类型
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class Run<S, T> {
+        /** 总行数 */
+        private final long totalRows;
+        /** 总批数 */
+        private final int totalChunks;
+        /** 开始时间 */
+        private final long startNanos = System.nanoTime();
+        /** 待写入的批次 */
+        private final BlockingQueue<Chunk<S, T>> queue;
+        /** 已完成的批数 */
+        private final AtomicInteger completedChunks = new AtomicInteger();
+        /** 已提交的行数 */
+        private final LongAdder writtenRows = new LongAdder();
+        /** 未写入的行数 */
+        private final LongAdder skippedRows = new LongAdder();
+        /** 失败的批次 */
+        private final List<BatchWriteResult.ChunkFailure> failures = Collections.synchronizedList(new ArrayList<>());
+        /** 是否有失败的批次 */
+        private volatile boolean failed;
+        /** 调用线程是否已结束提交 */
+        private volatile boolean produced;
+        /** 运行中的工作线程数 */
+        private final AtomicInteger aliveWorkers;
+        /** 未结束的工作任务数 */
+        private final CountDownLatch finished;
+        /** 每批提交后的回调, 可以为 null */
+        private final BiConsumer<List<S>, List<T>> committed;
+
+        /**
+         * 构造函数
+         *
+         * @param totalRows     总行数
+         * @param totalChunks   总批数
+         * @param queueCapacity 队列容量
+         * @param workers       工作线程数
+         * @param committed     每批提交后的回调, 可以为 null
+         */
+        private Run(long totalRows, int totalChunks, int queueCapacity, int workers, BiConsumer<List<S>, List<T>> committed) {
+            this.totalRows = totalRows;
+            this.totalChunks = totalChunks;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.aliveWorkers = new AtomicInteger(workers);
+            this.finished = new CountDownLatch(workers);
+            this.committed = committed;
+        }
+
+        /**
+         * 记录失败的批次
+         *
+         * @param failure 失败的批次
+         * @param options 配置
+         */
+        private void fail(BatchWriteResult.ChunkFailure failure, BatchWriteOptions options) {
+            this.failures.add(failure);
+            this.failed = true;
+            log.warn("批量写入失败: chunk={}, offset={}, size={}, stage={}, failFast={}",
+                     failure.index(), failure.offset(), failure.size(), failure.stage(), options.failFast(), failure.cause());
+        }
+
+        /**
+         * 当前进度
+         *
+         * @return 进度
+         */
+        private BatchWriteProgress progress() {
+            return new BatchWriteProgress(this.totalRows,
+                                          this.totalChunks,
+                                          this.completedChunks.get(),
+                                          this.writtenRows.sum(),
+                                          this.failures.size(),
+                                          System.nanoTime() - this.startNanos);
+        }
+
+        /**
+         * 写入结果
+         *
+         * @return 结果
+         */
+        private BatchWriteResult result() {
+            List<BatchWriteResult.ChunkFailure> sorted = new ArrayList<>(this.failures);
+            sorted.sort(Comparator.comparingInt(BatchWriteResult.ChunkFailure::index));
+            return new BatchWriteResult(this.totalRows,
+                                        this.writtenRows.sum(),
+                                        this.skippedRows.sum(),
+                                        this.totalChunks,
+                                        List.copyOf(sorted),
+                                        System.nanoTime() - this.startNanos);
+        }
+    }
+}
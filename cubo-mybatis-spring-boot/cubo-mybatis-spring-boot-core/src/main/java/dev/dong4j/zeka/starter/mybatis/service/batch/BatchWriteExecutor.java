@@ -0,0 +1,130 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 批量写入的共享线程池
+ * <p> 所有 {@link BatchWriteEngine} 的工作线程都来自该线程池:
+ * <ul>
+ *     <li>线程数有界: 同时写入的工作线程总数不超过 maxThreads, 超出的工作任务排队, 等待其他写入的工作线程空闲</li>
+ *     <li>线程空闲 60 秒后回收, 线程为守护线程, 名称为 batch-writer-N</li>
+ *     <li>在 Spring 中由自动配置创建并随容器关闭, 关闭时等待正在执行的写入结束</li>
+ * </ul>
+ * 工作任务排队时调用线程在有界队列上等待, 因此不要在 {@link ChunkWriter} 中再次发起分批写入, 否则线程池耗尽时会互相等待
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@Slf4j
+public class BatchWriteExecutor implements Executor, AutoCloseable {
+
+    /** 默认最大线程数 */
+    public static final int DEFAULT_MAX_THREADS = 16;
+    /** 空闲线程的存活时间 (秒) */
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    /** 关闭时等待正在执行的写入结束的时间 (秒) */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+    /** 线程编号 */
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    /** 未注入线程池时使用的默认线程池, 线程空闲后全部回收 */
+    private static volatile BatchWriteExecutor shared;
+
+    /** 线程池 */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 构造函数
+     *
+     * @param maxThreads 最大线程数
+     */
+    public BatchWriteExecutor(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("maxThreads 必须大于 0: " + maxThreads);
+        }
+        this.executor = new ThreadPoolExecutor(maxThreads,
+                                               maxThreads,
+                                               KEEP_ALIVE_SECONDS,
+                                               TimeUnit.SECONDS,
+                                               new LinkedBlockingQueue<>(),
+                                               runnable -> {
+                                                   Thread thread = new Thread(runnable, "batch-writer-" + THREAD_SEQUENCE.incrementAndGet());
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 未注入线程池时使用的默认线程池
+     *
+     * @return 默认线程池
+     */
+    static BatchWriteExecutor shared() {
+        BatchWriteExecutor executor = shared;
+        if (executor == null) {
+            synchronized (BatchWriteExecutor.class) {
+                executor = shared;
+                if (executor == null) {
+                    executor = new BatchWriteExecutor(DEFAULT_MAX_THREADS);
+                    shared = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * 提交工作任务, 没有空闲线程时排队
+     *
+     * @param command 工作任务
+     */
+    @Override
+    public void execute(@NotNull Runnable command) {
+        this.executor.execute(command);
+    }
+
+    /**
+     * 正在执行的工作任务数
+     *
+     * @return 工作任务数
+     */
+    public int getActiveCount() {
+        return this.executor.getActiveCount();
+    }
+
+    /**
+     * 排队的工作任务数
+     *
+     * @return 工作任务数
+     */
+    public int getQueueSize() {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * 停止接收新的工作任务, 等待已提交的写入结束
+     */
+    @Override
+    public void close() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("批量写入线程池关闭超时, 仍有 {} 个工作任务未结束", this.executor.getActiveCount());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+/**
+ * 批量写入进度监听器
+ * <p> 每批写入或失败后在对应的工作线程上调用 (转换失败时在调用线程上调用), 多个线程可能同时调用, 实现需要线程安全且不应阻塞
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface BatchWriteListener {
+
+    /**
+     * 进度更新
+     *
+     * @param progress 当前进度
+     */
+    void onProgress(BatchWriteProgress progress);
+}
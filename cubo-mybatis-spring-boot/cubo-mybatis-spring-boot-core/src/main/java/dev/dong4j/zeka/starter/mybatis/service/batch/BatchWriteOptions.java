@@ -0,0 +1,112 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 批量写入配置
+ *
+ * @param chunkSize     每批行数, 每批在一个事务中提交
+ * @param parallelism   并行写入的工作线程数, 每个线程持有一个会话 (一个连接), 不应超过连接池可用的连接数
+ * @param failFast      某一批失败后是否停止提交后续批次; 为 false 时继续写入其余批次
+ * @param listener      进度监听器, 可以为 null
+ * @param executor      执行工作任务的线程池, 为 null 时使用引擎的线程池
+ * @param taskDecorator 包装工作任务, 用于传递 MDC 与 ExpandIds 之外的线程上下文, 可以为 null
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record BatchWriteOptions(int chunkSize,
+                                int parallelism,
+                                boolean failFast,
+                                BatchWriteListener listener,
+                                Executor executor,
+                                TaskDecorator taskDecorator) {
+
+    /** 默认每批行数 */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    /** 默认工作线程数 */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * 校验参数
+     *
+     * @param chunkSize     每批行数
+     * @param parallelism   工作线程数
+     * @param failFast      失败后是否停止
+     * @param listener      进度监听器
+     * @param executor      线程池
+     * @param taskDecorator 工作任务包装
+     */
+    public BatchWriteOptions {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize 必须大于 0: " + chunkSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism 必须大于 0: " + parallelism);
+        }
+    }
+
+    /**
+     * 默认配置: 每批 1000 行, 4 个工作线程, 失败后继续
+     *
+     * @return 配置
+     */
+    public static BatchWriteOptions defaults() {
+        return of(DEFAULT_CHUNK_SIZE, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * 指定每批行数与工作线程数, 失败后继续
+     *
+     * @param chunkSize   每批行数
+     * @param parallelism 工作线程数
+     * @return 配置
+     */
+    public static BatchWriteOptions of(int chunkSize, int parallelism) {
+        return new BatchWriteOptions(chunkSize, parallelism, false, null, null, null);
+    }
+
+    /**
+     * 设置失败后是否停止
+     *
+     * @param failFast 失败后是否停止
+     * @return 新的配置
+     */
+    public BatchWriteOptions withFailFast(boolean failFast) {
+        return new BatchWriteOptions(this.chunkSize, this.parallelism, failFast, this.listener, this.executor, this.taskDecorator);
+    }
+
+    /**
+     * 设置进度监听器
+     *
+     * @param listener 进度监听器
+     * @return 新的配置
+     */
+    public BatchWriteOptions withListener(BatchWriteListener listener) {
+        return new BatchWriteOptions(this.chunkSize, this.parallelism, this.failFast, listener, this.executor, this.taskDecorator);
+    }
+
+    /**
+     * 设置执行工作任务的线程池, 优先于引擎的线程池
+     *
+     * @param executor 线程池
+     * @return 新的配置
+     */
+    public BatchWriteOptions withExecutor(Executor executor) {
+        return new BatchWriteOptions(this.chunkSize, this.parallelism, this.failFast, this.listener, executor, this.taskDecorator);
+    }
+
+    /**
+     * 设置工作任务包装, 在调用线程上包装, 在工作线程上执行
+     *
+     * @param taskDecorator 工作任务包装
+     * @return 新的配置
+     */
+    public BatchWriteOptions withTaskDecorator(TaskDecorator taskDecorator) {
+        return new BatchWriteOptions(this.chunkSize, this.parallelism, this.failFast, this.listener, this.executor, taskDecorator);
+    }
+}
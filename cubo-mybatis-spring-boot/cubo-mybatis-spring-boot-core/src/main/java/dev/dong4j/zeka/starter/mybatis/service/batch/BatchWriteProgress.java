@@ -0,0 +1,33 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+/**
+ * 批量写入进度
+ *
+ * @param totalRows       总行数
+ * @param totalChunks     总批数
+ * @param completedChunks 已完成 (写入或失败) 的批数
+ * @param writtenRows     已提交的行数
+ * @param failedChunks    失败的批数
+ * @param elapsedNanos    已用时间 (纳秒)
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record BatchWriteProgress(long totalRows,
+                                 int totalChunks,
+                                 int completedChunks,
+                                 long writtenRows,
+                                 int failedChunks,
+                                 long elapsedNanos) {
+
+    /**
+     * 每秒写入的行数
+     *
+     * @return 吞吐量, 尚未计时时为 0
+     */
+    public double rowsPerSecond() {
+        return this.elapsedNanos > 0 ? this.writtenRows * 1_000_000_000D / this.elapsedNanos : 0D;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import java.util.List;
+
+/**
+ * 批量写入结果
+ * <p> 每批独立提交, 失败的批次整体回滚, 不影响其他批次. 按 {@link ChunkFailure#offset()} 与 {@link ChunkFailure#size()}
+ * 可以从原集合中取出失败的数据重试; failFast 时未提交的批次计入 skippedRows
+ *
+ * @param totalRows    总行数
+ * @param writtenRows  已提交的行数
+ * @param skippedRows  failFast 时未写入的行数
+ * @param totalChunks  总批数
+ * @param failures     失败的批次, 按批次序号排序
+ * @param elapsedNanos 总耗时 (纳秒)
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record BatchWriteResult(long totalRows,
+                               long writtenRows,
+                               long skippedRows,
+                               int totalChunks,
+                               List<ChunkFailure> failures,
+                               long elapsedNanos) {
+
+    /**
+     * 是否全部写入
+     *
+     * @return 没有失败与跳过的批次时为 true
+     */
+    public boolean isSuccess() {
+        return this.failures.isEmpty() && this.skippedRows == 0;
+    }
+
+    /**
+     * 每秒写入的行数
+     *
+     * @return 吞吐量
+     */
+    public double rowsPerSecond() {
+        return this.elapsedNanos > 0 ? this.writtenRows * 1_000_000_000D / this.elapsedNanos : 0D;
+    }
+
+    /**
+     * 失败的批次
+     *
+     * @param index  批次序号, 从 0 开始
+     * @param offset 第一行在原集合中的位置
+     * @param size   行数
+     * @param stage  失败的阶段: convert (转换) 或 write (写入与提交)
+     * @param cause  异常
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public record ChunkFailure(int index, long offset, int size, String stage, Throwable cause) {
+    }
+}
@@ -0,0 +1,28 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import org.apache.ibatis.session.SqlSession;
+
+import java.util.List;
+
+/**
+ * 写入一批数据
+ * <p> 在工作线程上调用, session 由该线程独占, 调用返回后由 {@link BatchWriteEngine} 刷新语句并提交
+ *
+ * @param <T> 写入的数据类型
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface ChunkWriter<T> {
+
+    /**
+     * 写入一批数据
+     *
+     * @param session 工作线程的会话
+     * @param chunk   一批数据
+     */
+    void write(SqlSession session, List<T> chunk);
+}
@@ -1,6 +1,10 @@
 package dev.dong4j.zeka.starter.mybatis.service.impl;
 
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
 import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import com.baomidou.mybatisplus.extension.toolkit.SqlHelper;
@@ -13,11 +17,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.base.BaseDTO;
 import dev.dong4j.zeka.kernel.common.base.BaseQuery;
 import dev.dong4j.zeka.starter.mybatis.base.BaseDao;
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlInjector;
 import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlMethod;
 import dev.dong4j.zeka.starter.mybatis.service.BaseService;
 import dev.dong4j.zeka.starter.mybatis.support.Condition;
@@ -31,6 +38,7 @@ import dev.dong4j.zeka.starter.mybatis.support.Condition;
  * 1. 扩展插入操作：
  * - saveIgnore：插入时忽略重复数据
  * - saveReplace：替换插入操作
+ * - saveUpsertBatch：插入或更新
  * - 支持批量操作，提高性能
  * <p>
  * 2. 通用查询操作：
@@ -40,7 +48,9 @@ import dev.dong4j.zeka.starter.mybatis.support.Condition;
  * - 支持计数查询
  * <p>
  * 3. 批量操作优化：
- * - 使用批量 SQL 会话提高性能
+ * - saveIgnoreBatch / saveReplaceBatch 使用批量 SQL 会话逐行选择字段插入，值为 null 的字段使用数据库默认值
+ * - saveIgnoreBatchMultiRow / saveReplaceBatchMultiRow / saveUpsertBatch 每批一条多行插入语句，减少往返次数，
+ * 按行宽控制每条语句的大小
  * - 支持自定义批次大小
  * - 自动事务管理
  * <p>
@@ -59,6 +69,9 @@ import dev.dong4j.zeka.starter.mybatis.support.Condition;
  */
 public class BaseServiceImpl<DAO extends BaseDao<PO>, PO> extends ServiceImpl<DAO, PO> implements BaseService<PO> {
 
+    /** 多行插入的分批计划, 第一次使用时从 SQL 注入器取得 */
+    private volatile MultiRowBatchPlanner batchPlanner;
+
     /**
      * Save ignore boolean
      *
@@ -115,6 +128,51 @@ public class BaseServiceImpl<DAO extends BaseDao<PO>, PO> extends ServiceImpl<DA
         return this.saveBatch(entityList, batchSize, MybatisSqlMethod.REPLACE_ONE);
     }
 
+    /**
+     * Save ignore batch multi row boolean
+     *
+     * @param entityList entity list
+     * @param batchSize  每条语句最多行数
+     * @return the boolean
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public boolean saveIgnoreBatchMultiRow(Collection<PO> entityList, int batchSize) {
+        Assertions.notEmpty(entityList);
+        return this.saveMultiRow(entityList, batchSize, this.baseMapper::insertIgnoreBatch);
+    }
+
+    /**
+     * Save replace batch multi row boolean
+     *
+     * @param entityList entity list
+     * @param batchSize  每条语句最多行数
+     * @return the boolean
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public boolean saveReplaceBatchMultiRow(Collection<PO> entityList, int batchSize) {
+        Assertions.notEmpty(entityList);
+        return this.saveMultiRow(entityList, batchSize, this.baseMapper::replaceBatch);
+    }
+
+    /**
+     * Save upsert batch boolean
+     *
+     * @param entityList entity list
+     * @param batchSize  每条语句最多行数
+     * @return the boolean
+     * @since 2.0.0
+     */
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public boolean saveUpsertBatch(Collection<PO> entityList, int batchSize) {
+        Assertions.notEmpty(entityList);
+        return this.saveMultiRow(entityList, batchSize, this.baseMapper::upsertBatch);
+    }
+
     /**
      * Save batch boolean
      *
@@ -141,6 +199,45 @@ public class BaseServiceImpl<DAO extends BaseDao<PO>, PO> extends ServiceImpl<DA
         return true;
     }
 
+    /**
+     * 使用多行插入语句批量写入
+     * <p>
+     * 由 {@link MultiRowBatchPlanner} 按行数、估算的语句大小与参数数量切分，每批一条语句、一次往返。
+     *
+     * @param entityList 实体集合
+     * @param batchSize  每条语句最多行数
+     * @param statement  多行插入方法
+     * @return the boolean
+     * @since 2.0.0
+     */
+    private boolean saveMultiRow(@NotNull Collection<PO> entityList, int batchSize, Consumer<Collection<PO>> statement) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(getEntityClass());
+        this.batchPlanner(tableInfo).forEachChunk(tableInfo, entityList, batchSize, statement::accept);
+        return true;
+    }
+
+    /**
+     * 获取多行插入的分批计划
+     * <p>
+     * 使用当前配置的 {@link MybatisSqlInjector} 持有的计划（语句大小上限为 batch-statement-bytes），
+     * 注入器不是 MybatisSqlInjector 时使用默认上限。
+     *
+     * @param tableInfo 实体的表信息
+     * @return 分批计划
+     * @since 2.0.0
+     */
+    protected MultiRowBatchPlanner batchPlanner(@NotNull TableInfo tableInfo) {
+        MultiRowBatchPlanner planner = this.batchPlanner;
+        if (planner == null) {
+            ISqlInjector sqlInjector = GlobalConfigUtils.getGlobalConfig(tableInfo.getConfiguration()).getSqlInjector();
+            planner = sqlInjector instanceof MybatisSqlInjector mybatisSqlInjector
+                      ? mybatisSqlInjector.getBatchPlanner()
+                      : new MultiRowBatchPlanner();
+            this.batchPlanner = planner;
+        }
+        return planner;
+    }
+
     /**
      * Mybatis sql statement string.
      *
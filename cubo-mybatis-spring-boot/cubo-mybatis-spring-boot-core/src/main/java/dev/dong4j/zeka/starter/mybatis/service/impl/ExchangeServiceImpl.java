@@ -1,12 +1,19 @@
 package dev.dong4j.zeka.starter.mybatis.service.impl;
 
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+
+import org.apache.ibatis.session.ExecutorType;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 import dev.dong4j.zeka.kernel.common.asserts.Assertions;
 import dev.dong4j.zeka.kernel.common.base.AbstractBaseEntity;
@@ -17,6 +24,11 @@ import dev.dong4j.zeka.kernel.common.util.CollectionUtils;
 import dev.dong4j.zeka.starter.mybatis.base.BaseDao;
 import dev.dong4j.zeka.starter.mybatis.base.BasePO;
 import dev.dong4j.zeka.starter.mybatis.service.IExchangeService;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteEngine;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteExecutor;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteOptions;
+import dev.dong4j.zeka.starter.mybatis.service.batch.BatchWriteResult;
+import dev.dong4j.zeka.starter.mybatis.service.batch.ChunkWriter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -63,6 +75,9 @@ public class ExchangeServiceImpl<DAO extends BaseDao<PO>, PO extends BasePO<?, P
     @Autowired
     @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
     protected C serviceConverter;
+    /** 批量写入的共享线程池, 没有该 Bean 时使用默认线程池 */
+    @Autowired(required = false)
+    protected BatchWriteExecutor batchWriteExecutor;
 
     /**
      * 通过 dto 保存数据, 操作成功后会将 id 写入到 dto.
@@ -265,6 +280,138 @@ public class ExchangeServiceImpl<DAO extends BaseDao<PO>, PO extends BasePO<?, P
         Assertions.isTrue(super.saveOrUpdateBatch(this.serviceConverter.d2p(dtos), batchSize));
     }
 
+    /**
+     * 并行分批插入, 每批在工作线程的 BATCH 会话中逐行 insert 后提交, 提交后将生成的 id 写回该批的 DTO
+     *
+     * @param dtos    dtos
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    @Override
+    public BatchWriteResult createBatch(Collection<DTO> dtos, @NotNull BatchWriteOptions options) {
+        Assertions.notEmpty(dtos);
+        return this.writeBatch(dtos, options, (session, chunk) -> {
+            DAO mapper = session.getMapper(this.getMapperClass());
+            chunk.forEach(mapper::insert);
+        }, this::copyIds);
+    }
+
+    /**
+     * 并行分批根据 id 更新, 每批在工作线程的 BATCH 会话中逐行 updateById 后提交
+     *
+     * @param dtos    dtos
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    @Override
+    public BatchWriteResult updateBatch(Collection<DTO> dtos, @NotNull BatchWriteOptions options) {
+        Assertions.notEmpty(dtos);
+        return this.writeBatch(dtos, options, (session, chunk) -> {
+            DAO mapper = session.getMapper(this.getMapperClass());
+            chunk.forEach(mapper::updateById);
+        });
+    }
+
+    /**
+     * 并行分批插入或更新
+     * <p>
+     * 与 saveOrUpdateBatch 逐行查询不同, 每批只执行一次 selectByIds, BATCH 执行器中的语句不会被逐行的查询打断.
+     * 提交后将插入行生成的 id 写回该批的 DTO
+     *
+     * @param dtos    dtos
+     * @param options 分批写入配置
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    @Override
+    public BatchWriteResult createOrUpdateBatch(Collection<DTO> dtos, @NotNull BatchWriteOptions options) {
+        Assertions.notEmpty(dtos);
+        return this.writeBatch(dtos, options, (session, chunk) -> {
+            DAO mapper = session.getMapper(this.getMapperClass());
+            List<Serializable> ids = new ArrayList<>(chunk.size());
+            for (PO po : chunk) {
+                if (po.getId() != null) {
+                    ids.add(po.getId());
+                }
+            }
+            Set<Object> existing = new HashSet<>();
+            if (!ids.isEmpty()) {
+                mapper.selectByIds(ids).forEach(po -> existing.add(po.getId()));
+            }
+            for (PO po : chunk) {
+                if (po.getId() != null && existing.contains(po.getId())) {
+                    mapper.updateById(po);
+                } else {
+                    mapper.insert(po);
+                }
+            }
+        }, this::copyIds);
+    }
+
+    /**
+     * 使用 {@link BatchWriteEngine} 分批写入, 在调用线程上转换 DTO, 在 {@link BatchWriteExecutor} 的工作线程上写入 PO
+     *
+     * @param dtos    dtos
+     * @param options 分批写入配置
+     * @param writer  写入一批 PO
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    protected BatchWriteResult writeBatch(Collection<DTO> dtos, @NotNull BatchWriteOptions options, ChunkWriter<PO> writer) {
+        return this.writeBatch(dtos, options, writer, null);
+    }
+
+    /**
+     * 使用 {@link BatchWriteEngine} 分批写入, 每批提交后在工作线程上调用 committed
+     *
+     * @param dtos      dtos
+     * @param options   分批写入配置
+     * @param writer    写入一批 PO
+     * @param committed 每批提交后的回调, 参数为该批的 DTO 与按位置对应的 PO, 可以为 null
+     * @return 写入结果
+     * @since 2.0.0
+     */
+    protected BatchWriteResult writeBatch(Collection<DTO> dtos,
+                                          @NotNull BatchWriteOptions options,
+                                          ChunkWriter<PO> writer,
+                                          BiConsumer<List<DTO>, List<PO>> committed) {
+        Assertions.notNull(options);
+        BatchWriteEngine engine = new BatchWriteEngine(GlobalConfigUtils.currentSessionFactory(this.getEntityClass()),
+                                                       options,
+                                                       this.batchWriteExecutor);
+        return engine.write(dtos, this::convert, ExecutorType.BATCH, writer, committed);
+    }
+
+    /**
+     * 将已提交的一批 PO 的 id 写回对应的 DTO
+     *
+     * @param dtos dtos
+     * @param pos  与 dtos 按位置对应的 pos
+     * @since 2.0.0
+     */
+    private void copyIds(@NotNull List<DTO> dtos, @NotNull List<PO> pos) {
+        for (int i = 0; i < dtos.size(); i++) {
+            dtos.get(i).setId(this.getId(pos.get(i)));
+        }
+    }
+
+    /**
+     * 转换一批 DTO
+     *
+     * @param dtos dtos
+     * @return pos
+     * @since 2.0.0
+     */
+    private List<PO> convert(@NotNull List<DTO> dtos) {
+        List<PO> pos = new ArrayList<>(dtos.size());
+        for (DTO dto : dtos) {
+            pos.add(this.serviceConverter.d2p(dto));
+        }
+        return pos;
+    }
+
     /**
      * 通过 id 删除 DTO.
      *
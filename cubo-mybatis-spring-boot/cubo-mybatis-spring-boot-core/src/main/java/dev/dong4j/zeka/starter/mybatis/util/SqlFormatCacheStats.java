@@ -0,0 +1,22 @@
+package dev.dong4j.zeka.starter.mybatis.util;
+
+/**
+ * 格式化 SQL 模板缓存统计
+ *
+ * @param hitCount  命中次数, 即复用已格式化模板的次数
+ * @param missCount 未命中次数, 即运行 {@link SqlFormatter} 的次数
+ * @param hitRate   命中率, 尚未格式化过任何 SQL 时为 0
+ * @param size      已缓存的模板数量
+ * @param maxSize   最多缓存的模板数量
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public record SqlFormatCacheStats(long hitCount,
+                                  long missCount,
+                                  double hitRate,
+                                  int size,
+                                  int maxSize) {
+}
@@ -0,0 +1,320 @@
+package dev.dong4j.zeka.starter.mybatis.util;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 渲染器
+ * <p> 把 BoundSql 渲染为可直接执行的 SQL, 用于日志与慢 SQL 记录:
+ * <ul>
+ *     <li>每条 SQL 只通过 {@link SqlTemplate#parse(String)} 切分一次, 模板按 SQL 文本缓存. 静态 SQL 每次返回同一个 String 实例,
+ *     查找只需一次已缓存的 hashCode 与引用比较</li>
+ *     <li>按顺序拼接静态片段与参数值, 一次线性遍历完成, 不使用正则, 不产生中间字符串</li>
+ *     <li>参数取值与 MyBatis DefaultParameterHandler 一致, OUT 参数保留 {@code ?}</li>
+ *     <li>日期使用预先创建的 {@link DateTimeFormatter}, 线程安全且不为每个参数创建格式化器</li>
+ *     <li>超过最大长度时停止拼接并追加 {@code ...}, 宽表批量插入不会先生成完整 SQL 再截断</li>
+ *     <li>需要格式化时通过 {@link #formatTemplate(SqlTemplate)} 取得已格式化的模板, 参数直接渲染到格式化结果中,
+ *     同一条 SQL 只运行一次格式化器</li>
+ * </ul>
+ * 模板与格式化模板的缓存数量均不超过构造时指定的上限, 超过后新 SQL 每次重新切分 (或格式化), 避免动态 SQL 导致内存无限增长.
+ * 缓存属于渲染器实例, 由持有渲染器的 {@link dev.dong4j.zeka.starter.mybatis.plugins.PerformanceInterceptor} 决定上限与生命周期
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public class SqlRenderer {
+
+    /** 默认最多缓存的模板数量 */
+    public static final int DEFAULT_MAX_TEMPLATES = 1024;
+    /** 默认最多缓存的格式化模板数量 */
+    public static final int DEFAULT_MAX_FORMATTED_TEMPLATES = 1024;
+    /** 截断后追加的后缀 */
+    private static final String ELLIPSIS = "...";
+    /** 每个参数值的预估长度 */
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+    /** 日期时间格式 */
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** 最多缓存的模板数量 */
+    private final int maxTemplates;
+    /** 最多缓存的格式化模板数量 */
+    private final int maxFormattedTemplates;
+    /** SQL 模板缓存 */
+    private final Map<String, SqlTemplate> templates = new ConcurrentHashMap<>();
+    /** 格式化模板缓存, 以规范化的 SQL 为键 */
+    private final Map<String, SqlTemplate> formattedTemplates = new ConcurrentHashMap<>();
+    /** 格式化模板命中次数 */
+    private final LongAdder formatHits = new LongAdder();
+    /** 格式化模板未命中次数 */
+    private final LongAdder formatMisses = new LongAdder();
+
+    /**
+     * 使用默认的模板数量上限创建渲染器
+     */
+    public SqlRenderer() {
+        this(DEFAULT_MAX_TEMPLATES);
+    }
+
+    /**
+     * 构造函数, 格式化模板使用默认的数量上限
+     *
+     * @param maxTemplates 最多缓存的模板数量
+     */
+    public SqlRenderer(int maxTemplates) {
+        this(maxTemplates, DEFAULT_MAX_FORMATTED_TEMPLATES);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maxTemplates          最多缓存的模板数量, 小于等于 0 时使用默认值
+     * @param maxFormattedTemplates 最多缓存的格式化模板数量, 小于等于 0 时使用默认值
+     */
+    public SqlRenderer(int maxTemplates, int maxFormattedTemplates) {
+        this.maxTemplates = maxTemplates > 0 ? maxTemplates : DEFAULT_MAX_TEMPLATES;
+        this.maxFormattedTemplates = maxFormattedTemplates > 0 ? maxFormattedTemplates : DEFAULT_MAX_FORMATTED_TEMPLATES;
+    }
+
+    /**
+     * 渲染 SQL
+     *
+     * @param configuration MyBatis 配置, 用于判断参数类型与读取参数属性
+     * @param boundSql      待渲染的 BoundSql
+     * @param maxLength     最大长度, 小于等于 0 时不截断
+     * @return 替换参数后的 SQL, BoundSql 为空时返回空字符串
+     */
+    public String render(Configuration configuration, BoundSql boundSql, int maxLength) {
+        return render(configuration, boundSql, maxLength, false);
+    }
+
+    /**
+     * 渲染 SQL
+     *
+     * @param configuration MyBatis 配置, 用于判断参数类型与读取参数属性
+     * @param boundSql      待渲染的 BoundSql
+     * @param maxLength     最大长度, 小于等于 0 时不截断
+     * @param format        是否格式化
+     * @return 替换参数后的 SQL, BoundSql 为空时返回空字符串
+     */
+    public String render(Configuration configuration, BoundSql boundSql, int maxLength, boolean format) {
+        if (configuration == null || boundSql == null || boundSql.getSql() == null) {
+            return "";
+        }
+        SqlTemplate template = template(boundSql.getSql());
+        if (format) {
+            template = formatTemplate(template);
+        }
+        List<ParameterMapping> mappings = boundSql.getParameterMappings();
+        int limit = maxLength > 0 ? maxLength : Integer.MAX_VALUE;
+        int placeholders = template.placeholderCount();
+        int estimated = template.length() + placeholders * ESTIMATED_VALUE_LENGTH;
+        StringBuilder sql = new StringBuilder(Math.min(estimated, limit) + ELLIPSIS.length());
+
+        Object parameterObject = boundSql.getParameterObject();
+        TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        MetaObject metaObject = null;
+        for (int i = 0; i <= placeholders && sql.length() <= limit; i++) {
+            sql.append(template.segment(i));
+            if (i == placeholders || sql.length() > limit) {
+                continue;
+            }
+            ParameterMapping mapping = mappings != null && i < mappings.size() ? mappings.get(i) : null;
+            if (mapping == null || mapping.getMode() == ParameterMode.OUT) {
+                sql.append('?');
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                value = metaObject.hasGetter(property) ? metaObject.getValue(property) : null;
+            }
+            appendValue(sql, value);
+        }
+        if (sql.length() > limit) {
+            sql.setLength(limit);
+            sql.append(ELLIPSIS);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * 获取已缓存的模板数量
+     *
+     * @return 模板数量
+     */
+    public int templateCount() {
+        return templates.size();
+    }
+
+    /**
+     * 获取格式化 SQL 模板缓存统计
+     *
+     * @return 缓存统计
+     */
+    public SqlFormatCacheStats formatCacheStats() {
+        long hits = formatHits.sum();
+        long misses = formatMisses.sum();
+        long total = hits + misses;
+        return new SqlFormatCacheStats(hits,
+                                       misses,
+                                       total == 0 ? 0D : (double) hits / total,
+                                       formattedTemplates.size(),
+                                       maxFormattedTemplates);
+    }
+
+    /**
+     * 获取格式化后的 SQL 模板
+     * <p> 同一条规范化 SQL 只运行一次格式化器: 格式化的是带 {@code ?} 占位符的 SQL, 结果切分为保留换行与缩进的模板,
+     * 再把参数值渲染到模板中. 格式化结果同时记录在原模板上, 之后的调用不再计算缓存键.
+     * 缓存数量不超过构造时指定的上限, 超过后新 SQL 不再进入缓存 (未命中次数随之上升, 可据此调整上限).
+     * 格式化失败或格式化后占位符数量发生变化时使用未格式化的模板
+     *
+     * @param template 未格式化的 SQL 模板
+     * @return 格式化后的 SQL 模板
+     */
+    SqlTemplate formatTemplate(SqlTemplate template) {
+        SqlTemplate formatted = template.formatted;
+        if (formatted != null) {
+            formatHits.increment();
+            return formatted;
+        }
+        String sql = template.sql();
+        formatted = formattedTemplates.get(sql);
+        if (formatted != null) {
+            formatHits.increment();
+        } else {
+            formatMisses.increment();
+            formatted = format(template, sql);
+            if (formattedTemplates.size() < maxFormattedTemplates) {
+                formattedTemplates.putIfAbsent(sql, formatted);
+            }
+        }
+        template.formatted = formatted;
+        return formatted;
+    }
+
+    /**
+     * 格式化 SQL 模板
+     *
+     * @param template 未格式化的 SQL 模板
+     * @param sql      规范化的 SQL
+     * @return 格式化后的 SQL 模板, 格式化失败或占位符数量发生变化时返回原模板
+     */
+    private static SqlTemplate format(SqlTemplate template, String sql) {
+        SqlTemplate parsed = SqlTemplate.parseFormatted(SqlUtils.sqlFormat(sql, true));
+        return parsed.placeholderCount() == template.placeholderCount() ? parsed : template;
+    }
+
+    /**
+     * 获取 SQL 对应的模板, 未缓存时切分并在未超过上限时缓存
+     *
+     * @param sql 带占位符的 SQL
+     * @return SQL 模板
+     */
+    private SqlTemplate template(String sql) {
+        SqlTemplate template = templates.get(sql);
+        if (template == null) {
+            template = SqlTemplate.parse(sql);
+            if (templates.size() < maxTemplates) {
+                templates.putIfAbsent(sql, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * 追加参数值的 SQL 字面量
+     * <p> 字符串与日期加单引号, 字符串中的单引号转义为两个单引号; 数字直接追加, BigDecimal 不使用科学计数法
+     *
+     * @param sql   SQL
+     * @param value 参数值
+     */
+    static void appendValue(StringBuilder sql, Object value) {
+        if (value == null) {
+            sql.append("null");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            sql.append(((Number) value).longValue());
+        } else if (value instanceof BigDecimal decimal) {
+            sql.append(decimal.toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sql.append(value);
+        } else if (value instanceof CharSequence || value instanceof Character) {
+            appendQuoted(sql, value.toString());
+        } else if (value instanceof Date date) {
+            appendQuoted(sql, DATE_TIME.format(Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault())));
+        } else if (value instanceof TemporalAccessor temporal) {
+            appendQuoted(sql, formatTemporal(temporal));
+        } else if (value instanceof byte[] bytes) {
+            sql.append("'<").append(bytes.length).append(" bytes>'");
+        } else {
+            sql.append(value);
+        }
+    }
+
+    /**
+     * 格式化 java.time 类型
+     *
+     * @param temporal 时间
+     * @return 格式化后的时间
+     */
+    private static String formatTemporal(TemporalAccessor temporal) {
+        if (temporal instanceof LocalDateTime || temporal instanceof ZonedDateTime || temporal instanceof OffsetDateTime) {
+            return DATE_TIME.format(temporal);
+        }
+        if (temporal instanceof Instant instant) {
+            return DATE_TIME.format(instant.atZone(ZoneId.systemDefault()));
+        }
+        if (temporal instanceof LocalDate || temporal instanceof LocalTime) {
+            return temporal.toString();
+        }
+        return String.valueOf(temporal);
+    }
+
+    /**
+     * 追加带单引号的字符串, 单引号转义为两个单引号
+     *
+     * @param sql   SQL
+     * @param value 字符串
+     */
+    private static void appendQuoted(StringBuilder sql, String value) {
+        sql.append('\'');
+        int start = 0;
+        for (int i = value.indexOf('\''); i >= 0; i = value.indexOf('\'', start)) {
+            sql.append(value, start, i + 1).append('\'');
+            start = i + 1;
+        }
+        sql.append(value, start, value.length()).append('\'');
+    }
+}
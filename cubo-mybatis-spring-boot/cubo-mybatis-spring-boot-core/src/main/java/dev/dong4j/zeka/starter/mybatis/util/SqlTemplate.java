@@ -0,0 +1,142 @@
+package dev.dong4j.zeka.starter.mybatis.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL 模板
+ * <p> 将带 {@code ?} 占位符的 SQL 切分为占位符之间的静态片段, 切分时把连续空白压缩为一个空格并去掉首尾空白.
+ * 引号 ({@code '} {@code "} {@code `}) 内的内容原样保留, 其中的 {@code ?} 不视为占位符.
+ * 同一条 SQL 只需切分一次, 之后由 {@link SqlRenderer} 按顺序拼接片段与参数值, 一次线性遍历完成渲染.
+ * 格式化后的模板由 {@link SqlRenderer} 生成, 切分时保留格式化器输出的换行与缩进
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+public final class SqlTemplate {
+
+    /** 占位符之间的静态片段, 数量为占位符数量 + 1 */
+    private final String[] segments;
+    /** 静态片段的总长度 */
+    private final int length;
+    /** 格式化后的模板, 由 {@link SqlRenderer} 在首次格式化时写入 */
+    volatile SqlTemplate formatted;
+
+    /**
+     * 构造函数
+     *
+     * @param segments 静态片段
+     */
+    private SqlTemplate(String[] segments) {
+        this.segments = segments;
+        int total = 0;
+        for (String segment : segments) {
+            total += segment.length();
+        }
+        this.length = total;
+    }
+
+    /**
+     * 切分 SQL
+     *
+     * @param sql 带 {@code ?} 占位符的 SQL
+     * @return SQL 模板
+     */
+    public static SqlTemplate parse(String sql) {
+        return parse(sql, true);
+    }
+
+    /**
+     * 切分已格式化的 SQL, 保留其中的空白
+     *
+     * @param sql 格式化后带 {@code ?} 占位符的 SQL
+     * @return SQL 模板
+     */
+    static SqlTemplate parseFormatted(String sql) {
+        return parse(sql, false);
+    }
+
+    /**
+     * 切分 SQL
+     *
+     * @param sql      带 {@code ?} 占位符的 SQL
+     * @param collapse 是否压缩连续空白并去掉首尾空白
+     * @return SQL 模板
+     */
+    private static SqlTemplate parse(String sql, boolean collapse) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder current = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                // 引号内原样保留, 转义的 '' 会在下一个字符重新进入引号
+                current.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(c) && collapse) {
+                pendingSpace = current.length() > 0 || !segments.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                current.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '?') {
+                segments.add(current.toString());
+                current.setLength(0);
+                continue;
+            }
+            if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            }
+            current.append(c);
+        }
+        segments.add(current.toString());
+        return new SqlTemplate(segments.toArray(new String[0]));
+    }
+
+    /**
+     * 获取规范化后的 SQL, 即以 {@code ?} 连接各静态片段, 作为格式化模板的缓存键
+     *
+     * @return 带 {@code ?} 占位符的 SQL
+     */
+    public String sql() {
+        return String.join("?", segments);
+    }
+
+    /**
+     * 获取占位符数量
+     *
+     * @return 占位符数量
+     */
+    public int placeholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * 获取静态片段
+     *
+     * @param index 片段下标, 第 index 个片段之后是第 index 个占位符
+     * @return 静态片段
+     */
+    public String segment(int index) {
+        return segments[index];
+    }
+
+    /**
+     * 获取静态片段的总长度, 用于预估渲染结果的长度
+     *
+     * @return 静态片段的总长度
+     */
+    public int length() {
+        return length;
+    }
+}
@@ -94,6 +94,8 @@ public class SqlUtils {
 
     /**
      * 加密敏感数据
+     * <p> 只适用于 sensitive-key 加密的密文. 配置了带密钥标识的加解密引擎时, 请注入
+     * {@link dev.dong4j.zeka.starter.mybatis.plugins.sensitive.FieldEncryptionEngine} 生成查询条件
      *
      * @param value value
      * @return the string
@@ -109,6 +111,8 @@ public class SqlUtils {
 
     /**
      * 格式sql
+     * <p> 每次调用都会完整运行格式化器, 适用于无法取得占位符模板的 SQL. 带参数的 SQL 请通过 {@link SqlRenderer} 渲染,
+     * 由渲染器缓存格式化后的模板
      *
      * @param boundSql bound sql
      * @param format   format
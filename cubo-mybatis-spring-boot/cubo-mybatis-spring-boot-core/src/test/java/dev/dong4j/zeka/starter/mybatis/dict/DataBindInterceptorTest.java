@@ -0,0 +1,357 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 字典翻译拦截器测试类
+ * <p> 验证批量翻译的去重, 结果填充, 多值切分以及备忘
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DataBindInterceptorTest {
+
+    /** MyBatis 配置 */
+    private final Configuration configuration = new Configuration();
+
+    /**
+     * 测试批量翻译
+     * <p>
+     * 测试场景: 500 行, 每行 2 个字典字段, 共 3 个不同的性别值与 4 个不同的状态值, 其中一行的字段值为空
+     * 预期结果: 只调用一次批量翻译, 传入 7 个去重后的字典键, 每行都填充了对应的翻译结果
+     */
+    @Test
+    void testBatch() {
+        CountingDataBind dataBind = new CountingDataBind();
+        List<Row> rows = rows(500);
+        rows.get(0).setStatus(null);
+
+        DataBindInterceptor.bind(this.configuration, rows, dataBind);
+
+        assertEquals(1, dataBind.calls);
+        assertEquals(7, dataBind.keys.size());
+        for (Row row : rows) {
+            assertEquals("gender:" + row.getGender(), row.getGenderName());
+        }
+        assertNull(rows.get(0).getStatusName());
+        assertEquals("user_status:" + rows.get(1).getStatus(), rows.get(1).getStatusName());
+    }
+
+    /**
+     * 测试备忘
+     * <p>
+     * 测试场景: 打开备忘后执行两次查询, 关闭后再执行一次
+     * 预期结果: 打开期间第二次查询不再翻译, 关闭后重新翻译; 没有翻译结果的键也不会重复翻译
+     */
+    @Test
+    void testMemo() {
+        CountingDataBind dataBind = new CountingDataBind();
+        try (DataBindMemo memo = DataBindMemo.open()) {
+            DataBindInterceptor.bind(this.configuration, rows(10), dataBind);
+            List<Row> rows = rows(10);
+            DataBindInterceptor.bind(this.configuration, rows, dataBind);
+
+            assertEquals(1, dataBind.calls);
+            assertEquals(7, memo.size());
+            assertEquals("gender:" + rows.get(1).getGender(), rows.get(1).getGenderName());
+        }
+
+        DataBindInterceptor.bind(this.configuration, rows(10), dataBind);
+        assertEquals(2, dataBind.calls);
+    }
+
+    /**
+     * 测试多个字典值
+     * <p>
+     * 测试场景: 字段值为逗号分隔的多个字典值, 其中包含空白与没有翻译结果的值
+     * 预期结果: 各字典值分别作为字典键翻译, 结果按原顺序以逗号拼接, 没有翻译结果的值被跳过, 都没有时不设置目标属性
+     */
+    @Test
+    void testMultipleCodes() {
+        CountingDataBind dataBind = new CountingDataBind();
+        Row row = new Row();
+        row.setGender("1, 3 ,2");
+        Row other = new Row();
+        other.setGender("3");
+
+        DataBindInterceptor.bind(this.configuration, List.of(row, other), dataBind);
+
+        assertEquals(Set.of(new DictKey("gender", "1"), new DictKey("gender", "2"), new DictKey("gender", "3")), dataBind.keys);
+        assertEquals("gender:1,gender:2", row.getGenderName());
+        assertNull(other.getGenderName());
+    }
+
+    /**
+     * 测试未指定字典类型的字段
+     * <p>
+     * 测试场景: 字段只指定了目标属性, 没有指定字典类型, 共 3 行
+     * 预期结果: 不按字段名推断字典类型, 不调用批量翻译, 每行逐个交给 setMetaObject 处理
+     */
+    @Test
+    void testUntypedField() {
+        CountingDataBind dataBind = new CountingDataBind();
+        List<UntypedRow> rows = List.of(new UntypedRow("1"), new UntypedRow("2"), new UntypedRow(null));
+
+        DataBindInterceptor.bind(this.configuration, rows, dataBind);
+
+        assertEquals(0, dataBind.calls);
+        assertEquals(3, dataBind.rowCalls);
+        assertEquals("row:1", rows.get(0).getCodeName());
+        assertNull(rows.get(2).getCodeName());
+    }
+
+    /**
+     * 测试备忘数量上限
+     * <p>
+     * 测试场景: 备忘上限为 8, 打开期间先后查询两批共 14 个不同的字典键, 再查询第二批
+     * 预期结果: 保存第二批前清空第一批的结果, 备忘数量不超过上限, 第二批再次查询时不再翻译
+     */
+    @Test
+    void testMemoMaxSize() {
+        CountingDataBind dataBind = new CountingDataBind();
+        try (DataBindMemo memo = DataBindMemo.open(8)) {
+            DataBindInterceptor.bind(this.configuration, rows(10), dataBind);
+            List<Row> rows = rows(10);
+            rows.forEach(row -> row.setGender("x" + row.getGender()));
+            DataBindInterceptor.bind(this.configuration, rows, dataBind);
+
+            assertEquals(7, memo.size());
+            DataBindInterceptor.bind(this.configuration, rows, dataBind);
+            assertEquals(2, dataBind.calls);
+            assertEquals("gender:x1", rows.get(1).getGenderName());
+        }
+    }
+
+    /**
+     * 创建测试数据
+     *
+     * @param size 行数
+     * @return 测试数据
+     */
+    private static List<Row> rows(int size) {
+        List<Row> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Row row = new Row();
+            row.setGender(String.valueOf(i % 3));
+            row.setStatus(i % 4);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 记录调用次数的批量翻译, 状态为 3 时没有翻译结果
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static class CountingDataBind implements IBatchDataBind {
+
+        /** 调用次数 */
+        private int calls;
+        /** 最后一次调用的字典键 */
+        private Set<DictKey> keys;
+        /** 逐行翻译的次数 */
+        private int rowCalls;
+
+        /**
+         * 批量翻译
+         *
+         * @param keys 字典键
+         * @return 翻译结果
+         */
+        @Override
+        public Map<DictKey, ?> translate(Set<DictKey> keys) {
+            this.calls++;
+            this.keys = keys;
+            Map<DictKey, String> result = new HashMap<>(keys.size());
+            for (DictKey key : keys) {
+                if (!"3".equals(key.code())) {
+                    result.put(key, key.type() + ":" + key.code());
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 逐行翻译未指定字典类型的字段, 字段值不为空时写入 row:字段值
+         *
+         * @param field      field
+         * @param fieldValue field value
+         * @param metaObject meta object
+         */
+        @Override
+        public void setMetaObject(FieldBind field, Object fieldValue, MetaObject metaObject) {
+            this.rowCalls++;
+            if (fieldValue != null) {
+                metaObject.setValue(field.target(), "row:" + fieldValue);
+            }
+        }
+    }
+
+    /**
+     * 未指定字典类型的测试行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class UntypedRow {
+
+        /** 编码 */
+        @FieldBind(target = "codeName")
+        private String code;
+        /** 编码名称 */
+        private String codeName;
+
+        /**
+         * 构造函数
+         *
+         * @param code 编码
+         */
+        public UntypedRow(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Gets code *
+         *
+         * @return the code
+         */
+        public String getCode() {
+            return this.code;
+        }
+
+        /**
+         * Gets code name *
+         *
+         * @return the code name
+         */
+        public String getCodeName() {
+            return this.codeName;
+        }
+
+        /**
+         * Sets code name *
+         *
+         * @param codeName code name
+         */
+        public void setCodeName(String codeName) {
+            this.codeName = codeName;
+        }
+    }
+
+    /**
+     * 测试行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class Row {
+
+        /** 性别 */
+        @FieldBind(target = "genderName", type = "gender")
+        private String gender;
+        /** 状态 */
+        @FieldBind(target = "statusName", type = "user_status")
+        private Integer status;
+        /** 性别名称 */
+        private String genderName;
+        /** 状态名称 */
+        private String statusName;
+
+        /**
+         * Gets gender *
+         *
+         * @return the gender
+         */
+        public String getGender() {
+            return this.gender;
+        }
+
+        /**
+         * Sets gender *
+         *
+         * @param gender gender
+         */
+        public void setGender(String gender) {
+            this.gender = gender;
+        }
+
+        /**
+         * Gets status *
+         *
+         * @return the status
+         */
+        public Integer getStatus() {
+            return this.status;
+        }
+
+        /**
+         * Sets status *
+         *
+         * @param status status
+         */
+        public void setStatus(Integer status) {
+            this.status = status;
+        }
+
+        /**
+         * Gets gender name *
+         *
+         * @return the gender name
+         */
+        public String getGenderName() {
+            return this.genderName;
+        }
+
+        /**
+         * Sets gender name *
+         *
+         * @param genderName gender name
+         */
+        public void setGenderName(String genderName) {
+            this.genderName = genderName;
+        }
+
+        /**
+         * Gets status name *
+         *
+         * @return the status name
+         */
+        public String getStatusName() {
+            return this.statusName;
+        }
+
+        /**
+         * Sets status name *
+         *
+         * @param statusName status name
+         */
+        public void setStatusName(String statusName) {
+            this.statusName = statusName;
+        }
+    }
+}
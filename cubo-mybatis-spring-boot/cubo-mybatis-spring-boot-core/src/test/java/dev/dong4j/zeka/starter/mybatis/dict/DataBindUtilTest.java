@@ -0,0 +1,104 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 字典翻译绑定计划测试类
+ * <p> 验证绑定计划的字段, MethodHandle 读写, 回退为 MetaObject 的条件以及否定缓存
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class DataBindUtilTest {
+
+    /**
+     * 测试绑定计划
+     * <p>
+     * 测试场景: 类中有 2 个 FieldBind 字段与 1 个 static 字段, getter 与 setter 均为 public
+     * 预期结果: 计划包含 2 个字段, 不需要 MetaObject, 通过 MethodHandle 读写, 再次获取返回同一计划
+     */
+    @Test
+    void testPlan() {
+        DataBindPlan plan = DataBindUtil.getPlan(DataBindInterceptorTest.Row.class);
+
+        assertEquals(2, plan.fields().size());
+        assertFalse(plan.requiresMetaObject());
+        assertSame(plan, DataBindUtil.getPlan(DataBindInterceptorTest.Row.class));
+
+        DataBindInterceptorTest.Row row = new DataBindInterceptorTest.Row();
+        row.setStatus(1);
+        DataBindPlan.BoundField status = plan.fields().get(1);
+        assertEquals("user_status", status.property().getDictType());
+        assertEquals(1, status.read(row, null));
+        status.write(row, null, "启用");
+        assertEquals("启用", row.getStatusName());
+    }
+
+    /**
+     * 测试回退为 MetaObject
+     * <p>
+     * 测试场景: 目标属性为嵌套属性
+     * 预期结果: 该字段的 setter 为空, 计划需要 MetaObject
+     */
+    @Test
+    void testNestedTarget() {
+        DataBindPlan plan = DataBindUtil.getPlan(NestedRow.class);
+
+        assertTrue(plan.requiresMetaObject());
+        assertNotNull(plan.fields().get(0).getter());
+        assertNull(plan.fields().get(0).setter());
+    }
+
+    /**
+     * 测试否定缓存
+     * <p>
+     * 测试场景: Map 与没有 FieldBind 字段的类
+     * 预期结果: 返回同一个空计划, 预热只统计需要翻译的类
+     */
+    @Test
+    void testEmpty() {
+        assertTrue(DataBindUtil.getPlan(HashMap.class).isEmpty());
+        assertTrue(DataBindUtil.getPlan(LinkedHashMap.class).isEmpty());
+        assertSame(DataBindPlan.EMPTY, DataBindUtil.getPlan(String.class));
+        assertEquals(1, DataBindUtil.prewarm(List.of(String.class, DataBindInterceptorTest.Row.class)));
+    }
+
+    /**
+     * 目标属性为嵌套属性的测试行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class NestedRow {
+
+        /** 性别 */
+        @FieldBind(target = "label.gender")
+        private String gender;
+
+        /**
+         * Gets gender *
+         *
+         * @return the gender
+         */
+        public String getGender() {
+            return this.gender;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package dev.dong4j.zeka.starter.mybatis.dict;
+
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.expression.EvaluationException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SpEL 数据绑定测试类
+ * <p> 验证表达式缓存后每行使用各自的字段值, Impl 后缀回退, 编译模式以及 Bean 缓存范围
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class SpelDataBindTest {
+
+    /**
+     * 测试逐行绑定
+     * <p>
+     * 测试场景: 同一个表达式依次绑定多行, 表达式中的 Bean 只以 Impl 后缀注册, 字段值包含逗号
+     * 预期结果: 每行的结果都来自该行的字段值, Bean 通过 Impl 后缀找到
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Test
+    void testBind() throws NoSuchFieldException {
+        SpelDataBind dataBind = new SpelDataBind(beanFactory(), false);
+
+        assertEquals("label:1|2", bind(dataBind, "code", "1, 2").getCodeLabel());
+        assertEquals("label:3", bind(dataBind, "code", "3").getCodeLabel());
+        assertEquals("LABEL:4", bind(dataBind, "status", "4").getStatusLabel());
+    }
+
+    /**
+     * 测试编译模式
+     * <p>
+     * 测试场景: 开启编译模式, 同一个表达式执行足够多次以触发编译
+     * 预期结果: 编译前后结果一致, 且仍然使用每行的字段值
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Test
+    void testCompiled() throws NoSuchFieldException {
+        SpelDataBind dataBind = new SpelDataBind(beanFactory(), true);
+
+        for (int i = 0; i < 500; i++) {
+            assertEquals("label:" + i, bind(dataBind, "code", String.valueOf(i)).getCodeLabel());
+        }
+    }
+
+    /**
+     * 测试空表达式
+     * <p>
+     * 测试场景: 字段未配置表达式
+     * 预期结果: 不设置目标属性
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Test
+    void testBlankExpress() throws NoSuchFieldException {
+        SpelDataBind dataBind = new SpelDataBind(beanFactory(), false);
+
+        assertNull(bind(dataBind, "name", "1").getCodeLabel());
+    }
+
+    /**
+     * 测试非单例 Bean
+     * <p>
+     * 测试场景: 表达式引用 prototype 作用域的 Bean, 绑定多行
+     * 预期结果: 每行都从 Bean 工厂获取新的实例, 不缓存第一次取得的实例
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Test
+    void testPrototypeBean() throws NoSuchFieldException {
+        DefaultListableBeanFactory beanFactory = beanFactory();
+        RootBeanDefinition definition = new RootBeanDefinition(CountingService.class);
+        definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        beanFactory.registerBeanDefinition("countingService", definition);
+        SpelDataBind dataBind = new SpelDataBind(beanFactory, false);
+        int before = CountingService.INSTANCES.get();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("label:" + i, bind(dataBind, "counted", String.valueOf(i)).getCodeLabel());
+        }
+        assertEquals(3, CountingService.INSTANCES.get() - before);
+    }
+
+    /**
+     * 测试之后注册的 Bean
+     * <p>
+     * 测试场景: 表达式引用的 Bean 第一次求值时不存在, 之后才注册
+     * 预期结果: 第一次求值失败, 注册后可以找到该 Bean, 不存在的结果不会被缓存
+     *
+     * @throws NoSuchFieldException 字段不存在
+     */
+    @Test
+    void testLateBean() throws NoSuchFieldException {
+        DefaultListableBeanFactory beanFactory = beanFactory();
+        SpelDataBind dataBind = new SpelDataBind(beanFactory, false);
+
+        assertThrows(EvaluationException.class, () -> bind(dataBind, "late", "1"));
+        beanFactory.registerSingleton("lateService", new DictService());
+        assertEquals("label:1", bind(dataBind, "late", "1").getCodeLabel());
+    }
+
+    /**
+     * 创建只以 Impl 后缀注册字典服务的 Bean 工厂
+     *
+     * @return Bean 工厂
+     */
+    private static DefaultListableBeanFactory beanFactory() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("dictServiceImpl", new DictService());
+        return beanFactory;
+    }
+
+    /**
+     * 绑定一行数据
+     *
+     * @param dataBind 数据绑定
+     * @param field    字段名
+     * @param value    字段值
+     * @return 绑定后的行
+     * @throws NoSuchFieldException 字段不存在
+     */
+    private static Row bind(SpelDataBind dataBind, String field, String value) throws NoSuchFieldException {
+        Row row = new Row();
+        MetaObject metaObject = SystemMetaObject.forObject(row);
+        dataBind.setMetaObject(Row.class.getDeclaredField(field).getAnnotation(FieldBind.class), value, metaObject);
+        return row;
+    }
+
+    /**
+     * 字典服务
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class DictService {
+
+        /**
+         * 翻译字典值
+         *
+         * @param params 字典值
+         * @return 字典名称
+         */
+        public String label(List<String> params) {
+            return "label:" + String.join("|", params);
+        }
+    }
+
+    /**
+     * 记录实例数量的字典服务
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class CountingService extends DictService {
+
+        /** 已创建的实例数量 */
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        /**
+         * 构造函数, 记录实例数量
+         */
+        public CountingService() {
+            INSTANCES.incrementAndGet();
+        }
+    }
+
+    /**
+     * 测试行
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public static class Row {
+
+        /** Code */
+        @FieldBind(target = "codeLabel", express = "#{dictService.label(params)}")
+        private String code;
+        /** Status */
+        @FieldBind(target = "statusLabel", express = "#{dictServiceImpl.label(params).toUpperCase()}")
+        private String status;
+        /** Name */
+        @FieldBind(target = "codeLabel")
+        private String name;
+        /** Counted */
+        @FieldBind(target = "codeLabel", express = "#{countingService.label(params)}")
+        private String counted;
+        /** Late */
+        @FieldBind(target = "codeLabel", express = "#{lateService.label(params)}")
+        private String late;
+        /** Code label */
+        private String codeLabel;
+        /** Status label */
+        private String statusLabel;
+
+        /**
+         * Gets code label *
+         *
+         * @return the code label
+         */
+        public String getCodeLabel() {
+            return this.codeLabel;
+        }
+
+        /**
+         * Sets code label *
+         *
+         * @param codeLabel code label
+         */
+        public void setCodeLabel(String codeLabel) {
+            this.codeLabel = codeLabel;
+        }
+
+        /**
+         * Gets status label *
+         *
+         * @return the status label
+         */
+        public String getStatusLabel() {
+            return this.statusLabel;
+        }
+
+        /**
+         * Sets status label *
+         *
+         * @param statusLabel status label
+         */
+        public void setStatusLabel(String statusLabel) {
+            this.statusLabel = statusLabel;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package dev.dong4j.zeka.starter.mybatis.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 枚举值反向索引测试类
+ * <p> 验证不同数值类型之间按数值匹配, 字符串与数值不互相匹配, 稀疏与小数值, 以及 null 与未知值
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class EnumValueIndexTest {
+
+    /**
+     * 测试数值
+     * <p>
+     * 测试场景: 整数值的枚举, 数据库返回 Integer, Long, Short, BigDecimal, BigInteger 与 Double
+     * 预期结果: 数值相等时匹配同一常量, 字符串 "1" 不匹配
+     */
+    @Test
+    void testNumeric() {
+        EnumValueIndex<Status> index = EnumValueIndex.of(Status.class, value -> ((Status) value).getValue());
+
+        assertSame(Status.ENABLED, index.lookup(1));
+        assertSame(Status.ENABLED, index.lookup(1L));
+        assertSame(Status.ENABLED, index.lookup((short) 1));
+        assertSame(Status.ENABLED, index.lookup(new BigDecimal("1.00")));
+        assertSame(Status.ENABLED, index.lookup(BigInteger.ONE));
+        assertSame(Status.ENABLED, index.lookup(1.0D));
+        assertSame(Status.DISABLED, index.lookup(0));
+        assertNull(index.lookup("1"));
+        assertEquals(1, index.value(Status.ENABLED));
+        assertSame(index, EnumValueIndex.of(Status.class, value -> null));
+    }
+
+    /**
+     * 测试 null 与未知值
+     * <p>
+     * 测试场景: 数据库返回 null, 不存在的整数, 小数, NaN 与超出 long 范围的整数
+     * 预期结果: 均返回 null; 重复出现的相同值声明在前的常量优先
+     */
+    @Test
+    void testUnknown() {
+        EnumValueIndex<Status> index = EnumValueIndex.of(Status.class, value -> ((Status) value).getValue());
+
+        assertNull(index.lookup(null));
+        assertNull(index.lookup(99));
+        assertNull(index.lookup(-1L));
+        assertNull(index.lookup(1.5D));
+        assertNull(index.lookup(Double.NaN));
+        assertNull(index.lookup(new BigInteger("99999999999999999999")));
+        assertSame(Status.LOCKED, index.lookup(2));
+    }
+
+    /**
+     * 测试稀疏值, 小数值与字符串值
+     * <p>
+     * 测试场景: 整数值范围超过数组索引范围, 含有小数值, 以及字符串值的枚举
+     * 预期结果: 均可按值匹配
+     */
+    @Test
+    void testSparseAndString() {
+        EnumValueIndex<Sparse> sparse = EnumValueIndex.of(Sparse.class, value -> ((Sparse) value).getValue());
+        assertSame(Sparse.SMALL, sparse.lookup(1));
+        assertSame(Sparse.LARGE, sparse.lookup(100000L));
+        assertSame(Sparse.LARGE, sparse.lookup(new BigDecimal("1E+5")));
+        assertSame(Sparse.HALF, sparse.lookup(new BigDecimal("0.50")));
+        assertSame(Sparse.HALF, sparse.lookup(0.5F));
+        assertNull(sparse.lookup(2));
+
+        EnumValueIndex<Gender> gender = EnumValueIndex.of(Gender.class, value -> ((Gender) value).getValue());
+        assertSame(Gender.FEMALE, gender.lookup("F"));
+        assertNull(gender.lookup("f"));
+        assertNull(gender.lookup(1));
+    }
+
+    /**
+     * 测试数值 0
+     * <p>
+     * 测试场景: 不同类型的 0 与非 0 数值
+     * 预期结果: 只有数值 0 判断为 0
+     */
+    @Test
+    void testZero() {
+        assertTrue(EnumValueIndex.isZero(0));
+        assertTrue(EnumValueIndex.isZero(new BigDecimal("0.000")));
+        assertTrue(EnumValueIndex.isZero(-0.0D));
+        assertFalse(EnumValueIndex.isZero(1L));
+        assertFalse(EnumValueIndex.isZero(0.01D));
+        assertFalse(EnumValueIndex.isZero(Double.NaN));
+    }
+
+    /**
+     * 整数值的测试枚举
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    enum Status {
+        /** 禁用 */
+        DISABLED(0),
+        /** 启用 */
+        ENABLED(1),
+        /** 锁定 */
+        LOCKED(2),
+        /** 与 LOCKED 的值相同 */
+        FROZEN(2);
+
+        /** 数据库存储的值 */
+        private final Integer value;
+
+        /**
+         * 构造函数
+         *
+         * @param value 数据库存储的值
+         */
+        Status(Integer value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets value
+         *
+         * @return the value
+         */
+        public Integer getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * 稀疏值与小数值的测试枚举
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    enum Sparse {
+        /** 小数值 */
+        HALF(new BigDecimal("0.5")),
+        /** 小值 */
+        SMALL(1L),
+        /** 大值 */
+        LARGE(100000L);
+
+        /** 数据库存储的值 */
+        private final Number value;
+
+        /**
+         * 构造函数
+         *
+         * @param value 数据库存储的值
+         */
+        Sparse(Number value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets value
+         *
+         * @return the value
+         */
+        public Number getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * 字符串值的测试枚举
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    enum Gender {
+        /** 男 */
+        MALE("M"),
+        /** 女 */
+        FEMALE("F");
+
+        /** 数据库存储的值 */
+        private final String value;
+
+        /**
+         * 构造函数
+         *
+         * @param value 数据库存储的值
+         */
+        Gender(String value) {
+            this.value = value;
+        }
+
+        /**
+         * Gets value
+         *
+         * @return the value
+         */
+        public String getValue() {
+            return this.value;
+        }
+    }
+}
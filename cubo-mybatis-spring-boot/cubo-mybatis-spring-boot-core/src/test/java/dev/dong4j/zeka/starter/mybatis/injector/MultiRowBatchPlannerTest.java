@@ -0,0 +1,130 @@
+package dev.dong4j.zeka.starter.mybatis.injector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 多行插入分批计划测试类
+ * <p> 使用 Map 作为实体, 验证按行数, 语句大小与参数数量切分
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class MultiRowBatchPlannerTest {
+
+    /** 默认语句大小上限的分批计划 */
+    private final MultiRowBatchPlanner planner = new MultiRowBatchPlanner();
+
+    /**
+     * 测试行数上限
+     * <p>
+     * 测试场景: 2500 行窄数据, 每批最多 1000 行; 以及 3 列时参数数量超过上限
+     * 预期结果: 切分为 1000, 1000, 500; 参数数量上限为 65535 / 3 = 21845 行
+     */
+    @Test
+    void testRowLimit() {
+        List<Integer> sizes = new ArrayList<>();
+
+        int chunks = this.planner.forEachChunk(layout("id", "name"), rows(2500, "a"), 1000, chunk -> sizes.add(chunk.size()));
+
+        assertEquals(3, chunks);
+        assertEquals(List.of(1000, 1000, 500), sizes);
+
+        sizes.clear();
+        this.planner.forEachChunk(layout("id", "name", "age"), rows(30000, null), Integer.MAX_VALUE, chunk -> sizes.add(chunk.size()));
+        assertEquals(MultiRowBatchPlanner.MAX_PARAMETERS / 3, sizes.get(0).intValue());
+        assertEquals(30000, sizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    /**
+     * 测试语句大小上限
+     * <p>
+     * 测试场景: 语句大小上限 64 KiB, 每行有 1000 个字符的字符串; 以及单行超过上限
+     * 预期结果: 每批的估算大小不超过上限; 超过上限的行单独成批; 上限只属于该实例, 默认实例不受影响
+     */
+    @Test
+    void testByteLimit() {
+        MultiRowBatchPlanner small = new MultiRowBatchPlanner(64 * 1024);
+        MultiRowBatchPlanner.RowLayout layout = layout("id", "name");
+        List<Map<String, Object>> rows = rows(200, "x".repeat(1000));
+        long rowBytes = layout.estimateRowBytes(rows.get(0));
+        List<Integer> sizes = new ArrayList<>();
+
+        small.forEachChunk(layout, rows, 1000, chunk -> sizes.add(chunk.size()));
+
+        assertTrue(sizes.size() > 1);
+        assertTrue(sizes.get(0) * rowBytes <= 64 * 1024);
+        assertTrue((sizes.get(0) + 1) * rowBytes > 64 * 1024 - 512);
+        assertEquals(200, sizes.stream().mapToInt(Integer::intValue).sum());
+
+        sizes.clear();
+        small.forEachChunk(layout, rows(3, "x".repeat(100_000)), 1000, chunk -> sizes.add(chunk.size()));
+        assertEquals(List.of(1, 1, 1), sizes);
+
+        assertEquals(MultiRowBatchPlanner.DEFAULT_MAX_STATEMENT_BYTES, this.planner.getMaxStatementBytes());
+        assertEquals(1, this.planner.forEachChunk(layout, rows, 1000, chunk -> { }));
+    }
+
+    /**
+     * 测试行宽估算
+     * <p>
+     * 测试场景: 值为 null 的普通字段与执行时填充的字段, 字符串与字节数组
+     * 预期结果: 填充字段按定长值估算, 字符串按每个字符 3 字节估算
+     */
+    @Test
+    void testEstimate() {
+        MultiRowBatchPlanner.RowLayout plain = new MultiRowBatchPlanner.RowLayout(new String[] {"name"}, new boolean[] {false}, MultiRowBatchPlannerTest::read);
+        MultiRowBatchPlanner.RowLayout filled = new MultiRowBatchPlanner.RowLayout(new String[] {"name"}, new boolean[] {true}, MultiRowBatchPlannerTest::read);
+        Map<String, Object> empty = Map.of();
+
+        assertTrue(filled.estimateRowBytes(empty) > plain.estimateRowBytes(empty));
+        assertEquals(3 * 10 + 2, MultiRowBatchPlanner.estimateValueBytes("0123456789"));
+        assertEquals(2 * 4 + 3, MultiRowBatchPlanner.estimateValueBytes(new byte[4]));
+        assertEquals(4, MultiRowBatchPlanner.estimateValueBytes(null));
+    }
+
+    /**
+     * 创建行布局, 所有列都不是填充字段
+     *
+     * @param properties 属性
+     * @return 行布局
+     */
+    private static MultiRowBatchPlanner.RowLayout layout(String... properties) {
+        return new MultiRowBatchPlanner.RowLayout(properties, new boolean[properties.length], MultiRowBatchPlannerTest::read);
+    }
+
+    /**
+     * 创建测试行
+     *
+     * @param count 行数
+     * @param name  name 的值
+     * @return 行
+     */
+    private static List<Map<String, Object>> rows(int count, String name) {
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(name == null ? Map.of("id", i) : Map.of("id", i, "name", name));
+        }
+        return rows;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param entity   实体
+     * @param property 属性
+     * @return 属性值
+     */
+    private static Object read(Object entity, String property) {
+        return ((Map<?, ?>) entity).get(property);
+    }
+}
@@ -0,0 +1,310 @@
+package dev.dong4j.zeka.starter.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.dong4j.zeka.starter.mybatis.base.BaseDao;
+import dev.dong4j.zeka.starter.mybatis.injector.MultiRowBatchPlanner;
+import dev.dong4j.zeka.starter.mybatis.injector.MybatisSqlInjector;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 多行插入方法测试类
+ * <p> 使用 H2 内存数据库 (MySQL 模式) 与不依赖 Spring 的 MyBatis Plus, 验证 insertIgnoreBatch, replaceBatch 与 upsertBatch
+ * 在主键冲突时的行为 (包括自增主键), 值为 null 的字段与数据库默认值的关系, 以及按语句大小切分后的写入结果
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class InsertBatchMethodTest {
+
+    /** 连接池 */
+    private static PooledDataSource dataSource;
+    /** 会话工厂 */
+    private static SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * 创建数据库与会话工厂
+     *
+     * @throws SQLException 建表失败
+     */
+    @BeforeAll
+    static void setup() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                                          "jdbc:h2:mem:insert_batch;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                                          "sa",
+                                          "");
+        execute("CREATE TABLE t_account (id BIGINT PRIMARY KEY, name VARCHAR(32), status INT DEFAULT 1, remark VARCHAR(4000))");
+        execute("CREATE TABLE t_auto_account (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(32), status INT)");
+
+        MybatisConfiguration configuration = new MybatisConfiguration(new Environment("test",
+                                                                                      new JdbcTransactionFactory(),
+                                                                                      dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        GlobalConfig globalConfig = GlobalConfigUtils.getGlobalConfig(configuration);
+        globalConfig.setBanner(false);
+        globalConfig.setSqlInjector(new MybatisSqlInjector());
+        configuration.addMapper(AccountMapper.class);
+        configuration.addMapper(AutoAccountMapper.class);
+        sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+    }
+
+    /**
+     * 关闭连接池
+     */
+    @AfterAll
+    static void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    /**
+     * 清空表, 并重置自增主键
+     *
+     * @throws SQLException 清空失败
+     */
+    @BeforeEach
+    void truncate() throws SQLException {
+        execute("TRUNCATE TABLE t_account");
+        execute("TRUNCATE TABLE t_auto_account RESTART IDENTITY");
+    }
+
+    /**
+     * 测试多行 INSERT IGNORE
+     * <p>
+     * 测试场景: 单行 insertIgnore 写入 status 为 null 的行, 再用 insertIgnoreBatch 写入与其主键冲突的行与新行
+     * 预期结果: 单行选择字段插入使用默认值 1; 冲突的行被忽略; 新行写入所有字段, status 为 NULL 而不是默认值
+     */
+    @Test
+    void testInsertIgnoreBatch() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AccountMapper mapper = sqlSession.getMapper(AccountMapper.class);
+            mapper.insertIgnore(new Account(1L, "a", null, null));
+
+            mapper.insertIgnoreBatch(List.of(new Account(1L, "b", 2, "new"), new Account(2L, "c", null, null)));
+
+            assertEquals(new Account(1L, "a", 1, null), mapper.selectById(1L));
+            assertEquals("c", mapper.selectById(2L).getName());
+            assertNull(mapper.selectById(2L).getStatus());
+            assertEquals(2L, mapper.selectCount(null));
+        }
+    }
+
+    /**
+     * 测试多行 REPLACE
+     * <p>
+     * 测试场景: 已有一行, replaceBatch 写入与其主键冲突且 status, remark 为 null 的行与新行
+     * 预期结果: 冲突的行被整行替换, 值为 null 的字段为 NULL; 新行写入
+     */
+    @Test
+    void testReplaceBatch() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AccountMapper mapper = sqlSession.getMapper(AccountMapper.class);
+            mapper.insert(new Account(1L, "a", 2, "old"));
+
+            mapper.replaceBatch(List.of(new Account(1L, "b", null, null), new Account(2L, "c", 3, "x")));
+
+            assertEquals(new Account(1L, "b", null, null), mapper.selectById(1L));
+            assertEquals(new Account(2L, "c", 3, "x"), mapper.selectById(2L));
+            assertEquals(2L, mapper.selectCount(null));
+        }
+    }
+
+    /**
+     * 测试多行 INSERT ... ON DUPLICATE KEY UPDATE
+     * <p>
+     * 测试场景: 已有一行, upsertBatch 写入与其主键冲突且 status, remark 为 null 的行与新行, 再重复写入一次
+     * 预期结果: 冲突的行只更新非 null 的字段, 其余字段保留原值; 新行写入所有字段; 重复写入后行数不变
+     */
+    @Test
+    void testUpsertBatch() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AccountMapper mapper = sqlSession.getMapper(AccountMapper.class);
+            mapper.insert(new Account(1L, "a", 2, "old"));
+            List<Account> rows = List.of(new Account(1L, "b", null, null), new Account(2L, "c", null, "x"));
+
+            mapper.upsertBatch(rows);
+            mapper.upsertBatch(rows);
+
+            assertEquals(new Account(1L, "b", 2, "old"), mapper.selectById(1L));
+            assertEquals(new Account(2L, "c", null, "x"), mapper.selectById(2L));
+            assertEquals(2L, mapper.selectCount(null));
+        }
+    }
+
+    /**
+     * 测试自增主键
+     * <p>
+     * 测试场景: 自增主键的表中已有一行, upsertBatch 写入带有该行主键的实体与主键为 null 的实体, 再用 insertIgnoreBatch 写入与其主键冲突的行
+     * 预期结果: 带主键的实体与已有行冲突并更新; 主键为 null 的实体由数据库生成主键插入, 主键不回写到实体; 冲突的行被忽略
+     */
+    @Test
+    void testAutoIdBatch() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AutoAccountMapper mapper = sqlSession.getMapper(AutoAccountMapper.class);
+            AutoAccount existing = new AutoAccount(null, "a", 2);
+            mapper.insert(existing);
+            AutoAccount created = new AutoAccount(null, "c", 3);
+
+            mapper.upsertBatch(List.of(new AutoAccount(existing.getId(), "b", null), created));
+            mapper.insertIgnoreBatch(List.of(new AutoAccount(existing.getId(), "d", 4)));
+
+            assertEquals(new AutoAccount(existing.getId(), "b", 2), mapper.selectById(existing.getId()));
+            assertNull(created.getId());
+            assertEquals(2L, mapper.selectCount(null));
+            assertEquals(1L, mapper.selectCount(new QueryWrapper<AutoAccount>().eq("name", "c")));
+        }
+    }
+
+    /**
+     * 测试按语句大小切分
+     * <p>
+     * 测试场景: 语句大小上限 16 KiB, 写入 30 行 1000 个字符的备注, 每批最多 1000 行
+     * 预期结果: 切分为多条语句, 每批的估算大小不超过上限, 所有行都写入
+     */
+    @Test
+    void testStatementBytesLimit() {
+        MultiRowBatchPlanner planner = new MultiRowBatchPlanner(16 * 1024);
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(Account.class);
+        List<Account> rows = new ArrayList<>();
+        for (long i = 1; i <= 30; i++) {
+            rows.add(new Account(i, "n" + i, 1, "x".repeat(1000)));
+        }
+        List<Integer> sizes = new ArrayList<>();
+
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AccountMapper mapper = sqlSession.getMapper(AccountMapper.class);
+            int chunks = planner.forEachChunk(tableInfo, rows, 1000, chunk -> {
+                sizes.add(chunk.size());
+                mapper.insertIgnoreBatch(chunk);
+            });
+
+            assertTrue(chunks > 1);
+            assertEquals(chunks, sizes.size());
+            // 每行约 3000 字节 (字符按 3 字节估算), 16 KiB 减去语句开销后每批最多 5 行
+            assertTrue(sizes.stream().allMatch(size -> size <= 5));
+            assertEquals(30, sizes.stream().mapToInt(Integer::intValue).sum());
+            assertEquals(30L, mapper.selectCount(null));
+            assertEquals(1000, mapper.selectById(30L).getRemark().length());
+        }
+    }
+
+    /**
+     * 执行 DDL
+     *
+     * @param sql 语句
+     * @throws SQLException 执行失败
+     */
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * 测试 Mapper
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public interface AccountMapper extends BaseDao<Account> {
+    }
+
+    /**
+     * 账户
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @TableName("t_account")
+    public static class Account {
+
+        /** 主键 */
+        @TableId(type = IdType.INPUT)
+        private Long id;
+        /** 名称 */
+        private String name;
+        /** 状态, 数据库默认值为 1 */
+        private Integer status;
+        /** 备注 */
+        private String remark;
+    }
+
+    /**
+     * 自增主键的测试 Mapper
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    public interface AutoAccountMapper extends BaseDao<AutoAccount> {
+    }
+
+    /**
+     * 自增主键的账户
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @TableName("t_auto_account")
+    public static class AutoAccount {
+
+        /** 主键, 由数据库自增生成 */
+        @TableId(type = IdType.AUTO)
+        private Long id;
+        /** 名称 */
+        private String name;
+        /** 状态 */
+        private Integer status;
+    }
+}
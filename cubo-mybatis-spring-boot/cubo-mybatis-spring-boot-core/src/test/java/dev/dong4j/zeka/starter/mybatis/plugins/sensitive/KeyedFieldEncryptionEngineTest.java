@@ -0,0 +1,197 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.List;
+
+import javax.crypto.KeyGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 带密钥标识的敏感字段加解密引擎测试类
+ * <p> 使用本地 PKCS12 密钥库验证随机与确定性加密, 密钥轮换后的旧密文标记以及旧格式密文的兼容
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class KeyedFieldEncryptionEngineTest {
+
+    /** 密钥库密码 */
+    private static final char[] PASSWORD = "changeit".toCharArray();
+    /** 旧格式密钥 */
+    private static final String LEGACY_KEY = "rFsHHirtsGuST7HtBzebLge1uVYCg2ZS";
+
+    /**
+     * 测试随机加密
+     * <p>
+     * 测试场景: 同一明文随机加密两次
+     * 预期结果: 密文带有密钥标识且不同, 都可以解密, 不需要重新加密
+     *
+     * @param dir 临时目录
+     * @throws Exception 创建密钥库失败
+     */
+    @Test
+    void testRandomized(@TempDir Path dir) throws Exception {
+        KeyedFieldEncryptionEngine engine = engine(keyStore(dir, "k1"), "k1");
+
+        String first = engine.encryptField("13800000000", false);
+        String second = engine.encryptField("13800000000", false);
+
+        assertTrue(first.startsWith("$k1$R"));
+        assertNotEquals(first, second);
+        assertEquals("13800000000", engine.decryptField(first).plain());
+        assertEquals("13800000000", engine.decryptField(second).plain());
+        assertFalse(engine.decryptField(first).stale());
+        assertEquals("", engine.decryptField(engine.encryptField("", false)).plain());
+    }
+
+    /**
+     * 测试确定性加密
+     * <p>
+     * 测试场景: 同一明文确定性加密两次, 以及篡改密文
+     * 预期结果: 密文相同且可以解密, 篡改后解密失败
+     *
+     * @param dir 临时目录
+     * @throws Exception 创建密钥库失败
+     */
+    @Test
+    void testDeterministic(@TempDir Path dir) throws Exception {
+        KeyedFieldEncryptionEngine engine = engine(keyStore(dir, "k1"), "k1");
+
+        String encrypted = engine.encryptField("张三", true);
+
+        assertTrue(encrypted.startsWith("$k1$D"));
+        assertEquals(encrypted, engine.encryptField("张三", true));
+        assertNotEquals(encrypted, engine.encryptField("李四", true));
+        assertEquals("张三", engine.decryptField(encrypted).plain());
+
+        char[] chars = encrypted.toCharArray();
+        int index = "$k1$D".length() + 8;
+        chars[index] = chars[index] == 'A' ? 'B' : 'A';
+        String tampered = new String(chars);
+        assertThrows(IllegalStateException.class, () -> engine.decryptField(tampered));
+    }
+
+    /**
+     * 测试密钥轮换
+     * <p>
+     * 测试场景: 当前密钥从 k1 轮换为 k2, 读取 k1 与 sensitive-key 加密的密文
+     * 预期结果: 均可解密且标记为需要重新加密, 等值查询候选包括两个密钥与旧格式的密文
+     *
+     * @param dir 临时目录
+     * @throws Exception 创建密钥库失败
+     */
+    @Test
+    void testRotation(@TempDir Path dir) throws Exception {
+        Path keyStore = keyStore(dir, "k1", "k2");
+        KeyedFieldEncryptionEngine before = engine(keyStore, "k1");
+        KeyedFieldEncryptionEngine after = engine(keyStore, "k2");
+        String old = before.encryptField("13800000000", false);
+        String legacy = new SensitiveCipher(LEGACY_KEY).encrypt("13800000000");
+
+        FieldEncryptionEngine.Decrypted decrypted = after.decryptField(old);
+        assertEquals("13800000000", decrypted.plain());
+        assertTrue(decrypted.stale());
+        assertEquals("13800000000", after.decryptField(legacy).plain());
+        assertTrue(after.decryptField(legacy).stale());
+        assertFalse(after.decryptField(after.encryptField("13800000000", false)).stale());
+
+        List<String> candidates = after.equalityCandidates("13800000000");
+        assertEquals(3, candidates.size());
+        assertEquals(after.encryptField("13800000000", true), candidates.get(0));
+        assertEquals(before.encryptField("13800000000", true), candidates.get(1));
+        assertEquals(legacy, candidates.get(2));
+    }
+
+    /**
+     * 测试加密方式变化
+     * <p>
+     * 测试场景: 字段改为确定性加密后, 读取之前以随机模式写入的密文
+     * 预期结果: 按确定性字段解密时标记为需要重新加密, 按随机字段解密或读取确定性密文时不标记
+     *
+     * @param dir 临时目录
+     * @throws Exception 创建密钥库失败
+     */
+    @Test
+    void testModeChange(@TempDir Path dir) throws Exception {
+        KeyedFieldEncryptionEngine engine = engine(keyStore(dir, "k1"), "k1");
+        String randomized = engine.encryptField("张三", false);
+        String deterministic = engine.encryptField("张三", true);
+
+        FieldEncryptionEngine.Decrypted decrypted = engine.decryptField(randomized, true);
+        assertEquals("张三", decrypted.plain());
+        assertTrue(decrypted.stale());
+        assertFalse(engine.decryptField(randomized, false).stale());
+        assertFalse(engine.decryptField(deterministic, true).stale());
+        assertFalse(engine.decryptField(deterministic, false).stale());
+    }
+
+    /**
+     * 测试当前密钥
+     * <p>
+     * 测试场景: 密钥库中有多个密钥但未指定当前密钥, 以及只有一个密钥
+     * 预期结果: 前者启动失败, 后者使用唯一的密钥
+     *
+     * @param dir 临时目录
+     * @throws Exception 创建密钥库失败
+     */
+    @Test
+    void testCurrentKey(@TempDir Path dir) throws Exception {
+        Path multiple = keyStore(dir, "k1", "k2");
+        assertThrows(IllegalStateException.class, () -> new LocalKeyStoreKeyProvider(multiple, null, PASSWORD, null));
+        assertThrows(IllegalStateException.class, () -> new LocalKeyStoreKeyProvider(multiple, null, PASSWORD, "k3"));
+
+        Files.delete(multiple);
+        LocalKeyStoreKeyProvider single = new LocalKeyStoreKeyProvider(keyStore(dir, "k9"), null, PASSWORD, null);
+        assertEquals("k9", single.currentKeyId());
+    }
+
+    /**
+     * 创建引擎
+     *
+     * @param keyStore     密钥库文件
+     * @param currentKeyId 当前密钥标识
+     * @return 引擎
+     */
+    private static KeyedFieldEncryptionEngine engine(Path keyStore, String currentKeyId) {
+        return new KeyedFieldEncryptionEngine(new LocalKeyStoreKeyProvider(keyStore, "PKCS12", PASSWORD, currentKeyId),
+                                              new SensitiveCipher(LEGACY_KEY),
+                                              false);
+    }
+
+    /**
+     * 创建包含指定别名的 AES 密钥的 PKCS12 密钥库
+     *
+     * @param dir     目录
+     * @param aliases 别名
+     * @return 密钥库文件
+     * @throws Exception 创建失败
+     */
+    private static Path keyStore(Path dir, String... aliases) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(256);
+        for (String alias : aliases) {
+            keyStore.setEntry(alias, new KeyStore.SecretKeyEntry(generator.generateKey()), new KeyStore.PasswordProtection(PASSWORD));
+        }
+        Path file = dir.resolve("sensitive.p12");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            keyStore.store(out, PASSWORD);
+        }
+        return file;
+    }
+}
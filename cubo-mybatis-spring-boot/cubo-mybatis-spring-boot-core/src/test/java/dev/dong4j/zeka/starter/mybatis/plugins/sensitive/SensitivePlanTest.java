@@ -0,0 +1,156 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.sensitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import dev.dong4j.zeka.kernel.common.annotation.SensitiveField;
+import dev.dong4j.zeka.kernel.common.util.AesUtils;
+import dev.dong4j.zeka.kernel.common.util.Base64Utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 敏感字段处理计划测试类
+ * <p> 验证处理计划覆盖整个继承层次, 空计划缓存, 以及加解密结果与 AesUtils 一致
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class SensitivePlanTest {
+
+    /** 密钥 */
+    private static final String KEY = "rFsHHirtsGuST7HtBzebLge1uVYCg2ZS";
+
+    /**
+     * 测试继承层次
+     * <p>
+     * 测试场景: 敏感字段分别声明在类本身与祖父类中, 字段为 private
+     * 预期结果: 计划包含 2 个字段, 可以读写 private 字段
+     */
+    @Test
+    void testHierarchy() {
+        SensitivePlan plan = SensitivePlan.of(Child.class);
+
+        assertEquals(2, plan.fields().size());
+        Child child = new Child();
+        for (SensitivePlan.Accessor field : plan.fields()) {
+            field.set(child, field.field().getName() + "-value");
+        }
+        assertEquals("mobile-value", plan.fields().get(0).get(child));
+        assertEquals("idCard-value", plan.fields().get(1).get(child));
+    }
+
+    /**
+     * 测试空计划
+     * <p>
+     * 测试场景: 继承层次中没有敏感字段的类与 String
+     * 预期结果: 返回同一个空计划
+     */
+    @Test
+    void testEmpty() {
+        assertSame(SensitivePlan.EMPTY, SensitivePlan.of(Plain.class));
+        assertSame(SensitivePlan.EMPTY, SensitivePlan.of(String.class));
+        assertTrue(SensitivePlan.of(Plain.class).isEmpty());
+    }
+
+    /**
+     * 测试加解密
+     * <p>
+     * 测试场景: 多个线程同时加解密不同长度的内容, 包括长度为 32 整数倍的内容
+     * 预期结果: 密文与 AesUtils + Base64Utils 的结果一致, 且可以互相解密
+     *
+     * @throws Exception 线程执行失败
+     */
+    @Test
+    void testCipher() throws Exception {
+        SensitiveCipher cipher = new SensitiveCipher(KEY);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        String plain = "1380000" + "x".repeat(i) + "中文";
+                        String expected = Base64Utils.encodeToString(AesUtils.encrypt(plain, KEY));
+                        assertEquals(expected, cipher.encrypt(plain));
+                        assertEquals(plain, cipher.decrypt(expected));
+                        assertEquals(plain, AesUtils.decryptToStr(Base64Utils.decodeFromString(cipher.encrypt(plain)), KEY));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 没有敏感字段的类
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static class Plain {
+        /** 名称 */
+        private String name;
+    }
+
+    /**
+     * 祖父类
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static class GrandParent {
+        /** 身份证号 */
+        @SensitiveField
+        private String idCard;
+    }
+
+    /**
+     * 父类, 没有敏感字段
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static class Parent extends GrandParent {
+        /** 名称 */
+        private String name;
+    }
+
+    /**
+     * 子类
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    static class Child extends Parent {
+        /** 手机号 */
+        @SensitiveField
+        private String mobile;
+    }
+}
@@ -0,0 +1,167 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.slowsql;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 慢 SQL 投递管道测试类
+ * <p> 验证按 MappedStatement 的限流与合并, 有界队列与批量投递, 以及本地文件输出
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class SlowSqlPipelineTest {
+
+    /**
+     * 测试限流与合并
+     * <p>
+     * 测试场景: 同一窗口内同一 MappedStatement 出现 5 次慢 SQL, 每个窗口最多放行 2 条, 之后进入下一个窗口
+     * 预期结果: 前 2 条放行, 其余 3 条合并为一条次数为 3 且耗时最长的记录, 在下一个窗口的第一条记录到来时输出; 其他 MappedStatement 不受影响
+     */
+    @Test
+    void testRateLimit() {
+        SlowSqlRateLimiter limiter = new SlowSqlRateLimiter(1000, 2, 100);
+        List<SlowSqlRecord> merged = new ArrayList<>();
+
+        assertTrue(limiter.tryAcquire(record("a", 10, 0), merged::add));
+        assertTrue(limiter.tryAcquire(record("a", 20, 100), merged::add));
+        assertFalse(limiter.tryAcquire(record("a", 30, 200), merged::add));
+        assertFalse(limiter.tryAcquire(record("a", 50, 300), merged::add));
+        assertFalse(limiter.tryAcquire(record("a", 40, 400), merged::add));
+        assertTrue(limiter.tryAcquire(record("b", 10, 500), merged::add));
+        assertTrue(merged.isEmpty());
+
+        assertTrue(limiter.tryAcquire(record("a", 10, 1000), merged::add));
+        assertEquals(1, merged.size());
+        assertEquals(3, merged.get(0).occurrences());
+        assertEquals(50, merged.get(0).durationMillis());
+    }
+
+    /**
+     * 测试窗口到期
+     * <p>
+     * 测试场景: 窗口内有被合并的记录, 之后该 MappedStatement 不再出现
+     * 预期结果: expire 输出合并记录并移除窗口, 未到期的窗口保留
+     */
+    @Test
+    void testExpire() {
+        SlowSqlRateLimiter limiter = new SlowSqlRateLimiter(1000, 1, 100);
+        List<SlowSqlRecord> merged = new ArrayList<>();
+        limiter.tryAcquire(record("a", 10, 0), merged::add);
+        limiter.tryAcquire(record("a", 10, 10), merged::add);
+        limiter.tryAcquire(record("b", 10, 800), merged::add);
+
+        limiter.expire(1000, merged::add);
+
+        assertEquals(1, merged.size());
+        assertEquals("a", merged.get(0).statementId());
+        assertEquals(1, limiter.size());
+    }
+
+    /**
+     * 测试批量投递
+     * <p>
+     * 测试场景: 队列容量为 4, 未启动投递线程时提交 6 条不同 MappedStatement 的记录, 每批最多 3 条, 然后关闭
+     * 预期结果: 超出容量的 2 条被丢弃, 关闭时剩余的 4 条按每批最多 3 条投递
+     */
+    @Test
+    void testBoundedQueue() {
+        List<List<SlowSqlRecord>> batches = Collections.synchronizedList(new ArrayList<>());
+        SlowSqlPipeline pipeline = new SlowSqlPipeline(List.of(batches::add), new SlowSqlRateLimiter(60000, 5, 100), 4, 3, 100);
+        for (int i = 0; i < 6; i++) {
+            pipeline.submit(record("s" + i, 10, i));
+        }
+
+        pipeline.close();
+
+        assertEquals(2, pipeline.getDroppedCount());
+        assertEquals(4, pipeline.getDeliveredCount());
+        assertEquals(2, batches.size());
+        assertEquals(3, batches.get(0).size());
+    }
+
+    /**
+     * 测试投递线程
+     * <p>
+     * 测试场景: 启动管道后提交记录
+     * 预期结果: 投递线程在投递间隔内将记录交给输出
+     *
+     * @throws InterruptedException 等待被中断
+     */
+    @Test
+    void testDeliver() throws InterruptedException {
+        List<SlowSqlRecord> delivered = Collections.synchronizedList(new ArrayList<>());
+        SlowSqlPipeline pipeline = new SlowSqlPipeline(List.of(delivered::addAll), new SlowSqlRateLimiter(60000, 5, 100), 16, 8, 50);
+        pipeline.start();
+        try {
+            pipeline.submit(record("a", 10, System.currentTimeMillis()));
+            for (int i = 0; i < 100 && delivered.isEmpty(); i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, delivered.size());
+        } finally {
+            pipeline.close();
+        }
+    }
+
+    /**
+     * 测试文件输出
+     * <p>
+     * 测试场景: 写入包含换行的 SQL, 文件最大大小很小
+     * 预期结果: 每条记录一行, SQL 中的换行替换为空格, 超过大小后滚动为 .1 备份
+     *
+     * @param dir 临时目录
+     * @throws Exception 写入文件失败
+     */
+    @Test
+    void testFileSink(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("slow/sql.log");
+        FileSlowSqlSink sink = new FileSlowSqlSink(file.toString(), 1);
+        sink.write(List.of(record("a", 10, 0)));
+        sink.write(List.of(record("b", 20, 0)));
+        sink.close();
+
+        List<String> backup = Files.readAllLines(dir.resolve("slow/sql.log.1"), StandardCharsets.UTF_8);
+        assertEquals(1, backup.size());
+        String[] fields = backup.get(0).split("\t");
+        assertEquals("20", fields[1]);
+        assertEquals("b", fields[3]);
+        assertEquals("SELECT * FROM t WHERE id = 1", fields[8]);
+        assertEquals(0, Files.size(file));
+    }
+
+    /**
+     * 创建慢 SQL 记录
+     *
+     * @param statementId    MappedStatement ID
+     * @param durationMillis 耗时
+     * @param timestamp      时间戳
+     * @return 慢 SQL 记录
+     */
+    private static SlowSqlRecord record(String statementId, long durationMillis, long timestamp) {
+        return new SlowSqlRecord(statementId,
+                                 "SELECT *\nFROM t WHERE id = 1",
+                                 durationMillis,
+                                 timestamp,
+                                 "trace",
+                                 "app",
+                                 "1.0.0",
+                                 "",
+                                 -1L,
+                                 1);
+    }
+}
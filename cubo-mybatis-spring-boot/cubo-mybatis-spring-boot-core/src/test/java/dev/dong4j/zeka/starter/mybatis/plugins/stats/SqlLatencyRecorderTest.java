@@ -0,0 +1,107 @@
+package dev.dong4j.zeka.starter.mybatis.plugins.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SQL 耗时统计记录器测试类
+ * <p> 验证直方图的分桶精度, 百分位计算以及按 MappedStatement 汇总的统计报告
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class SqlLatencyRecorderTest {
+
+    /**
+     * 测试直方图分桶
+     * <p>
+     * 测试场景: 对 0 到可记录最大值之间的耗时计算桶下标与桶上界
+     * 预期结果: 桶下标单调不减, 值不超过所在桶的上界, 且相对误差不超过 1/32
+     */
+    @Test
+    void testHistogramBuckets() {
+        int previous = -1;
+        for (long value = 0; value < LatencyHistogram.HIGHEST_TRACKABLE_MICROS; value = value * 5 / 4 + 1) {
+            int index = LatencyHistogram.indexOf(value);
+            long upper = LatencyHistogram.highestEquivalentValue(index);
+            assertTrue(index >= previous);
+            assertTrue(value <= upper);
+            assertTrue(upper - value <= Math.max(1, value / 32), "value " + value + " upper " + upper);
+            previous = index;
+        }
+    }
+
+    /**
+     * 测试百分位
+     * <p>
+     * 测试场景: 记录 1 到 1000 毫秒各一次
+     * 预期结果: P50, P90, P99 与真实值的误差不超过 1/32, 最大耗时精确
+     */
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toMicros(i));
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.count());
+        assertEquals(1_000_000, snapshot.maxMicros());
+        assertNear(500_000, snapshot.percentile(50));
+        assertNear(900_000, snapshot.percentile(90));
+        assertNear(990_000, snapshot.percentile(99));
+        assertEquals(500_500, snapshot.meanMicros(), 0.001);
+    }
+
+    /**
+     * 测试统计报告
+     * <p>
+     * 测试场景: 两个 MappedStatement 分别执行 3 次与 1 次, 其中一次失败; 统计上限为 2 时出现第三个 MappedStatement
+     * 预期结果: 按累计耗时降序排列, 行数与失败次数正确, 超出上限的 MappedStatement 只计入总数
+     */
+    @Test
+    void testReport() {
+        SqlLatencyRecorder recorder = new SqlLatencyRecorder(2);
+        long millis = TimeUnit.MILLISECONDS.toNanos(1);
+        recorder.record("UserMapper.selectById", millis, 1, true);
+        recorder.record("UserMapper.selectById", millis, 1, true);
+        recorder.record("UserMapper.selectById", millis, 0, false);
+        recorder.record("UserMapper.selectList", 10 * millis, 20, true);
+        recorder.record("UserMapper.updateById", millis, 1, true);
+
+        SqlLatencyReport report = recorder.report(10);
+
+        assertEquals(5, report.executionCount());
+        assertEquals(1, report.errorCount());
+        assertEquals(2, report.statementCount());
+        assertEquals("UserMapper.selectList", report.statements().get(0).statementId());
+        SqlLatencyReport.StatementLatency selectById = report.statements().get(1);
+        assertEquals(3, selectById.count());
+        assertEquals(2, selectById.rowCount());
+        assertEquals(1, selectById.errorCount());
+        assertEquals(1, recorder.report(1).statements().size());
+        assertNull(recorder.statement("UserMapper.updateById"));
+
+        recorder.reset();
+        assertEquals(0, recorder.report(10).executionCount());
+    }
+
+    /**
+     * 断言百分位与期望值的误差不超过 1/32
+     *
+     * @param expected 期望值 (微秒)
+     * @param actual   实际值 (微秒)
+     */
+    private static void assertNear(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "expected " + expected + " actual " + actual);
+    }
+}
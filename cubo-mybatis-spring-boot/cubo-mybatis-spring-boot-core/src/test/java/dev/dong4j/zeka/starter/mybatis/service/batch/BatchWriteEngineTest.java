@@ -0,0 +1,437 @@
+package dev.dong4j.zeka.starter.mybatis.service.batch;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 并行分批写入引擎测试类
+ * <p> 使用动态代理模拟会话与连接: insert 的行在连接提交时才计入已提交, 回滚时丢弃
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class BatchWriteEngineTest {
+
+    /** 写入时抛出异常的行 */
+    private static final int POISON = -1;
+
+    /**
+     * 测试全部写入
+     * <p>
+     * 测试场景: 2500 行, 每批 100 行, 4 个工作线程
+     * 预期结果: 所有行提交且只提交一次, 最多打开 4 个会话, 连接的自动提交状态恢复
+     */
+    @Test
+    void testWriteAll() {
+        FakeDatabase database = new FakeDatabase();
+        List<Integer> source = rows(2500);
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 4))
+            .write(source, Function.identity(), ExecutorType.BATCH, BatchWriteEngineTest::insert);
+
+        assertTrue(result.isSuccess());
+        assertEquals(25, result.totalChunks());
+        assertEquals(2500, result.writtenRows());
+        assertEquals(source, sorted(database.committed));
+        assertTrue(database.sessions.get() <= 4);
+        assertTrue(database.autoCommitRestored.get());
+    }
+
+    /**
+     * 测试单批失败
+     * <p>
+     * 测试场景: 第 3 批中有一行写入失败
+     * 预期结果: 只有该批回滚并记录为失败, 其余批次全部提交
+     */
+    @Test
+    void testChunkFailure() {
+        FakeDatabase database = new FakeDatabase();
+        List<Integer> source = rows(1000);
+        source.set(250, POISON);
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 4))
+            .write(source, Function.identity(), ExecutorType.BATCH, BatchWriteEngineTest::insert);
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.failures().size());
+        BatchWriteResult.ChunkFailure failure = result.failures().get(0);
+        assertEquals(2, failure.index());
+        assertEquals(200, failure.offset());
+        assertEquals(100, failure.size());
+        assertEquals("write", failure.stage());
+        assertEquals(900, result.writtenRows());
+        assertEquals(900, database.committed.size());
+        assertTrue(database.committed.stream().noneMatch(row -> row >= 200 && row < 300));
+    }
+
+    /**
+     * 测试 failFast
+     * <p>
+     * 测试场景: 1 个工作线程, 第 1 批写入失败, 开启 failFast
+     * 预期结果: 调用线程停止提交, 最多写入失败前已在队列中的批次, 其余行计为未写入
+     */
+    @Test
+    void testFailFast() {
+        FakeDatabase database = new FakeDatabase();
+        List<Integer> source = rows(10000);
+        source.set(50, POISON);
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 1).withFailFast(true))
+            .write(source, Function.identity(), ExecutorType.BATCH, BatchWriteEngineTest::insert);
+
+        assertEquals(1, result.failures().size());
+        assertTrue(result.writtenRows() <= 400);
+        assertTrue(result.skippedRows() > 0);
+        assertEquals(10000, result.writtenRows() + result.skippedRows() + 100);
+    }
+
+    /**
+     * 测试转换与进度
+     * <p>
+     * 测试场景: 第 2 批转换失败, 监听每批的进度
+     * 预期结果: 转换在调用线程上执行, 失败批次的阶段为 convert, 最终进度包含所有批次与已提交的行数
+     */
+    @Test
+    void testConvertAndProgress() {
+        FakeDatabase database = new FakeDatabase();
+        Set<String> convertThreads = ConcurrentHashMap.newKeySet();
+        List<BatchWriteProgress> progress = Collections.synchronizedList(new ArrayList<>());
+        Function<List<Integer>, List<Integer>> converter = chunk -> {
+            convertThreads.add(Thread.currentThread().getName());
+            if (chunk.get(0) == 100) {
+                throw new IllegalArgumentException("bad row");
+            }
+            return chunk;
+        };
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 2).withListener(progress::add))
+            .write(rows(550), converter, ExecutorType.BATCH, BatchWriteEngineTest::insert);
+
+        assertEquals(Set.of(Thread.currentThread().getName()), convertThreads);
+        assertEquals(1, result.failures().size());
+        assertEquals("convert", result.failures().get(0).stage());
+        assertEquals(450, result.writtenRows());
+        assertEquals(6, progress.size());
+        assertEquals(6, progress.stream().mapToInt(BatchWriteProgress::completedChunks).max().orElse(0));
+        assertEquals(450, progress.stream().mapToLong(BatchWriteProgress::writtenRows).max().orElse(0));
+    }
+
+    /**
+     * 测试提交回调
+     * <p>
+     * 测试场景: 1000 行, 每批 100 行, 转换为加 10000 后的值, 第 3 批中有一行写入失败
+     * 预期结果: 每个已提交的批次回调一次, 回调时该批已提交, 原始数据与转换后的数据按位置对应; 失败的批次不回调
+     */
+    @Test
+    void testCommittedCallback() {
+        FakeDatabase database = new FakeDatabase();
+        List<Integer> source = rows(1000);
+        source.set(250, POISON);
+        List<Integer> callbackSources = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        Function<List<Integer>, List<Integer>> converter = chunk -> chunk.stream()
+            .map(row -> row == POISON ? POISON : row + 10000)
+            .collect(Collectors.toList());
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 4))
+            .write(source, converter, ExecutorType.BATCH, BatchWriteEngineTest::insert, (sources, items) -> {
+                for (int i = 0; i < sources.size(); i++) {
+                    if (items.get(i) != sources.get(i) + 10000 || !database.committed.contains(items.get(i))) {
+                        consistent.set(false);
+                    }
+                }
+                callbackSources.addAll(sources);
+            });
+
+        assertEquals(1, result.failures().size());
+        assertTrue(consistent.get());
+        List<Integer> expected = rows(1000);
+        expected.removeIf(row -> row >= 200 && row < 300);
+        assertEquals(expected, sorted(callbackSources));
+    }
+
+    /**
+     * 测试空集合
+     * <p>
+     * 测试场景: 写入空集合
+     * 预期结果: 不打开会话, 结果为成功
+     */
+    @Test
+    void testEmpty() {
+        FakeDatabase database = new FakeDatabase();
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.defaults())
+            .write(List.<Integer>of(), Function.identity(), ExecutorType.BATCH, BatchWriteEngineTest::insert);
+
+        assertTrue(result.isSuccess());
+        assertEquals(0, result.totalChunks());
+        assertEquals(0, database.sessions.get());
+    }
+
+    /**
+     * 测试共享线程池
+     * <p>
+     * 测试场景: 最多 2 个线程的线程池, 以 4 个工作线程写入, 线程池关闭后再次写入
+     * 预期结果: 只在线程池的 2 个线程上写入且所有行提交; 关闭后写入抛出 RejectedExecutionException 且不打开会话
+     */
+    @Test
+    void testSharedExecutor() {
+        FakeDatabase database = new FakeDatabase();
+        Set<String> writeThreads = ConcurrentHashMap.newKeySet();
+        BatchWriteExecutor executor = new BatchWriteExecutor(2);
+        ChunkWriter<Integer> writer = (session, chunk) -> {
+            writeThreads.add(Thread.currentThread().getName());
+            insert(session, chunk);
+        };
+
+        BatchWriteResult result = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 4), executor)
+            .write(rows(1000), Function.identity(), ExecutorType.BATCH, writer);
+
+        assertTrue(result.isSuccess());
+        assertEquals(1000, database.committed.size());
+        assertTrue(writeThreads.size() <= 2);
+        assertTrue(writeThreads.stream().allMatch(name -> name.startsWith("batch-writer-")));
+
+        executor.close();
+        int sessions = database.sessions.get();
+        BatchWriteEngine closed = new BatchWriteEngine(database.factory(), BatchWriteOptions.of(100, 4), executor);
+        assertThrows(RejectedExecutionException.class,
+                     () -> closed.write(rows(1000), Function.identity(), ExecutorType.BATCH, writer));
+        assertEquals(sessions, database.sessions.get());
+    }
+
+    /**
+     * 测试线程上下文
+     * <p>
+     * 测试场景: 调用线程设置 MDC, 通过 TaskDecorator 传递另一个 ThreadLocal, 使用单线程的线程池写入
+     * 预期结果: 工作线程写入时可以取得 MDC 与 ThreadLocal 的值; 写入结束后工作线程的 MDC 被清空
+     *
+     * @throws InterruptedException 等待工作线程时被中断
+     */
+    @Test
+    void testContextPropagation() throws InterruptedException {
+        FakeDatabase database = new FakeDatabase();
+        ThreadLocal<String> tenant = new ThreadLocal<>();
+        Set<String> traceIds = ConcurrentHashMap.newKeySet();
+        Set<String> tenants = ConcurrentHashMap.newKeySet();
+        BatchWriteExecutor executor = new BatchWriteExecutor(1);
+        BatchWriteOptions options = BatchWriteOptions.of(100, 2)
+            .withExecutor(executor)
+            .withTaskDecorator(task -> {
+                String value = tenant.get();
+                return () -> {
+                    tenant.set(value);
+                    try {
+                        task.run();
+                    } finally {
+                        tenant.remove();
+                    }
+                };
+            });
+        MDC.put("traceId", "t-1");
+        tenant.set("tenant-1");
+        try {
+            new BatchWriteEngine(database.factory(), options)
+                .write(rows(500), Function.identity(), ExecutorType.BATCH, (session, chunk) -> {
+                    traceIds.add(String.valueOf(MDC.get("traceId")));
+                    tenants.add(String.valueOf(tenant.get()));
+                    insert(session, chunk);
+                });
+        } finally {
+            MDC.remove("traceId");
+            tenant.remove();
+        }
+
+        assertEquals(Set.of("t-1"), traceIds);
+        assertEquals(Set.of("tenant-1"), tenants);
+        AtomicReference<Map<String, String>> workerMdc = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            workerMdc.set(MDC.getCopyOfContextMap());
+            done.countDown();
+        });
+        done.await();
+        assertTrue(workerMdc.get() == null || workerMdc.get().isEmpty());
+        executor.close();
+    }
+
+    /**
+     * 逐行 insert
+     *
+     * @param session 会话
+     * @param chunk   一批数据
+     */
+    private static void insert(SqlSession session, List<Integer> chunk) {
+        chunk.forEach(row -> session.insert("insert", row));
+    }
+
+    /**
+     * 创建测试数据
+     *
+     * @param count 行数
+     * @return 0 到 count - 1
+     */
+    private static List<Integer> rows(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * 排序
+     *
+     * @param rows 行
+     * @return 排序后的副本
+     */
+    private static List<Integer> sorted(List<Integer> rows) {
+        List<Integer> copy = new ArrayList<>(rows);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    /**
+     * 模拟的数据库
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    private static final class FakeDatabase {
+        /** 已提交的行 */
+        private final List<Integer> committed = Collections.synchronizedList(new ArrayList<>());
+        /** 打开的会话数 */
+        private final AtomicInteger sessions = new AtomicInteger();
+        /** 关闭会话时连接的自动提交状态是否已恢复 */
+        private final AtomicBoolean autoCommitRestored = new AtomicBoolean(true);
+
+        /**
+         * 会话工厂
+         *
+         * @return 只支持 openSession(ExecutorType, boolean) 的会话工厂
+         */
+        private SqlSessionFactory factory() {
+            return proxy(SqlSessionFactory.class, (method, args) -> {
+                if ("openSession".equals(method)) {
+                    this.sessions.incrementAndGet();
+                    return this.session();
+                }
+                throw new UnsupportedOperationException(method);
+            });
+        }
+
+        /**
+         * 会话
+         *
+         * @return 会话, 未提交的行保存在会话中
+         */
+        private SqlSession session() {
+            List<Integer> pending = new ArrayList<>();
+            boolean[] autoCommit = {true};
+            Connection connection = proxy(Connection.class, (method, args) -> switch (method) {
+                case "getAutoCommit" -> autoCommit[0];
+                case "setAutoCommit" -> {
+                    autoCommit[0] = (Boolean) args[0];
+                    yield null;
+                }
+                case "commit" -> {
+                    this.committed.addAll(pending);
+                    pending.clear();
+                    yield null;
+                }
+                case "rollback" -> {
+                    pending.clear();
+                    yield null;
+                }
+                default -> throw new UnsupportedOperationException(method);
+            });
+            return proxy(SqlSession.class, (method, args) -> switch (method) {
+                case "getConnection" -> connection;
+                case "insert" -> {
+                    if ((Integer) args[1] == POISON) {
+                        throw new IllegalStateException("duplicate key");
+                    }
+                    pending.add((Integer) args[1]);
+                    yield 1;
+                }
+                case "flushStatements" -> List.of();
+                case "rollback" -> {
+                    pending.clear();
+                    yield null;
+                }
+                case "clearCache" -> null;
+                case "close" -> {
+                    if (!autoCommit[0]) {
+                        this.autoCommitRestored.set(false);
+                    }
+                    yield null;
+                }
+                default -> throw new UnsupportedOperationException(method);
+            });
+        }
+    }
+
+    /**
+     * 创建接口的动态代理
+     *
+     * @param <T>     接口类型
+     * @param type    接口
+     * @param handler 按方法名处理调用
+     * @return 代理
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(),
+                                          new Class<?>[] {type},
+                                          (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+
+    /**
+     * 按方法名处理代理调用
+     *
+     * @author dong4j
+     * @version 1.0.0
+     * @email "mailto:dong4j@gmail.com"
+     * @date 2026.10.17
+     * @since 2.0.0
+     */
+    @FunctionalInterface
+    private interface Handler {
+
+        /**
+         * 处理调用
+         *
+         * @param method 方法名
+         * @param args   参数
+         * @return 返回值
+         */
+        Object handle(String method, Object[] args);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.dong4j.zeka.starter.mybatis.util;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SQL 渲染器测试类
+ * <p> 验证模板切分, 参数取值, 字面量格式以及按最大长度截断
+ *
+ * @author dong4j
+ * @version 1.0.0
+ * @email "mailto:dong4j@gmail.com"
+ * @date 2026.10.17
+ * @since 2.0.0
+ */
+class SqlRendererTest {
+
+    /** MyBatis 配置 */
+    private final Configuration configuration = new Configuration();
+
+    /**
+     * 测试模板切分
+     * <p>
+     * 测试场景: SQL 包含多余空白, 以及引号内的问号
+     * 预期结果: 空白压缩为一个空格, 只有引号外的问号视为占位符
+     */
+    @Test
+    void testParse() {
+        SqlTemplate template = SqlTemplate.parse("  SELECT *\n  FROM   t WHERE a = ? AND b = 'x ? ''y'' ?'  AND c IN (?, ?)  \n");
+
+        assertEquals(3, template.placeholderCount());
+        assertEquals("SELECT * FROM t WHERE a = ", template.segment(0));
+        assertEquals(" AND b = 'x ? ''y'' ?' AND c IN (", template.segment(1));
+        assertEquals(")", template.segment(3));
+    }
+
+    /**
+     * 测试参数渲染
+     * <p>
+     * 测试场景: 参数对象为 Map, 包含字符串, 数字, 时间, foreach 生成的附加参数以及 OUT 参数
+     * 预期结果: 字符串转义单引号, BigDecimal 不使用科学计数法, 时间按 yyyy-MM-dd HH:mm:ss 输出, OUT 参数保留问号
+     */
+    @Test
+    void testRender() {
+        Map<String, Object> parameter = new HashMap<>(4);
+        parameter.put("name", "O'Brien");
+        parameter.put("amount", new BigDecimal("1E+3"));
+        parameter.put("time", LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        BoundSql boundSql = new BoundSql(configuration,
+                                         "UPDATE t SET name = ?, amount = ?, time = ? WHERE id = ? AND out = ?",
+                                         List.of(mapping("name", ParameterMode.IN),
+                                                 mapping("amount", ParameterMode.IN),
+                                                 mapping("time", ParameterMode.IN),
+                                                 mapping("__frch_id_0", ParameterMode.IN),
+                                                 mapping("result", ParameterMode.OUT)),
+                                         parameter);
+        boundSql.setAdditionalParameter("__frch_id_0", 42L);
+
+        assertEquals("UPDATE t SET name = 'O''Brien', amount = 1000, time = '2024-01-02 03:04:05' WHERE id = 42 AND out = ?",
+                     new SqlRenderer().render(configuration, boundSql, 0));
+    }
+
+    /**
+     * 测试单个参数
+     * <p>
+     * 测试场景: 参数对象本身有类型处理器, 被多个占位符引用
+     * 预期结果: 所有占位符都替换为该参数, 与 MyBatis 设置参数的方式一致
+     */
+    @Test
+    void testSimpleParameter() {
+        BoundSql boundSql = new BoundSql(configuration,
+                                         "SELECT * FROM t WHERE id = ? OR parent_id = ?",
+                                         List.of(mapping("id", ParameterMode.IN), mapping("id", ParameterMode.IN)),
+                                         7);
+
+        assertEquals("SELECT * FROM t WHERE id = 7 OR parent_id = 7", new SqlRenderer().render(configuration, boundSql, 0));
+    }
+
+    /**
+     * 测试截断
+     * <p>
+     * 测试场景: 最大长度分别落在静态片段与参数值中
+     * 预期结果: 只保留最大长度以内的内容并追加省略号, 同一条 SQL 只缓存一个模板
+     */
+    @Test
+    void testMaxLength() {
+        SqlRenderer renderer = new SqlRenderer();
+        BoundSql boundSql = new BoundSql(configuration,
+                                         "SELECT * FROM t WHERE name = ?",
+                                         List.of(mapping("name", ParameterMode.IN)),
+                                         Map.of("name", "abcdefghij"));
+
+        assertEquals("SELECT * FROM...", renderer.render(configuration, boundSql, 13));
+        assertEquals("SELECT * FROM t WHERE name = 'abc...", renderer.render(configuration, boundSql, 33));
+        assertEquals(1, renderer.templateCount());
+    }
+
+    /**
+     * 测试格式化模板
+     * <p>
+     * 测试场景: 开启格式化后多次渲染同一条 SQL, 包括新的渲染器实例
+     * 预期结果: 结果与先渲染再格式化一致, 同一渲染器只运行一次格式化器, 之后均命中缓存; 新的渲染器使用自己的缓存
+     */
+    @Test
+    void testFormat() {
+        BoundSql boundSql = new BoundSql(configuration,
+                                         "SELECT id, name FROM t_format WHERE id = ? AND name = ? AND note = 'a ? b' ORDER BY id",
+                                         List.of(mapping("id", ParameterMode.IN), mapping("name", ParameterMode.IN)),
+                                         Map.of("id", 7, "name", "x'y"));
+        SqlRenderer renderer = new SqlRenderer();
+
+        String formatted = renderer.render(configuration, boundSql, 0, true);
+        renderer.render(configuration, boundSql, 0, true);
+        SqlRenderer other = new SqlRenderer();
+        other.render(configuration, boundSql, 0, true);
+
+        SqlFormatCacheStats stats = renderer.formatCacheStats();
+        assertEquals(SqlUtils.sqlFormat(renderer.render(configuration, boundSql, 0), true), formatted);
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.size());
+        assertEquals(1, other.formatCacheStats().missCount());
+    }
+
+    /**
+     * 测试格式化模板缓存上限
+     * <p>
+     * 测试场景: 格式化模板上限为 1 时依次格式化两条不同的 SQL
+     * 预期结果: 只缓存第一条, 上限取构造时指定的值
+     */
+    @Test
+    void testFormatLimit() {
+        SqlRenderer renderer = new SqlRenderer(SqlRenderer.DEFAULT_MAX_TEMPLATES, 1);
+
+        renderer.render(configuration, new BoundSql(configuration, "SELECT 1", List.of(), null), 0, true);
+        renderer.render(configuration, new BoundSql(configuration, "SELECT 2", List.of(), null), 0, true);
+
+        SqlFormatCacheStats stats = renderer.formatCacheStats();
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.maxSize());
+        assertEquals(2, stats.missCount());
+    }
+
+    /**
+     * 创建参数映射
+     *
+     * @param property 属性名
+     * @param mode     参数模式
+     * @return 参数映射
+     */
+    private ParameterMapping mapping(String property, ParameterMode mode) {
+        return new ParameterMapping.Builder(configuration, property, Object.class).mode(mode).build();
+    }
+}